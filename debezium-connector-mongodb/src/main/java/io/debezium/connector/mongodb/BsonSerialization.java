@@ -0,0 +1,83 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.nio.ByteBuffer;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+/**
+ * A class responsible for serialization of document values to their binary BSON representation,
+ * used when the connector is configured with {@link MongoDbConnectorConfig.PayloadFormat#BSON}.
+ */
+public final class BsonSerialization {
+
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
+    private BsonSerialization() {
+    }
+
+    /**
+     * Encodes the given document as BSON.
+     *
+     * @param document the document; may be null
+     * @return the BSON bytes, or {@code null} if the document is null
+     */
+    public static byte[] getDocumentValue(BsonDocument document) {
+        if (document == null) {
+            return null;
+        }
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            BSON_DOCUMENT_CODEC.encode(writer, document, EncoderContext.builder().build());
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Decodes a document value emitted in the BSON payload format.
+     *
+     * @param value the value of the {@code after}, {@code patch} or {@code filter} field, either a {@code byte[]} or a {@link ByteBuffer}
+     * @return the mutable document
+     */
+    public static BsonDocument toBsonDocument(Object value) {
+        return decode(value, BSON_DOCUMENT_CODEC);
+    }
+
+    /**
+     * Decodes a document value emitted in the BSON payload format.
+     *
+     * @param value the value of the {@code after}, {@code patch} or {@code filter} field, either a {@code byte[]} or a {@link ByteBuffer}
+     * @return the document
+     */
+    public static Document toDocument(Object value) {
+        return decode(value, DOCUMENT_CODEC);
+    }
+
+    /**
+     * Whether the given field value was emitted in the BSON payload format rather than as a JSON string.
+     */
+    public static boolean isBsonValue(Object value) {
+        return value instanceof byte[] || value instanceof ByteBuffer;
+    }
+
+    private static <T> T decode(Object value, Codec<T> codec) {
+        final ByteBuffer buffer = value instanceof ByteBuffer ? ((ByteBuffer) value).duplicate() : ByteBuffer.wrap((byte[]) value);
+        try (BsonBinaryReader reader = new BsonBinaryReader(buffer)) {
+            return codec.decode(reader, DecoderContext.builder().build());
+        }
+    }
+}
@@ -7,10 +7,13 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -76,6 +79,11 @@ public static interface FieldFilter {
      */
     private final List<Path> paths;
 
+    /**
+     * The field filters by collection, as resolving the paths applying to a collection evaluates the namespace pattern of every path.
+     */
+    private final ConcurrentMap<CollectionId, FieldFilter> fieldFilters = new ConcurrentHashMap<>();
+
     private FieldSelector(List<Path> paths) {
         this.paths = paths;
     }
@@ -189,98 +197,297 @@ public static FieldSelectorBuilder builder() {
      * @return the field filter, never {@code null}
      */
     public FieldFilter fieldFilterFor(CollectionId id) {
-        if (!paths.isEmpty()) {
-            String namespace = id.namespace();
-            List<Path> pathsApplyingToCollection = paths.stream()
-                    .filter(path -> path.matches(namespace))
-                    .collect(Collectors.toList());
-            if (pathsApplyingToCollection.size() == 1) {
-                return new FieldFilter() {
-                    final Path path = pathsApplyingToCollection.get(0);
-
-                    @Override
-                    public String apply(String field) {
-                        return path.matchesPath(field) ? path.generateNewFieldName(field) : field;
-                    }
+        return fieldFilters.computeIfAbsent(id, this::createFieldFilter);
+    }
 
-                    @Override
-                    public BsonDocument apply(BsonDocument doc) {
-                        path.modify((Map) doc, null, null);
-                        return doc;
-                    }
+    private FieldFilter createFieldFilter(CollectionId id) {
+        if (paths.isEmpty()) {
+            return NO_OP_FIELD_FILTER;
+        }
+        final String namespace = id.namespace();
+        // Many paths usually share the same namespace pattern, so each distinct pattern is evaluated only once
+        final Map<String, Boolean> matchesByPattern = new HashMap<>();
+        final List<Path> pathsApplyingToCollection = paths.stream()
+                .filter(path -> matchesByPattern.computeIfAbsent(path.namespacePattern.pattern(), pattern -> path.matches(namespace)))
+                .collect(Collectors.toList());
+        if (pathsApplyingToCollection.isEmpty()) {
+            return NO_OP_FIELD_FILTER;
+        }
+        final PathNode root = PathNode.compile(pathsApplyingToCollection);
+        return root != null ? new CompiledFieldFilter(root) : new SequentialFieldFilter(pathsApplyingToCollection);
+    }
 
-                    @Override
-                    public Document apply(Document doc) {
-                        Document setDoc = doc.get("$set", Document.class);
-                        Document unsetDoc = doc.get("$unset", Document.class);
-                        pathsApplyingToCollection.get(0).modify(doc, setDoc, unsetDoc);
-                        return doc;
-                    }
+    private static final FieldFilter NO_OP_FIELD_FILTER = new FieldFilter() {
 
-                    @Override
-                    public BsonDocument applyChange(BsonDocument doc) {
-                        path.modify(null, (Map) doc, null);
-                        return doc;
-                    }
-                };
+        @Override
+        public String apply(String field) {
+            return field;
+        }
+
+        @Override
+        public BsonDocument apply(BsonDocument doc) {
+            return doc;
+        }
+
+        @Override
+        public Document apply(Document doc) {
+            return doc;
+        }
+
+        @Override
+        public BsonDocument applyChange(BsonDocument doc) {
+            return doc;
+        }
+    };
+
+    /**
+     * A field filter applying the paths one after the other, each of them walking the whole document. It is used only if
+     * the paths cannot be {@link PathNode#compile(List) compiled}, as the result then depends on the order of the paths.
+     */
+    @ThreadSafe
+    private static final class SequentialFieldFilter implements FieldFilter {
+
+        private final List<Path> paths;
+
+        private SequentialFieldFilter(List<Path> paths) {
+            this.paths = paths;
+        }
+
+        @Override
+        public String apply(String field) {
+            for (Path p : paths) {
+                if (p.matchesPath(field)) {
+                    return p.generateNewFieldName(field);
+                }
             }
-            else if (pathsApplyingToCollection.size() > 1) {
-                return new FieldFilter() {
+            return field;
+        }
 
-                    @Override
-                    public String apply(String field) {
-                        for (Path p : pathsApplyingToCollection) {
-                            if (p.matchesPath(field)) {
-                                return p.generateNewFieldName(field);
-                            }
-                        }
-                        return field;
-                    }
+        @Override
+        public BsonDocument apply(BsonDocument doc) {
+            paths.forEach(path -> path.modify((Map) doc, null, null));
+            return doc;
+        }
 
-                    @Override
-                    public BsonDocument apply(BsonDocument doc) {
-                        pathsApplyingToCollection.forEach(path -> path.modify((Map) doc, null, null));
-                        return doc;
-                    }
+        @Override
+        public Document apply(Document doc) {
+            Document setDoc = doc.get("$set", Document.class);
+            Document unsetDoc = doc.get("$unset", Document.class);
+            paths.forEach(path -> path.modify(doc, setDoc, unsetDoc));
+            return doc;
+        }
 
-                    @Override
-                    public Document apply(Document doc) {
-                        Document setDoc = doc.get("$set", Document.class);
-                        Document unsetDoc = doc.get("$unset", Document.class);
-                        pathsApplyingToCollection.forEach(path -> path.modify(doc, setDoc, unsetDoc));
-                        return doc;
-                    }
+        @Override
+        public BsonDocument applyChange(BsonDocument doc) {
+            paths.forEach(path -> path.modify(null, (Map) doc, null));
+            return doc;
+        }
+    }
+
+    /**
+     * A field filter walking the document only once, looking up each field in the trie of the paths applying to the collection.
+     */
+    @ThreadSafe
+    private static final class CompiledFieldFilter implements FieldFilter {
+
+        private final PathNode root;
+
+        private CompiledFieldFilter(PathNode root) {
+            this.root = root;
+        }
+
+        @Override
+        public String apply(String field) {
+            PathNode node = root;
+            for (String fieldNode : Path.excludeNumericItems(DOT.split(field))) {
+                node = node.children.get(fieldNode);
+                if (node == null) {
+                    return field;
+                }
+                if (node.path != null) {
+                    return node.path.generateNewFieldName(field);
+                }
+            }
+            return field;
+        }
+
+        @Override
+        public BsonDocument apply(BsonDocument doc) {
+            modifyFields(root, (Map) doc);
+            return doc;
+        }
+
+        @Override
+        public Document apply(Document doc) {
+            Document setDoc = doc.get("$set", Document.class);
+            Document unsetDoc = doc.get("$unset", Document.class);
+            if (setDoc == null && unsetDoc == null) {
+                modifyFields(root, doc);
+            }
+            else {
+                if (setDoc != null) {
+                    modifyFieldsWithDotNotation(setDoc);
+                }
+                if (unsetDoc != null) {
+                    modifyFieldsWithDotNotation(unsetDoc);
+                }
+            }
+            return doc;
+        }
+
+        @Override
+        public BsonDocument applyChange(BsonDocument doc) {
+            modifyFieldsWithDotNotation((Map) doc);
+            return doc;
+        }
+
+        /**
+         * Modifies the fields of the document matching the children of the given node.
+         *
+         * @param node the node corresponding to the document
+         * @param doc  the document to modify fields
+         */
+        private void modifyFields(PathNode node, Map<String, Object> doc) {
+            if (node.children.size() <= doc.size()) {
+                node.children.forEach((field, child) -> modifyField(child, doc, field));
+                return;
+            }
+            // the document has fewer fields than there are paths, so look up its fields in the trie instead
+            List<String> fields = null;
+            for (String field : doc.keySet()) {
+                if (node.children.containsKey(field)) {
+                    fields = Path.add(fields, field);
+                }
+            }
+            if (fields != null) {
+                fields.forEach(field -> modifyField(node.children.get(field), doc, field));
+            }
+        }
+
+        private void modifyField(PathNode node, Map<String, Object> doc, String field) {
+            if (node.path != null) {
+                node.path.modifyField(doc, field);
+            }
+            else {
+                modifyValue(node, doc.get(field));
+            }
+        }
 
-                    @Override
-                    public BsonDocument applyChange(BsonDocument doc) {
-                        pathsApplyingToCollection.forEach(path -> path.modify(null, (Map) doc, null));
-                        return doc;
+        /**
+         * Modifies the fields of a nested document, or of the documents in an array.
+         *
+         * <p>
+         * Note that the modification of fields inside arrays of arrays isn't supported.
+         */
+        private void modifyValue(PathNode node, Object value) {
+            if (value instanceof Map<?, ?>) {
+                modifyFields(node, (Map<String, Object>) value);
+            }
+            else if (value instanceof List) {
+                for (Object item : (List<?>) value) {
+                    if (item instanceof Map<?, ?>) {
+                        modifyFields(node, (Map<String, Object>) item);
                     }
-                };
+                }
             }
         }
-        return new FieldFilter() {
 
-            @Override
-            public String apply(String field) {
-                return field;
+        /**
+         * Modifies fields that use the dot notation, like {@code 'a.b'} or {@code 'a.0.b'}, in the document used for set and
+         * unset update operations.
+         *
+         * <p>
+         * A field that matches a path or is nested in it is removed or renamed as a whole. A field that is a prefix of a path,
+         * e.g. {@code 'a'} for the path {@code 'a.b'}, is a document or array whose fields are modified.
+         *
+         * @param doc the document to modify fields
+         */
+        private void modifyFieldsWithDotNotation(Map<String, Object> doc) {
+            List<FieldNameAndValue> newFields = null;
+            Iterator<Map.Entry<String, Object>> it = doc.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Object> entry = it.next();
+                String[] originKeyNodes = DOT.split(entry.getKey());
+                String[] keyNodes = Path.excludeNumericItems(originKeyNodes);
+                if (keyNodes.length == 0) {
+                    continue;
+                }
+                PathNode node = root;
+                for (int i = 0; i < keyNodes.length && node != null && node.path == null; i++) {
+                    node = node.children.get(keyNodes[i]);
+                }
+                if (node == null) {
+                    continue;
+                }
+                if (node.path != null) {
+                    newFields = Path.add(newFields, node.path.generateNewFieldName(originKeyNodes, entry.getValue()));
+                    it.remove();
+                }
+                else {
+                    modifyValue(node, entry.getValue());
+                }
             }
 
-            @Override
-            public BsonDocument apply(BsonDocument doc) {
-                return doc;
+            if (newFields != null) {
+                newFields.forEach(entry -> doc.put(Path.checkFieldExists(doc, entry.key), entry.value));
             }
+        }
+    }
+
+    /**
+     * A node of the trie of the field paths applying to a collection, keyed by the field name at each level.
+     * A node either has children, or is the end of exactly one path.
+     */
+    @ThreadSafe
+    private static final class PathNode {
 
-            @Override
-            public Document apply(Document doc) {
-                return doc;
+        private final Map<String, PathNode> children = new HashMap<>();
+        private Path path;
+
+        /**
+         * Compiles the given paths into a trie.
+         *
+         * <p>
+         * Applying the trie in a single walk gives the same result as applying the paths one after the other only as long as
+         * no path modifies a field touched by another one, i.e. no path is a prefix of another path and no field is renamed
+         * to the name of a field matched by a path.
+         *
+         * @param paths the paths applying to a collection, in the order they are applied
+         * @return the root of the trie, or {@code null} if the paths interfere with each other
+         */
+        static PathNode compile(List<Path> paths) {
+            final PathNode root = new PathNode();
+            for (Path path : paths) {
+                PathNode node = root;
+                for (String fieldNode : path.fieldNodes) {
+                    if (node.path != null) {
+                        return null;
+                    }
+                    node = node.children.computeIfAbsent(fieldNode, key -> new PathNode());
+                }
+                if (node.path != null || !node.children.isEmpty()) {
+                    return null;
+                }
+                node.path = path;
             }
+            return root.isRenamingToMatchedField() ? null : root;
+        }
 
-            @Override
-            public BsonDocument applyChange(BsonDocument doc) {
-                return doc;
+        private boolean isRenamingToMatchedField() {
+            for (Map.Entry<String, PathNode> child : children.entrySet()) {
+                final Path childPath = child.getValue().path;
+                if (childPath instanceof RenamePath) {
+                    final String newFieldNode = ((RenamePath) childPath).newFieldNode;
+                    if (children.containsKey(newFieldNode)) {
+                        return true;
+                    }
+                }
+                else if (child.getValue().isRenamingToMatchedField()) {
+                    return true;
+                }
             }
-        };
+            return false;
+        }
     }
 
     private static final class FieldNameAndValue {
@@ -451,7 +658,7 @@ private void modifyFields(Object value, String[] fieldNodes, int length) {
          * @param items the array to exclude numeric items
          * @return filtered items
          */
-        private String[] excludeNumericItems(String[] items) {
+        private static String[] excludeNumericItems(String[] items) {
             if (items.length > 1) {
                 List<String> newItems = null;
                 boolean previousNumerical = false;
@@ -497,7 +704,7 @@ private boolean startsWith(String[] begin, String[] source) {
             return true;
         }
 
-        private <T> List<T> add(List<T> list, T element) {
+        private static <T> List<T> add(List<T> list, T element) {
             if (element != null) {
                 if (list == null) {
                     list = new ArrayList<>();
@@ -507,7 +714,7 @@ private <T> List<T> add(List<T> list, T element) {
             return list;
         }
 
-        String checkFieldExists(Map<String, Object> doc, String field) {
+        static String checkFieldExists(Map<String, Object> doc, String field) {
             if (doc.containsKey(field)) {
                 throw new IllegalArgumentException("Document already contains field : " + field);
             }
@@ -556,11 +763,12 @@ String checkFieldExists(Map<String, Object> doc, String field) {
          */
         public boolean matchesPath(String other) {
             final String[] otherParts = excludeNumericItems(FieldSelectorBuilder.parseIntoParts(other, other, length -> length < 1, DOT));
-            if (fieldNodes.length <= other.length()) {
-                for (int i = 0; i < fieldNodes.length; i++) {
-                    if (!fieldNodes[i].equals(otherParts[i])) {
-                        return false;
-                    }
+            if (fieldNodes.length > otherParts.length) {
+                return false;
+            }
+            for (int i = 0; i < fieldNodes.length; i++) {
+                if (!fieldNodes[i].equals(otherParts[i])) {
+                    return false;
                 }
             }
             return true;
@@ -39,11 +39,11 @@ public class MongoDbCollectionSchema implements DataCollectionSchema {
     private final Schema valueSchema;
     private final Function<BsonDocument, Object> keyGeneratorOplog;
     private final Function<BsonDocument, Object> keyGeneratorChangeStream;
-    private final Function<BsonDocument, String> valueGenerator;
+    private final Function<BsonDocument, ?> valueGenerator;
 
     public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema keySchema, Function<BsonDocument, Object> keyGenerator,
                                    Function<BsonDocument, Object> keyGeneratorChangeStream, Envelope envelopeSchema, Schema valueSchema,
-                                   Function<BsonDocument, String> valueGenerator) {
+                                   Function<BsonDocument, ?> valueGenerator) {
         this.id = id;
         this.fieldFilter = fieldFilter;
         this.keySchema = keySchema;
@@ -86,18 +86,18 @@ public Struct valueFromDocumentOplog(BsonDocument document, BsonDocument filter,
         switch (operation) {
             case READ:
             case CREATE:
-                final String jsonStr = valueGenerator.apply(fieldFilter.apply(document));
-                value.put(FieldName.AFTER, jsonStr);
+                final Object after = valueGenerator.apply(fieldFilter.apply(document));
+                value.put(FieldName.AFTER, after);
                 break;
             case UPDATE:
-                final String patchStr = valueGenerator.apply(fieldFilter.apply(document));
-                value.put(MongoDbFieldName.PATCH, patchStr);
-                final String updateFilterStr = valueGenerator.apply(fieldFilter.apply(filter));
-                value.put(MongoDbFieldName.FILTER, updateFilterStr);
+                final Object patch = valueGenerator.apply(fieldFilter.apply(document));
+                value.put(MongoDbFieldName.PATCH, patch);
+                final Object updateFilter = valueGenerator.apply(fieldFilter.apply(filter));
+                value.put(MongoDbFieldName.FILTER, updateFilter);
                 break;
             case DELETE:
-                final String deleteFilterStr = valueGenerator.apply(fieldFilter.apply(filter));
-                value.put(MongoDbFieldName.FILTER, deleteFilterStr);
+                final Object deleteFilter = valueGenerator.apply(fieldFilter.apply(filter));
+                value.put(MongoDbFieldName.FILTER, deleteFilter);
                 break;
         }
         return value;
@@ -107,14 +107,14 @@ public Struct valueFromDocumentChangeStream(ChangeStreamDocument<BsonDocument> d
         Struct value = new Struct(valueSchema);
         switch (operation) {
             case CREATE:
-                final String jsonStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
-                value.put(FieldName.AFTER, jsonStr);
+                final Object after = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
+                value.put(FieldName.AFTER, after);
                 break;
             case UPDATE:
                 // Not null when full documents are enabled for updates
                 if (document.getFullDocument() != null) {
-                    final String fullDocStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
-                    value.put(FieldName.AFTER, fullDocStr);
+                    final Object fullDoc = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
+                    value.put(FieldName.AFTER, fullDoc);
                 }
 
                 if (document.getUpdateDescription() != null) {
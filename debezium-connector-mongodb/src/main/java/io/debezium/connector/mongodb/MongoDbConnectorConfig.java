@@ -193,6 +193,71 @@ public boolean isFullUpdate() {
         }
     }
 
+    /**
+     * The set of predefined formats of the document payloads, i.e. the {@code after}, {@code patch} and {@code filter} fields.
+     */
+    public static enum PayloadFormat implements EnumeratedValue {
+
+        /**
+         * The documents are serialized as JSON strings.
+         */
+        JSON("json"),
+
+        /**
+         * The documents are carried as raw BSON bytes.
+         */
+        BSON("bson");
+
+        private final String value;
+
+        private PayloadFormat(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static PayloadFormat parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+
+            for (PayloadFormat option : PayloadFormat.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static PayloadFormat parse(String value, String defaultValue) {
+            PayloadFormat format = parse(value);
+
+            if (format == null && defaultValue != null) {
+                format = parse(defaultValue);
+            }
+
+            return format;
+        }
+    }
+
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 0;
 
     public static final Field CONNECTION_STRING = Field.create("mongodb.connection.string")
@@ -446,6 +511,18 @@ public boolean isFullUpdate() {
                     + "'change_streams' to capture changes via MongoDB Change Streams, update events do not contain full documents; "
                     + "'change_streams_update_full' (the default) to capture changes via MongoDB Change Streams, update events contain full documents");
 
+    public static final Field PAYLOAD_FORMAT = Field.create("payload.format")
+            .withDisplayName("Payload format")
+            .withEnum(PayloadFormat.class, PayloadFormat.JSON)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 2))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The format of the documents in the 'after', 'patch' and 'filter' fields of change events. "
+                    + "Options include: "
+                    + "'json' (the default) to serialize the documents as JSON strings; "
+                    + "'bson' to carry the documents as raw BSON bytes, avoiding the JSON serialization; "
+                    + "the ExtractNewDocumentState SMT decodes both formats");
+
     protected static final Field TASK_ID = Field.create("mongodb.task.id")
             .withDescription("Internal use only")
             .withValidation(Field::isInteger)
@@ -472,6 +549,20 @@ public boolean isFullUpdate() {
                     + " the initial snapshot may be a subset of data present in the data source. The subset would be defined"
                     + " by mongodb filter query specified as value for property snapshot.collection.filter.override.<dbname>.<collectionName>");
 
+    public static final Field SNAPSHOT_COLLECTION_SPLIT_SIZE = Field.create("snapshot.collection.split.size")
+            .withDisplayName("Snapshot collection split size")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 4))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("The approximate number of documents per range when splitting a collection for the initial snapshot. "
+                    + "Collections holding more documents are split into ranges of their '_id' values, which are read "
+                    + "concurrently by the threads configured with 'snapshot.max.threads'. The ranges completed so far are recorded "
+                    + "in the offsets, so that an interrupted snapshot resumes with the ranges not yet read. "
+                    + "Defaults to 0, which disables splitting.");
+
     public static final Field CURSOR_MAX_AWAIT_TIME_MS = Field.create("cursor.max.await.time.ms")
             .withDisplayName("Server's oplog streaming cursor max await time")
             .withType(Type.INT)
@@ -518,7 +609,9 @@ public boolean isFullUpdate() {
                     SNAPSHOT_FILTER_QUERY_BY_COLLECTION)
             .connector(
                     SNAPSHOT_MODE,
+                    SNAPSHOT_COLLECTION_SPLIT_SIZE,
                     CAPTURE_MODE,
+                    PAYLOAD_FORMAT,
                     SCHEMA_NAME_ADJUSTMENT_MODE)
             .create();
 
@@ -535,7 +628,9 @@ public static ConfigDef configDef() {
 
     private final SnapshotMode snapshotMode;
     private CaptureMode captureMode;
+    private final PayloadFormat payloadFormat;
     private final int snapshotMaxThreads;
+    private final long snapshotCollectionSplitSize;
     private final int cursorMaxAwaitTimeMs;
 
     public MongoDbConnectorConfig(Configuration config) {
@@ -547,7 +642,11 @@ public MongoDbConnectorConfig(Configuration config) {
         String captureModeValue = config.getString(MongoDbConnectorConfig.CAPTURE_MODE);
         this.captureMode = CaptureMode.parse(captureModeValue, MongoDbConnectorConfig.CAPTURE_MODE.defaultValueAsString());
 
+        String payloadFormatValue = config.getString(MongoDbConnectorConfig.PAYLOAD_FORMAT);
+        this.payloadFormat = PayloadFormat.parse(payloadFormatValue, MongoDbConnectorConfig.PAYLOAD_FORMAT.defaultValueAsString());
+
         this.snapshotMaxThreads = resolveSnapshotMaxThreads(config);
+        this.snapshotCollectionSplitSize = config.getLong(SNAPSHOT_COLLECTION_SPLIT_SIZE);
         this.cursorMaxAwaitTimeMs = config.getInteger(MongoDbConnectorConfig.CURSOR_MAX_AWAIT_TIME_MS, 0);
     }
 
@@ -658,6 +757,10 @@ public CaptureMode getCaptureMode() {
         return captureMode;
     }
 
+    public PayloadFormat getPayloadFormat() {
+        return payloadFormat;
+    }
+
     public int getCursorMaxAwaitTime() {
         return cursorMaxAwaitTimeMs;
     }
@@ -667,6 +770,10 @@ public int getSnapshotMaxThreads() {
         return snapshotMaxThreads;
     }
 
+    public long getSnapshotCollectionSplitSize() {
+        return snapshotCollectionSplitSize;
+    }
+
     @Override
     protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStructMaker(Version version) {
         return new MongoDbSourceInfoStructMaker(Module.name(), Module.version(), this);
@@ -718,14 +825,14 @@ private static int resolveSnapshotMaxThreads(Configuration config) {
 
     @Override
     public Optional<String[]> parseSignallingMessage(Struct value) {
-        final String after = value.getString(Envelope.FieldName.AFTER);
+        final Object after = value.get(Envelope.FieldName.AFTER);
         if (after == null) {
             LOGGER.warn("After part of signal '{}' is missing", value);
             return Optional.empty();
         }
-        final Document fields = Document.parse(after);
+        final Document fields = BsonSerialization.isBsonValue(after) ? BsonSerialization.toDocument(after) : Document.parse((String) after);
         if (fields.size() != 3) {
-            LOGGER.warn("The signal event '{}' should have 3 fields but has {}", after, fields.size());
+            LOGGER.warn("The signal event '{}' should have 3 fields but has {}", fields.toJson(), fields.size());
             return Optional.empty();
         }
         final String[] result = new String[3];
@@ -13,6 +13,7 @@
 
 import org.apache.kafka.connect.data.Schema;
 import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
 
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.pipeline.CommonOffsetContext;
@@ -53,6 +54,10 @@ void stopReplicaSetSnapshot(String replicaSetName) {
         sourceInfo.stopInitialSync(replicaSetName);
     }
 
+    void resumeReplicaSetSnapshot(String replicaSetName, BsonTimestamp timestamp, SnapshotProgress progress) {
+        sourceInfo.resumeInitialSync(replicaSetName, timestamp, progress);
+    }
+
     @Override
     public Map<String, ?> getOffset() {
         // Any common framework API that needs to call this function should be provided with a ReplicaSetOffsetContext
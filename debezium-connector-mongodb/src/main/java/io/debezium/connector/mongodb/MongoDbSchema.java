@@ -15,6 +15,7 @@
 
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.mongodb.FieldSelector.FieldFilter;
+import io.debezium.connector.mongodb.MongoDbConnectorConfig.PayloadFormat;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.FieldName;
 import io.debezium.data.Json;
@@ -36,6 +37,9 @@ public class MongoDbSchema implements DatabaseSchema<CollectionId> {
     public static final String SCHEMA_NAME_UPDATED_DESCRIPTION = "io.debezium.connector.mongodb.changestream.updatedescription";
     public static final String SCHEMA_NAME_TRUNCATED_ARRAY = "io.debezium.connector.mongodb.changestream.truncatedarray";
 
+    // Document payload in the BSON format
+    public static final String SCHEMA_NAME_BSON_DOCUMENT = "io.debezium.connector.mongodb.bson";
+
     public static final Schema TRUNCATED_ARRAY_SCHEMA = MongoDbSchemaFactory.get().truncatedArraySchema();
 
     public static final Schema UPDATED_DESCRIPTION_SCHEMA = MongoDbSchemaFactory.get().updatedDescriptionSchema();
@@ -46,13 +50,20 @@ public class MongoDbSchema implements DatabaseSchema<CollectionId> {
     private final SchemaNameAdjuster adjuster;
     private final ConcurrentMap<CollectionId, MongoDbCollectionSchema> collections = new ConcurrentHashMap<>();
     private final JsonSerialization serialization = new JsonSerialization();
+    private final PayloadFormat payloadFormat;
 
     public MongoDbSchema(Filters filters, TopicNamingStrategy<CollectionId> topicNamingStrategy, Schema sourceSchema,
                          SchemaNameAdjuster schemaNameAdjuster) {
+        this(filters, topicNamingStrategy, sourceSchema, schemaNameAdjuster, PayloadFormat.JSON);
+    }
+
+    public MongoDbSchema(Filters filters, TopicNamingStrategy<CollectionId> topicNamingStrategy, Schema sourceSchema,
+                         SchemaNameAdjuster schemaNameAdjuster, PayloadFormat payloadFormat) {
         this.filters = filters;
         this.topicNamingStrategy = topicNamingStrategy;
         this.sourceSchema = sourceSchema;
         this.adjuster = schemaNameAdjuster;
+        this.payloadFormat = payloadFormat;
     }
 
     @Override
@@ -72,10 +83,10 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
 
             final Schema valueSchema = SchemaBuilder.struct()
                     .name(adjuster.adjust(Envelope.schemaName(topicName)))
-                    .field(FieldName.AFTER, Json.builder().optional().build())
+                    .field(FieldName.AFTER, documentSchema())
                     // Oplog fields
-                    .field(MongoDbFieldName.PATCH, Json.builder().optional().build())
-                    .field(MongoDbFieldName.FILTER, Json.builder().optional().build())
+                    .field(MongoDbFieldName.PATCH, documentSchema())
+                    .field(MongoDbFieldName.FILTER, documentSchema())
                     // Change Streams field
                     .field(MongoDbFieldName.UPDATE_DESCRIPTION, UPDATED_DESCRIPTION_SCHEMA)
                     .field(FieldName.SOURCE, sourceSchema)
@@ -94,10 +105,17 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
                     serialization::getDocumentIdChangeStream,
                     envelope,
                     valueSchema,
-                    serialization::getDocumentValue);
+                    payloadFormat == PayloadFormat.BSON ? BsonSerialization::getDocumentValue : serialization::getDocumentValue);
         });
     }
 
+    private Schema documentSchema() {
+        if (payloadFormat == PayloadFormat.BSON) {
+            return MongoDbSchemaFactory.get().bsonDocumentSchema().optional().build();
+        }
+        return Json.builder().optional().build();
+    }
+
     @Override
     public boolean tableInformationComplete() {
         // Mongo does not support HistonizedDatabaseSchema - so no tables are recovered
@@ -28,6 +28,7 @@ public static MongoDbSchemaFactory get() {
      */
     private static final int MONGODB_TRUNCATED_ARRAY_SCHEMA_VERSION = 1;
     private static final int MONGODB_UPDATED_DESCRIPTION_SCHEMA_VERSION = 1;
+    private static final int MONGODB_BSON_DOCUMENT_SCHEMA_VERSION = 1;
 
     public Schema truncatedArraySchema() {
         return SchemaBuilder.struct()
@@ -51,4 +52,10 @@ public Schema updatedDescriptionSchema() {
                         SchemaBuilder.array(MongoDbSchema.TRUNCATED_ARRAY_SCHEMA).optional().build())
                 .build();
     }
+
+    public SchemaBuilder bsonDocumentSchema() {
+        return SchemaBuilder.bytes()
+                .name(MongoDbSchema.SCHEMA_NAME_BSON_DOCUMENT)
+                .version(MONGODB_BSON_DOCUMENT_SCHEMA_VERSION);
+    }
 }
@@ -6,6 +6,7 @@
 package io.debezium.connector.mongodb;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -17,11 +18,13 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
@@ -32,6 +35,9 @@
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.connector.mongodb.ConnectionContext.MongoPrimary;
@@ -58,6 +64,13 @@ public class MongoDbSnapshotChangeEventSource extends AbstractSnapshotChangeEven
     private static final Logger LOGGER = LoggerFactory.getLogger(MongoDbSnapshotChangeEventSource.class);
 
     private static final String AUTHORIZATION_FAILURE_MESSAGE = "Command failed with error 13";
+    private static final String ID_FIELD = "_id";
+
+    /**
+     * The maximum number of ranges a collection is split into, bounding the size of the snapshot progress recorded in the offsets.
+     */
+    private static final int MAX_RANGES_PER_COLLECTION = 1_000;
+    private static final int SAMPLES_PER_RANGE = 10;
 
     private final MongoDbConnectorConfig connectorConfig;
     private final MongoDbTaskContext taskContext;
@@ -100,7 +113,7 @@ protected SnapshotResult<MongoDbOffsetContext> doExecute(ChangeEventSourceContex
         }
 
         LOGGER.info("Snapshot step 2 - Determining snapshot offsets");
-        determineSnapshotOffsets(mongoDbSnapshotContext, replicaSets);
+        determineSnapshotOffsets(mongoDbSnapshotContext, replicaSets, previousOffset);
 
         List<ReplicaSet> replicaSetsToSnapshot = mongoDbSnapshottingTask.getReplicaSetsToSnapshot();
 
@@ -287,15 +300,24 @@ else if (lastRecordedTs.compareTo(firstAvailableTs) < 0) {
         return performSnapshot;
     }
 
-    protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets replicaSets) {
+    protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets replicaSets, MongoDbOffsetContext previousOffset) {
         final Map<ReplicaSet, BsonDocument> positions = new LinkedHashMap<>();
+        final Map<ReplicaSet, BsonTimestamp> resumedPositions = new LinkedHashMap<>();
         replicaSets.onEachReplicaSet(replicaSet -> {
             LOGGER.info("Determine Snapshot Offset for replica-set {}", replicaSet.replicaSetName());
             MongoPrimary primaryClient = establishConnectionToPrimary(ctx.partition, replicaSet);
             if (primaryClient != null) {
                 try {
                     primaryClient.execute("get oplog position", primary -> {
-                        positions.put(replicaSet, getOplogEntry(primary, -1));
+                        final BsonTimestamp interruptedTs = previousOffset != null
+                                ? previousOffset.getReplicaSetOffsetContext(replicaSet).interruptedSnapshotTimestamp()
+                                : null;
+                        if (interruptedTs != null && isSnapshotResumable(primary, replicaSet, interruptedTs)) {
+                            resumedPositions.put(replicaSet, interruptedTs);
+                        }
+                        else {
+                            positions.put(replicaSet, getOplogEntry(primary, -1));
+                        }
                     });
                 }
                 finally {
@@ -307,6 +329,23 @@ protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets
 
         ctx.offset = new MongoDbOffsetContext(new SourceInfo(connectorConfig), new TransactionContext(),
                 new MongoDbIncrementalSnapshotContext<>(false), positions);
+        resumedPositions.forEach((replicaSet, timestamp) -> ctx.offset.resumeReplicaSetSnapshot(replicaSet.replicaSetName(), timestamp,
+                previousOffset.getReplicaSetOffsetContext(replicaSet).getSnapshotProgress()));
+    }
+
+    /**
+     * Whether the snapshot of a replica set that was interrupted can be resumed, which requires that the oplog still contains
+     * the changes applied since the position of the interrupted snapshot.
+     */
+    private boolean isSnapshotResumable(MongoClient primary, ReplicaSet replicaSet, BsonTimestamp interruptedTs) {
+        final BsonTimestamp firstAvailableTs = SourceInfo.extractEventTimestamp(getOplogEntry(primary, 1));
+        if (firstAvailableTs == null || interruptedTs.compareTo(firstAvailableTs) < 0) {
+            LOGGER.info("The oplog of replica set '{}' no longer contains the position {} of the interrupted snapshot, so a new snapshot will be taken",
+                    replicaSet.replicaSetName(), interruptedTs);
+            return false;
+        }
+        LOGGER.info("Resuming the interrupted snapshot of replica set '{}' taken at {}", replicaSet.replicaSetName(), interruptedTs);
+        return true;
     }
 
     private BsonDocument getOplogEntry(MongoClient primary, int sortOrder) throws MongoQueryException {
@@ -359,11 +398,17 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
 
         final List<CollectionId> collections = determineDataCollectionsToBeSnapshotted(primaryClient.collections()).collect(Collectors.toList());
         snapshotProgressListener.monitoredDataCollectionsDetermined(snapshotContext.partition, collections);
+
+        final SnapshotProgress progress = rsOffsetContext.getSnapshotProgress();
+        final List<SnapshotRange> ranges = determineRangesToBeSnapshotted(progress, collections, primaryClient);
+        final Map<CollectionId, CollectionProgress> collectionProgress = new LinkedHashMap<>();
+        ranges.forEach(range -> collectionProgress.computeIfAbsent(range.collectionId(), id -> new CollectionProgress()).addRange());
+
         if (connectorConfig.getSnapshotMaxThreads() > 1) {
             // Since multiple snapshot threads are to be used, create a thread pool and initiate the snapshot.
             // The current thread will wait until the snapshot threads either have completed or an error occurred.
-            final int numThreads = Math.min(collections.size(), connectorConfig.getSnapshotMaxThreads());
-            final Queue<CollectionId> collectionsToCopy = new ConcurrentLinkedQueue<>(collections);
+            final int numThreads = Math.min(ranges.size(), connectorConfig.getSnapshotMaxThreads());
+            final Queue<SnapshotRange> rangesToCopy = new ConcurrentLinkedQueue<>(ranges);
 
             final String snapshotThreadName = "snapshot-" + (replicaSet.hasReplicaSetName() ? replicaSet.replicaSetName() : "main");
             final ExecutorService snapshotThreads = Threads.newFixedThreadPool(MongoDbConnector.class, taskContext.serverName(),
@@ -372,29 +417,31 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
             final AtomicBoolean aborted = new AtomicBoolean(false);
             final AtomicInteger threadCounter = new AtomicInteger(0);
 
-            LOGGER.info("Preparing to use {} thread(s) to snapshot {} collection(s): {}", numThreads, collections.size(),
-                    Strings.join(", ", collections));
+            LOGGER.info("Preparing to use {} thread(s) to snapshot {} range(s) of {} collection(s): {}", numThreads, ranges.size(),
+                    collectionProgress.size(), Strings.join(", ", collectionProgress.keySet()));
 
             for (int i = 0; i < numThreads; ++i) {
                 snapshotThreads.submit(() -> {
                     taskContext.configureLoggingContext(replicaSet.replicaSetName() + "-snapshot" + threadCounter.incrementAndGet());
                     try {
-                        CollectionId id = null;
-                        while (!aborted.get() && (id = collectionsToCopy.poll()) != null) {
+                        SnapshotRange range = null;
+                        while (!aborted.get() && (range = rangesToCopy.poll()) != null) {
                             if (!sourceContext.isRunning()) {
                                 throw new InterruptedException("Interrupted while snapshotting replica set " + replicaSet.replicaSetName());
                             }
 
-                            if (collectionsToCopy.isEmpty()) {
+                            if (rangesToCopy.isEmpty()) {
                                 snapshotContext.lastCollection = true;
                             }
 
-                            createDataEventsForCollection(
+                            createDataEventsForRange(
                                     sourceContext,
                                     snapshotContext,
                                     snapshotReceiver,
                                     replicaSet,
-                                    id,
+                                    range,
+                                    progress,
+                                    collectionProgress.get(range.collectionId()),
                                     primaryClient);
                         }
                     }
@@ -423,8 +470,8 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
             // Only 1 thread should be used for snapshotting collections.
             // In this use case since the replica-set snapshot is already in a separate thread, there is not
             // a real reason to spawn additional threads but instead just run within the current thread.
-            for (Iterator<CollectionId> it = collections.iterator(); it.hasNext();) {
-                final CollectionId collectionId = it.next();
+            for (Iterator<SnapshotRange> it = ranges.iterator(); it.hasNext();) {
+                final SnapshotRange range = it.next();
 
                 if (!sourceContext.isRunning()) {
                     throw new InterruptedException("Interrupted while snapshotting replica set " + replicaSet.replicaSetName());
@@ -434,12 +481,14 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
                     snapshotContext.lastCollection = true;
                 }
 
-                createDataEventsForCollection(
+                createDataEventsForRange(
                         sourceContext,
                         snapshotContext,
                         snapshotReceiver,
                         replicaSet,
-                        collectionId,
+                        range,
+                        progress,
+                        collectionProgress.get(range.collectionId()),
                         primaryClient);
             }
         }
@@ -447,23 +496,97 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
         offsetContext.stopReplicaSetSnapshot(replicaSet.replicaSetName());
     }
 
-    private void createDataEventsForCollection(ChangeEventSourceContext sourceContext,
-                                               MongoDbSnapshotContext snapshotContext,
-                                               SnapshotReceiver<MongoDbPartition> snapshotReceiver,
-                                               ReplicaSet replicaSet, CollectionId collectionId, MongoPrimary primaryClient)
+    /**
+     * Determines the ranges of the given collections that are to be read, splitting the collections not split by an
+     * interrupted snapshot if configured so, and skipping the ranges read completely by an interrupted snapshot.
+     */
+    private List<SnapshotRange> determineRangesToBeSnapshotted(SnapshotProgress progress, List<CollectionId> collections,
+                                                               MongoPrimary primaryClient) {
+        final long splitSize = connectorConfig.getSnapshotCollectionSplitSize();
+        final List<SnapshotRange> ranges = new ArrayList<>();
+
+        for (CollectionId collectionId : collections) {
+            if (progress.isCompleted(collectionId)) {
+                LOGGER.info("\t Skipping collection '{}' which was completely exported by the interrupted snapshot", collectionId);
+                continue;
+            }
+
+            List<BsonValue> boundaries = progress.boundaries(collectionId);
+            if (boundaries == null && splitSize > 0) {
+                boundaries = primaryClient.execute("split '" + collectionId + "'", primary -> {
+                    return splitCollection(primary, collectionId, splitSize);
+                });
+                if (!boundaries.isEmpty()) {
+                    progress.split(collectionId, boundaries);
+                }
+            }
+
+            for (SnapshotRange range : SnapshotRange.of(collectionId, boundaries != null ? boundaries : Collections.emptyList())) {
+                if (progress.isCompleted(range)) {
+                    LOGGER.info("\t Skipping range {} which was completely exported by the interrupted snapshot", range);
+                }
+                else {
+                    ranges.add(range);
+                }
+            }
+        }
+
+        return ranges;
+    }
+
+    /**
+     * Determines the boundaries splitting a collection into ranges of about the configured size, based on a sorted
+     * sample of its {@code _id} values.
+     *
+     * @return the boundaries; empty if the collection is not to be split
+     */
+    private List<BsonValue> splitCollection(MongoClient primary, CollectionId collectionId, long splitSize) {
+        final MongoCollection<BsonDocument> collection = primary.getDatabase(collectionId.dbName())
+                .getCollection(collectionId.name(), BsonDocument.class);
+
+        final long documents = collection.estimatedDocumentCount();
+        if (documents <= splitSize) {
+            return Collections.emptyList();
+        }
+
+        final int count = (int) Math.min(MAX_RANGES_PER_COLLECTION, (documents + splitSize - 1) / splitSize);
+        final List<BsonValue> ids = new ArrayList<>();
+        collection.aggregate(Arrays.asList(
+                Aggregates.sample(count * SAMPLES_PER_RANGE),
+                Aggregates.project(Projections.include(ID_FIELD)),
+                Aggregates.sort(Sorts.ascending(ID_FIELD))))
+                .allowDiskUse(true)
+                .forEach(document -> ids.add(document.get(ID_FIELD)));
+
+        final List<BsonValue> boundaries = SnapshotRange.boundaries(ids, count);
+        if (boundaries.isEmpty()) {
+            LOGGER.info("\t Collection '{}' is not split as its sampled '_id' values are of different types", collectionId);
+        }
+        else {
+            LOGGER.info("\t Split collection '{}' with about {} documents into {} ranges", collectionId, documents, boundaries.size() + 1);
+        }
+        return boundaries;
+    }
+
+    private void createDataEventsForRange(ChangeEventSourceContext sourceContext,
+                                          MongoDbSnapshotContext snapshotContext,
+                                          SnapshotReceiver<MongoDbPartition> snapshotReceiver,
+                                          ReplicaSet replicaSet, SnapshotRange range, SnapshotProgress progress,
+                                          CollectionProgress collectionProgress, MongoPrimary primaryClient)
             throws InterruptedException {
 
+        final CollectionId collectionId = range.collectionId();
         long exportStart = clock.currentTimeInMillis();
-        LOGGER.info("\t Exporting data for collection '{}'", collectionId);
+        LOGGER.info("\t Exporting data for collection '{}'", range);
 
-        primaryClient.executeBlocking("sync '" + collectionId + "'", primary -> {
+        primaryClient.executeBlocking("sync '" + range + "'", primary -> {
             final MongoDatabase database = primary.getDatabase(collectionId.dbName());
             final MongoCollection<BsonDocument> collection = database.getCollection(collectionId.name(), BsonDocument.class);
 
             final int batchSize = taskContext.getConnectorConfig().getSnapshotFetchSize();
 
             long docs = 0;
-            Bson filterQuery = Document.parse(connectorConfig.getSnapshotFilterQueryForCollection(collectionId).orElseGet(() -> "{}"));
+            Bson filterQuery = range.filter(Document.parse(connectorConfig.getSnapshotFilterQueryForCollection(collectionId).orElseGet(() -> "{}")));
 
             try (MongoCursor<BsonDocument> cursor = collection.find(filterQuery).batchSize(batchSize).iterator()) {
                 snapshotContext.lastRecordInCollection = false;
@@ -492,9 +615,19 @@ else if (snapshotContext.lastCollection) {
                     snapshotContext.offset.markSnapshotRecord(SnapshotRecord.LAST);
                 }
 
-                LOGGER.info("\t Finished snapshotting {} records for collection '{}'; total duration '{}'", docs, collectionId,
-                        Strings.duration(clock.currentTimeInMillis() - exportStart));
-                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, docs);
+                if (connectorConfig.getSnapshotCollectionSplitSize() > 0 || !progress.isEmpty()) {
+                    progress.completed(range);
+                }
+
+                if (!range.isWholeCollection()) {
+                    LOGGER.info("\t Finished snapshotting {} records for range {}; duration '{}'", docs, range,
+                            Strings.duration(clock.currentTimeInMillis() - exportStart));
+                }
+                if (collectionProgress.rangeCompleted(docs)) {
+                    LOGGER.info("\t Finished snapshotting {} records for collection '{}'; total duration '{}'", collectionProgress.documents(),
+                            collectionId, Strings.duration(clock.currentTimeInMillis() - collectionProgress.exportStart()));
+                    snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, collectionProgress.documents());
+                }
             }
         });
     }
@@ -544,6 +677,35 @@ public String toString() {
         }
     }
 
+    /**
+     * Tracks the ranges of a collection that are still being exported.
+     */
+    private class CollectionProgress {
+        private final long exportStart = clock.currentTimeInMillis();
+        private final AtomicInteger remainingRanges = new AtomicInteger();
+        private final AtomicLong documents = new AtomicLong();
+
+        void addRange() {
+            remainingRanges.incrementAndGet();
+        }
+
+        /**
+         * @return {@code true} if this was the last range of the collection
+         */
+        boolean rangeCompleted(long rangeDocuments) {
+            documents.addAndGet(rangeDocuments);
+            return remainingRanges.decrementAndGet() == 0;
+        }
+
+        long exportStart() {
+            return exportStart;
+        }
+
+        long documents() {
+            return documents.get();
+        }
+    }
+
     /**
      * Mutable context that is populated in the course of snapshotting.
      */
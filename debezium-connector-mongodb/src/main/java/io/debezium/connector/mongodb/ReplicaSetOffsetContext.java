@@ -113,6 +113,17 @@ public String lastResumeToken() {
         return sourceInfo.lastResumeToken(replicaSetName);
     }
 
+    /**
+     * @return the position of an interrupted snapshot that can be resumed, or {@code null} if there is none
+     */
+    BsonTimestamp interruptedSnapshotTimestamp() {
+        return sourceInfo.interruptedInitialSyncTimestamp(replicaSetName);
+    }
+
+    SnapshotProgress getSnapshotProgress() {
+        return sourceInfo.snapshotProgress(replicaSetName);
+    }
+
     @Override
     public IncrementalSnapshotContext<?> getIncrementalSnapshotContext() {
         return offsetContext.getIncrementalSnapshotContext();
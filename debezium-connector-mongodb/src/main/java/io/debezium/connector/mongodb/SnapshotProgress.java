@@ -0,0 +1,179 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * The progress of the initial snapshot of a replica set whose collections are split into {@link SnapshotRange ranges}.
+ * <p>
+ * The progress is recorded in the source offsets while the snapshot is running, so that a snapshot which gets interrupted
+ * can be resumed with the ranges not yet read. Its JSON representation looks like this:
+ *
+ * <pre>
+ * {
+ *     "completed" : [ "inventory.customers" ],
+ *     "split" : {
+ *         "inventory.orders" : {
+ *             "boundaries" : [ { "$oid" : "62a1..." }, { "$oid" : "62b7..." } ],
+ *             "completed" : [ 0, 2 ]
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * The boundaries of a collection are kept until all of its ranges are read, as sampling them again would yield different ranges.
+ */
+@ThreadSafe
+final class SnapshotProgress {
+
+    private static final String COMPLETED = "completed";
+    private static final String SPLIT = "split";
+    private static final String BOUNDARIES = "boundaries";
+
+    private static final JsonWriterSettings JSON_WRITER_SETTINGS = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+
+    private final String replicaSetName;
+    private final Set<String> completedCollections = new LinkedHashSet<>();
+    private final Map<String, List<BsonValue>> boundariesByCollection = new HashMap<>();
+    private final Map<String, Set<Integer>> completedRangesByCollection = new HashMap<>();
+
+    /**
+     * Cached JSON representation, as it is part of the offset of every snapshot record but changes only when a range is completed.
+     */
+    private String json;
+
+    SnapshotProgress(String replicaSetName) {
+        this.replicaSetName = replicaSetName;
+    }
+
+    /**
+     * Parse the JSON representation of the progress as recorded in the source offsets.
+     *
+     * @param replicaSetName the name of the replica set; may not be null
+     * @param json the JSON representation; may not be null
+     * @return the progress; never null
+     */
+    static SnapshotProgress parse(String replicaSetName, String json) {
+        final SnapshotProgress progress = new SnapshotProgress(replicaSetName);
+        final BsonDocument document = BsonDocument.parse(json);
+        for (BsonValue collection : document.getArray(COMPLETED, new BsonArray())) {
+            progress.completedCollections.add(collection.asString().getValue());
+        }
+        for (Map.Entry<String, BsonValue> split : document.getDocument(SPLIT, new BsonDocument()).entrySet()) {
+            final BsonDocument collection = split.getValue().asDocument();
+            progress.boundariesByCollection.put(split.getKey(), new ArrayList<>(collection.getArray(BOUNDARIES)));
+            final Set<Integer> completedRanges = new HashSet<>();
+            for (BsonValue range : collection.getArray(COMPLETED, new BsonArray())) {
+                completedRanges.add(range.asInt32().getValue());
+            }
+            progress.completedRangesByCollection.put(split.getKey(), completedRanges);
+        }
+        progress.json = json;
+        return progress;
+    }
+
+    /**
+     * Whether all documents of the given collection have already been read.
+     */
+    synchronized boolean isCompleted(CollectionId collectionId) {
+        return completedCollections.contains(collectionId.namespace());
+    }
+
+    /**
+     * Get the boundaries at which the given collection was split.
+     *
+     * @return the boundaries, or {@code null} if the collection was not split yet
+     */
+    synchronized List<BsonValue> boundaries(CollectionId collectionId) {
+        final List<BsonValue> boundaries = boundariesByCollection.get(collectionId.namespace());
+        return boundaries != null ? Collections.unmodifiableList(boundaries) : null;
+    }
+
+    /**
+     * Whether the given range has already been read.
+     */
+    synchronized boolean isCompleted(SnapshotRange range) {
+        if (isCompleted(range.collectionId())) {
+            return true;
+        }
+        final Set<Integer> completedRanges = completedRangesByCollection.get(range.collectionId().namespace());
+        return completedRanges != null && completedRanges.contains(range.index());
+    }
+
+    /**
+     * Record the boundaries at which the given collection is split, before any of its ranges is read.
+     */
+    synchronized void split(CollectionId collectionId, List<BsonValue> boundaries) {
+        boundariesByCollection.put(collectionId.namespace(), new ArrayList<>(boundaries));
+        completedRangesByCollection.put(collectionId.namespace(), new HashSet<>());
+        json = null;
+    }
+
+    /**
+     * Record that all documents of the given range were read.
+     */
+    synchronized void completed(SnapshotRange range) {
+        final String namespace = range.collectionId().namespace();
+        final List<BsonValue> boundaries = boundariesByCollection.get(namespace);
+        if (boundaries == null) {
+            completedCollections.add(namespace);
+        }
+        else {
+            final Set<Integer> completedRanges = completedRangesByCollection.get(namespace);
+            completedRanges.add(range.index());
+            if (completedRanges.size() == boundaries.size() + 1) {
+                boundariesByCollection.remove(namespace);
+                completedRangesByCollection.remove(namespace);
+                completedCollections.add(namespace);
+            }
+        }
+        json = null;
+    }
+
+    synchronized boolean isEmpty() {
+        return completedCollections.isEmpty() && boundariesByCollection.isEmpty();
+    }
+
+    synchronized String toJson() {
+        if (json == null) {
+            final BsonArray completed = new BsonArray();
+            completedCollections.forEach(namespace -> completed.add(new BsonString(namespace)));
+
+            final BsonDocument split = new BsonDocument();
+            boundariesByCollection.forEach((namespace, boundaries) -> {
+                final BsonArray completedRanges = new BsonArray();
+                completedRangesByCollection.get(namespace).stream().sorted().forEach(index -> completedRanges.add(new BsonInt32(index)));
+                split.append(namespace, new BsonDocument(BOUNDARIES, new BsonArray(boundaries)).append(COMPLETED, completedRanges));
+            });
+
+            json = new BsonDocument(COMPLETED, completed).append(SPLIT, split).toJson(JSON_WRITER_SETTINGS);
+        }
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotProgress [replicaSetName=" + replicaSetName + ", progress=" + toJson() + "]";
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.Filters;
+
+import io.debezium.annotation.Immutable;
+
+/**
+ * A range of the {@code _id} values of a collection that is read by a single snapshot thread.
+ * <p>
+ * A collection split at the boundaries {@code b1 < b2 < ... < bn} consists of the ranges {@code (-inf, b1)},
+ * {@code [b1, b2)}, ..., {@code [bn, +inf)}. All boundaries are of the same BSON type, and as MongoDB only compares
+ * values of the same type in range queries, documents with an {@code _id} of any other type are assigned to the first range.
+ * A collection which is not split is read as a single range without boundaries.
+ */
+@Immutable
+final class SnapshotRange {
+
+    private static final String ID_FIELD = "_id";
+
+    private final CollectionId collectionId;
+    private final int index;
+    private final int count;
+    private final BsonValue lowerBound;
+    private final BsonValue upperBound;
+
+    private SnapshotRange(CollectionId collectionId, int index, int count, BsonValue lowerBound, BsonValue upperBound) {
+        this.collectionId = collectionId;
+        this.index = index;
+        this.count = count;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Create the ranges of a collection.
+     *
+     * @param collectionId the collection; may not be null
+     * @param boundaries the ascending boundaries of the ranges, all of the same type; may be empty if the collection is not split
+     * @return the ranges; never empty
+     */
+    static List<SnapshotRange> of(CollectionId collectionId, List<BsonValue> boundaries) {
+        final int count = boundaries.size() + 1;
+        final List<SnapshotRange> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ranges.add(new SnapshotRange(collectionId, i, count,
+                    i == 0 ? null : boundaries.get(i - 1),
+                    i == count - 1 ? null : boundaries.get(i)));
+        }
+        return ranges;
+    }
+
+    /**
+     * Select the boundaries splitting a collection into ranges of about the same size.
+     *
+     * @param sortedIds the ascending {@code _id} values sampled from the collection; may not be null
+     * @param count the number of ranges
+     * @return the ascending boundaries, or an empty list if the collection cannot be split because the sampled values
+     *         are of different types
+     */
+    static List<BsonValue> boundaries(List<BsonValue> sortedIds, int count) {
+        final List<BsonValue> boundaries = new ArrayList<>();
+        if (sortedIds.isEmpty() || sortedIds.stream().anyMatch(id -> id.getBsonType() != sortedIds.get(0).getBsonType())) {
+            return boundaries;
+        }
+        for (int i = 1; i < count; i++) {
+            final BsonValue boundary = sortedIds.get((int) ((long) i * sortedIds.size() / count));
+            // The same document may be sampled more than once
+            if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+                boundaries.add(boundary);
+            }
+        }
+        return boundaries;
+    }
+
+    CollectionId collectionId() {
+        return collectionId;
+    }
+
+    int index() {
+        return index;
+    }
+
+    boolean isWholeCollection() {
+        return count == 1;
+    }
+
+    /**
+     * Restrict a snapshot filter query to the documents of this range.
+     *
+     * @param filterQuery the filter query configured for the collection; may not be null
+     * @return the filter query selecting the documents of this range; never null
+     */
+    Bson filter(Bson filterQuery) {
+        if (isWholeCollection()) {
+            return filterQuery;
+        }
+        final Bson rangeFilter;
+        if (lowerBound == null) {
+            // Not "$lt", so that documents whose _id is of another type than the boundaries are read too
+            rangeFilter = Filters.not(Filters.gte(ID_FIELD, upperBound));
+        }
+        else if (upperBound == null) {
+            rangeFilter = Filters.gte(ID_FIELD, lowerBound);
+        }
+        else {
+            rangeFilter = Filters.and(Filters.gte(ID_FIELD, lowerBound), Filters.lt(ID_FIELD, upperBound));
+        }
+        return Filters.and(filterQuery, rangeFilter);
+    }
+
+    @Override
+    public String toString() {
+        return isWholeCollection() ? collectionId.toString() : collectionId + " [" + (index + 1) + "/" + count + "]";
+    }
+}
@@ -50,7 +50,8 @@
  * Since each event in MongoDB's oplog is identified by a {@link BSONTimestamp} that tracks the time and the order of the
  * event for that particular time (e.g., multiple events that occur at the same time will have unique orders), the offset
  * includes the BSONTimetamp representation. (The event's {@code h} field is the unique ID for the operation, so this is also
- * included in the offset.) And, if an initial sync is in progress, the offset will include the {@code initsync} field.
+ * included in the offset.) And, if an initial sync is in progress, the offset will include the {@code initsync} field,
+ * as well as the {@code snapshot_progress} field when the collections are split for the snapshot (see {@link SnapshotProgress}).
  * <p>
  * Here's a JSON-like representation of an example timestamp:
  *
@@ -78,6 +79,7 @@ public final class SourceInfo extends BaseSourceInfo {
     public static final String TIMESTAMP = "sec";
     public static final String ORDER = "ord";
     public static final String INITIAL_SYNC = "initsync";
+    public static final String SNAPSHOT_PROGRESS = "snapshot_progress";
     public static final String COLLECTION = "collection";
     public static final String LSID = "lsid";
     public static final String TXN_NUMBER = "txnNumber";
@@ -90,6 +92,8 @@ public final class SourceInfo extends BaseSourceInfo {
     private final ConcurrentMap<String, Map<String, String>> sourcePartitionsByReplicaSetName = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Position> positionsByReplicaSetName = new ConcurrentHashMap<>();
     private final Set<String> initialSyncReplicaSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final ConcurrentMap<String, SnapshotProgress> snapshotProgressByReplicaSetName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, BsonTimestamp> interruptedSnapshotsByReplicaSetName = new ConcurrentHashMap<>();
 
     private String replicaSetName;
 
@@ -239,9 +243,16 @@ public Position lastPosition(String replicaSetName) {
             existing = INITIAL_POSITION;
         }
         if (isInitialSyncOngoing(replicaSetName)) {
-            return addSessionTxnIdToOffset(existing, Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
+            Map<String, Object> offset = Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
                     ORDER, Integer.valueOf(existing.getInc()),
-                    INITIAL_SYNC, true));
+                    INITIAL_SYNC, true);
+
+            SnapshotProgress progress = snapshotProgressByReplicaSetName.get(replicaSetName);
+            if (progress != null && !progress.isEmpty()) {
+                offset.put(SNAPSHOT_PROGRESS, progress.toJson());
+            }
+
+            return addSessionTxnIdToOffset(existing, offset);
         }
         Map<String, Object> offset = Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
                 ORDER, Integer.valueOf(existing.getInc()));
@@ -354,11 +365,17 @@ public boolean setOffsetFor(String replicaSetName, Map<String, ?> sourceOffset)
         }
         // We have previously recorded at least one offset for this database ...
         boolean initSync = booleanOffsetValue(sourceOffset, INITIAL_SYNC);
+        int time = intOffsetValue(sourceOffset, TIMESTAMP);
+        int order = intOffsetValue(sourceOffset, ORDER);
         if (initSync) {
+            // The snapshot was interrupted, remember its progress so that it can be resumed
+            String progress = stringOffsetValue(sourceOffset, SNAPSHOT_PROGRESS);
+            if (progress != null) {
+                snapshotProgressByReplicaSetName.put(replicaSetName, SnapshotProgress.parse(replicaSetName, progress));
+                interruptedSnapshotsByReplicaSetName.put(replicaSetName, new BsonTimestamp(time, order));
+            }
             return false;
         }
-        int time = intOffsetValue(sourceOffset, TIMESTAMP);
-        int order = intOffsetValue(sourceOffset, ORDER);
         String changeStreamLsid = stringOffsetValue(sourceOffset, LSID);
         Long changeStreamTxnNumber = longOffsetValue(sourceOffset, TXN_NUMBER);
         SessionTransactionId changeStreamTxnId = null;
@@ -401,6 +418,44 @@ public void startInitialSync(String replicaSetName) {
      */
     public void stopInitialSync(String replicaSetName) {
         initialSyncReplicaSets.remove(replicaSetName);
+        snapshotProgressByReplicaSetName.remove(replicaSetName);
+    }
+
+    /**
+     * Get the position of an initial sync of the given replica set that was interrupted after recording its progress.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @return the position from which the interrupted initial sync was to be followed by streaming, or {@code null} if there is
+     *         no resumable initial sync for this replica set
+     */
+    BsonTimestamp interruptedInitialSyncTimestamp(String replicaSetName) {
+        return interruptedSnapshotsByReplicaSetName.get(replicaSetName);
+    }
+
+    /**
+     * Resume an interrupted initial sync of the given replica set, keeping its original position so that no changes applied
+     * while the initial sync was interrupted are missed.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @param timestamp the position of the interrupted initial sync; never null
+     * @param progress the ranges read by the interrupted initial sync; never null
+     */
+    void resumeInitialSync(String replicaSetName, BsonTimestamp timestamp, SnapshotProgress progress) {
+        Position position = Position.snapshotPosition(timestamp);
+        positionsByReplicaSetName.put(replicaSetName, position);
+        snapshotProgressByReplicaSetName.put(replicaSetName, progress);
+
+        onEvent(replicaSetName, null, position);
+    }
+
+    /**
+     * Get the progress of the initial sync of the given replica set.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @return the progress; never null
+     */
+    SnapshotProgress snapshotProgress(String replicaSetName) {
+        return snapshotProgressByReplicaSetName.computeIfAbsent(replicaSetName, SnapshotProgress::new);
     }
 
     /**
@@ -5,12 +5,15 @@
  */
 package io.debezium.connector.mongodb.transforms;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -37,10 +40,13 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.annotation.VisibleForTesting;
 import io.debezium.config.Configuration;
 import io.debezium.config.EnumeratedValue;
 import io.debezium.config.Field;
+import io.debezium.connector.mongodb.BsonSerialization;
 import io.debezium.connector.mongodb.MongoDbFieldName;
+import io.debezium.connector.mongodb.transforms.MongoDataConverter.StructPlan;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.FieldName;
 import io.debezium.data.Envelope.Operation;
@@ -49,12 +55,15 @@
 import io.debezium.transforms.ExtractNewRecordStateConfigDefinition;
 import io.debezium.transforms.ExtractNewRecordStateConfigDefinition.DeleteHandling;
 import io.debezium.transforms.SmtManager;
+import io.debezium.util.BoundedConcurrentHashMap;
+import io.debezium.util.BoundedConcurrentHashMap.Eviction;
 import io.debezium.util.Strings;
 
 /**
- * Debezium Mongo Connector generates the CDC records in String format. Sink connectors usually are not able to parse
- * the string and insert the document as it is represented in the Source. so a user use this SMT to parse the String
- * and insert the MongoDB document in the JSON format.
+ * Debezium Mongo Connector generates the CDC records in String format, or as raw BSON bytes when configured with the
+ * {@code bson} payload format. Sink connectors usually are not able to parse the string and insert the document as it
+ * is represented in the Source. so a user use this SMT to parse the String or decode the BSON bytes and insert the
+ * MongoDB document in the JSON format.
  *
  * @param <R> the subtype of {@link ConnectRecord} on which this transformation will operate
  * @author Sairam Polavarapu
@@ -116,6 +125,7 @@ public static ArrayEncoding parse(String value, String defaultValue) {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ExtractNewDocumentState.class);
     private static final Pattern FIELD_SEPARATOR = Pattern.compile("\\.");
+    private static final int SCHEMA_CACHE_SIZE = 1024;
 
     private static final Field ARRAY_ENCODING = Field.create("array.encoding")
             .withDisplayName("Array encoding")
@@ -169,6 +179,9 @@ public static ArrayEncoding parse(String value, String defaultValue) {
 
     private SmtManager<R> smtManager;
 
+    private BoundedConcurrentHashMap<String, DocumentSchema> schemaCache;
+    private ExtractNewDocumentStateMetrics metrics;
+
     @Override
     public R apply(R record) {
         if (!smtManager.isValidKey(record)) {
@@ -234,18 +247,12 @@ public R apply(R record) {
     }
 
     private R newRecord(R record, BsonDocument keyDocument, BsonDocument valueDocument) {
-        SchemaBuilder keySchemaBuilder = SchemaBuilder.struct();
-        Set<Entry<String, BsonValue>> keyPairs = keyDocument.entrySet();
-        for (Entry<String, BsonValue> keyPairsForSchema : keyPairs) {
-            converter.addFieldSchema(keyPairsForSchema, keySchemaBuilder);
-        }
+        final Set<Entry<String, BsonValue>> keyPairs = keyDocument.entrySet();
+        final DocumentSchema keySchema = documentSchema(null, keyPairs, null);
 
-        Schema finalKeySchema = keySchemaBuilder.build();
+        Schema finalKeySchema = keySchema.schema;
         Struct finalKeyStruct = new Struct(finalKeySchema);
-
-        for (Entry<String, BsonValue> keyPairsForStruct : keyPairs) {
-            converter.convertRecord(keyPairsForStruct, finalKeySchema, finalKeyStruct);
-        }
+        keySchema.plan.populate(keyPairs, finalKeyStruct);
 
         Schema finalValueSchema = null;
         Struct finalValueStruct = null;
@@ -255,40 +262,21 @@ private R newRecord(R record, BsonDocument keyDocument, BsonDocument valueDocume
             if (Envelope.isEnvelopeSchema(newValueSchemaName)) {
                 newValueSchemaName = newValueSchemaName.substring(0, newValueSchemaName.length() - 9);
             }
-            SchemaBuilder valueSchemaBuilder = SchemaBuilder.struct().name(newValueSchemaName);
-
-            Set<Entry<String, BsonValue>> valuePairs = valueDocument.entrySet();
-            for (Entry<String, BsonValue> valuePairsForSchema : valuePairs) {
-                if (valuePairsForSchema.getKey().equalsIgnoreCase("$set")) {
-                    BsonDocument val1 = BsonDocument.parse(valuePairsForSchema.getValue().toString());
-                    Set<Entry<String, BsonValue>> keyValuesForSetSchema = val1.entrySet();
-                    for (Entry<String, BsonValue> keyValuesForSetSchemaEntry : keyValuesForSetSchema) {
-                        converter.addFieldSchema(keyValuesForSetSchemaEntry, valueSchemaBuilder);
-                    }
+
+            final List<Entry<String, BsonValue>> valuePairs = new ArrayList<>(valueDocument.size());
+            for (Entry<String, BsonValue> valuePair : valueDocument.entrySet()) {
+                if (valuePair.getKey().equalsIgnoreCase("$set")) {
+                    valuePairs.addAll(BsonDocument.parse(valuePair.getValue().toString()).entrySet());
                 }
                 else {
-                    converter.addFieldSchema(valuePairsForSchema, valueSchemaBuilder);
+                    valuePairs.add(valuePair);
                 }
             }
+            final DocumentSchema valueSchema = documentSchema(newValueSchemaName, valuePairs, record);
 
-            if (!additionalFields.isEmpty()) {
-                addAdditionalFieldsSchema(additionalFields, record, valueSchemaBuilder);
-            }
-
-            finalValueSchema = valueSchemaBuilder.build();
+            finalValueSchema = valueSchema.schema;
             finalValueStruct = new Struct(finalValueSchema);
-            for (Entry<String, BsonValue> valuePairsForStruct : valuePairs) {
-                if (valuePairsForStruct.getKey().equalsIgnoreCase("$set")) {
-                    BsonDocument val1 = BsonDocument.parse(valuePairsForStruct.getValue().toString());
-                    Set<Entry<String, BsonValue>> keyValueForSetStruct = val1.entrySet();
-                    for (Entry<String, BsonValue> keyValueForSetStructEntry : keyValueForSetStruct) {
-                        converter.convertRecord(keyValueForSetStructEntry, finalValueSchema, finalValueStruct);
-                    }
-                }
-                else {
-                    converter.convertRecord(valuePairsForStruct, finalValueSchema, finalValueStruct);
-                }
-            }
+            valueSchema.plan.populate(valuePairs, finalValueStruct);
 
             if (!additionalFields.isEmpty()) {
                 addFields(additionalFields, record, finalValueStruct);
@@ -305,6 +293,44 @@ private R newRecord(R record, BsonDocument keyDocument, BsonDocument valueDocume
         return newRecord;
     }
 
+    /**
+     * Gets the schema of the given document entries along with the plan populating its structs, inferring both only for
+     * document structures not seen recently.
+     *
+     * @param schemaName the name of the schema; null for the key schema
+     * @param entries the entries of the document
+     * @param record the original record whose additional fields are added to the value schema; null for the key schema
+     */
+    private DocumentSchema documentSchema(String schemaName, Collection<Entry<String, BsonValue>> entries, R record) {
+        final StringBuilder fingerprint = new StringBuilder();
+        fingerprint.append(record == null ? 'k' : 'v').append(schemaName).append('\u0000');
+        converter.fingerprint(entries, fingerprint);
+        final String key = fingerprint.toString();
+
+        // The additional fields are taken from the original schema, which is expected to be the same for a given value schema name
+        final Schema sourceSchema = record != null && !additionalFields.isEmpty() ? record.valueSchema() : null;
+        DocumentSchema documentSchema = schemaCache.get(key);
+        if (documentSchema != null && (sourceSchema == documentSchema.sourceSchema || Objects.equals(sourceSchema, documentSchema.sourceSchema))) {
+            metrics.onCacheHit();
+            return documentSchema;
+        }
+
+        final long inferenceStart = System.nanoTime();
+        final SchemaBuilder schemaBuilder = schemaName == null ? SchemaBuilder.struct() : SchemaBuilder.struct().name(schemaName);
+        for (Entry<String, BsonValue> entry : entries) {
+            converter.addFieldSchema(entry, schemaBuilder);
+        }
+        if (sourceSchema != null) {
+            addAdditionalFieldsSchema(additionalFields, record, schemaBuilder);
+        }
+        final Schema schema = schemaBuilder.build();
+        documentSchema = new DocumentSchema(schema, converter.compile(entries, schema), sourceSchema);
+        metrics.onCacheMiss(System.nanoTime() - inferenceStart);
+
+        schemaCache.put(key, documentSchema);
+        return documentSchema;
+    }
+
     private void addAdditionalFieldsSchema(List<FieldReference> additionalFields, R originalRecord, SchemaBuilder valueSchemaBuilder) {
         Schema sourceSchema = originalRecord.valueSchema();
         for (FieldReference fieldReference : additionalFields) {
@@ -323,7 +349,7 @@ private void addFields(List<FieldReference> additionalFields, R originalRecord,
 
     private BsonDocument getUpdateDocument(R patchRecord, BsonDocument keyDocument) {
         BsonDocument valueDocument = new BsonDocument();
-        BsonDocument document = BsonDocument.parse(patchRecord.value().toString());
+        BsonDocument document = toBsonDocument(patchRecord.value());
 
         if (document.containsKey("$set")) {
             valueDocument = document.getDocument("$set");
@@ -366,7 +392,17 @@ private BsonDocument getUpdateDocument(R patchRecord, BsonDocument keyDocument)
     }
 
     private BsonDocument getInsertDocument(R record, BsonDocument key) {
-        return BsonDocument.parse(record.value().toString());
+        return toBsonDocument(record.value());
+    }
+
+    /**
+     * Decodes a document emitted either as raw BSON bytes or as a JSON string, depending on the connector's payload format.
+     */
+    private BsonDocument toBsonDocument(Object value) {
+        if (BsonSerialization.isBsonValue(value)) {
+            return BsonSerialization.toBsonDocument(value);
+        }
+        return BsonDocument.parse(value.toString());
     }
 
     private Headers makeHeaders(List<FieldReference> additionalHeaders, Struct originalRecordValue) {
@@ -398,8 +434,16 @@ public ConfigDef config() {
         return config;
     }
 
+    @VisibleForTesting
+    ExtractNewDocumentStateMetricsMXBean getMetrics() {
+        return metrics;
+    }
+
     @Override
     public void close() {
+        if (metrics != null) {
+            metrics.unregister();
+        }
     }
 
     @Override
@@ -422,6 +466,13 @@ public void configure(final Map<String, ?> map) {
                 ArrayEncoding.parse(config.getString(ARRAY_ENCODING)),
                 FieldNameSelector.defaultNonRelationalSelector(config.getBoolean(SANITIZE_FIELD_NAMES)), config.getBoolean(SANITIZE_FIELD_NAMES));
 
+        schemaCache = new BoundedConcurrentHashMap<>(SCHEMA_CACHE_SIZE, 1, Eviction.LRU);
+        if (metrics != null) {
+            metrics.unregister();
+        }
+        metrics = new ExtractNewDocumentStateMetrics(schemaCache::size);
+        metrics.register();
+
         addFieldsPrefix = config.getString(ExtractNewRecordStateConfigDefinition.ADD_FIELDS_PREFIX);
         String addHeadersPrefix = config.getString(ExtractNewRecordStateConfigDefinition.ADD_HEADERS_PREFIX);
         additionalHeaders = FieldReference.fromConfiguration(addHeadersPrefix, config.getString(ExtractNewRecordStateConfigDefinition.ADD_HEADERS));
@@ -553,4 +604,19 @@ Schema getSchema(Schema originalRecordSchema) {
             return SchemaUtil.copySchemaBasics(schemaField.schema()).optional().build();
         }
     }
+
+    /**
+     * The schema inferred for documents of a given structure, along with the plan populating its structs.
+     */
+    private static class DocumentSchema {
+        private final Schema schema;
+        private final StructPlan plan;
+        private final Schema sourceSchema;
+
+        DocumentSchema(Schema schema, StructPlan plan, Schema sourceSchema) {
+            this.schema = schema;
+            this.plan = plan;
+            this.sourceSchema = sourceSchema;
+        }
+    }
 }
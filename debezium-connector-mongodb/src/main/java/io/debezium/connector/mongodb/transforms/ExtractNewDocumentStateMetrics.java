@@ -0,0 +1,131 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.transforms;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * Schema cache metrics of an {@link ExtractNewDocumentState} instance, registered as
+ * {@code debezium.mongodb:type=transformation-metrics,context=extract-new-document-state,instance=<n>}.
+ */
+@ThreadSafe
+class ExtractNewDocumentStateMetrics implements ExtractNewDocumentStateMetricsMXBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExtractNewDocumentStateMetrics.class);
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final String objectName = "debezium.mongodb:type=transformation-metrics,context=extract-new-document-state,instance="
+            + INSTANCES.incrementAndGet();
+    private final LongSupplier cacheSize;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong totalInferenceTime = new AtomicLong();
+    private final AtomicLong maxInferenceTime = new AtomicLong();
+
+    private volatile ObjectName name;
+
+    ExtractNewDocumentStateMetrics(LongSupplier cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    void register() {
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        if (mBeanServer == null) {
+            LOGGER.info("JMX not supported, bean '{}' not registered", objectName);
+            return;
+        }
+        try {
+            final ObjectName objectName = new ObjectName(this.objectName);
+            mBeanServer.registerMBean(this, objectName);
+            name = objectName;
+        }
+        catch (JMException e) {
+            LOGGER.warn("Unable to register the MBean '{}', metrics will not be available", objectName, e);
+        }
+    }
+
+    void unregister() {
+        final ObjectName objectName = name;
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        }
+        catch (JMException e) {
+            LOGGER.info("Unable to unregister the MBean '{}'", objectName, e);
+        }
+        name = null;
+    }
+
+    void onCacheHit() {
+        hits.incrementAndGet();
+    }
+
+    /**
+     * @param inferenceTimeInNanos the time spent inferring the schema missing from the cache
+     */
+    void onCacheMiss(long inferenceTimeInNanos) {
+        misses.incrementAndGet();
+        totalInferenceTime.addAndGet(inferenceTimeInNanos);
+        maxInferenceTime.accumulateAndGet(inferenceTimeInNanos, Math::max);
+    }
+
+    @Override
+    public long getSchemaCacheHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getSchemaCacheMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public double getSchemaCacheHitRate() {
+        final long hits = this.hits.get();
+        final long lookups = hits + misses.get();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public long getSchemaCacheSize() {
+        return cacheSize.getAsLong();
+    }
+
+    @Override
+    public long getTotalSchemaInferenceTimeInMicroSeconds() {
+        return TimeUnit.NANOSECONDS.toMicros(totalInferenceTime.get());
+    }
+
+    @Override
+    public long getMaxSchemaInferenceTimeInMicroSeconds() {
+        return TimeUnit.NANOSECONDS.toMicros(maxInferenceTime.get());
+    }
+
+    @Override
+    public void reset() {
+        hits.set(0);
+        misses.set(0);
+        totalInferenceTime.set(0);
+        maxInferenceTime.set(0);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.transforms;
+
+/**
+ * Exposes how often {@link ExtractNewDocumentState} reuses the schemas inferred for documents of the same structure.
+ */
+public interface ExtractNewDocumentStateMetricsMXBean {
+
+    long getSchemaCacheHits();
+
+    long getSchemaCacheMisses();
+
+    /**
+     * @return the ratio of the schema lookups served from the cache, or {@code 0} if no schema was looked up yet
+     */
+    double getSchemaCacheHitRate();
+
+    long getSchemaCacheSize();
+
+    /**
+     * @return the total time spent inferring schemas and compiling the plans populating their structs on cache misses
+     */
+    long getTotalSchemaInferenceTimeInMicroSeconds();
+
+    long getMaxSchemaInferenceTimeInMicroSeconds();
+
+    void reset();
+}
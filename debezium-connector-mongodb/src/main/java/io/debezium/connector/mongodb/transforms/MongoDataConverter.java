@@ -7,11 +7,14 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
@@ -282,6 +285,139 @@ else if (arrValue.getBsonType() == BsonType.ARRAY && valueType == BsonType.ARRAY
         }
     }
 
+    /**
+     * Appends a fingerprint of the structure of the given entries, covering the field names and the BSON types of all values,
+     * including those nested in documents and arrays. Entries with the same fingerprint yield the same schema from
+     * {@link #addFieldSchema(Entry, SchemaBuilder)}, so that the schema and the {@link #compile(Collection, Schema) plan}
+     * populating its structs can be reused.
+     *
+     * @param entries the entries of a document; may not be null
+     * @param fingerprint the builder to append the fingerprint to; may not be null
+     */
+    public void fingerprint(Collection<Entry<String, BsonValue>> entries, StringBuilder fingerprint) {
+        // Names and nested entries are prefixed with their length, which keeps the fingerprint unambiguous
+        fingerprint.append(entries.size()).append('{');
+        for (Entry<String, BsonValue> entry : entries) {
+            fingerprint.append(entry.getKey().length()).append(':').append(entry.getKey());
+            fingerprint(entry.getValue(), fingerprint);
+        }
+    }
+
+    private void fingerprint(BsonValue value, StringBuilder fingerprint) {
+        final BsonType type = value.getBsonType();
+        fingerprint.append((char) ('A' + type.ordinal()));
+        switch (type) {
+            case DOCUMENT:
+                fingerprint(value.asDocument().entrySet(), fingerprint);
+                break;
+            case JAVASCRIPT_WITH_SCOPE:
+                fingerprint(value.asJavaScriptWithScope().getScope().entrySet(), fingerprint);
+                break;
+            case ARRAY:
+                final BsonArray array = value.asArray();
+                if (arrayEncoding == ArrayEncoding.DOCUMENT) {
+                    // Every element becomes a field of its own
+                    fingerprint.append(array.size()).append('[');
+                    array.forEach(element -> fingerprint(element, fingerprint));
+                }
+                else {
+                    // The schema of an array depends on the distinct structures of its elements but not on their number
+                    final Set<String> elements = new LinkedHashSet<>();
+                    for (BsonValue element : array) {
+                        final StringBuilder elementFingerprint = new StringBuilder();
+                        fingerprint(element, elementFingerprint);
+                        elements.add(elementFingerprint.toString());
+                    }
+                    fingerprint.append(elements.size()).append('[');
+                    elements.forEach(element -> fingerprint.append(element.length()).append(':').append(element));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Compiles a plan populating structs of the given schema from entries with the same {@link #fingerprint fingerprint} as
+     * the given ones, resolving the field and the conversion of every value upfront.
+     *
+     * @param entries the entries the schema was built from; may not be null
+     * @param schema the schema built from the entries; may not be null
+     * @return the plan; never null
+     */
+    public StructPlan compile(Collection<Entry<String, BsonValue>> entries, Schema schema) {
+        final FieldWriter[] writers = new FieldWriter[entries.size()];
+        int i = 0;
+        for (Entry<String, BsonValue> entry : entries) {
+            writers[i++] = compile(entry, schema);
+        }
+        return (values, struct) -> {
+            int index = 0;
+            for (Entry<String, BsonValue> value : values) {
+                writers[index++].write(value, struct);
+            }
+        };
+    }
+
+    private FieldWriter compile(Entry<String, BsonValue> entry, Schema schema) {
+        final Field field = schema.field(fieldNamer.fieldNameFor(entry.getKey()));
+        if (field == null) {
+            return (value, struct) -> convertFieldValue(value, struct, schema);
+        }
+        switch (entry.getValue().getBsonType()) {
+            case NULL:
+                return (value, struct) -> struct.put(field, null);
+            case STRING:
+                return (value, struct) -> struct.put(field, value.getValue().asString().getValue());
+            case OBJECT_ID:
+                return (value, struct) -> struct.put(field, value.getValue().asObjectId().getValue().toString());
+            case DOUBLE:
+                return (value, struct) -> struct.put(field, value.getValue().asDouble().getValue());
+            case BINARY:
+                return (value, struct) -> struct.put(field, value.getValue().asBinary().getData());
+            case INT32:
+                return (value, struct) -> struct.put(field, value.getValue().asInt32().getValue());
+            case INT64:
+                return (value, struct) -> struct.put(field, value.getValue().asInt64().getValue());
+            case BOOLEAN:
+                return (value, struct) -> struct.put(field, value.getValue().asBoolean().getValue());
+            case DATE_TIME:
+                return (value, struct) -> struct.put(field, new Date(value.getValue().asDateTime().getValue()));
+            case JAVASCRIPT:
+                return (value, struct) -> struct.put(field, value.getValue().asJavaScript().getCode());
+            case TIMESTAMP:
+                return (value, struct) -> struct.put(field, new Date(1000L * value.getValue().asTimestamp().getTime()));
+            case DECIMAL128:
+                return (value, struct) -> struct.put(field, value.getValue().asDecimal128().getValue().toString());
+            case DOCUMENT:
+                final Schema documentSchema = field.schema();
+                final StructPlan documentPlan = compile(entry.getValue().asDocument().entrySet(), documentSchema);
+                return (value, struct) -> {
+                    final Struct documentStruct = new Struct(documentSchema);
+                    documentPlan.populate(value.getValue().asDocument().entrySet(), documentStruct);
+                    struct.put(field, documentStruct);
+                };
+            default:
+                // Arrays, regular expressions and JavaScript with scope are rare enough to not warrant a plan of their own
+                return (value, struct) -> convertFieldValue(value, struct, schema);
+        }
+    }
+
+    /**
+     * Populates structs of a given schema from the entries of documents of a given structure.
+     *
+     * @see MongoDataConverter#compile(Collection, Schema)
+     */
+    @FunctionalInterface
+    public interface StructPlan {
+        void populate(Collection<Entry<String, BsonValue>> entries, Struct struct);
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(Entry<String, BsonValue> value, Struct struct);
+    }
+
     protected String arrayElementStructName(int i) {
         return "_" + i;
     }
@@ -25,6 +25,7 @@
 
 import io.debezium.common.annotation.Incubating;
 import io.debezium.config.Configuration;
+import io.debezium.connector.mongodb.BsonSerialization;
 import io.debezium.connector.mongodb.transforms.ExtractNewDocumentState;
 import io.debezium.connector.mongodb.transforms.MongoDataConverter;
 import io.debezium.data.Envelope;
@@ -99,7 +100,7 @@ public void configure(Map<String, ?> configMap) {
     }
 
     /**
-     * Replaces <i>after</i> field by parsing and expanding original JSON string to Struct type.
+     * Replaces <i>after</i> field by parsing and expanding original JSON string (or decoding the BSON bytes) to Struct type.
      *
      * @param originalRecord an original Record from MongoDB Connector
      * @return a new Record of which <i>after</i> field is replaced with new one
@@ -111,14 +112,14 @@ private R expandAfterField(R originalRecord) throws IllegalStateException {
         // Convert 'after' field format from JSON String to Struct
         Object after = afterRecord.value();
 
-        if (!(after instanceof String)) {
+        if (!(after instanceof String) && !BsonSerialization.isBsonValue(after)) {
             throw new IllegalStateException("Unable to expand non-String after field: " + after.getClass());
         }
 
         Schema originalValueSchema = originalRecord.valueSchema();
 
         String afterSchemaName = afterRecord.valueSchema().name();
-        BsonDocument afterBsonDocument = BsonDocument.parse((String) after);
+        BsonDocument afterBsonDocument = after instanceof String ? BsonDocument.parse((String) after) : BsonSerialization.toBsonDocument(after);
 
         Schema newAfterSchema = buildNewAfterSchema(afterSchemaName, afterBsonDocument);
         Struct newAfterStruct = buildNewAfterStruct(newAfterSchema, afterBsonDocument);
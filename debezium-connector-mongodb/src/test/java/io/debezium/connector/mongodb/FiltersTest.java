@@ -8,6 +8,8 @@
 import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
+import java.util.StringJoiner;
+
 import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
@@ -241,6 +243,59 @@ public void renameFilterShouldRenameMatchingFieldWithTrailingWhiteSpaces() {
                 filters.fieldFilterFor(id).apply(Document.parse(" { \"key1\" : \"valueA\", \"key3\" : \"valueB\" }")));
     }
 
+    @Test
+    public void excludeFilterShouldRemoveNestedFieldsMatchingAnyOfManyPaths() {
+        final StringJoiner excludedFields = new StringJoiner(",");
+        for (int i = 0; i < 2000; i++) {
+            excludedFields.add("db1.collectionA.key" + i);
+        }
+        excludedFields.add("db1.collectionA.key2000.nested1").add("db1.*.key2001.nested2").add("db2.collectionA.key2002");
+        filters = build.excludeFields(excludedFields.toString()).createFilters();
+        CollectionId id = CollectionId.parse("rs1.", "db1.collectionA");
+        assertThat(filters.fieldFilterFor(id)).isSameAs(filters.fieldFilterFor(id));
+        assertEquals(
+                Document.parse(" { \"key2000\" : { \"nested2\" : 1 }, \"key2001\" : [ { \"nested1\" : 2 } ], \"key2002\" : 3 }"),
+                filters.fieldFilterFor(id).apply(Document.parse(" { \"key1\" : \"value1\", \"key1999\" : \"value2\", "
+                        + "\"key2000\" : { \"nested1\" : 0, \"nested2\" : 1 }, "
+                        + "\"key2001\" : [ { \"nested1\" : 2, \"nested2\" : 3 } ], \"key2002\" : 3 }")));
+        assertEquals(
+                Document.parse(" { \"$set\" : { \"key2000.nested2\" : 1, \"key2001.0\" : { \"nested1\" : 2 } } }"),
+                filters.fieldFilterFor(id).apply(Document.parse(" { \"$set\" : { \"key1\" : \"value1\", \"key2000.nested1\" : 0, "
+                        + "\"key2000.nested2\" : 1, \"key2001.0\" : { \"nested1\" : 2, \"nested2\" : 3 } } }")));
+        assertThat(filters.fieldFilterFor(id).apply("key2000.nested1")).isNull();
+        assertThat(filters.fieldFilterFor(id).apply("key2001.0.nested2")).isNull();
+        assertThat(filters.fieldFilterFor(id).apply("key2001.0.nested1")).isEqualTo("key2001.0.nested1");
+    }
+
+    @Test
+    public void renameFilterShouldApplyPathsInOrderWhenRenamingToExcludedField() {
+        filters = build.excludeFields("db1.collectionA.key2").renameFields("db1.collectionA.key1:key2").createFilters();
+        CollectionId id = CollectionId.parse("rs1.", "db1.collectionA");
+        assertEquals(
+                Document.parse(" { \"key2\" : \"value1\" }"),
+                filters.fieldFilterFor(id).apply(Document.parse(" { \"key1\" : \"value1\", \"key2\" : \"value2\" }")));
+    }
+
+    @Test
+    public void excludeFilterShouldRemoveOnlyFieldsNestedInPathsAppliedInOrder() {
+        CollectionId id = CollectionId.parse("rs1.", "db1.collectionA");
+        // The paths are applied one after the other, as one of them is a prefix of the other
+        FieldSelector.FieldFilter sequentialFilter = build.excludeFields("db1.collectionA.key1.nested1,db1.collectionA.key1.nested1.nested2")
+                .createFilters().fieldFilterFor(id);
+        FieldSelector.FieldFilter compiledFilter = new Configurator().excludeFields("db1.collectionA.key1.nested1")
+                .createFilters().fieldFilterFor(id);
+
+        for (FieldSelector.FieldFilter filter : new FieldSelector.FieldFilter[]{ sequentialFilter, compiledFilter }) {
+            assertThat(filter.apply("key1.nested1")).isNull();
+            assertThat(filter.apply("key1.nested1.nested2")).isNull();
+            assertThat(filter.apply("key1.0.nested1")).isNull();
+            assertThat(filter.apply("k")).isEqualTo("k");
+            assertThat(filter.apply("key1")).isEqualTo("key1");
+            assertThat(filter.apply("key1.nested2")).isEqualTo("key1.nested2");
+            assertThat(filter.apply("key1nested1")).isEqualTo("key1nested1");
+        }
+    }
+
     protected void assertCollectionIncluded(String fullyQualifiedCollectionName) {
         CollectionId id = CollectionId.parse("rs1.", fullyQualifiedCollectionName);
         assertThat(id).isNotNull();
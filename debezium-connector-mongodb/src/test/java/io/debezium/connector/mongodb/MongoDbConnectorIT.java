@@ -22,6 +22,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -1132,6 +1133,79 @@ public void shouldFilterItemsInCollectionWhileTakingSnapshot() throws Exception
 
     }
 
+    @Test
+    public void shouldResumeInterruptedSnapshotOfSplitCollection() throws Exception {
+        config = TestHelper.getConfiguration().edit()
+                .with(MongoDbConnectorConfig.POLL_INTERVAL_MS, 10)
+                .with(MongoDbConnectorConfig.COLLECTION_INCLUDE_LIST, "dbit.splitted")
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "mongo")
+                .with(MongoDbConnectorConfig.SNAPSHOT_COLLECTION_SPLIT_SIZE, 100)
+                .with(MongoDbConnectorConfig.SNAPSHOT_MAX_THREADS, 1)
+                .build();
+
+        context = new MongoDbTaskContext(config);
+
+        TestHelper.cleanDatabase(primary(), "dbit");
+
+        final int documentCount = 1_000;
+        final Document[] documents = new Document[documentCount];
+        for (int i = 0; i < documentCount; i++) {
+            documents[i] = new Document().append("_id", i + 1).append("name", "document " + (i + 1));
+        }
+        insertDocuments("dbit", "splitted", documents);
+
+        // Interrupt the snapshot in the middle of the collection, the ranges being read in the order of their ids
+        final int stopId = 550;
+        start(MongoDbConnector.class, config, record -> documentId(record) == stopId);
+
+        final Set<Integer> ids = new HashSet<>();
+        SourceRecords records = consumeRecordsByTopic(stopId - 1);
+        records.recordsForTopic("mongo.dbit.splitted").forEach(record -> {
+            verifyReadOperation(record);
+            ids.add(documentId(record));
+        });
+        assertThat(ids).hasSize(stopId - 1);
+
+        stopConnector();
+
+        // The resumed snapshot skips the ranges read completely, but reads all ranges that were not
+        start(MongoDbConnector.class, config);
+
+        final Set<Integer> resumedIds = new HashSet<>();
+        final AtomicBoolean foundLast = new AtomicBoolean(false);
+        waitForAvailableRecords(10, TimeUnit.SECONDS);
+        int count;
+        do {
+            count = consumeAvailableRecords(record -> {
+                verifyFromInitialSync(record, foundLast);
+                verifyReadOperation(record);
+                resumedIds.add(documentId(record));
+            });
+        } while (!foundLast.get() && (count > 0 || waitForAvailableRecords(10, TimeUnit.SECONDS)));
+
+        assertThat(foundLast.get()).isTrue();
+        assertThat(resumedIds).excludes(1);
+        for (int id = stopId; id <= documentCount; id++) {
+            assertThat(resumedIds).contains(id);
+        }
+        ids.addAll(resumedIds);
+        assertThat(ids).hasSize(documentCount);
+
+        // Streaming starts once the resumed snapshot is completed
+        insertDocuments("dbit", "splitted", new Document().append("_id", documentCount + 1).append("name", "streamed"));
+        records = consumeRecordsByTopic(1);
+        final SourceRecord streamed = records.recordsForTopic("mongo.dbit.splitted").get(0);
+        verifyNotFromInitialSync(streamed);
+        verifyCreateOperation(streamed);
+        assertThat(documentId(streamed)).isEqualTo(documentCount + 1);
+
+        stopConnector();
+    }
+
+    private static int documentId(SourceRecord record) {
+        return Document.parse(((Struct) record.value()).getString("after")).getInteger("_id");
+    }
+
     @Test
     @FixFor("DBZ-2456")
     public void shouldSelectivelySnapshot() throws InterruptedException {
@@ -0,0 +1,76 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.junit.Test;
+
+import com.mongodb.MongoClientSettings;
+
+public class SnapshotRangeTest {
+
+    private static final CollectionId COLLECTION_ID = new CollectionId("rs0", "dbA", "collectA");
+
+    @Test
+    public void shouldSelectEvenlySpacedBoundaries() {
+        final List<BsonValue> ids = IntStream.range(0, 100).mapToObj(BsonInt32::new).collect(Collectors.toList());
+        assertThat(SnapshotRange.boundaries(ids, 4)).containsExactly(new BsonInt32(25), new BsonInt32(50), new BsonInt32(75));
+    }
+
+    @Test
+    public void shouldNotRepeatBoundariesOfDocumentsSampledTwice() {
+        final List<BsonValue> ids = Arrays.asList(new BsonInt32(1), new BsonInt32(5), new BsonInt32(5), new BsonInt32(5), new BsonInt32(9));
+        assertThat(SnapshotRange.boundaries(ids, 5)).containsExactly(new BsonInt32(5), new BsonInt32(9));
+    }
+
+    @Test
+    public void shouldNotSplitWithIdsOfDifferentTypes() {
+        final List<BsonValue> ids = Arrays.asList(new BsonInt32(1), new BsonInt32(5), new BsonString("a"), new BsonString("b"));
+        assertThat(SnapshotRange.boundaries(ids, 2)).isEmpty();
+        assertThat(SnapshotRange.boundaries(Collections.emptyList(), 2)).isEmpty();
+    }
+
+    @Test
+    public void shouldReadWholeCollectionWithoutBoundaries() {
+        final List<SnapshotRange> ranges = SnapshotRange.of(COLLECTION_ID, Collections.emptyList());
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).isWholeCollection()).isTrue();
+
+        final Bson filterQuery = BsonDocument.parse("{\"a\": 1}");
+        assertThat(ranges.get(0).filter(filterQuery)).isSameAs(filterQuery);
+    }
+
+    @Test
+    public void shouldRestrictFilterQueryToRange() {
+        final List<SnapshotRange> ranges = SnapshotRange.of(COLLECTION_ID, Arrays.asList(new BsonInt32(10), new BsonInt32(20)));
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(1).toString()).isEqualTo("rs0.dbA.collectA [2/3]");
+
+        final Bson filterQuery = BsonDocument.parse("{\"a\": 1}");
+        assertThat(render(ranges.get(0).filter(filterQuery)))
+                .isEqualTo(BsonDocument.parse("{\"$and\": [{\"a\": 1}, {\"_id\": {\"$not\": {\"$gte\": 10}}}]}"));
+        assertThat(render(ranges.get(1).filter(filterQuery)))
+                .isEqualTo(BsonDocument.parse("{\"$and\": [{\"a\": 1}, {\"$and\": [{\"_id\": {\"$gte\": 10}}, {\"_id\": {\"$lt\": 20}}]}]}"));
+        assertThat(render(ranges.get(2).filter(filterQuery)))
+                .isEqualTo(BsonDocument.parse("{\"$and\": [{\"a\": 1}, {\"_id\": {\"$gte\": 20}}]}"));
+    }
+
+    private BsonDocument render(Bson filter) {
+        return filter.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+}
@@ -8,12 +8,16 @@
 import static io.debezium.data.VerifyRecord.assertConnectSchemasAreEqual;
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.bson.BsonTimestamp;
@@ -220,6 +224,49 @@ public void shouldReturnRecordedOffsetForUsedReplicaNameDuringInitialSync() {
         assertThat(struct.getString(SourceInfo.SNAPSHOT_KEY)).isEqualTo("true");
     }
 
+    @Test
+    public void shouldRecordSnapshotProgressToResumeInterruptedInitialSync() {
+        final CollectionId collectA = new CollectionId(REPLICA_SET_NAME, "dbA", "collectA");
+        final CollectionId collectB = new CollectionId(REPLICA_SET_NAME, "dbA", "collectB");
+        final List<SnapshotRange> ranges = SnapshotRange.of(collectB, Arrays.asList(new BsonInt32(10), new BsonInt32(20)));
+
+        source.startInitialSync(REPLICA_SET_NAME);
+        source.initialPosition(REPLICA_SET_NAME, new BsonDocument().append("ts", new BsonTimestamp(100, 2))
+                .append("ns", new BsonString("dbA.collectA")));
+        assertThat(source.lastOffset(REPLICA_SET_NAME).containsKey(SourceInfo.SNAPSHOT_PROGRESS)).isFalse();
+
+        final SnapshotProgress progress = source.snapshotProgress(REPLICA_SET_NAME);
+        progress.completed(SnapshotRange.of(collectA, Collections.emptyList()).get(0));
+        progress.split(collectB, Arrays.asList(new BsonInt32(10), new BsonInt32(20)));
+        progress.completed(ranges.get(1));
+
+        // Restart with the offset of the interrupted initial sync
+        final SourceInfo restarted = new SourceInfo(new MongoDbConnectorConfig(
+                Configuration.create()
+                        .with(CommonConnectorConfig.TOPIC_PREFIX, "serverX")
+                        .build()));
+        assertThat(restarted.setOffsetFor(REPLICA_SET_NAME, source.lastOffset(REPLICA_SET_NAME))).isFalse();
+        assertThat(restarted.hasOffset(REPLICA_SET_NAME)).isFalse();
+        assertThat(restarted.interruptedInitialSyncTimestamp(REPLICA_SET_NAME)).isEqualTo(new BsonTimestamp(100, 2));
+
+        final SnapshotProgress restored = restarted.snapshotProgress(REPLICA_SET_NAME);
+        assertThat(restored.isCompleted(collectA)).isTrue();
+        assertThat(restored.isCompleted(collectB)).isFalse();
+        assertThat(restored.boundaries(collectB)).containsExactly(new BsonInt32(10), new BsonInt32(20));
+        assertThat(restored.isCompleted(ranges.get(0))).isFalse();
+        assertThat(restored.isCompleted(ranges.get(1))).isTrue();
+        assertThat(restored.isCompleted(ranges.get(2))).isFalse();
+
+        // Completing the remaining ranges completes the collection
+        restored.completed(ranges.get(0));
+        restored.completed(ranges.get(2));
+        assertThat(restored.isCompleted(collectB)).isTrue();
+        assertThat(restored.boundaries(collectB)).isNull();
+
+        source.stopInitialSync(REPLICA_SET_NAME);
+        assertThat(source.lastOffset(REPLICA_SET_NAME).containsKey(SourceInfo.SNAPSHOT_PROGRESS)).isFalse();
+    }
+
     @Test
     public void versionIsPresent() {
         final BsonDocument event = new BsonDocument().append("ts", new BsonTimestamp(100, 2))
@@ -11,6 +11,7 @@
 import static org.fest.assertions.Assertions.assertThat;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +20,13 @@
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.types.ObjectId;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -29,15 +37,22 @@
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
 import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.connector.mongodb.CollectionId;
 import io.debezium.connector.mongodb.Configurator;
 import io.debezium.connector.mongodb.Filters;
+import io.debezium.connector.mongodb.MongoDbCollectionSchema;
 import io.debezium.connector.mongodb.MongoDbConnectorConfig;
+import io.debezium.connector.mongodb.MongoDbConnectorConfig.PayloadFormat;
+import io.debezium.connector.mongodb.MongoDbSchema;
 import io.debezium.connector.mongodb.SourceInfo;
+import io.debezium.data.Envelope;
+import io.debezium.data.Envelope.Operation;
 import io.debezium.doc.FixFor;
 import io.debezium.junit.SkipTestRule;
 import io.debezium.junit.SkipWhenKafkaVersion;
 import io.debezium.schema.DefaultTopicNamingStrategy;
 import io.debezium.spi.topic.TopicNamingStrategy;
+import io.debezium.util.SchemaNameAdjuster;
 
 /**
  * Unit test for {@link ExtractNewDocumentState}.
@@ -277,4 +292,96 @@ public void shouldFailWhenTheSchemaLooksValidButDoesNotHaveTheCorrectFieldsPostK
 
         assertThat(transformed).isNull();
     }
+
+    @Test
+    public void shouldProduceSameRecordForJsonAndBsonPayloadFormats() {
+        final BsonDocument document = new BsonDocument()
+                .append("_id", new BsonObjectId(new ObjectId()))
+                .append("name", new BsonString("Sally"))
+                .append("visits", new BsonInt64(42L))
+                .append("address", new BsonDocument()
+                        .append("street", new BsonString("Main Street"))
+                        .append("number", new BsonInt32(12)))
+                .append("tags", new BsonArray(Arrays.asList(new BsonString("a"), new BsonString("b"))));
+        final BsonDocument patch = new BsonDocument()
+                .append("$set", new BsonDocument("name", new BsonString("Sally Jr.")));
+        final BsonDocument filter = new BsonDocument("_id", document.get("_id"));
+
+        final SourceRecord readFromJson = transformation.apply(createRecord(PayloadFormat.JSON, document, null, Operation.READ));
+        final SourceRecord readFromBson = transformation.apply(createRecord(PayloadFormat.BSON, document, null, Operation.READ));
+
+        assertThat(readFromBson.keySchema()).isEqualTo(readFromJson.keySchema());
+        assertThat(readFromBson.key()).isEqualTo(readFromJson.key());
+        assertThat(readFromBson.valueSchema()).isEqualTo(readFromJson.valueSchema());
+        assertThat(readFromBson.value()).isEqualTo(readFromJson.value());
+        assertThat(((Struct) readFromBson.value()).getInt64("visits")).isEqualTo(42L);
+
+        final SourceRecord updateFromJson = transformation.apply(createRecord(PayloadFormat.JSON, patch, filter, Operation.UPDATE));
+        final SourceRecord updateFromBson = transformation.apply(createRecord(PayloadFormat.BSON, patch, filter, Operation.UPDATE));
+
+        assertThat(updateFromBson.valueSchema()).isEqualTo(updateFromJson.valueSchema());
+        assertThat(updateFromBson.value()).isEqualTo(updateFromJson.value());
+        assertThat(((Struct) updateFromBson.value()).getString("name")).isEqualTo("Sally Jr.");
+    }
+
+    @Test
+    public void shouldReuseSchemaOfDocumentsWithSameStructure() {
+        final BsonDocument first = new BsonDocument()
+                .append("_id", new BsonObjectId(new ObjectId()))
+                .append("name", new BsonString("Sally"))
+                .append("address", new BsonDocument()
+                        .append("street", new BsonString("Main Street"))
+                        .append("number", new BsonInt32(12)))
+                .append("tags", new BsonArray(Arrays.asList(new BsonString("a"), new BsonString("b"))));
+        final BsonDocument second = new BsonDocument()
+                .append("_id", new BsonObjectId(new ObjectId()))
+                .append("name", new BsonString("Bob"))
+                .append("address", new BsonDocument()
+                        .append("street", new BsonString("Second Street"))
+                        .append("number", new BsonInt32(7)))
+                .append("tags", new BsonArray(Arrays.asList(new BsonString("c"), new BsonString("d"), new BsonString("e"))));
+        final BsonDocument differentType = second.clone().append("address", new BsonDocument()
+                .append("street", new BsonString("Second Street"))
+                .append("number", new BsonString("7a")));
+
+        final SourceRecord firstRecord = transformation.apply(createRecord(PayloadFormat.JSON, first, null, Operation.READ));
+        final SourceRecord secondRecord = transformation.apply(createRecord(PayloadFormat.JSON, second, null, Operation.READ));
+        final SourceRecord differentTypeRecord = transformation.apply(createRecord(PayloadFormat.JSON, differentType, null, Operation.READ));
+
+        assertThat(secondRecord.valueSchema()).isSameAs(firstRecord.valueSchema());
+        assertThat(secondRecord.keySchema()).isSameAs(firstRecord.keySchema());
+        final Struct secondValue = (Struct) secondRecord.value();
+        assertThat(secondValue.getString("name")).isEqualTo("Bob");
+        assertThat(secondValue.getStruct("address").getString("street")).isEqualTo("Second Street");
+        assertThat(secondValue.getStruct("address").getInt32("number")).isEqualTo(7);
+        assertThat(secondValue.getArray("tags")).isEqualTo(Arrays.asList("c", "d", "e"));
+
+        assertThat(differentTypeRecord.valueSchema()).isNotSameAs(firstRecord.valueSchema());
+        assertThat(((Struct) differentTypeRecord.value()).getStruct("address").getString("number")).isEqualTo("7a");
+
+        // The key schema is shared by all three records, the value schema by the first two
+        final ExtractNewDocumentStateMetricsMXBean metrics = transformation.getMetrics();
+        assertThat(metrics.getSchemaCacheMisses()).isEqualTo(3);
+        assertThat(metrics.getSchemaCacheHits()).isEqualTo(3);
+        assertThat(metrics.getSchemaCacheHitRate()).isEqualTo(0.5);
+        assertThat(metrics.getSchemaCacheSize()).isEqualTo(3);
+    }
+
+    private SourceRecord createRecord(PayloadFormat payloadFormat, BsonDocument document, BsonDocument filter, Operation operation) {
+        final MongoDbSchema schema = new MongoDbSchema(filters, topicNamingStrategy, source.schema(), SchemaNameAdjuster.NO_OP, payloadFormat);
+        final MongoDbCollectionSchema collectionSchema = (MongoDbCollectionSchema) schema.schemaFor(new CollectionId("rs0", "dbA", "c1"));
+
+        final Struct key = collectionSchema.keyFromDocumentOplog(filter != null ? filter : document);
+        final Struct value = collectionSchema.valueFromDocumentOplog(document, filter, operation);
+        value.put(Envelope.FieldName.OPERATION, operation.code());
+
+        return new SourceRecord(
+                new HashMap<>(),
+                new HashMap<>(),
+                "serverX.dbA.c1",
+                collectionSchema.keySchema(),
+                key,
+                collectionSchema.valueSchema(),
+                value);
+    }
 }
@@ -89,6 +89,46 @@ public void shouldCreateCorrectStructFromInsertJson() {
                         + "}");
     }
 
+    @Test
+    public void shouldPopulateSameStructWithCompiledPlan() {
+        for (Entry<String, BsonValue> entry : val.entrySet()) {
+            converter.addFieldSchema(entry, builder);
+        }
+
+        Schema finalSchema = builder.build();
+        Struct struct = new Struct(finalSchema);
+        for (Entry<String, BsonValue> entry : val.entrySet()) {
+            converter.convertRecord(entry, finalSchema, struct);
+        }
+
+        Struct compiledStruct = new Struct(finalSchema);
+        converter.compile(val.entrySet(), finalSchema).populate(val.entrySet(), compiledStruct);
+
+        assertThat(compiledStruct).isEqualTo(struct);
+    }
+
+    @Test
+    public void shouldFingerprintDocumentStructure() {
+        final BsonDocument sameStructure = BsonDocument.parse("{\"a\": 1, \"b\": {\"c\": \"x\"}, \"d\": [1, 2, 3]}");
+        final BsonDocument otherValues = BsonDocument.parse("{\"a\": 2, \"b\": {\"c\": \"y\"}, \"d\": [4]}");
+        final BsonDocument otherType = BsonDocument.parse("{\"a\": 1, \"b\": {\"c\": 1}, \"d\": [1, 2, 3]}");
+        final BsonDocument otherName = BsonDocument.parse("{\"a\": 1, \"b\": {\"e\": \"x\"}, \"d\": [1, 2, 3]}");
+
+        assertThat(fingerprint(converter, otherValues)).isEqualTo(fingerprint(converter, sameStructure));
+        assertThat(fingerprint(converter, otherType)).isNotEqualTo(fingerprint(converter, sameStructure));
+        assertThat(fingerprint(converter, otherName)).isNotEqualTo(fingerprint(converter, sameStructure));
+
+        // Every array element is a field of its own with the document encoding
+        final MongoDataConverter documentConverter = new MongoDataConverter(ArrayEncoding.DOCUMENT);
+        assertThat(fingerprint(documentConverter, otherValues)).isNotEqualTo(fingerprint(documentConverter, sameStructure));
+    }
+
+    private String fingerprint(MongoDataConverter converter, BsonDocument document) {
+        final StringBuilder fingerprint = new StringBuilder();
+        converter.fingerprint(document.entrySet(), fingerprint);
+        return fingerprint.toString();
+    }
+
     @Test
     public void shouldCreateCorrectSchemaFromInsertJson() {
         for (Entry<String, BsonValue> entry : val.entrySet()) {
@@ -0,0 +1,163 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.kafka.connect.data.Struct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.relational.TableSchema;
+import io.debezium.util.Threads;
+
+/**
+ * Converts the rows of binlog row events into the keys and values of their change events on a pool of worker
+ * threads. Each event is split into contiguous ranges of rows, which are converted concurrently; the converted
+ * rows are returned in the order of the event, so that they can be dispatched by the binlog reader thread.
+ *
+ * @see MySqlConnectorConfig#BINLOG_ROW_CONVERSION_THREADS
+ */
+@ThreadSafe
+public class BinlogRowConverter implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinlogRowConverter.class);
+
+    /**
+     * The minimum number of rows converted by a single thread, below that the overhead of handing over the rows
+     * outweighs the gain of converting them concurrently.
+     */
+    private static final int MIN_ROWS_PER_THREAD = 8;
+
+    private final int threads;
+    private final ExecutorService executor;
+
+    public BinlogRowConverter(MySqlConnectorConfig connectorConfig) {
+        this.threads = connectorConfig.getBinlogRowConversionThreads();
+        this.executor = Threads.newFixedThreadPool(MySqlConnector.class, connectorConfig.getLogicalName(), "binlog-row-converter", threads);
+    }
+
+    /**
+     * Converts the given rows of a row event.
+     *
+     * @param tableSchema the schema of the table the rows belong to
+     * @param rows the rows of the event
+     * @param fromRow the index of the first row to convert
+     * @param before provides the old state of a row, may return {@code null}
+     * @param after provides the new state of a row, may return {@code null}
+     * @return the converted rows starting at {@code fromRow}, or {@code null} if there are too few rows to convert
+     *         them concurrently
+     * @throws InterruptedException if the thread is interrupted while waiting for the conversion
+     */
+    public <U> List<ConvertedRow> convert(TableSchema tableSchema, List<U> rows, int fromRow, Function<U, Serializable[]> before,
+                                          Function<U, Serializable[]> after)
+            throws InterruptedException {
+        final int rowCount = rows.size() - fromRow;
+        final int chunks = Math.min(threads, rowCount / MIN_ROWS_PER_THREAD);
+        if (chunks < 2) {
+            return null;
+        }
+
+        final int chunkSize = (rowCount + chunks - 1) / chunks;
+        final List<Future<List<ConvertedRow>>> futures = new ArrayList<>(chunks);
+        try {
+            for (int start = fromRow; start < rows.size(); start += chunkSize) {
+                final List<U> chunk = rows.subList(start, Math.min(start + chunkSize, rows.size()));
+                futures.add(executor.submit(() -> convertChunk(tableSchema, chunk, before, after)));
+            }
+
+            final List<ConvertedRow> converted = new ArrayList<>(rowCount);
+            for (Future<List<ConvertedRow>> future : futures) {
+                converted.addAll(future.get());
+            }
+            return converted;
+        }
+        catch (ExecutionException e) {
+            // rethrown as is, so that conversion failures are handled the same way as when converting on the reader thread
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new DebeziumException("Failed to convert rows of table " + tableSchema.id(), e.getCause());
+        }
+        finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static <U> List<ConvertedRow> convertChunk(TableSchema tableSchema, List<U> rows, Function<U, Serializable[]> before,
+                                                       Function<U, Serializable[]> after) {
+        final List<ConvertedRow> converted = new ArrayList<>(rows.size());
+        for (U row : rows) {
+            final Serializable[] oldColumnValues = before.apply(row);
+            final Serializable[] newColumnValues = after.apply(row);
+            converted.add(new ConvertedRow(
+                    tableSchema.keyFromColumnData(oldColumnValues),
+                    tableSchema.valueFromColumnData(oldColumnValues),
+                    tableSchema.keyFromColumnData(newColumnValues),
+                    tableSchema.valueFromColumnData(newColumnValues)));
+        }
+        return converted;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("Binlog row converter threads did not terminate in time");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The keys and values of the old and new state of a row.
+     */
+    public static final class ConvertedRow {
+
+        private final Struct oldKey;
+        private final Struct oldValue;
+        private final Struct newKey;
+        private final Struct newValue;
+
+        ConvertedRow(Struct oldKey, Struct oldValue, Struct newKey, Struct newValue) {
+            this.oldKey = oldKey;
+            this.oldValue = oldValue;
+            this.newKey = newKey;
+            this.newValue = newValue;
+        }
+
+        public Struct getOldKey() {
+            return oldKey;
+        }
+
+        public Struct getOldValue() {
+            return oldValue;
+        }
+
+        public Struct getNewKey() {
+            return newKey;
+        }
+
+        public Struct getNewValue() {
+            return newValue;
+        }
+    }
+}
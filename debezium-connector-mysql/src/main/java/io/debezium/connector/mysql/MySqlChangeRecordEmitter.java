@@ -7,10 +7,14 @@
 
 import java.io.Serializable;
 
+import org.apache.kafka.connect.data.Struct;
+
+import io.debezium.connector.mysql.BinlogRowConverter.ConvertedRow;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.relational.RelationalChangeRecordEmitter;
+import io.debezium.relational.TableSchema;
 import io.debezium.util.Clock;
 
 /**
@@ -24,14 +28,24 @@ public class MySqlChangeRecordEmitter extends RelationalChangeRecordEmitter<MySq
     private final OffsetContext offset;
     private final Object[] before;
     private final Object[] after;
+    private final ConvertedRow convertedRow;
 
     public MySqlChangeRecordEmitter(MySqlPartition partition, OffsetContext offset, Clock clock, Envelope.Operation operation, Serializable[] before,
                                     Serializable[] after) {
+        this(partition, offset, clock, operation, before, after, null);
+    }
+
+    /**
+     * @param convertedRow the keys and values of the row which were converted beforehand; may be null
+     */
+    public MySqlChangeRecordEmitter(MySqlPartition partition, OffsetContext offset, Clock clock, Envelope.Operation operation, Serializable[] before,
+                                    Serializable[] after, ConvertedRow convertedRow) {
         super(partition, offset, clock);
         this.offset = offset;
         this.operation = operation;
         this.before = before;
         this.after = after;
+        this.convertedRow = convertedRow;
     }
 
     @Override
@@ -53,4 +67,24 @@ protected Object[] getOldColumnValues() {
     protected Object[] getNewColumnValues() {
         return after != null ? after : null;
     }
+
+    @Override
+    protected Struct getOldKey(TableSchema tableSchema) {
+        return convertedRow != null ? convertedRow.getOldKey() : super.getOldKey(tableSchema);
+    }
+
+    @Override
+    protected Struct getOldValue(TableSchema tableSchema) {
+        return convertedRow != null ? convertedRow.getOldValue() : super.getOldValue(tableSchema);
+    }
+
+    @Override
+    protected Struct getNewKey(TableSchema tableSchema) {
+        return convertedRow != null ? convertedRow.getNewKey() : super.getNewKey(tableSchema);
+    }
+
+    @Override
+    protected Struct getNewValue(TableSchema tableSchema) {
+        return convertedRow != null ? convertedRow.getNewValue() : super.getNewValue(tableSchema);
+    }
 }
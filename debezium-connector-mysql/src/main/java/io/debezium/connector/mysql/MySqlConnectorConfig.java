@@ -732,6 +732,34 @@ public static SecureConnectionMode parse(String value, String defaultValue) {
             .withDefault(DEFAULT_BINLOG_BUFFER_SIZE)
             .withValidation(Field::isNonNegativeInteger);
 
+    public static final Field BINLOG_ROW_CONVERSION_THREADS = Field.create("binlog.row.conversion.threads")
+            .withDisplayName("Binlog row conversion threads")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 4))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of threads used for converting the rows of large binlog row events into change events. "
+                    + "The converted rows are emitted in binlog order by the binlog reader thread, so the order of the events and "
+                    + "the recorded offsets are not affected. Custom converters and column mappers must be thread-safe when this is enabled. "
+                    + "Use 0 to convert all rows on the binlog reader thread. "
+                    + "Defaults to 0 (i.e. parallel conversion is disabled).")
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger);
+
+    public static final Field DDL_PARSER_CACHE_SIZE = Field.create("ddl.parser.cache.size")
+            .withDisplayName("DDL parser cache size")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 5))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of distinct DDL statement shapes whose parse results are reused by the DDL parser. "
+                    + "Statements that differ only in their identifiers and literals, such as the same ALTER TABLE statement executed "
+                    + "in many schemas, have the same shape and are parsed only once. The least recently used shapes are evicted first. "
+                    + "Use 0 to parse every statement. "
+                    + "Defaults to 0 (i.e. the cache is disabled).")
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger);
+
     /**
      * The database schema history class is hidden in the {@link #configDef()} since that is designed to work with a user interface,
      * and in these situations using Kafka is the only way to go.
@@ -911,6 +939,8 @@ public static SecureConnectionMode parse(String value, String defaultValue) {
                     SCHEMA_NAME_ADJUSTMENT_MODE,
                     ROW_COUNT_FOR_STREAMING_RESULT_SETS,
                     INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
+                    INCREMENTAL_SNAPSHOT_CHUNKS_PER_WINDOW,
+                    INCREMENTAL_SNAPSHOT_MAX_THREADS,
                     INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES)
             .events(
                     INCLUDE_SQL_QUERY,
@@ -921,6 +951,8 @@ public static SecureConnectionMode parse(String value, String defaultValue) {
                     GTID_SOURCE_EXCLUDES,
                     GTID_SOURCE_FILTER_DML_EVENTS,
                     BUFFER_SIZE_FOR_BINLOG_READER,
+                    BINLOG_ROW_CONVERSION_THREADS,
+                    DDL_PARSER_CACHE_SIZE,
                     EVENT_DESERIALIZATION_FAILURE_HANDLING_MODE,
                     INCONSISTENT_SCHEMA_HANDLING_MODE)
             .create();
@@ -1139,6 +1171,14 @@ public int bufferSizeForStreamingChangeEventSource() {
         return config.getInteger(MySqlConnectorConfig.BUFFER_SIZE_FOR_BINLOG_READER);
     }
 
+    public int getBinlogRowConversionThreads() {
+        return config.getInteger(MySqlConnectorConfig.BINLOG_ROW_CONVERSION_THREADS);
+    }
+
+    public int getDdlParserCacheSize() {
+        return config.getInteger(MySqlConnectorConfig.DDL_PARSER_CACHE_SIZE);
+    }
+
     /**
      * Get the predicate function that will return {@code true} if a GTID source is to be included, or {@code false} if
      * a GTID source is to be excluded.
@@ -93,6 +93,7 @@ public MySqlDatabaseSchema(MySqlConnectorConfig connectorConfig, MySqlValueConve
                 true,
                 false,
                 connectorConfig.isSchemaCommentsHistoryEnabled(),
+                connectorConfig.getDdlParserCacheSize(),
                 valueConverter,
                 getTableFilter());
         this.ddlChanges = this.ddlParser.getDdlChanges();
@@ -24,6 +24,7 @@
 import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceConnector;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +34,7 @@
 import io.debezium.connector.mysql.MySqlConnection.DatabaseLocales;
 import io.debezium.data.Envelope;
 import io.debezium.function.BlockingConsumer;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
 import io.debezium.relational.RelationalTableFilters;
@@ -107,6 +109,26 @@ protected void connectionCreated(RelationalSnapshotContext<MySqlPartition, MySql
             throws Exception {
     }
 
+    @Override
+    protected Optional<JdbcConnection> createSnapshotChunkConnection(RelationalSnapshotContext<MySqlPartition, MySqlOffsetContext> snapshotContext)
+            throws SQLException {
+        if (!isGloballyLocked() && !isTablesLocked()) {
+            // without a lock preventing writes the consistent snapshot of another connection would differ,
+            // e.g. when snapshot.locking.mode is set to none
+            return Optional.empty();
+        }
+        final MySqlConnection chunkConnection = new MySqlConnection(connection.connectionConfig());
+        chunkConnection.setAutoCommit(false);
+        chunkConnection.connection().setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        chunkConnection.executeWithoutCommitting("START TRANSACTION WITH CONSISTENT SNAPSHOT");
+        return Optional.of(chunkConnection);
+    }
+
+    @Override
+    protected Class<? extends SourceConnector> getConnectorClass() {
+        return MySqlConnector.class;
+    }
+
     @Override
     protected Set<TableId> getAllTableIds(RelationalSnapshotContext<MySqlPartition, MySqlOffsetContext> ctx)
             throws Exception {
@@ -476,7 +498,12 @@ protected Statement readTableStatement(OptionalLong rowCount) throws SQLExceptio
         if (!rowCount.isPresent() || largeTableRowCount == 0 || rowCount.getAsLong() <= largeTableRowCount) {
             return super.readTableStatement(rowCount);
         }
-        return createStatementWithLargeResultSet();
+        return createStatementWithLargeResultSet(connection);
+    }
+
+    @Override
+    protected Statement readTableChunkStatement(JdbcConnection chunkConnection) throws SQLException {
+        return createStatementWithLargeResultSet(chunkConnection);
     }
 
     /**
@@ -494,12 +521,13 @@ protected Statement readTableStatement(OptionalLong rowCount) throws SQLExceptio
      * and {@link ResultSet#CONCUR_READ_ONLY read-only concurrency} flags, and with a {@link Integer#MIN_VALUE minimum value}
      * {@link Statement#setFetchSize(int) fetch size hint}.
      *
+     * @param jdbcConnection the connection to create the statement for
      * @return the statement; never null
      * @throws SQLException if there is a problem creating the statement
      */
-    private Statement createStatementWithLargeResultSet() throws SQLException {
+    private Statement createStatementWithLargeResultSet(JdbcConnection jdbcConnection) throws SQLException {
         int fetchSize = connectorConfig.getSnapshotFetchSize();
-        Statement stmt = connection.connection().createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        Statement stmt = jdbcConnection.connection().createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
         stmt.setFetchSize(fetchSize);
         return stmt;
     }
@@ -8,6 +8,7 @@
 import static io.debezium.util.Strings.isNullOrEmpty;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -70,6 +71,7 @@
 import io.debezium.annotation.SingleThreadAccess;
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
 import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.BinlogRowConverter.ConvertedRow;
 import io.debezium.connector.mysql.MySqlConnectorConfig.SecureConnectionMode;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.function.BlockingConsumer;
@@ -116,6 +118,7 @@ public class MySqlStreamingChangeEventSource implements StreamingChangeEventSour
     private final MySqlConnection connection;
     private final EventDispatcher<MySqlPartition, TableId> eventDispatcher;
     private final ErrorHandler errorHandler;
+    private BinlogRowConverter rowConverter;
 
     @SingleThreadAccess("binlog client thread")
     private Instant eventTimestamp;
@@ -175,11 +178,6 @@ public boolean equals(Object obj) {
         }
     }
 
-    @FunctionalInterface
-    private static interface BinlogChangeEmitter<T> {
-        void emit(TableId tableId, T data) throws InterruptedException;
-    }
-
     public MySqlStreamingChangeEventSource(MySqlConnectorConfig connectorConfig, MySqlConnection connection,
                                            EventDispatcher<MySqlPartition, TableId> dispatcher, ErrorHandler errorHandler, Clock clock,
                                            MySqlTaskContext taskContext, MySqlStreamingChangeEventSourceMetrics metrics) {
@@ -741,9 +739,7 @@ private void informAboutUnknownTableIfRequired(MySqlPartition partition, MySqlOf
      */
     protected void handleInsert(MySqlPartition partition, MySqlOffsetContext offsetContext, Event event) throws InterruptedException {
         handleChange(partition, offsetContext, event, Operation.CREATE, WriteRowsEventData.class, x -> taskContext.getSchema().getTableId(x.getTableId()),
-                WriteRowsEventData::getRows,
-                (tableId, row) -> eventDispatcher.dispatchDataChangeEvent(partition, tableId,
-                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.CREATE, null, row)));
+                WriteRowsEventData::getRows, row -> null, row -> row);
     }
 
     /**
@@ -755,9 +751,7 @@ protected void handleInsert(MySqlPartition partition, MySqlOffsetContext offsetC
      */
     protected void handleUpdate(MySqlPartition partition, MySqlOffsetContext offsetContext, Event event) throws InterruptedException {
         handleChange(partition, offsetContext, event, Operation.UPDATE, UpdateRowsEventData.class, x -> taskContext.getSchema().getTableId(x.getTableId()),
-                UpdateRowsEventData::getRows,
-                (tableId, row) -> eventDispatcher.dispatchDataChangeEvent(partition, tableId,
-                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.UPDATE, row.getKey(), row.getValue())));
+                UpdateRowsEventData::getRows, Map.Entry::getKey, Map.Entry::getValue);
     }
 
     /**
@@ -769,15 +763,13 @@ protected void handleUpdate(MySqlPartition partition, MySqlOffsetContext offsetC
      */
     protected void handleDelete(MySqlPartition partition, MySqlOffsetContext offsetContext, Event event) throws InterruptedException {
         handleChange(partition, offsetContext, event, Operation.DELETE, DeleteRowsEventData.class, x -> taskContext.getSchema().getTableId(x.getTableId()),
-                DeleteRowsEventData::getRows,
-                (tableId, row) -> eventDispatcher.dispatchDataChangeEvent(partition, tableId,
-                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.DELETE, row, null)));
+                DeleteRowsEventData::getRows, row -> row, row -> null);
     }
 
     private <T extends EventData, U> void handleChange(MySqlPartition partition, MySqlOffsetContext offsetContext, Event event, Operation operation,
                                                        Class<T> eventDataClass,
                                                        TableIdProvider<T> tableIdProvider,
-                                                       RowsProvider<T, U> rowsProvider, BinlogChangeEmitter<U> changeEmitter)
+                                                       RowsProvider<T, U> rowsProvider, RowStateProvider<U> before, RowStateProvider<U> after)
             throws InterruptedException {
         if (skipEvent) {
             // We can skip this because we should already be at least this far ...
@@ -797,10 +789,18 @@ private <T extends EventData, U> void handleChange(MySqlPartition partition, MyS
             int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
+                // the rows may be converted concurrently, but are always dispatched in binlog order by this thread
+                final List<ConvertedRow> convertedRows = rowConverter != null
+                        ? rowConverter.convert(taskContext.getSchema().schemaFor(tableId), rows, startingRowNumber,
+                                before::getRowState, after::getRowState)
+                        : null;
                 for (int row = startingRowNumber; row != numRows; ++row) {
                     offsetContext.setRowNumber(row, numRows);
                     offsetContext.event(tableId, eventTimestamp);
-                    changeEmitter.emit(tableId, rows.get(row));
+                    final U rowData = rows.get(row);
+                    eventDispatcher.dispatchDataChangeEvent(partition, tableId,
+                            new MySqlChangeRecordEmitter(partition, offsetContext, clock, operation, before.getRowState(rowData), after.getRowState(rowData),
+                                    convertedRows != null ? convertedRows.get(row - startingRowNumber) : null));
                     count++;
                 }
                 if (LOGGER.isDebugEnabled()) {
@@ -873,6 +873,10 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
             taskContext.getSchema().assureNonEmptySchema();
         }
         final Set<Operation> skippedOperations = connectorConfig.getSkippedOperations();
+        if (connectorConfig.getBinlogRowConversionThreads() > 0) {
+            LOGGER.info("Converting rows of binlog events using {} threads", connectorConfig.getBinlogRowConversionThreads());
+            rowConverter = new BinlogRowConverter(connectorConfig);
+        }
 
         final MySqlOffsetContext effectiveOffsetContext = offsetContext != null
                 ? offsetContext
@@ -1035,6 +1039,9 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
             catch (Exception e) {
                 LOGGER.info("Exception while stopping binary log client", e);
             }
+            if (rowConverter != null) {
+                rowConverter.close();
+            }
         }
     }
 
@@ -1301,4 +1308,9 @@ else if (eventDeserializationFailureHandlingMode == EventProcessingFailureHandli
     private interface RowsProvider<E extends EventData, U> {
         List<U> getRows(E data);
     }
+
+    @FunctionalInterface
+    private interface RowStateProvider<U> {
+        Serializable[] getRowState(U row);
+    }
 }
@@ -63,7 +63,12 @@ public MySqlAntlrDdlParser(MySqlValueConverters converters, TableFilter tableFil
 
     public MySqlAntlrDdlParser(boolean throwErrorsFromTreeWalk, boolean includeViews, boolean includeComments,
                                MySqlValueConverters converters, TableFilter tableFilter) {
-        super(throwErrorsFromTreeWalk, includeViews, includeComments);
+        this(throwErrorsFromTreeWalk, includeViews, includeComments, 0, converters, tableFilter);
+    }
+
+    public MySqlAntlrDdlParser(boolean throwErrorsFromTreeWalk, boolean includeViews, boolean includeComments, int parseTreeCacheSize,
+                               MySqlValueConverters converters, TableFilter tableFilter) {
+        super(throwErrorsFromTreeWalk, includeViews, includeComments, parseTreeCacheSize);
         systemVariables = new MySqlSystemVariables();
         this.converters = converters;
         this.tableFilter = tableFilter;
@@ -0,0 +1,153 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.CommonConnectorConfig.BinaryHandlingMode;
+import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.BinlogRowConverter.ConvertedRow;
+import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.CustomConverterRegistry;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.relational.TableSchemaBuilder;
+import io.debezium.relational.Tables;
+import io.debezium.relational.ValueConverter;
+import io.debezium.relational.mapping.ColumnMappers;
+import io.debezium.relational.mapping.MaskStrings;
+import io.debezium.schema.DefaultTopicNamingStrategy;
+import io.debezium.util.SchemaNameAdjuster;
+
+public class BinlogRowConverterTest {
+
+    private static final TableId TABLE_ID = new TableId(null, null, "products");
+
+    private Tables tables;
+    private TableSchema tableSchema;
+    private BinlogRowConverter converter;
+
+    @Before
+    public void beforeEach() {
+        tables = new Tables();
+        new MySqlAntlrDdlParser(valueConverters()).parse("CREATE TABLE products (id INT PRIMARY KEY, name VARCHAR(20));", tables);
+        tableSchema = tableSchema(null);
+
+        converter = new BinlogRowConverter(new MySqlConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+                .with(MySqlConnectorConfig.BINLOG_ROW_CONVERSION_THREADS, 4)
+                .build()));
+    }
+
+    @After
+    public void afterEach() {
+        converter.close();
+    }
+
+    @Test
+    public void shouldConvertRowsInBinlogOrder() throws Exception {
+        final List<ConvertedRow> converted = converter.convert(tableSchema, rows(100), 0, row -> null, row -> row);
+
+        assertThat(converted).hasSize(100);
+        for (int i = 0; i < converted.size(); i++) {
+            assertThat(converted.get(i).getOldKey()).isNull();
+            assertThat(converted.get(i).getOldValue()).isNull();
+            assertThat(converted.get(i).getNewKey().get("id")).isEqualTo(i);
+            assertThat(converted.get(i).getNewValue().get("name")).isEqualTo("product" + i);
+        }
+    }
+
+    @Test
+    public void shouldConvertOldAndNewStateOfRows() throws Exception {
+        final List<ConvertedRow> converted = converter.convert(tableSchema, rows(40), 0, row -> row, row -> new Serializable[]{ row[0], "updated" });
+
+        assertThat(converted).hasSize(40);
+        for (int i = 0; i < converted.size(); i++) {
+            assertThat(converted.get(i).getOldKey().get("id")).isEqualTo(i);
+            assertThat(converted.get(i).getOldValue().get("name")).isEqualTo("product" + i);
+            assertThat(converted.get(i).getNewKey().get("id")).isEqualTo(i);
+            assertThat(converted.get(i).getNewValue().get("name")).isEqualTo("updated");
+        }
+    }
+
+    @Test
+    public void shouldConvertRowsFromStartingRow() throws Exception {
+        final List<ConvertedRow> converted = converter.convert(tableSchema, rows(100), 30, row -> row, row -> null);
+
+        assertThat(converted).hasSize(70);
+        for (int i = 0; i < converted.size(); i++) {
+            assertThat(converted.get(i).getOldKey().get("id")).isEqualTo(30 + i);
+            assertThat(converted.get(i).getNewValue()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldNotConvertEventsWithFewRows() throws Exception {
+        assertThat(converter.convert(tableSchema, rows(15), 0, row -> null, row -> row)).isNull();
+        assertThat(converter.convert(tableSchema, rows(100), 90, row -> null, row -> row)).isNull();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRethrowConversionFailure() throws Exception {
+        converter.convert(tableSchema, rows(100), 0, row -> null, row -> {
+            if ((Integer) row[0] == 50) {
+                throw new IllegalStateException("Cannot convert row");
+            }
+            return row;
+        });
+    }
+
+    @Test
+    public void shouldHashMaskedColumnsOfRowsConvertedConcurrently() throws Exception {
+        tableSchema = tableSchema(ColumnMappers.build().maskStringsByHashingV2("products.name", "SHA-256", "salt").build());
+        final ValueConverter hash = new MaskStrings("salt".getBytes(), "SHA-256", MaskStrings.HashingByteArrayStrategy.V2)
+                .create(tables.forTable(TABLE_ID).columnWithName("name"));
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            final List<ConvertedRow> converted = converter.convert(tableSchema, rows(1_000), 0, row -> null, row -> row);
+
+            assertThat(converted).hasSize(1_000);
+            for (int i = 0; i < converted.size(); i++) {
+                assertThat(converted.get(i).getNewValue().get("name")).isEqualTo(hash.convert("product" + i));
+            }
+        }
+    }
+
+    private TableSchema tableSchema(ColumnMappers mappers) {
+        final MySqlValueConverters converters = valueConverters();
+        return new TableSchemaBuilder(converters, new MySqlDefaultValueConverter(converters), SchemaNameAdjuster.NO_OP,
+                new CustomConverterRegistry(null), SchemaBuilder.struct().build(), false, false)
+                .create(new DefaultTopicNamingStrategy(new Properties(), "server"), tables.forTable(TABLE_ID), null, mappers, null);
+    }
+
+    private static MySqlValueConverters valueConverters() {
+        return new MySqlValueConverters(JdbcValueConverters.DecimalMode.DOUBLE,
+                TemporalPrecisionMode.CONNECT,
+                JdbcValueConverters.BigIntUnsignedMode.LONG,
+                BinaryHandlingMode.BYTES);
+    }
+
+    private static List<Serializable[]> rows(int count) {
+        final List<Serializable[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Serializable[]{ i, "product" + i });
+        }
+        return rows;
+    }
+}
@@ -118,6 +118,28 @@ public void shouldProcessNoPrimaryKeyForTable() {
         assertThat(table.primaryKeyColumnNames().size()).isEqualTo(0);
     }
 
+    @Test
+    public void shouldReuseParseTreeOfStatementsWithSameShape() {
+        parser = new MySqlAntlrDdlParser(true, false, false, 10, converters, TableFilter.includeAll());
+        parser.parse("CREATE TABLE tenant1.orders (id INT PRIMARY KEY, note VARCHAR(20))", tables);
+        parser.parse("CREATE TABLE tenant2.invoices (code INT PRIMARY KEY, label VARCHAR(30))", tables);
+        parser.parse("ALTER TABLE tenant1.orders ADD COLUMN status VARCHAR(5)", tables);
+        parser.parse("ALTER TABLE tenant2.invoices ADD COLUMN amount VARCHAR(15)", tables);
+        assertThat(tables.size()).isEqualTo(2);
+
+        Table orders = tables.forTable("tenant1", null, "orders");
+        assertThat(orders.retrieveColumnNames()).containsExactly("id", "note", "status");
+        assertThat(orders.primaryKeyColumnNames()).containsExactly("id");
+        assertColumn(orders, "note", "VARCHAR", Types.VARCHAR, 20, -1, true, false, false);
+        assertColumn(orders, "status", "VARCHAR", Types.VARCHAR, 5, -1, true, false, false);
+
+        Table invoices = tables.forTable("tenant2", null, "invoices");
+        assertThat(invoices.retrieveColumnNames()).containsExactly("code", "label", "amount");
+        assertThat(invoices.primaryKeyColumnNames()).containsExactly("code");
+        assertColumn(invoices, "label", "VARCHAR", Types.VARCHAR, 30, -1, true, false, false);
+        assertColumn(invoices, "amount", "VARCHAR", Types.VARCHAR, 15, -1, true, false, false);
+    }
+
     @Test
     @FixFor("DBZ-4583")
     public void shouldProcessLargeColumn() {
@@ -49,6 +49,7 @@
 import io.debezium.junit.SkipWhenDatabaseVersion;
 import io.debezium.junit.logging.LogInterceptor;
 import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalSnapshotChangeEventSource;
 import io.debezium.relational.history.MemorySchemaHistory;
 import io.debezium.relational.history.SchemaHistory;
 import io.debezium.util.Testing;
@@ -729,6 +730,50 @@ public void shouldSnapshotTablesInLexicographicalOrder() throws Exception {
         assertArrayEquals(tablesInOrder.toArray(), tablesInOrderExpected.toArray());
     }
 
+    @Test
+    public void shouldSnapshotTableInPrimaryKeyRanges() throws Exception {
+        final List<Integer> productIds = snapshotProductsOnHandInRanges(MySqlConnectorConfig.SnapshotLockingMode.MINIMAL, true);
+        assertThat(productIds).containsOnly(101, 102, 103, 104, 105, 106, 107, 108, 109);
+    }
+
+    @Test
+    public void shouldNotSnapshotTableInPrimaryKeyRangesWithoutLocking() throws Exception {
+        final List<Integer> productIds = snapshotProductsOnHandInRanges(MySqlConnectorConfig.SnapshotLockingMode.NONE, false);
+        assertThat(productIds).containsExactly(101, 102, 103, 104, 105, 106, 107, 108, 109);
+    }
+
+    private List<Integer> snapshotProductsOnHandInRanges(MySqlConnectorConfig.SnapshotLockingMode lockingMode, boolean expectRanges)
+            throws Exception {
+        try (MySqlTestConnection db = MySqlTestConnection.forTestDatabase(DATABASE.getDatabaseName())) {
+            // makes the estimated row count of the table accurate
+            db.execute("ANALYZE TABLE products_on_hand");
+        }
+        final LogInterceptor logInterceptor = new LogInterceptor(RelationalSnapshotChangeEventSource.class);
+
+        config = simpleConfig()
+                .with(MySqlConnectorConfig.SNAPSHOT_LOCKING_MODE, lockingMode)
+                .with(MySqlConnectorConfig.TABLE_INCLUDE_LIST, DATABASE.qualifiedTableName("products_on_hand"))
+                .with(RelationalDatabaseConnectorConfig.SNAPSHOT_TABLE_SPLIT_ROWS, 2)
+                .with(CommonConnectorConfig.SNAPSHOT_MAX_THREADS, 2)
+                .build();
+        start(MySqlConnector.class, config);
+        waitForSnapshotToBeCompleted("mysql", DATABASE.getServerName());
+
+        final List<SourceRecord> records = consumeRecordsByTopic(9).recordsForTopic(DATABASE.topicForTable("products_on_hand"));
+        assertThat(records).hasSize(9);
+
+        final List<Integer> productIds = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            final Struct value = (Struct) records.get(i).value();
+            productIds.add(value.getStruct("after").getInt32("product_id"));
+            final String snapshot = value.getStruct("source").getString("snapshot");
+            assertThat(snapshot).isEqualTo(i == records.size() - 1 ? "last" : "true");
+        }
+
+        assertThat(logInterceptor.containsMessage("primary key ranges of table")).isEqualTo(expectRanges);
+        return productIds;
+    }
+
     private final Function<SourceRecord, String> getTableNameFromSourceRecord = sourceRecord -> ((Struct) sourceRecord.value()).getStruct("source").getString("table");
 
     private LinkedHashSet<String> getTableNamesInSpecifiedOrder(String... tables) {
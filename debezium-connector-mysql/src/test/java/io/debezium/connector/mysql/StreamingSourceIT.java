@@ -595,6 +595,41 @@ private void inconsistentSchema(EventProcessingFailureHandlingMode mode) throws
         }
     }
 
+    @Test
+    public void shouldEmitRowsConvertedConcurrentlyInBinlogOrder() throws Exception {
+        final int rowCount = 100;
+        config = simpleConfig()
+                .with(MySqlConnectorConfig.SNAPSHOT_MODE, MySqlConnectorConfig.SnapshotMode.SCHEMA_ONLY)
+                .with(MySqlConnectorConfig.TABLE_INCLUDE_LIST, DATABASE.qualifiedTableName("products"))
+                .with(MySqlConnectorConfig.BINLOG_ROW_CONVERSION_THREADS, 4)
+                .build();
+
+        start(MySqlConnector.class, config);
+        waitForStreamingRunning("mysql", DATABASE.getServerName(), "streaming");
+
+        // a single statement, so that the rows are written as large row events
+        final StringBuilder insert = new StringBuilder("INSERT INTO ").append(productsTableName()).append(" VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            insert.append(i == 0 ? "" : ",").append("(").append(1000 + i).append(",'product").append(i).append("','description',1.0)");
+        }
+        try (MySqlTestConnection db = MySqlTestConnection.forTestDatabase(DATABASE.getDatabaseName())) {
+            db.execute(insert.toString(), "UPDATE " + productsTableName() + " SET name = CONCAT(name, '-updated') WHERE id >= 1000");
+        }
+
+        final List<SourceRecord> records = consumeRecordsByTopic(2 * rowCount).recordsForTopic(DATABASE.topicForTable(productsTableName()));
+        assertThat(records).hasSize(2 * rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            final SourceRecord insertRecord = records.get(i);
+            VerifyRecord.isValidInsert(insertRecord, "id", 1000 + i);
+            assertThat(((Struct) insertRecord.value()).getStruct(Envelope.FieldName.AFTER).getString("name")).isEqualTo("product" + i);
+
+            final SourceRecord updateRecord = records.get(rowCount + i);
+            VerifyRecord.isValidUpdate(updateRecord, "id", 1000 + i);
+            assertThat(((Struct) updateRecord.value()).getStruct(Envelope.FieldName.BEFORE).getString("name")).isEqualTo("product" + i);
+            assertThat(((Struct) updateRecord.value()).getStruct(Envelope.FieldName.AFTER).getString("name")).isEqualTo("product" + i + "-updated");
+        }
+    }
+
     private Duration toDuration(String duration) {
         return Duration.parse(duration);
     }
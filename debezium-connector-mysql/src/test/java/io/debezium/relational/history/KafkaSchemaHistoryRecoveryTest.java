@@ -0,0 +1,133 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.history;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.storage.kafka.history.KafkaSchemaHistory;
+import io.debezium.util.Collect;
+
+/**
+ * Unit tests for reading the history topic up to its end offset during recovery.
+ */
+public class KafkaSchemaHistoryRecoveryTest {
+
+    private static final String TOPIC_NAME = "schema-changes";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC_NAME, 0);
+
+    private MockConsumer<String, String> consumer;
+    private TestingKafkaSchemaHistory history;
+
+    @Before
+    public void beforeEach() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updateBeginningOffsets(Collections.singletonMap(PARTITION, 0L));
+
+        history = new TestingKafkaSchemaHistory();
+        history.configure(Configuration.create()
+                .with(KafkaSchemaHistory.BOOTSTRAP_SERVERS, "localhost:9092")
+                .with(KafkaSchemaHistory.TOPIC, TOPIC_NAME)
+                .with(SchemaHistory.NAME, "my-db-history")
+                .with(KafkaSchemaHistory.RECOVERY_POLL_INTERVAL_MS, 10)
+                .with(KafkaSchemaHistory.RECOVERY_POLL_ATTEMPTS, 2)
+                .build(), null, SchemaHistoryListener.NOOP, true);
+    }
+
+    @Test
+    public void shouldRecoverRecordsUpToEndOffset() {
+        pollRecords(0, 1, 3, 4);
+        consumer.updateEndOffsets(Collections.singletonMap(PARTITION, 5L));
+
+        assertThat(history.recoverStatements()).containsExactly("DDL 0", "DDL 1", "DDL 3", "DDL 4");
+    }
+
+    @Test
+    public void shouldRecoverRecordsFetchedByMultiplePolls() {
+        consumer.updateEndOffsets(Collections.singletonMap(PARTITION, 4L));
+        pollRecords(0, 1);
+        pollRecords(2, 3);
+
+        assertThat(history.recoverStatements()).containsExactly("DDL 0", "DDL 1", "DDL 2", "DDL 3");
+    }
+
+    @Test
+    public void shouldIgnoreRecordsBeyondEndOffset() {
+        pollRecords(0, 1, 2, 3, 4);
+        consumer.updateEndOffsets(Collections.singletonMap(PARTITION, 3L));
+
+        assertThat(history.recoverStatements()).containsExactly("DDL 0", "DDL 1", "DDL 2");
+    }
+
+    @Test
+    public void shouldRecoverNothingFromEmptyTopic() {
+        consumer.updateEndOffsets(Collections.singletonMap(PARTITION, 0L));
+
+        assertThat(history.recoverStatements()).isEmpty();
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailIfEndOffsetIsNotReached() {
+        pollRecords(0);
+        consumer.updateEndOffsets(Collections.singletonMap(PARTITION, 2L));
+
+        history.recoverStatements();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailIfEndOffsetChangesDuringRecovery() {
+        consumer.updateEndOffsets(Collections.singletonMap(PARTITION, 2L));
+        consumer.schedulePollTask(() -> {
+            addRecords(0, 1);
+            consumer.updateEndOffsets(Collections.singletonMap(PARTITION, 3L));
+        });
+
+        history.recoverStatements();
+    }
+
+    /**
+     * Makes the records available to the next poll, once the history partition has been assigned.
+     */
+    private void pollRecords(long... offsets) {
+        consumer.schedulePollTask(() -> addRecords(offsets));
+    }
+
+    private void addRecords(long... offsets) {
+        for (long offset : offsets) {
+            final HistoryRecord record = new HistoryRecord(Collect.hashMapOf("server", "my-server"), Collect.hashMapOf("offset", offset),
+                    "db", null, "DDL " + offset, null, Instant.now());
+            consumer.addRecord(new ConsumerRecord<>(TOPIC_NAME, 0, offset, null, record.toString()));
+        }
+    }
+
+    private final class TestingKafkaSchemaHistory extends KafkaSchemaHistory {
+
+        @Override
+        protected Consumer<String, String> createHistoryConsumer() {
+            return consumer;
+        }
+
+        private List<String> recoverStatements() {
+            final List<String> statements = new ArrayList<>();
+            recoverRecords(record -> statements.add(record.ddl()));
+            return statements;
+        }
+    }
+}
@@ -5,6 +5,19 @@
  */
 package io.debezium.relational.history;
 
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+
 /**
  * @author Randall Hauch
  */
@@ -14,4 +27,108 @@ public class MemorySchemaHistoryTest extends AbstractSchemaHistoryTest {
     protected SchemaHistory createHistory() {
         return new MemorySchemaHistory();
     }
+
+    @Test
+    public void shouldRecoverFromLatestCheckpoint() {
+        history.configure(Configuration.create().with(SchemaHistory.CHECKPOINT_INTERVAL, 2).build(), null, SchemaHistoryListener.NOOP, true);
+
+        recordWithChanges(1, 0, "CREATE TABLE foo ( first VARCHAR(22) NOT NULL );", t0, t1, t2, all);
+        history.checkpoint(source1, position("a.log", 1, 0), all, Instant.now());
+        recordWithChanges(10, 0, "CREATE TABLE person ( name VARCHAR(22) NOT NULL );", t1, t2, all);
+        history.checkpoint(source1, position("a.log", 10, 0), all, Instant.now());
+        recordWithChanges(20, 0, "DROP TABLE foo;", t2, all);
+
+        // only the second checkpoint is stored, after two recorded changes
+        final int[] checkpoints = { 0 };
+        ((MemorySchemaHistory) history).recoverRecords(record -> checkpoints[0] += record.isCheckpoint() ? 1 : 0);
+        assertThat(checkpoints[0]).isEqualTo(1);
+
+        assertThat(recover(1, 0)).isEqualTo(t0);
+        assertThat(recover(10, 0)).isEqualTo(t1);
+        assertThat(recover(20, 0)).isEqualTo(t2);
+        assertThat(recover(20, 0).tableIds()).containsOnly(new TableId("db", null, "person"));
+    }
+
+    @Test
+    public void shouldApplyChangesAfterCheckpointInOrderWithinSinglePass() {
+        final CountingSchemaHistory countingHistory = new CountingSchemaHistory();
+        history = countingHistory;
+        history.configure(Configuration.create().with(SchemaHistory.CHECKPOINT_INTERVAL, 1).build(), null, SchemaHistoryListener.NOOP, true);
+
+        recordWithChanges(1, 0, "CREATE TABLE foo ( first VARCHAR(22) NOT NULL );", t0, t1, t2, all);
+        history.checkpoint(source1, position("a.log", 1, 0), all, Instant.now());
+        recordWithChanges(10, 0, "CREATE TABLE person ( name VARCHAR(22) NOT NULL );", t1, t2, all);
+        // a statement without table changes, which depends on the preceding change
+        record(15, 0, "ALTER TABLE person ADD city VARCHAR(22) NOT NULL;", t2, all);
+
+        assertThat(recover(15, 0)).isEqualTo(t2);
+        assertThat(countingHistory.recoveryPasses).isEqualTo(1);
+
+        assertThat(recover(1, 0)).isEqualTo(t0);
+        assertThat(recover(10, 0)).isEqualTo(t1);
+    }
+
+    @Test
+    public void shouldApplyChangesWithoutCheckpoint() {
+        // the changes have been recorded before checkpoints were enabled
+        recordWithChanges(1, 0, "CREATE TABLE foo ( first VARCHAR(22) NOT NULL );", t0, t1, all);
+        recordWithChanges(2, 0, "CREATE TABLE person ( name VARCHAR(22) NOT NULL );", t0, t1, all);
+        recordWithChanges(3, 0, "CREATE TABLE address ( street VARCHAR(22) NOT NULL );", t0, t1, all);
+        recordWithChanges(4, 0, "DROP TABLE foo;", t1, all);
+        history.configure(Configuration.create().with(SchemaHistory.CHECKPOINT_INTERVAL, 2).build(), null, SchemaHistoryListener.NOOP, true);
+
+        assertThat(recover(3, 0)).isEqualTo(t0);
+        assertThat(recover(4, 0)).isEqualTo(t1);
+        assertThat(recover(4, 0).tableIds()).containsOnly(new TableId("db", null, "person"), new TableId("db", null, "address"));
+    }
+
+    private void recordWithChanges(long pos, int entry, String ddl, Tables... update) {
+        final Tables before = all.clone();
+        for (Tables tables : update) {
+            parser.setCurrentSchema("db");
+            parser.parse(ddl, tables);
+        }
+        final TableChanges changes = new TableChanges();
+        for (TableId tableId : all.tableIds()) {
+            if (!before.tableIds().contains(tableId)) {
+                changes.create(all.forTable(tableId));
+            }
+        }
+        for (TableId tableId : before.tableIds()) {
+            if (!all.tableIds().contains(tableId)) {
+                changes.drop(before.forTable(tableId));
+            }
+        }
+        history.record(source1, position("a.log", pos, entry), "db", null, ddl, changes, Instant.now());
+    }
+
+    /**
+     * A history kept in memory, which counts how often the records are read.
+     */
+    private static final class CountingSchemaHistory extends AbstractSchemaHistory {
+
+        private final List<HistoryRecord> records = new ArrayList<>();
+        private int recoveryPasses;
+
+        @Override
+        protected void storeRecord(HistoryRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        protected void recoverRecords(Consumer<HistoryRecord> records) {
+            recoveryPasses++;
+            this.records.forEach(records);
+        }
+
+        @Override
+        public boolean storageExists() {
+            return true;
+        }
+
+        @Override
+        public boolean exists() {
+            return !records.isEmpty();
+        }
+    }
 }
@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.oracle;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +37,7 @@
 import io.debezium.connector.oracle.logminer.processor.LogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.infinispan.EmbeddedInfinispanLogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.infinispan.RemoteInfinispanLogMinerEventProcessor;
+import io.debezium.connector.oracle.logminer.processor.mapped.MappedLogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.memory.MemoryLogMinerEventProcessor;
 import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.pipeline.EventDispatcher;
@@ -66,6 +69,10 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
 
     protected final static int DEFAULT_TRANSACTION_EVENTS_THRESHOLD = 0;
 
+    protected final static int DEFAULT_LOG_MINING_BUFFER_MAPPED_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    protected final static int DEFAULT_LOG_MINING_PARSER_QUEUE_SIZE = 10_000;
+
     protected final static Duration MAX_SLEEP_TIME = Duration.ofMillis(3_000);
     protected final static Duration DEFAULT_SLEEP_TIME = Duration.ofMillis(1_000);
     protected final static Duration MIN_SLEEP_TIME = Duration.ZERO;
@@ -334,7 +341,54 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     System.lineSeparator() +
                     "infinispan_embedded - This option uses an embedded Infinispan cache to buffer transaction data and persist it to disk." + System.lineSeparator() +
                     System.lineSeparator() +
-                    "infinispan_remote - This option uses a remote Infinispan cluster to buffer transaction data and persist it to disk.");
+                    "infinispan_remote - This option uses a remote Infinispan cluster to buffer transaction data and persist it to disk." + System.lineSeparator() +
+                    System.lineSeparator() +
+                    "memory_mapped - This option buffers the events of transactions in memory-mapped segment files, keeping only an index of the events on the heap.");
+
+    public static final Field LOG_MINING_BUFFER_MAPPED_DIRECTORY = Field.create("log.mining.buffer.mapped.directory")
+            .withDisplayName("Directory of the memory-mapped buffer segments")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 30))
+            .withDescription("The directory in which the 'memory_mapped' buffer type stores its segment files. "
+                    + "Any segment files in this directory are deleted when the connector starts. "
+                    + "Defaults to a directory named after the topic prefix within the directory given by the 'java.io.tmpdir' system property.");
+
+    public static final Field LOG_MINING_BUFFER_MAPPED_SEGMENT_SIZE = Field.create("log.mining.buffer.mapped.segment.size.bytes")
+            .withDisplayName("Size of the memory-mapped buffer segments")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 31))
+            .withDefault(DEFAULT_LOG_MINING_BUFFER_MAPPED_SEGMENT_SIZE)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The size in bytes of each segment file of the 'memory_mapped' buffer type. "
+                    + "A segment is deleted once all transactions with events in it have been committed, rolled back or abandoned.");
+
+    public static final Field LOG_MINING_PARSER_THREADS = Field.create("log.mining.parser.threads")
+            .withDisplayName("Number of threads parsing mined DML events")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 32))
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The number of threads used to parse the redo SQL of mined DML events concurrently. "
+                    + "When greater than 0, the LogMiner results are fetched by a separate thread and the DML events are parsed "
+                    + "by a pool of this many threads, so that fetching and parsing overlap. Events are still buffered in the order "
+                    + "in which LogMiner returns them. Defaults to 0, meaning that rows are fetched and parsed by the mining thread.");
+
+    public static final Field LOG_MINING_PARSER_QUEUE_SIZE = Field.create("log.mining.parser.queue.size")
+            .withDisplayName("Maximum number of fetched rows waiting to be processed")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 33))
+            .withDefault(DEFAULT_LOG_MINING_PARSER_QUEUE_SIZE)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of rows the fetch thread reads ahead of the mining thread when "
+                    + "'log.mining.parser.threads' is greater than 0.");
 
     public static final Field LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD = Field.create("log.mining.buffer.transaction.events.threshold")
             .withDisplayName("The maximum number of events a transaction can have before being discarded.")
@@ -499,11 +553,15 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_ARCHIVE_DESTINATION_NAME,
                     LOG_MINING_BUFFER_TYPE,
                     LOG_MINING_BUFFER_DROP_ON_STOP,
+                    LOG_MINING_BUFFER_MAPPED_DIRECTORY,
+                    LOG_MINING_BUFFER_MAPPED_SEGMENT_SIZE,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_TRANSACTIONS,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_EVENTS,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_PROCESSED_TRANSACTIONS,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_SCHEMA_CHANGES,
                     LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD,
+                    LOG_MINING_PARSER_THREADS,
+                    LOG_MINING_PARSER_QUEUE_SIZE,
                     LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS,
                     LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN,
                     LOG_MINING_SCN_GAP_DETECTION_TIME_INTERVAL_MAX_MS,
@@ -564,6 +622,10 @@ public static ConfigDef configDef() {
     private final LogMiningBufferType logMiningBufferType;
     private final long logMiningBufferTransactionEventsThreshold;
     private final boolean logMiningBufferDropOnStop;
+    private final Path logMiningBufferMappedDirectory;
+    private final int logMiningBufferMappedSegmentSize;
+    private final int logMiningParserThreads;
+    private final int logMiningParserQueueSize;
     private final int logMiningScnGapDetectionGapSizeMin;
     private final int logMiningScnGapDetectionTimeIntervalMaxMs;
     private final int logMiningLogFileQueryMaxRetries;
@@ -610,6 +672,13 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningBufferType = LogMiningBufferType.parse(config.getString(LOG_MINING_BUFFER_TYPE));
         this.logMiningBufferTransactionEventsThreshold = config.getLong(LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD);
         this.logMiningBufferDropOnStop = config.getBoolean(LOG_MINING_BUFFER_DROP_ON_STOP);
+        final String mappedDirectory = config.getString(LOG_MINING_BUFFER_MAPPED_DIRECTORY);
+        this.logMiningBufferMappedDirectory = Strings.isNullOrBlank(mappedDirectory)
+                ? Paths.get(System.getProperty("java.io.tmpdir"), "debezium-oracle-buffer", getLogicalName())
+                : Paths.get(mappedDirectory);
+        this.logMiningBufferMappedSegmentSize = config.getInteger(LOG_MINING_BUFFER_MAPPED_SEGMENT_SIZE);
+        this.logMiningParserThreads = config.getInteger(LOG_MINING_PARSER_THREADS);
+        this.logMiningParserQueueSize = config.getInteger(LOG_MINING_PARSER_QUEUE_SIZE);
         this.archiveLogOnlyScnPollTime = Duration.ofMillis(config.getInteger(LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS));
         this.logMiningScnGapDetectionGapSizeMin = config.getInteger(LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN);
         this.logMiningScnGapDetectionTimeIntervalMaxMs = config.getInteger(LOG_MINING_SCN_GAP_DETECTION_TIME_INTERVAL_MAX_MS);
@@ -1146,6 +1215,21 @@ public LogMinerEventProcessor createProcessor(ChangeEventSourceContext context,
                 return new RemoteInfinispanLogMinerEventProcessor(context, connectorConfig, connection, dispatcher,
                         partition, offsetContext, schema, metrics);
             }
+        },
+
+        MEMORY_MAPPED("memory_mapped") {
+            @Override
+            public LogMinerEventProcessor createProcessor(ChangeEventSourceContext context,
+                                                          OracleConnectorConfig connectorConfig,
+                                                          OracleConnection connection,
+                                                          EventDispatcher<OraclePartition, TableId> dispatcher,
+                                                          OraclePartition partition,
+                                                          OracleOffsetContext offsetContext,
+                                                          OracleDatabaseSchema schema,
+                                                          OracleStreamingChangeEventSourceMetrics metrics) {
+                return new MappedLogMinerEventProcessor(context, connectorConfig, connection, dispatcher, partition,
+                        offsetContext, schema, metrics);
+            }
         };
 
         private final String value;
@@ -1169,7 +1253,7 @@ public String getValue() {
         }
 
         public boolean isInfinispan() {
-            return !MEMORY.equals(this);
+            return INFINISPAN_EMBEDDED.equals(this) || INFINISPAN_REMOTE.equals(this);
         }
 
         public boolean isInfinispanEmbedded() {
@@ -1410,6 +1494,34 @@ public boolean isLogMiningBufferDropOnStop() {
         return logMiningBufferDropOnStop;
     }
 
+    /**
+     * @return the directory in which the memory-mapped buffer stores its segment files
+     */
+    public Path getLogMiningBufferMappedDirectory() {
+        return logMiningBufferMappedDirectory;
+    }
+
+    /**
+     * @return the size in bytes of each memory-mapped buffer segment file
+     */
+    public int getLogMiningBufferMappedSegmentSize() {
+        return logMiningBufferMappedSegmentSize;
+    }
+
+    /**
+     * @return the number of threads parsing mined DML events concurrently, {@code 0} if not pipelined
+     */
+    public int getLogMiningParserThreads() {
+        return logMiningParserThreads;
+    }
+
+    /**
+     * @return the maximum number of fetched rows waiting to be processed by the mining thread
+     */
+    public int getLogMiningParserQueueSize() {
+        return logMiningParserQueueSize;
+    }
+
     /**
      *
      * @return int The default SCN interval used when mining redo/archive logs
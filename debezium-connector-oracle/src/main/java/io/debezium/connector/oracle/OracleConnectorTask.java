@@ -83,6 +83,7 @@ public ChangeEventSourceCoordinator<OraclePartition, OracleOffsetContext> start(
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
                 .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .queueMode(connectorConfig.getQueueMode())
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .build();
 
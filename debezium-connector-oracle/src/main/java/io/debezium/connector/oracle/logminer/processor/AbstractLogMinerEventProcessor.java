@@ -14,6 +14,14 @@
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,6 +32,7 @@
 import io.debezium.DebeziumException;
 import io.debezium.connector.oracle.OracleConnection;
 import io.debezium.connector.oracle.OracleConnection.NonRelationalTableException;
+import io.debezium.connector.oracle.OracleConnector;
 import io.debezium.connector.oracle.OracleConnectorConfig;
 import io.debezium.connector.oracle.OracleDatabaseSchema;
 import io.debezium.connector.oracle.OracleOffsetContext;
@@ -52,6 +61,7 @@
 import io.debezium.relational.TableId;
 import io.debezium.util.Clock;
 import io.debezium.util.Strings;
+import io.debezium.util.Threads;
 
 /**
  * An abstract implementation of {@link LogMinerEventProcessor} that all processors should extend.
@@ -78,7 +88,13 @@
     private Scn currentOffsetScn = Scn.NULL;
     private Map<Integer, Scn> currentOffsetCommitScns = new HashMap<>();
     private Scn lastProcessedScn = Scn.NULL;
-    private boolean sequenceUnavailable = false;
+    // written by the fetch thread if results are processed pipelined
+    private volatile boolean sequenceUnavailable = false;
+
+    private final ExecutorService fetchExecutor;
+    private final ExecutorService parserExecutor;
+    private final ThreadLocal<LogMinerDmlParser> parsers = ThreadLocal.withInitial(LogMinerDmlParser::new);
+    private Future<ParsedDmlEntry> currentParsedDmlEntry;
 
     public AbstractLogMinerEventProcessor(ChangeEventSourceContext context,
                                           OracleConnectorConfig connectorConfig,
@@ -97,6 +113,16 @@ public AbstractLogMinerEventProcessor(ChangeEventSourceContext context,
         this.counters = new Counters();
         this.dmlParser = new LogMinerDmlParser();
         this.selectLobParser = new SelectLobParser();
+        if (connectorConfig.getLogMiningParserThreads() > 0) {
+            this.fetchExecutor = Threads.newSingleThreadExecutor(OracleConnector.class, connectorConfig.getLogicalName(),
+                    "logminer-fetcher", true);
+            this.parserExecutor = Executors.newFixedThreadPool(connectorConfig.getLogMiningParserThreads(),
+                    Threads.threadFactory(OracleConnector.class, connectorConfig.getLogicalName(), "logminer-parser", true, true));
+        }
+        else {
+            this.fetchExecutor = null;
+            this.parserExecutor = null;
+        }
     }
 
     protected OracleConnectorConfig getConfig() {
@@ -238,12 +264,128 @@ public Scn process(Scn startScn, Scn endScn) throws SQLException, InterruptedExc
      * @throws InterruptedException if the dispatcher was interrupted sending an event
      */
     protected void processResults(OraclePartition partition, ResultSet resultSet) throws SQLException, InterruptedException {
+        if (fetchExecutor != null) {
+            processResultsPipelined(partition, resultSet);
+            return;
+        }
         while (context.isRunning() && hasNextWithMetricsUpdate(resultSet)) {
             counters.rows++;
             processRow(partition, LogMinerEventRow.fromResultSet(resultSet, getConfig().getCatalogName(), isTrxIdRawValue()));
         }
     }
 
+    /**
+     * Processes the LogMiner results with a separate fetch thread reading the rows into a bounded queue and
+     * a pool of threads parsing the redo SQL of DML events ahead of time. The rows are still processed by
+     * the calling thread one by one, in the order in which LogMiner returned them.
+     *
+     * @param resultSet the result set from a LogMiner query
+     * @throws SQLException if a database exception occurred
+     * @throws InterruptedException if the dispatcher was interrupted sending an event
+     */
+    private void processResultsPipelined(OraclePartition partition, ResultSet resultSet) throws SQLException, InterruptedException {
+        final BlockingQueue<FetchedRow> rows = new ArrayBlockingQueue<>(connectorConfig.getLogMiningParserQueueSize());
+        final AtomicBoolean stopFetching = new AtomicBoolean();
+        final Future<?> fetcher = fetchExecutor.submit(() -> {
+            fetchRows(resultSet, rows, stopFetching);
+            return null;
+        });
+
+        boolean fetchCompleted = false;
+        try {
+            FetchedRow fetched;
+            while ((fetched = rows.take()) != FetchedRow.END) {
+                counters.rows++;
+                currentParsedDmlEntry = fetched.parsedDmlEntry;
+                try {
+                    processRow(partition, fetched.row);
+                }
+                finally {
+                    currentParsedDmlEntry = null;
+                }
+            }
+            fetchCompleted = true;
+        }
+        finally {
+            if (!fetchCompleted) {
+                // the result set must not be used by the fetch thread once it is closed by the caller
+                stopFetching.set(true);
+                try {
+                    fetcher.get();
+                }
+                catch (ExecutionException e) {
+                    LOGGER.debug("Fetching of LogMiner results failed after processing was aborted", e.getCause());
+                }
+            }
+        }
+
+        try {
+            fetcher.get();
+        }
+        catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new DebeziumException("Failed to fetch LogMiner results", cause);
+        }
+    }
+
+    /**
+     * Reads the rows of the result set into the given queue, submitting the parsing of DML events to the parser pool.
+     * The end of the results is signalled by {@link FetchedRow#END}, also if fetching fails.
+     */
+    private void fetchRows(ResultSet resultSet, BlockingQueue<FetchedRow> rows, AtomicBoolean stopFetching)
+            throws SQLException, InterruptedException {
+        try {
+            while (!stopFetching.get() && context.isRunning() && hasNextWithMetricsUpdate(resultSet)) {
+                final LogMinerEventRow row = LogMinerEventRow.fromResultSet(resultSet, getConfig().getCatalogName(), isTrxIdRawValue());
+                if (!enqueue(rows, new FetchedRow(row, submitDmlParse(row)), stopFetching)) {
+                    return;
+                }
+            }
+        }
+        finally {
+            enqueue(rows, FetchedRow.END, stopFetching);
+        }
+    }
+
+    private boolean enqueue(BlockingQueue<FetchedRow> rows, FetchedRow row, AtomicBoolean stopFetching) throws InterruptedException {
+        while (!rows.offer(row, 100, TimeUnit.MILLISECONDS)) {
+            if (stopFetching.get()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Submits the parsing of the redo SQL of a DML event to the parser pool, using the table model that is
+     * currently known for the event's table. Events which are not parsed ahead of time are parsed by
+     * the mining thread as usual.
+     */
+    private Future<ParsedDmlEntry> submitDmlParse(LogMinerEventRow row) {
+        switch (row.getEventType()) {
+            case INSERT:
+            case UPDATE:
+            case DELETE:
+                break;
+            default:
+                return null;
+        }
+        if (row.getRedoSql() == null || row.isRollbackFlag() || row.getStatus() == 2 || row.getTableId() == null) {
+            return null;
+        }
+        final Table table = getSchema().tableFor(row.getTableId());
+        if (table == null) {
+            return null;
+        }
+        return parserExecutor.submit(() -> new ParsedDmlEntry(table, parseDmlStatement(parsers.get(), row.getRedoSql(), table)));
+    }
+
     /**
      * Processes a single LogMinerEventRow.
      *
@@ -767,7 +909,7 @@ protected void handleDataEvent(LogMinerEventRow row) throws SQLException, Interr
         }
 
         addToTransaction(row.getTransactionId(), row, () -> {
-            final LogMinerDmlEntry dmlEntry = parseDmlStatement(row.getRedoSql(), table);
+            final LogMinerDmlEntry dmlEntry = getDmlEntry(row.getRedoSql(), table);
             dmlEntry.setObjectName(row.getTableName());
             dmlEntry.setObjectOwner(row.getTablespaceName());
             return new DmlEvent(row, dmlEntry);
@@ -963,23 +1105,37 @@ private String getTableMetadataDdl(TableId tableId) throws SQLException, NonRela
     }
 
     /**
-     * Parse a DML redo SQL statement.
+     * Returns the parsed DML redo SQL statement of the current row, using the result of parsing it ahead of
+     * time if that has been done with the same table model.
      *
      * @param redoSql the redo SQL statement
      * @param table the table the SQL statement is for
      * @return a parse object for the redo SQL statement
      */
-    private LogMinerDmlEntry parseDmlStatement(String redoSql, Table table) {
-        LogMinerDmlEntry dmlEntry;
-        try {
-            Instant parseStart = Instant.now();
-            dmlEntry = dmlParser.parse(redoSql, table);
-            metrics.addCurrentParseTime(Duration.between(parseStart, Instant.now()));
+    private LogMinerDmlEntry getDmlEntry(String redoSql, Table table) {
+        LogMinerDmlEntry dmlEntry = null;
+        if (currentParsedDmlEntry != null) {
+            final ParsedDmlEntry parsed;
+            try {
+                parsed = currentParsedDmlEntry.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DebeziumException("Interrupted while waiting for DML statement to be parsed", e);
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new DebeziumException(e.getCause());
+            }
+            // a schema change may have been applied after the statement was parsed
+            if (parsed.table == table) {
+                dmlEntry = parsed.dmlEntry;
+            }
         }
-        catch (DmlParserException e) {
-            String message = "DML statement couldn't be parsed." +
-                    " Please open a Jira issue with the statement '" + redoSql + "'.";
-            throw new DmlParserException(message, e);
+        if (dmlEntry == null) {
+            dmlEntry = parseDmlStatement(dmlParser, redoSql, table);
         }
 
         if (dmlEntry.getOldValues().length == 0) {
@@ -992,6 +1148,28 @@ private LogMinerDmlEntry parseDmlStatement(String redoSql, Table table) {
         return dmlEntry;
     }
 
+    /**
+     * Parse a DML redo SQL statement.
+     *
+     * @param parser the parser to use, must only be used by the current thread
+     * @param redoSql the redo SQL statement
+     * @param table the table the SQL statement is for
+     * @return a parse object for the redo SQL statement
+     */
+    private LogMinerDmlEntry parseDmlStatement(LogMinerDmlParser parser, String redoSql, Table table) {
+        try {
+            Instant parseStart = Instant.now();
+            LogMinerDmlEntry dmlEntry = parser.parse(redoSql, table);
+            metrics.addCurrentParseTime(Duration.between(parseStart, Instant.now()));
+            return dmlEntry;
+        }
+        catch (DmlParserException e) {
+            String message = "DML statement couldn't be parsed." +
+                    " Please open a Jira issue with the statement '" + redoSql + "'.";
+            throw new DmlParserException(message, e);
+        }
+    }
+
     private static Pattern LOB_WRITE_SQL_PATTERN = Pattern.compile(
             "(?s).* := ((?:HEXTORAW\\()?'.*'(?:\\))?);\\s*dbms_lob.write\\([^,]+,\\s*(\\d+)\\s*,\\s*(\\d+)\\s*,[^,]+\\);.*");
 
@@ -1086,6 +1264,44 @@ protected void abandonTransactionOverEventThreshold(T transaction) {
         metrics.incrementOversizedTransactions();
     }
 
+    @Override
+    public void close() throws Exception {
+        if (fetchExecutor != null) {
+            fetchExecutor.shutdownNow();
+            parserExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * A row fetched from the LogMiner results by the fetch thread.
+     */
+    private static class FetchedRow {
+
+        private static final FetchedRow END = new FetchedRow(null, null);
+
+        private final LogMinerEventRow row;
+        private final Future<ParsedDmlEntry> parsedDmlEntry;
+
+        FetchedRow(LogMinerEventRow row, Future<ParsedDmlEntry> parsedDmlEntry) {
+            this.row = row;
+            this.parsedDmlEntry = parsedDmlEntry;
+        }
+    }
+
+    /**
+     * A DML statement parsed ahead of time, along with the table model used to parse it.
+     */
+    private static class ParsedDmlEntry {
+
+        private final Table table;
+        private final LogMinerDmlEntry dmlEntry;
+
+        ParsedDmlEntry(Table table, LogMinerDmlEntry dmlEntry) {
+            this.table = table;
+            this.dmlEntry = dmlEntry;
+        }
+    }
+
     /**
      * Wrapper for all counter variables
      *
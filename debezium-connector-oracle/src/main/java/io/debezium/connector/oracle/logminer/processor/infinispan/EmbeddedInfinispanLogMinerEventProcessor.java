@@ -99,6 +99,7 @@ public void close() throws Exception {
         }
         LOGGER.info("Shutting down infinispan embedded caches");
         cacheManager.close();
+        super.close();
     }
 
     @Override
@@ -113,6 +113,7 @@ public void close() throws Exception {
         }
         LOGGER.info("Shutting down infinispan remote caches");
         cacheManager.close();
+        super.close();
     }
 
     @Override
@@ -0,0 +1,67 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.mapped;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OraclePartition;
+import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.connector.oracle.logminer.processor.LogMinerEventProcessor;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryLogMinerEventProcessor;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import io.debezium.relational.TableId;
+
+/**
+ * A {@link LogMinerEventProcessor} that stores the events of in-flight transactions in memory-mapped,
+ * append-only segment files rather than on the JVM heap, so that large transactions do not exhaust the heap.
+ * Only the transaction bookkeeping and a per-transaction index of the events are kept on the heap.
+ */
+public class MappedLogMinerEventProcessor extends MemoryLogMinerEventProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedLogMinerEventProcessor.class);
+
+    private final MappedSegmentStore store;
+
+    public MappedLogMinerEventProcessor(ChangeEventSourceContext context,
+                                        OracleConnectorConfig connectorConfig,
+                                        OracleConnection jdbcConnection,
+                                        EventDispatcher<OraclePartition, TableId> dispatcher,
+                                        OraclePartition partition,
+                                        OracleOffsetContext offsetContext,
+                                        OracleDatabaseSchema schema,
+                                        OracleStreamingChangeEventSourceMetrics metrics) {
+        super(context, connectorConfig, jdbcConnection, dispatcher, partition, offsetContext, schema, metrics);
+        LOGGER.info("Buffering transaction events in segments of {} bytes in '{}'", connectorConfig.getLogMiningBufferMappedSegmentSize(),
+                connectorConfig.getLogMiningBufferMappedDirectory());
+        this.store = new MappedSegmentStore(connectorConfig.getLogMiningBufferMappedDirectory(),
+                connectorConfig.getLogMiningBufferMappedSegmentSize());
+    }
+
+    @Override
+    protected MemoryTransaction createTransaction(LogMinerEventRow row) {
+        return new MappedTransaction(row.getTransactionId(), row.getScn(), row.getChangeTime(), row.getUserName(), store);
+    }
+
+    @Override
+    protected void releaseTransaction(MemoryTransaction transaction) {
+        ((MappedTransaction) transaction).release();
+    }
+
+    @Override
+    public void close() throws Exception {
+        getTransactionCache().values().forEach(this::releaseTransaction);
+        store.close();
+        super.close();
+    }
+}
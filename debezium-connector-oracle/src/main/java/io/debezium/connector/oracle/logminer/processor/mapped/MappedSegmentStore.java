@@ -0,0 +1,282 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.mapped;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.infinispan.protostream.ProtobufUtil;
+import org.infinispan.protostream.SerializationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.processor.infinispan.marshalling.LogMinerEventMarshaller;
+import io.debezium.connector.oracle.logminer.processor.infinispan.marshalling.LogMinerEventMarshallerImpl;
+
+/**
+ * Stores serialized {@link LogMinerEvent} instances in memory-mapped, append-only segment files.
+ * <p>
+ * Events are serialized using the same ProtoStream adapters as the Infinispan buffers. The events of all
+ * transactions are appended to the current segment; once it is full, a new segment is started. Each segment
+ * counts the transactions that have events in it, and a segment is deleted as soon as all of them have been
+ * committed, rolled back or abandoned. The mapping of a deleted segment is released right away rather than
+ * when the buffer happens to be garbage collected.
+ */
+@NotThreadSafe
+public class MappedSegmentStore implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedSegmentStore.class);
+
+    private static final String SEGMENT_FILE_SUFFIX = ".segment";
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        }
+        catch (Exception e) {
+            LOGGER.warn("Buffer segments cannot be unmapped explicitly, their memory is released by the garbage collector", e);
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final SerializationContext serializationContext;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private Segment currentSegment;
+    private long nextSegmentId;
+
+    public MappedSegmentStore(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.serializationContext = ProtobufUtil.newSerializationContext();
+
+        final LogMinerEventMarshaller marshaller = new LogMinerEventMarshallerImpl();
+        marshaller.registerSchema(serializationContext);
+        marshaller.registerMarshallers(serializationContext);
+
+        try {
+            Files.createDirectories(directory);
+            // The buffer is not recoverable, segments of a previous run are obsolete
+            try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, "*" + SEGMENT_FILE_SUFFIX)) {
+                for (Path path : stale) {
+                    LOGGER.debug("Deleting stale buffer segment {}", path);
+                    Files.delete(path);
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to prepare buffer directory " + directory, e);
+        }
+    }
+
+    /**
+     * Appends the given event to the current segment.
+     *
+     * @param event the event to store, never {@code null}
+     * @return the location of the serialized event, never {@code null}
+     */
+    public EventLocation append(LogMinerEvent event) {
+        final byte[] data;
+        try {
+            data = ProtobufUtil.toWrappedByteArray(serializationContext, event);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to serialize event " + event, e);
+        }
+
+        if (currentSegment == null || currentSegment.remaining() < data.length) {
+            rollSegment(data.length);
+        }
+
+        final int offset = currentSegment.position;
+        final MappedByteBuffer buffer = currentSegment.buffer;
+        buffer.position(offset);
+        buffer.put(data);
+        currentSegment.position += data.length;
+        return new EventLocation(currentSegment, offset, data.length);
+    }
+
+    /**
+     * Reads an event previously stored by {@link #append(LogMinerEvent)}.
+     *
+     * @param location the location of the serialized event, never {@code null}
+     * @return the event, never {@code null}
+     */
+    public LogMinerEvent read(EventLocation location) {
+        final MappedByteBuffer buffer = location.segment.buffer;
+        if (buffer == null) {
+            throw new DebeziumException("Buffer segment " + location.segment.path + " has already been deleted");
+        }
+        final byte[] data = new byte[location.length];
+        buffer.position(location.offset);
+        buffer.get(data);
+        try {
+            return ProtobufUtil.fromWrappedByteArray(serializationContext, data);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to deserialize event from segment " + location.segment.path, e);
+        }
+    }
+
+    /**
+     * Registers a transaction as having events in the given segment.
+     */
+    void retain(Segment segment) {
+        segment.transactions++;
+    }
+
+    /**
+     * Unregisters a transaction from the given segment, deleting the segment once no transaction refers to it.
+     */
+    void release(Segment segment) {
+        if (--segment.transactions > 0) {
+            return;
+        }
+        if (segment == currentSegment) {
+            // nothing in the current segment is referenced anymore, so it can be overwritten
+            segment.position = 0;
+        }
+        else {
+            deleteSegment(segment);
+        }
+    }
+
+    /**
+     * Returns the number of segment files that currently exist.
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        new ArrayList<>(segments).forEach(this::deleteSegment);
+        currentSegment = null;
+        try (DirectoryStream<Path> remaining = Files.newDirectoryStream(directory, "*" + SEGMENT_FILE_SUFFIX)) {
+            for (Path path : remaining) {
+                Files.deleteIfExists(path);
+            }
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to delete buffer segments in {}", directory, e);
+        }
+    }
+
+    private void rollSegment(int minimumSize) {
+        final Segment previous = currentSegment;
+        final Path path = directory.resolve(String.format("%020d%s", nextSegmentId++, SEGMENT_FILE_SUFFIX));
+        final int size = Math.max(segmentSize, minimumSize);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the mapping remains valid after the channel has been closed
+            currentSegment = new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            segments.add(currentSegment);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to create buffer segment " + path, e);
+        }
+        LOGGER.debug("Started buffer segment {} of {} bytes", path, size);
+
+        if (previous != null && previous.transactions == 0) {
+            deleteSegment(previous);
+        }
+    }
+
+    private void deleteSegment(Segment segment) {
+        segments.remove(segment);
+        unmap(segment);
+        try {
+            Files.deleteIfExists(segment.path);
+            LOGGER.debug("Deleted buffer segment {}", segment.path);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to delete buffer segment {}", segment.path, e);
+        }
+    }
+
+    private static void unmap(Segment segment) {
+        final MappedByteBuffer buffer = segment.buffer;
+        // the segment must not be read after the mapping has been released
+        segment.buffer = null;
+        if (buffer == null || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        }
+        catch (Exception e) {
+            LOGGER.warn("Failed to unmap buffer segment {}", segment.path, e);
+        }
+    }
+
+    /**
+     * A single memory-mapped segment file.
+     */
+    static final class Segment {
+
+        private final Path path;
+        private MappedByteBuffer buffer;
+        private int position;
+        private int transactions;
+
+        private Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        boolean isDeleted() {
+            return buffer == null;
+        }
+    }
+
+    /**
+     * The location of a single serialized event within a segment.
+     */
+    public static final class EventLocation {
+
+        private final Segment segment;
+        private final int offset;
+        private final int length;
+
+        private EventLocation(Segment segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        Segment getSegment() {
+            return segment;
+        }
+    }
+}
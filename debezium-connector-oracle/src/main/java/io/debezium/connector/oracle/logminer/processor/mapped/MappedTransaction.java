@@ -0,0 +1,117 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.mapped;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.processor.mapped.MappedSegmentStore.EventLocation;
+import io.debezium.connector.oracle.logminer.processor.mapped.MappedSegmentStore.Segment;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+
+/**
+ * A {@link MemoryTransaction} whose events are stored in memory-mapped segment files. Only the location
+ * and row id of each event are kept on the JVM heap.
+ */
+public class MappedTransaction extends MemoryTransaction {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedTransaction.class);
+
+    private final MappedSegmentStore store;
+    private final List<EventLocation> locations = new ArrayList<>();
+    private final List<String> rowIds = new ArrayList<>();
+    private final List<Segment> segments = new ArrayList<>();
+
+    public MappedTransaction(String transactionId, Scn startScn, Instant changeTime, String userName, MappedSegmentStore store) {
+        super(transactionId, startScn, changeTime, userName);
+        this.store = store;
+    }
+
+    /**
+     * Returns the events of this transaction read back from the buffer segments. The returned list is a snapshot of
+     * the events, events are added and removed through {@link #addEvent(LogMinerEvent)} and
+     * {@link #removeEventWithRowId(String)}.
+     */
+    @Override
+    public List<LogMinerEvent> getEvents() {
+        final List<LogMinerEvent> events = new ArrayList<>(locations.size());
+        getEventIterator().forEachRemaining(events::add);
+        return Collections.unmodifiableList(events);
+    }
+
+    @Override
+    public void addEvent(LogMinerEvent event) {
+        final EventLocation location = store.append(event);
+        // events are appended in order, so a segment not seen last has not been used by this transaction yet
+        if (segments.isEmpty() || segments.get(segments.size() - 1) != location.getSegment()) {
+            store.retain(location.getSegment());
+            segments.add(location.getSegment());
+        }
+        locations.add(location);
+        rowIds.add(event.getRowId());
+    }
+
+    @Override
+    public int getEventCount() {
+        return locations.size();
+    }
+
+    @Override
+    public Iterator<LogMinerEvent> getEventIterator() {
+        final Iterator<EventLocation> iterator = locations.iterator();
+        return new Iterator<LogMinerEvent>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public LogMinerEvent next() {
+                return store.read(iterator.next());
+            }
+        };
+    }
+
+    @Override
+    public boolean removeEventWithRowId(String rowId) {
+        boolean removed = false;
+        for (int i = rowIds.size() - 1; i >= 0; i--) {
+            if (rowIds.get(i).equals(rowId)) {
+                LOGGER.trace("Undo applied for event at index {} of transaction {}.", i, getTransactionId());
+                rowIds.remove(i);
+                locations.remove(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Releases the segments holding the events of this transaction; the events can no longer be read afterwards.
+     */
+    public void release() {
+        segments.forEach(store::release);
+        segments.clear();
+        locations.clear();
+        rowIds.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedTransaction{" +
+                "numberOfEvents=" + getNumberOfEvents() +
+                ", segments=" + segments.size() +
+                "} " + super.toString();
+    }
+}
@@ -128,6 +128,7 @@ protected void removeEventWithRowId(LogMinerEventRow row) {
     @Override
     public void close() throws Exception {
         // close any resources used here
+        super.close();
     }
 
     @Override
@@ -151,6 +152,7 @@ public void abandonTransactions(Duration retention) throws InterruptedException
                             LOGGER.warn("Transaction {} is being abandoned.", entry.getKey());
                             abandonedTransactionsCache.add(entry.getKey());
                             iterator.remove();
+                            releaseTransaction(entry.getValue());
 
                             metrics.addAbandonedTransactionId(entry.getKey());
                             metrics.setActiveTransactions(transactionCache.size());
@@ -186,11 +188,12 @@ protected MemoryTransaction getAndRemoveTransactionFromCache(String transactionI
     @Override
     protected void removeTransactionAndEventsFromCache(MemoryTransaction transaction) {
         abandonedTransactionsCache.remove(transaction.getTransactionId());
+        releaseTransaction(transaction);
     }
 
     @Override
     protected Iterator<LogMinerEvent> getTransactionEventIterator(MemoryTransaction transaction) {
-        return transaction.getEvents().iterator();
+        return transaction.getEventIterator();
     }
 
     @Override
@@ -203,7 +206,10 @@ protected void finalizeTransactionCommit(String transactionId, Scn commitScn) {
 
     @Override
     protected void finalizeTransactionRollback(String transactionId, Scn rollbackScn) {
-        transactionCache.remove(transactionId);
+        final MemoryTransaction transaction = transactionCache.remove(transactionId);
+        if (transaction != null) {
+            releaseTransaction(transaction);
+        }
         abandonedTransactionsCache.remove(transactionId);
         recentlyProcessedTransactionsCache.put(transactionId, rollbackScn);
     }
@@ -236,10 +242,10 @@ protected void addToTransaction(String transactionId, LogMinerEventRow row, Supp
             }
 
             int eventId = transaction.getNextEventId();
-            if (transaction.getEvents().size() <= eventId) {
+            if (transaction.getEventCount() <= eventId) {
                 // Add new event at eventId offset
                 LOGGER.trace("Transaction {}, adding event reference at index {}", transactionId, eventId);
-                transaction.getEvents().add(eventSupplier.get());
+                transaction.addEvent(eventSupplier.get());
                 metrics.calculateLagMetrics(row.getChangeTime());
             }
 
@@ -255,7 +261,7 @@ else if (!getConfig().isLobEnabled()) {
 
     @Override
     protected int getTransactionEventCount(MemoryTransaction transaction) {
-        return transaction.getEvents().size();
+        return transaction.getEventCount();
     }
 
     @Override
@@ -337,6 +343,17 @@ protected Optional<Scn> getLastScnToAbandon(OracleConnection connection, Scn off
     protected void abandonTransactionOverEventThreshold(MemoryTransaction transaction) {
         super.abandonTransactionOverEventThreshold(transaction);
         abandonedTransactionsCache.add(transaction.getTransactionId());
+        releaseTransaction(transaction);
+    }
+
+    /**
+     * Releases the resources held by the buffered events of a transaction that is no longer tracked, because
+     * it has been committed, rolled back or abandoned.
+     *
+     * @param transaction the transaction, never {@code null}
+     */
+    protected void releaseTransaction(MemoryTransaction transaction) {
+        // events buffered on the heap are reclaimed by the garbage collector
     }
 
     @Override
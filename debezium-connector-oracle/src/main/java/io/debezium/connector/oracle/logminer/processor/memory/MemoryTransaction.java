@@ -7,6 +7,7 @@
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -53,6 +54,18 @@ public List<LogMinerEvent> getEvents() {
         return events;
     }
 
+    public void addEvent(LogMinerEvent event) {
+        events.add(event);
+    }
+
+    public int getEventCount() {
+        return events.size();
+    }
+
+    public Iterator<LogMinerEvent> getEventIterator() {
+        return events.iterator();
+    }
+
     public boolean removeEventWithRowId(String rowId) {
         return events.removeIf(event -> {
             if (event.getRowId().equals(rowId)) {
@@ -14,9 +14,14 @@
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
@@ -52,6 +57,7 @@
 import io.debezium.relational.TableId;
 import io.debezium.schema.SchemaTopicNamingStrategy;
 import io.debezium.spi.topic.TopicNamingStrategy;
+import io.debezium.util.HexConverter;
 import io.debezium.util.SchemaNameAdjuster;
 
 /**
@@ -271,6 +277,65 @@ public void testAbandonTransactionHavingAnotherOne() throws Exception {
         }
     }
 
+    @Test
+    public void testPipelinedProcessingOfResults() throws Exception {
+        final OracleConnectorConfig config = new OracleConnectorConfig(getConfig()
+                .with(OracleConnectorConfig.LOG_MINING_PARSER_THREADS, 2)
+                .with(OracleConnectorConfig.LOG_MINING_PARSER_QUEUE_SIZE, 2)
+                .build());
+        final OraclePartition partition = new OraclePartition(config.getLogicalName(), config.getDatabaseName());
+        Mockito.when(offsetContext.getSnapshotScn()).thenReturn(Scn.NULL);
+
+        final ResultSet resultSet = createResultSet(
+                getResultSetRow(1L, TRANSACTION_ID_1, EventType.START),
+                getResultSetRow(2L, TRANSACTION_ID_1, EventType.INSERT),
+                getResultSetRow(3L, TRANSACTION_ID_2, EventType.START),
+                getResultSetRow(4L, TRANSACTION_ID_2, EventType.INSERT),
+                getResultSetRow(5L, TRANSACTION_ID_2, EventType.INSERT),
+                getResultSetRow(6L, TRANSACTION_ID_2, EventType.COMMIT));
+
+        try (T processor = getProcessor(config)) {
+            processor.processResults(partition, resultSet);
+
+            // the rows are processed in result set order, so only the second transaction has been committed
+            assertThat(processor.counters.rows).isEqualTo(6);
+            assertThat(processor.counters.insertCount).isEqualTo(3);
+            assertThat(processor.getTransactionCache().get(TRANSACTION_ID_1)).isNotNull();
+            assertThat(processor.getTransactionCache().get(TRANSACTION_ID_2)).isNull();
+            Mockito.verify(dispatcher, Mockito.times(2)).dispatchDataChangeEvent(any(), any(), any());
+        }
+    }
+
+    @SafeVarargs
+    private ResultSet createResultSet(Map<Integer, Object>... rows) throws Exception {
+        final AtomicInteger index = new AtomicInteger(-1);
+        final ResultSet rs = Mockito.mock(ResultSet.class);
+        Mockito.when(rs.next()).thenAnswer(invocation -> index.incrementAndGet() < rows.length);
+        Mockito.when(rs.getString(Mockito.anyInt())).thenAnswer(invocation -> rows[index.get()].get(invocation.<Integer> getArgument(0)));
+        Mockito.when(rs.getBytes(Mockito.anyInt())).thenAnswer(invocation -> rows[index.get()].get(invocation.<Integer> getArgument(0)));
+        Mockito.when(rs.getInt(Mockito.anyInt())).thenAnswer(invocation -> rows[index.get()].getOrDefault(invocation.<Integer> getArgument(0), 0));
+        Mockito.when(rs.getTimestamp(Mockito.anyInt(), any(Calendar.class))).thenReturn(Timestamp.from(Instant.now()));
+        return rs;
+    }
+
+    private Map<Integer, Object> getResultSetRow(long scn, String transactionId, EventType eventType) {
+        // the columns of the LogMiner query, see LogMinerEventRow
+        final Map<Integer, Object> row = new HashMap<>();
+        row.put(1, String.valueOf(scn));
+        row.put(3, eventType.getValue());
+        row.put(5, HexConverter.convertFromHex(transactionId));
+        if (eventType == EventType.INSERT) {
+            row.put(2, "insert into \"DEBEZIUM\".\"TEST_TABLE\"(\"ID\",\"DATA\") values ('" + scn + "','Test');");
+            row.put(7, "TEST_TABLE");
+            row.put(8, "DEBEZIUM");
+            row.put(9, "INSERT");
+            row.put(10, TestHelper.SCHEMA_USER);
+            row.put(11, "AAAAAAAAAAAAAAAAA" + scn);
+            row.put(13, "A.B.C");
+        }
+        return row;
+    }
+
     private OracleDatabaseSchema createOracleDatabaseSchema() throws Exception {
         final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(getConfig().build());
         final TopicNamingStrategy topicNamingStrategy = SchemaTopicNamingStrategy.create(connectorConfig);
@@ -0,0 +1,161 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.mapped;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.processor.mapped.MappedSegmentStore.EventLocation;
+import io.debezium.connector.oracle.logminer.processor.mapped.MappedSegmentStore.Segment;
+import io.debezium.relational.TableId;
+import io.debezium.util.Testing;
+
+/**
+ * Unit tests for the segment handling of the memory-mapped buffer type.
+ */
+public class MappedSegmentStoreTest {
+
+    private static final int SEGMENT_SIZE = 512;
+    private static final TableId TABLE_ID = new TableId("ORCLPDB1", "DEBEZIUM", "TEST");
+
+    private Path directory;
+    private MappedSegmentStore store;
+
+    @Before
+    public void beforeEach() {
+        directory = Testing.Files.createTestingPath("mapped-buffer").toAbsolutePath();
+        Testing.Files.delete(directory.toString());
+        store = new MappedSegmentStore(directory, SEGMENT_SIZE);
+    }
+
+    @After
+    public void afterEach() {
+        store.close();
+        Testing.Files.delete(directory.toString());
+    }
+
+    @Test
+    public void shouldReadBackEventsSpanningSeveralSegments() throws Exception {
+        final MappedTransaction transaction = createTransaction("1");
+        final List<LogMinerEvent> events = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final LogMinerEvent event = createEvent(i);
+            events.add(event);
+            transaction.addEvent(event);
+        }
+
+        assertThat(store.getSegmentCount()).isGreaterThan(1);
+        assertThat(segmentFiles()).isEqualTo(store.getSegmentCount());
+        assertThat(transaction.getEventCount()).isEqualTo(50);
+        assertThat(transaction.getEvents()).isEqualTo(events);
+    }
+
+    @Test
+    public void shouldRemoveEventsWithRowId() {
+        final MappedTransaction transaction = createTransaction("1");
+        transaction.addEvent(createEvent(1));
+        transaction.addEvent(createEvent(2));
+        transaction.addEvent(createEvent(3));
+
+        assertThat(transaction.removeEventWithRowId("AAAAAAAAAAAAAAAAA2")).isTrue();
+        assertThat(transaction.removeEventWithRowId("AAAAAAAAAAAAAAAAA4")).isFalse();
+        assertThat(transaction.getEvents()).containsExactly(createEvent(1), createEvent(3));
+    }
+
+    @Test
+    public void shouldDeleteSegmentOnceReleasedByAllTransactions() throws Exception {
+        final MappedTransaction first = createTransaction("1");
+        final MappedTransaction second = createTransaction("2");
+        first.addEvent(createEvent(1));
+        second.addEvent(createEvent(2));
+        fillSegments(second, 2);
+        assertThat(store.getSegmentCount()).isEqualTo(2);
+
+        // the first segment is still referenced by the second transaction
+        first.release();
+        assertThat(store.getSegmentCount()).isEqualTo(2);
+        assertThat(second.getEvents().get(0)).isEqualTo(createEvent(2));
+
+        // the current segment is kept for new events, the first one is deleted
+        second.release();
+        assertThat(store.getSegmentCount()).isEqualTo(1);
+        assertThat(segmentFiles()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDeleteUnreferencedSegmentOnRollover() throws Exception {
+        final Segment segment = store.append(createEvent(1)).getSegment();
+        for (int i = 2; !segment.isDeleted(); i++) {
+            assertThat(i).isLessThan(1000);
+            store.append(createEvent(i));
+        }
+
+        assertThat(store.getSegmentCount()).isEqualTo(1);
+        assertThat(segmentFiles()).isEqualTo(1);
+    }
+
+    @Test(expected = DebeziumException.class)
+    public void shouldNotReadEventOfDeletedSegment() {
+        final EventLocation location = store.append(createEvent(1));
+        store.retain(location.getSegment());
+        for (int i = 2; store.getSegmentCount() < 2; i++) {
+            store.append(createEvent(i));
+        }
+
+        store.release(location.getSegment());
+        assertThat(location.getSegment().isDeleted()).isTrue();
+
+        store.read(location);
+    }
+
+    @Test
+    public void shouldDeleteAllSegmentsWhenClosed() throws Exception {
+        final MappedTransaction transaction = createTransaction("1");
+        fillSegments(transaction, 3);
+        assertThat(segmentFiles()).isEqualTo(3);
+
+        store.close();
+
+        assertThat(store.getSegmentCount()).isEqualTo(0);
+        assertThat(segmentFiles()).isEqualTo(0);
+    }
+
+    private MappedTransaction createTransaction(String transactionId) {
+        return new MappedTransaction(transactionId, Scn.valueOf(1), Instant.now(), "DEBEZIUM", store);
+    }
+
+    private LogMinerEvent createEvent(int index) {
+        return new LogMinerEvent(EventType.INSERT, Scn.valueOf(1000 + index), TABLE_ID, "AAAAAAAAAAAAAAAAA" + index, "0x000001",
+                Instant.ofEpochSecond(index));
+    }
+
+    private void fillSegments(MappedTransaction transaction, int segmentCount) {
+        for (int i = 100; store.getSegmentCount() < segmentCount; i++) {
+            transaction.addEvent(createEvent(i));
+        }
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".segment")).count();
+        }
+    }
+}
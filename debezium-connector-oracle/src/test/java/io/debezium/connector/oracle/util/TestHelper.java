@@ -141,7 +141,10 @@ public static Configuration.Builder defaultConfig() {
 
             final String bufferTypeName = System.getProperty(OracleConnectorConfig.LOG_MINING_BUFFER_TYPE.name());
             final LogMiningBufferType bufferType = LogMiningBufferType.parse(bufferTypeName);
-            if (bufferType.isInfinispan()) {
+            if (LogMiningBufferType.MEMORY_MAPPED.equals(bufferType)) {
+                builder.with(OracleConnectorConfig.LOG_MINING_BUFFER_TYPE, bufferType);
+            }
+            else if (bufferType.isInfinispan()) {
                 builder.with(OracleConnectorConfig.LOG_MINING_BUFFER_TYPE, bufferType);
                 withDefaultInfinispanCacheConfigurations(bufferType, builder);
                 if (!bufferType.isInfinispanEmbedded()) {
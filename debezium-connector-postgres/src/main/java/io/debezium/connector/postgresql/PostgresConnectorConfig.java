@@ -6,6 +6,8 @@
 
 package io.debezium.connector.postgresql;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
@@ -469,6 +471,7 @@ public static SchemaRefreshMode parse(String value) {
     protected static final int DEFAULT_PORT = 5_432;
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 10_240;
     protected static final int DEFAULT_MAX_RETRIES = 6;
+    protected static final long DEFAULT_PGOUTPUT_STREAMING_BUFFER_SIZE = 64 * 1024 * 1024;
 
     public static final Field PORT = RelationalDatabaseConnectorConfig.PORT
             .withDefault(DEFAULT_PORT);
@@ -596,6 +599,52 @@ public static AutoCreateMode parse(String value, String defaultValue) {
                             "the current filter configuration (see table/database include/exclude list properties). If the publication already" +
                             " exists, it will be used. i.e CREATE PUBLICATION <publication_name> FOR TABLE <tbl1, tbl2, etc>");
 
+    public static final Field PGOUTPUT_BINARY = Field.create("pgoutput.binary")
+            .withDisplayName("Receive pgoutput column values in binary format")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 10))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("Applies only when streaming changes using pgoutput from PostgreSQL 14 or later. " +
+                    "Whether column values are requested in the binary format of their type rather than as text, " +
+                    "which reduces the CPU needed to encode and decode them. " +
+                    "Values of types that have no binary format are still received as text.");
+
+    public static final Field PGOUTPUT_STREAMING = Field.create("pgoutput.streaming")
+            .withDisplayName("Stream in-progress transactions with pgoutput")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 11))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("Applies only when streaming changes using pgoutput from PostgreSQL 14 or later. " +
+                    "Whether the server streams the changes of large in-progress transactions to the connector rather than " +
+                    "spilling them to disk on the server until they are committed. The connector buffers the changes " +
+                    "and emits them once the transaction is committed.");
+
+    public static final Field PGOUTPUT_STREAMING_BUFFER_SIZE = Field.create("pgoutput.streaming.buffer.size.bytes")
+            .withDisplayName("Buffer size for streamed transactions")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 12))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_PGOUTPUT_STREAMING_BUFFER_SIZE)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("Applies only when '" + PGOUTPUT_STREAMING.name() + "' is enabled. " +
+                    "The maximum number of bytes of in-progress transactions that are buffered in memory. " +
+                    "Once exceeded, the changes of a transaction are spilled to a file in the spill directory.");
+
+    public static final Field PGOUTPUT_STREAMING_SPILL_DIRECTORY = Field.create("pgoutput.streaming.spill.directory")
+            .withDisplayName("Spill directory for streamed transactions")
+            .withType(Type.STRING)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 13))
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("Applies only when '" + PGOUTPUT_STREAMING.name() + "' is enabled. " +
+                    "The directory to which the changes of in-progress transactions are spilled once the buffer size is exceeded. " +
+                    "Defaults to a directory within the temporary directory of the JVM.");
+
     public static final Field STREAM_PARAMS = Field.create("slot.stream.params")
             .withDisplayName("Optional parameters to pass to the logical decoder when the stream is started.")
             .withType(Type.STRING)
@@ -903,6 +952,26 @@ protected AutoCreateMode publicationAutocreateMode() {
         return AutoCreateMode.parse(getConfig().getString(PUBLICATION_AUTOCREATE_MODE));
     }
 
+    public boolean pgoutputBinary() {
+        return getConfig().getBoolean(PGOUTPUT_BINARY);
+    }
+
+    public boolean pgoutputStreaming() {
+        return getConfig().getBoolean(PGOUTPUT_STREAMING);
+    }
+
+    public long pgoutputStreamingBufferSize() {
+        return getConfig().getLong(PGOUTPUT_STREAMING_BUFFER_SIZE);
+    }
+
+    public Path pgoutputStreamingSpillDirectory() {
+        final String directory = getConfig().getString(PGOUTPUT_STREAMING_SPILL_DIRECTORY);
+        if (directory != null) {
+            return Paths.get(directory);
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), "debezium-pgoutput-streaming", getLogicalName());
+    }
+
     protected String streamParams() {
         return getConfig().getString(STREAM_PARAMS);
     }
@@ -960,7 +1029,7 @@ public byte[] getUnavailableValuePlaceholder() {
         return placeholder.getBytes();
     }
 
-    protected int moneyFractionDigits() {
+    public int moneyFractionDigits() {
         return getConfig().getInteger(MONEY_FRACTION_DIGITS);
     }
 
@@ -982,6 +1051,10 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
                     SLOT_NAME,
                     PUBLICATION_NAME,
                     PUBLICATION_AUTOCREATE_MODE,
+                    PGOUTPUT_BINARY,
+                    PGOUTPUT_STREAMING,
+                    PGOUTPUT_STREAMING_BUFFER_SIZE,
+                    PGOUTPUT_STREAMING_SPILL_DIRECTORY,
                     DROP_SLOT_ON_STOP,
                     STREAM_PARAMS,
                     ON_CONNECT_STATEMENTS,
@@ -1008,6 +1081,8 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
                     INTERVAL_HANDLING_MODE,
                     SCHEMA_REFRESH_MODE,
                     INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
+                    INCREMENTAL_SNAPSHOT_CHUNKS_PER_WINDOW,
+                    INCREMENTAL_SNAPSHOT_MAX_THREADS,
                     UNAVAILABLE_VALUE_PLACEHOLDER,
                     LOGICAL_DECODING_MESSAGE_PREFIX_INCLUDE_LIST,
                     LOGICAL_DECODING_MESSAGE_PREFIX_EXCLUDE_LIST)
@@ -161,6 +161,7 @@ public ChangeEventSourceCoordinator<PostgresPartition, PostgresOffsetContext> st
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
                     .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .queueMode(connectorConfig.getQueueMode())
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
 
@@ -12,6 +12,7 @@
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,6 +21,7 @@
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
 import io.debezium.connector.postgresql.spi.SlotState;
 import io.debezium.connector.postgresql.spi.Snapshotter;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
@@ -38,6 +40,7 @@ public class PostgresSnapshotChangeEventSource extends RelationalSnapshotChangeE
     private final Snapshotter snapshotter;
     private final SlotCreationResult slotCreatedInfo;
     private final SlotState startingSlotInfo;
+    private String exportedSnapshotId;
 
     public PostgresSnapshotChangeEventSource(PostgresConnectorConfig connectorConfig, Snapshotter snapshotter,
                                              PostgresConnection jdbcConnection, PostgresSchema schema, EventDispatcher<PostgresPartition, TableId> dispatcher,
@@ -91,6 +94,27 @@ protected void connectionCreated(RelationalSnapshotContext<PostgresPartition, Po
         schema.refresh(jdbcConnection, false);
     }
 
+    @Override
+    protected Optional<JdbcConnection> createSnapshotChunkConnection(RelationalSnapshotContext<PostgresPartition, PostgresOffsetContext> snapshotContext)
+            throws SQLException {
+        if (exportedSnapshotId == null) {
+            // the exported snapshot stays valid as long as the snapshot transaction is open
+            exportedSnapshotId = jdbcConnection.queryAndMap("SELECT pg_export_snapshot()", rs -> rs.next() ? rs.getString(1) : null);
+            LOGGER.info("Exported snapshot '{}' for reading primary key ranges of large tables", exportedSnapshotId);
+        }
+        final PostgresConnection chunkConnection = new PostgresConnection(connectorConfig.getJdbcConfig(), PostgresConnection.CONNECTION_GENERAL);
+        chunkConnection.setAutoCommit(false);
+        chunkConnection.executeWithoutCommitting(
+                "SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY",
+                "SET TRANSACTION SNAPSHOT '" + exportedSnapshotId + "'");
+        return Optional.of(chunkConnection);
+    }
+
+    @Override
+    protected Class<? extends SourceConnector> getConnectorClass() {
+        return PostgresConnector.class;
+    }
+
     @Override
     protected Set<TableId> getAllTableIds(RelationalSnapshotContext<PostgresPartition, PostgresOffsetContext> ctx)
             throws Exception {
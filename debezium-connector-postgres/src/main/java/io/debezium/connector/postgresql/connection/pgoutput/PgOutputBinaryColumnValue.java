@@ -0,0 +1,537 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.UUID;
+
+import org.postgresql.geometric.PGbox;
+import org.postgresql.geometric.PGcircle;
+import org.postgresql.geometric.PGline;
+import org.postgresql.geometric.PGlseg;
+import org.postgresql.geometric.PGpath;
+import org.postgresql.geometric.PGpoint;
+import org.postgresql.geometric.PGpolygon;
+import org.postgresql.jdbc.PgArray;
+import org.postgresql.util.PGInterval;
+import org.postgresql.util.PGmoney;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.util.Collect;
+
+/**
+ * A binary-format column value of the pgoutput plug-in, as sent by PostgreSQL 14 and later when the {@code binary}
+ * option is enabled. The value is decoded from the binary representation written by the send function of its type.
+ * Types whose binary representation is their text (e.g. {@code text}, {@code json} or enums) are decoded as text.
+ * Only the types for which {@link #isSupported(PostgresType)} returns {@code true} can be decoded; the connector
+ * receives the values as text if captured tables have columns of other types.
+ */
+public class PgOutputBinaryColumnValue extends PgOutputColumnValue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PgOutputBinaryColumnValue.class);
+
+    private static final long PG_EPOCH_SECONDS = 946_684_800L;
+    private static final long PG_EPOCH_DAY = 10_957L;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long MICROS_PER_MINUTE = 60 * MICROS_PER_SECOND;
+    private static final long MICROS_PER_HOUR = 60 * MICROS_PER_MINUTE;
+    private static final long MICROS_PER_DAY = 24 * MICROS_PER_HOUR;
+
+    private static final int NUMERIC_NEGATIVE = 0x4000;
+    private static final int NUMERIC_NAN = 0xC000;
+    private static final int NUMERIC_POSITIVE_INFINITY = 0xD000;
+    private static final int NUMERIC_NEGATIVE_INFINITY = 0xF000;
+    private static final BigInteger NUMERIC_BASE = BigInteger.valueOf(10_000);
+
+    private static final byte INET_FAMILY_IPV4 = 2;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final Set<String> SUPPORTED_TYPES = Collect.unmodifiableSet("bool", "int2", "int4", "int8", "oid", "float4", "float8",
+            "numeric", "money", "date", "time", "timetz", "timestamp", "timestamptz", "interval", "text", "varchar", "bpchar", "char", "name",
+            "json", "jsonb", "xml", "citext", "uuid", "bytea", "bit", "varbit", "macaddr", "macaddr8", "inet", "cidr", "box", "circle",
+            "line", "lseg", "path", "point", "polygon", "geometry", "geography", "hstore", "ltree");
+
+    /**
+     * The element types of arrays that the JDBC driver can decode from the binary format.
+     */
+    private static final Set<String> SUPPORTED_ARRAY_ELEMENT_TYPES = Collect.unmodifiableSet("int2", "int4", "int8", "float4", "float8",
+            "text", "varchar");
+
+    private final PostgresType type;
+    private final int moneyFractionDigits;
+
+    /**
+     * @param type the root type of the column
+     * @param moneyFractionDigits the number of fraction digits of {@code money} values
+     */
+    public PgOutputBinaryColumnValue(byte[] data, int offset, int length, PostgresType type, int moneyFractionDigits) {
+        super(data, offset, length);
+        this.type = type;
+        this.moneyFractionDigits = moneyFractionDigits;
+    }
+
+    /**
+     * Reads a value of the given length starting at the current position of the buffer and advances the
+     * position past the value. The bytes are not copied if the buffer is backed by an array.
+     */
+    public static PgOutputBinaryColumnValue read(ByteBuffer buffer, int length, PostgresType type, int moneyFractionDigits) {
+        return read(buffer, length, (data, offset, valueLength) -> new PgOutputBinaryColumnValue(data, offset, valueLength, type, moneyFractionDigits));
+    }
+
+    /**
+     * Whether values of the given type can be decoded from the binary format of pgoutput.
+     *
+     * @param type the type of a column
+     * @return {@code true} if the values of the type can be decoded, {@code false} if they must be received as text
+     */
+    public static boolean isSupported(PostgresType type) {
+        final PostgresType rootType = type.getRootType();
+        if (rootType.isArrayType()) {
+            return rootType.getElementType() != null && SUPPORTED_ARRAY_ELEMENT_TYPES.contains(rootType.getElementType().getName());
+        }
+        return rootType.isEnumType() || SUPPORTED_TYPES.contains(rootType.getName());
+    }
+
+    @Override
+    public String asString() {
+        if (type.isEnumType()) {
+            return super.asString();
+        }
+        switch (type.getName()) {
+            case "text":
+            case "varchar":
+            case "bpchar":
+            case "char":
+            case "name":
+            case "json":
+            case "xml":
+            case "citext":
+                return super.asString();
+            case "jsonb":
+            case "ltree":
+                final ByteBuffer versioned = bytes();
+                // skips the version of the jsonb or ltree format
+                versioned.get();
+                return StandardCharsets.UTF_8.decode(versioned).toString();
+            case "bool":
+                return asBoolean() ? "t" : "f";
+            case "int2":
+            case "int4":
+                return String.valueOf(asInteger());
+            case "int8":
+            case "oid":
+                return String.valueOf(asLong());
+            case "float4":
+                return String.valueOf(asFloat());
+            case "float8":
+                return String.valueOf(asDouble());
+            case "numeric":
+                return asDecimal().toString();
+            case "time":
+                return formatTime(bytes().getLong());
+            case "uuid":
+                final ByteBuffer uuid = bytes();
+                return new UUID(uuid.getLong(), uuid.getLong()).toString();
+            case "bytea":
+                return "\\x" + toHex(bytes(), "");
+            case "bit":
+            case "varbit":
+                return formatBits();
+            case "macaddr":
+            case "macaddr8":
+                return toHex(bytes(), ":");
+            case "inet":
+            case "cidr":
+                return formatInet();
+            case "geometry":
+            case "geography":
+                // PostGIS sends the EWKB, its text representation is the same in hex
+                return toHex(bytes(), "").toUpperCase();
+            case "hstore":
+                return formatHstore();
+            default:
+                throw unsupported();
+        }
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return bytes().get() != 0;
+    }
+
+    @Override
+    public Integer asInteger() {
+        final ByteBuffer bytes = bytes();
+        return bytes.remaining() == Short.BYTES ? bytes.getShort() : bytes.getInt();
+    }
+
+    @Override
+    public Long asLong() {
+        final ByteBuffer bytes = bytes();
+        // oid is an unsigned 4 byte integer
+        return bytes.remaining() == Integer.BYTES ? Integer.toUnsignedLong(bytes.getInt()) : bytes.getLong();
+    }
+
+    @Override
+    public Float asFloat() {
+        return bytes().getFloat();
+    }
+
+    @Override
+    public Double asDouble() {
+        return bytes().getDouble();
+    }
+
+    @Override
+    public SpecialValueDecimal asDecimal() {
+        final ByteBuffer bytes = bytes();
+        final int digitCount = bytes.getShort();
+        final int weight = bytes.getShort();
+        final int sign = bytes.getShort() & 0xFFFF;
+        final int scale = bytes.getShort() & 0xFFFF;
+        switch (sign) {
+            case NUMERIC_NAN:
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_POSITIVE_INFINITY:
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NEGATIVE_INFINITY:
+                return SpecialValueDecimal.NEGATIVE_INF;
+            default:
+                break;
+        }
+
+        // the digits are in base 10000, the first one having the given weight
+        final int exponent = 4 * (weight - digitCount + 1);
+        BigDecimal value;
+        if (digitCount <= 4) {
+            long unscaled = 0;
+            for (int i = 0; i < digitCount; i++) {
+                unscaled = unscaled * 10_000 + bytes.getShort();
+            }
+            value = BigDecimal.valueOf(unscaled, -exponent);
+        }
+        else {
+            BigInteger unscaled = BigInteger.ZERO;
+            for (int i = 0; i < digitCount; i++) {
+                unscaled = unscaled.multiply(NUMERIC_BASE).add(BigInteger.valueOf(bytes.getShort()));
+            }
+            value = new BigDecimal(unscaled, -exponent);
+        }
+        value = value.setScale(scale);
+        return new SpecialValueDecimal(sign == NUMERIC_NEGATIVE ? value.negate() : value);
+    }
+
+    @Override
+    public LocalDate asLocalDate() {
+        final int days = bytes().getInt();
+        if (days == Integer.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_LOCAL_DATE;
+        }
+        else if (days == Integer.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_LOCAL_DATE;
+        }
+        return LocalDate.ofEpochDay(PG_EPOCH_DAY + days);
+    }
+
+    @Override
+    public Instant asInstant() {
+        final long micros = bytes().getLong();
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_INSTANT;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_INSTANT;
+        }
+        return toInstant(micros);
+    }
+
+    @Override
+    public OffsetDateTime asOffsetDateTimeAtUtc() {
+        final long micros = bytes().getLong();
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        return OffsetDateTime.ofInstant(toInstant(micros), ZoneOffset.UTC);
+    }
+
+    @Override
+    public Object asTime() {
+        return asString();
+    }
+
+    @Override
+    public Object asLocalTime() {
+        final long micros = bytes().getLong();
+        if (micros >= MICROS_PER_DAY) {
+            // 24:00:00 is handled the same way as its text representation
+            return super.asLocalTime();
+        }
+        return LocalTime.ofNanoOfDay(micros * 1_000);
+    }
+
+    @Override
+    public OffsetTime asOffsetTimeUtc() {
+        final ByteBuffer bytes = bytes();
+        final LocalTime time = LocalTime.ofNanoOfDay(bytes.getLong() % MICROS_PER_DAY * 1_000);
+        // the zone is given in seconds west of UTC
+        final ZoneOffset offset = ZoneOffset.ofTotalSeconds(-bytes.getInt());
+        return OffsetTime.of(time, offset).withOffsetSameInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        return copyBytes();
+    }
+
+    @Override
+    public Object asInterval() {
+        final ByteBuffer bytes = bytes();
+        final long micros = bytes.getLong();
+        final int days = bytes.getInt();
+        final int months = bytes.getInt();
+        return new PGInterval(months / 12, months % 12, days, (int) (micros / MICROS_PER_HOUR), (int) (micros % MICROS_PER_HOUR / MICROS_PER_MINUTE),
+                (micros % MICROS_PER_MINUTE) / (double) MICROS_PER_SECOND);
+    }
+
+    @Override
+    public PGmoney asMoney() {
+        return new PGmoney(BigDecimal.valueOf(bytes().getLong(), moneyFractionDigits).doubleValue());
+    }
+
+    @Override
+    public PGpoint asPoint() {
+        return readPoint(bytes());
+    }
+
+    @Override
+    public PGbox asBox() {
+        final ByteBuffer bytes = bytes();
+        return new PGbox(bytes.getDouble(), bytes.getDouble(), bytes.getDouble(), bytes.getDouble());
+    }
+
+    @Override
+    public PGcircle asCircle() {
+        final ByteBuffer bytes = bytes();
+        return new PGcircle(bytes.getDouble(), bytes.getDouble(), bytes.getDouble());
+    }
+
+    @Override
+    public PGline asLine() {
+        final ByteBuffer bytes = bytes();
+        return new PGline(bytes.getDouble(), bytes.getDouble(), bytes.getDouble());
+    }
+
+    @Override
+    public PGlseg asLseg() {
+        final ByteBuffer bytes = bytes();
+        return new PGlseg(bytes.getDouble(), bytes.getDouble(), bytes.getDouble(), bytes.getDouble());
+    }
+
+    @Override
+    public PGpath asPath() {
+        final ByteBuffer bytes = bytes();
+        final boolean closed = bytes.get() != 0;
+        return new PGpath(readPoints(bytes), !closed);
+    }
+
+    @Override
+    public PGpolygon asPolygon() {
+        return new PGpolygon(readPoints(bytes()));
+    }
+
+    @Override
+    public Object asArray(String columnName, PostgresType type, String fullType, PgConnectionSupplier connection) {
+        try {
+            return new PgArray(connection.get(), type.getOid(), copyBytes());
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Unexpected exception trying to process PgArray ({}) column '{}', {}", fullType, columnName, e);
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return asString();
+        }
+        catch (DebeziumException e) {
+            return "\\x" + toHex(bytes(), "");
+        }
+    }
+
+    private DebeziumException unsupported() {
+        return new DebeziumException("Values of type '" + type.getName() + "' cannot be decoded from the binary format of pgoutput, "
+                + "consider disabling '" + PostgresConnectorConfig.PGOUTPUT_BINARY.name() + "'");
+    }
+
+    private static Instant toInstant(long micros) {
+        return Instant.ofEpochSecond(PG_EPOCH_SECONDS + Math.floorDiv(micros, MICROS_PER_SECOND), Math.floorMod(micros, MICROS_PER_SECOND) * 1_000);
+    }
+
+    private static String formatTime(long micros) {
+        final long fraction = micros % MICROS_PER_SECOND;
+        final String time = String.format("%02d:%02d:%02d", micros / MICROS_PER_HOUR, micros % MICROS_PER_HOUR / MICROS_PER_MINUTE,
+                micros % MICROS_PER_MINUTE / MICROS_PER_SECOND);
+        if (fraction == 0) {
+            return time;
+        }
+        // like the server, omits trailing zeros of the fraction
+        String digits = String.format("%06d", fraction);
+        int end = digits.length();
+        while (digits.charAt(end - 1) == '0') {
+            end--;
+        }
+        return time + "." + digits.substring(0, end);
+    }
+
+    private String formatBits() {
+        final ByteBuffer bytes = bytes();
+        final int bitCount = bytes.getInt();
+        final StringBuilder bits = new StringBuilder(bitCount);
+        for (int i = 0; i < bitCount; i++) {
+            bits.append((bytes.get(Integer.BYTES + i / 8) >> (7 - i % 8) & 1) == 1 ? '1' : '0');
+        }
+        return bits.toString();
+    }
+
+    private String formatHstore() {
+        final ByteBuffer bytes = bytes();
+        final int count = bytes.getInt();
+        final StringBuilder hstore = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                hstore.append(", ");
+            }
+            appendHstoreElement(hstore, bytes);
+            hstore.append("=>");
+            appendHstoreElement(hstore, bytes);
+        }
+        return hstore.toString();
+    }
+
+    private String formatInet() {
+        final ByteBuffer bytes = bytes();
+        final boolean ipv4 = bytes.get() == INET_FAMILY_IPV4;
+        final int bits = bytes.get() & 0xFF;
+        final boolean cidr = bytes.get() != 0;
+        final byte[] address = new byte[bytes.get()];
+        bytes.get(address);
+
+        final String text = ipv4 ? formatIpv4(address, 0) : formatIpv6(address);
+        // like the server, omits the netmask of inet values when it covers the whole address
+        return cidr || bits != address.length * 8 ? text + "/" + bits : text;
+    }
+
+    private static String formatIpv4(byte[] address, int offset) {
+        return (address[offset] & 0xFF) + "." + (address[offset + 1] & 0xFF) + "." + (address[offset + 2] & 0xFF) + "." + (address[offset + 3] & 0xFF);
+    }
+
+    private static String formatIpv6(byte[] address) {
+        final int[] words = new int[8];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = (address[2 * i] & 0xFF) << 8 | address[2 * i + 1] & 0xFF;
+        }
+
+        // the longest run of at least two zero words is compressed
+        int zerosStart = -1;
+        int zerosLength = 0;
+        for (int i = 0; i < words.length; i++) {
+            int length = 0;
+            while (i + length < words.length && words[i + length] == 0) {
+                length++;
+            }
+            if (length > zerosLength && length > 1) {
+                zerosStart = i;
+                zerosLength = length;
+            }
+            i += length;
+        }
+
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words.length; i++) {
+            if (i == zerosStart) {
+                text.append(i == 0 ? "::" : ":");
+                i += zerosLength - 1;
+                continue;
+            }
+            // IPv4-compatible and IPv4-mapped addresses end with the IPv4 address
+            if (i == 6 && zerosStart == 0 && (zerosLength == 6 || (zerosLength == 5 && words[5] == 0xFFFF))) {
+                text.append(formatIpv4(address, 12));
+                break;
+            }
+            text.append(Integer.toHexString(words[i]));
+            if (i < words.length - 1) {
+                text.append(':');
+            }
+        }
+        return text.toString();
+    }
+
+    private static void appendHstoreElement(StringBuilder hstore, ByteBuffer bytes) {
+        final int length = bytes.getInt();
+        if (length < 0) {
+            hstore.append("NULL");
+            return;
+        }
+        final byte[] element = new byte[length];
+        bytes.get(element);
+        hstore.append('"');
+        for (char c : new String(element, StandardCharsets.UTF_8).toCharArray()) {
+            if (c == '"' || c == '\\') {
+                hstore.append('\\');
+            }
+            hstore.append(c);
+        }
+        hstore.append('"');
+    }
+
+    private static String toHex(ByteBuffer bytes, String separator) {
+        final StringBuilder hex = new StringBuilder(bytes.remaining() * (2 + separator.length()));
+        while (bytes.hasRemaining()) {
+            final int b = bytes.get() & 0xFF;
+            hex.append(HEX_DIGITS[b >> 4]).append(HEX_DIGITS[b & 0xF]);
+            if (bytes.hasRemaining()) {
+                hex.append(separator);
+            }
+        }
+        return hex.toString();
+    }
+
+    private static PGpoint readPoint(ByteBuffer bytes) {
+        return new PGpoint(bytes.getDouble(), bytes.getDouble());
+    }
+
+    private static PGpoint[] readPoints(ByteBuffer bytes) {
+        final PGpoint[] points = new PGpoint[bytes.getInt()];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = readPoint(bytes);
+        }
+        return points;
+    }
+}
@@ -6,74 +6,298 @@
 package io.debezium.connector.postgresql.connection.pgoutput;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 
 import io.debezium.connector.postgresql.connection.AbstractColumnValue;
 import io.debezium.data.SpecialValueDecimal;
-import io.debezium.util.Strings;
 
 /**
+ * A text-format column value of the pgoutput plug-in. The value refers to the bytes of the replication
+ * message it was read from; numeric, boolean and timestamp values are parsed directly from these bytes,
+ * and the string representation is only created if it is actually requested.
+ * <p>
+ * Values which are not in the canonical form of their type as written by the server (e.g. infinite
+ * timestamps or numbers with an exponent) are parsed from their string representation.
+ *
  * @author Chris Cranford
  */
-class PgOutputColumnValue extends AbstractColumnValue<String> {
+public class PgOutputColumnValue extends AbstractColumnValue<String> {
+
+    /**
+     * The maximum number of digits that always fit into a {@code long}.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int[] NANOS_MULTIPLIERS = { 1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000 };
 
+    private final byte[] data;
+    private final int offset;
+    private final int length;
     private String value;
 
-    PgOutputColumnValue(String value) {
+    public PgOutputColumnValue(String value) {
         this.value = value;
+        this.data = value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+        this.offset = 0;
+        this.length = data != null ? data.length : 0;
+    }
+
+    /**
+     * @param data the buffer containing the value; must not be modified as long as the value is in use
+     * @param offset the index of the first byte of the value in the buffer
+     * @param length the number of bytes of the value
+     */
+    public PgOutputColumnValue(byte[] data, int offset, int length) {
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Reads a value of the given length starting at the current position of the buffer and advances the
+     * position past the value. The bytes are not copied if the buffer is backed by an array.
+     */
+    public static PgOutputColumnValue read(ByteBuffer buffer, int length) {
+        return read(buffer, length, PgOutputColumnValue::new);
+    }
+
+    static <T extends PgOutputColumnValue> T read(ByteBuffer buffer, int length, ValueFactory<T> factory) {
+        final T value;
+        if (buffer.hasArray()) {
+            value = factory.create(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.position() + length);
+        }
+        else {
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = factory.create(bytes, 0, length);
+        }
+        return value;
     }
 
     @Override
     public String getRawValue() {
-        return value;
+        return asString();
     }
 
     @Override
     public boolean isNull() {
-        return value == null;
+        return data == null;
     }
 
     @Override
     public String asString() {
+        if (value == null && data != null) {
+            value = new String(data, offset, length, StandardCharsets.UTF_8);
+        }
         return value;
     }
 
     @Override
     public Boolean asBoolean() {
-        return "t".equalsIgnoreCase(value);
+        return length == 1 && (data[offset] == 't' || data[offset] == 'T');
     }
 
     @Override
     public Integer asInteger() {
-        return Integer.valueOf(value);
+        final long result = parseLong();
+        // reports values out of range the same way as for the textual representation
+        return (int) result == result ? Integer.valueOf((int) result) : Integer.valueOf(asString());
     }
 
     @Override
     public Long asLong() {
-        return Long.valueOf(value);
+        return parseLong();
     }
 
     @Override
     public Float asFloat() {
-        return Float.valueOf(value);
+        return Float.valueOf(asString());
     }
 
     @Override
     public Double asDouble() {
-        return Double.valueOf(value);
+        return Double.valueOf(asString());
     }
 
     @Override
     public SpecialValueDecimal asDecimal() {
-        if ("NaN".equals(value)) {
+        if (length == 3 && data[offset] == 'N' && data[offset + 1] == 'a' && data[offset + 2] == 'N') {
             return SpecialValueDecimal.NOT_A_NUMBER;
         }
-        else {
-            return new SpecialValueDecimal(new BigDecimal(value));
+
+        final int end = offset + length;
+        int i = offset;
+        final boolean negative = i < end && data[i] == '-';
+        if (negative || (i < end && data[i] == '+')) {
+            i++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            final byte b = data[i];
+            if (b == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            final int digit = b - '0';
+            if (digit < 0 || digit > 9 || ++digits > MAX_LONG_DIGITS) {
+                return new SpecialValueDecimal(new BigDecimal(asString()));
+            }
+            unscaled = unscaled * 10 + digit;
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        if (digits == 0) {
+            return new SpecialValueDecimal(new BigDecimal(asString()));
+        }
+        return new SpecialValueDecimal(BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0)));
+    }
+
+    @Override
+    public Instant asInstant() {
+        final LocalDateTime timestamp = parseLocalDateTime(offset + length);
+        if (timestamp == null) {
+            return super.asInstant();
+        }
+        return timestamp.toInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public OffsetDateTime asOffsetDateTimeAtUtc() {
+        final int end = offset + length;
+        int zoneStart = -1;
+        for (int i = offset + 19; i < end; i++) {
+            if (data[i] == '+' || data[i] == '-') {
+                zoneStart = i;
+                break;
+            }
         }
+        final LocalDateTime timestamp = zoneStart > 0 ? parseLocalDateTime(zoneStart) : null;
+        if (timestamp == null) {
+            return super.asOffsetDateTimeAtUtc();
+        }
+
+        // the offset is written as +HH, +HH:MM or +HH:MM:SS
+        final int zoneLength = end - zoneStart - 1;
+        final int hours = zoneLength >= 2 ? parseDigits(zoneStart + 1, 2) : -1;
+        final int minutes = zoneLength < 5 ? 0 : data[zoneStart + 3] == ':' ? parseDigits(zoneStart + 4, 2) : -1;
+        final int seconds = zoneLength < 8 ? 0 : data[zoneStart + 6] == ':' ? parseDigits(zoneStart + 7, 2) : -1;
+        if (hours < 0 || minutes < 0 || seconds < 0 || (zoneLength != 2 && zoneLength != 5 && zoneLength != 8)) {
+            return super.asOffsetDateTimeAtUtc();
+        }
+        final int totalSeconds = (data[zoneStart] == '-' ? -1 : 1) * (hours * 3600 + minutes * 60 + seconds);
+        return OffsetDateTime.of(timestamp, ZoneOffset.ofTotalSeconds(totalSeconds)).withOffsetSameInstant(ZoneOffset.UTC);
     }
 
     @Override
     public byte[] asByteArray() {
-        return Strings.hexStringToByteArray(value.substring(2));
+        // skips the "\x" prefix of the hex format
+        final byte[] bytes = new byte[(length - 2) / 2];
+        for (int i = 0, position = offset + 2; i < bytes.length; i++, position += 2) {
+            bytes[i] = (byte) ((Character.digit(data[position], 16) << 4) + Character.digit(data[position + 1], 16));
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+
+    private long parseLong() {
+        final int end = offset + length;
+        int i = offset;
+        final boolean negative = i < end && data[i] == '-';
+        if (negative || (i < end && data[i] == '+')) {
+            i++;
+        }
+        if (i == end || end - i > MAX_LONG_DIGITS) {
+            return Long.parseLong(asString());
+        }
+        long result = 0;
+        for (; i < end; i++) {
+            final int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(asString());
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Parses a timestamp in the form {@code yyyy-MM-dd HH:mm:ss[.SSSSSS]} ending at the given index.
+     *
+     * @return the timestamp or {@code null} if the value is not in that form
+     */
+    private LocalDateTime parseLocalDateTime(int end) {
+        final int start = offset;
+        final int timestampLength = end - start;
+        if (timestampLength < 19 || timestampLength == 20 || timestampLength > 26
+                || data[start + 4] != '-' || data[start + 7] != '-' || data[start + 10] != ' '
+                || data[start + 13] != ':' || data[start + 16] != ':') {
+            return null;
+        }
+        final int year = parseDigits(start, 4);
+        final int month = parseDigits(start + 5, 2);
+        final int day = parseDigits(start + 8, 2);
+        final int hour = parseDigits(start + 11, 2);
+        final int minute = parseDigits(start + 14, 2);
+        final int second = parseDigits(start + 17, 2);
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+            return null;
+        }
+        int nanos = 0;
+        if (timestampLength > 19) {
+            final int fractionDigits = timestampLength - 20;
+            final int fraction = parseDigits(start + 20, fractionDigits);
+            if (data[start + 19] != '.' || fraction < 0) {
+                return null;
+            }
+            nanos = fraction * NANOS_MULTIPLIERS[fractionDigits];
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nanos);
+    }
+
+    /**
+     * Returns a buffer over the bytes of the value, positioned at the first byte.
+     */
+    ByteBuffer bytes() {
+        return ByteBuffer.wrap(data, offset, length).slice();
+    }
+
+    /**
+     * Returns a copy of the bytes of the value.
+     */
+    byte[] copyBytes() {
+        return Arrays.copyOfRange(data, offset, offset + length);
+    }
+
+    /**
+     * @return the value of the given number of decimal digits or {@code -1} if there is a non-digit character
+     */
+    private int parseDigits(int from, int count) {
+        int result = 0;
+        for (int i = from; i < from + count; i++) {
+            final int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    interface ValueFactory<T extends PgOutputColumnValue> {
+        T create(byte[] data, int offset, int length);
     }
 }
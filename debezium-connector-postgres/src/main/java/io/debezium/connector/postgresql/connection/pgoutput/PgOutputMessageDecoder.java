@@ -8,7 +8,6 @@
 import static java.util.stream.Collectors.toMap;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.Charset;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -19,6 +18,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +30,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
 import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
 import io.debezium.connector.postgresql.PostgresType;
 import io.debezium.connector.postgresql.TypeRegistry;
@@ -46,6 +47,7 @@
 import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
 import io.debezium.connector.postgresql.connection.TransactionMessage;
 import io.debezium.connector.postgresql.connection.WalPositionLocator;
+import io.debezium.connector.postgresql.connection.pgoutput.PgOutputStreamedTransactions.StreamedTransaction;
 import io.debezium.data.Envelope;
 import io.debezium.relational.ColumnEditor;
 import io.debezium.relational.Table;
@@ -67,11 +69,29 @@ public class PgOutputMessageDecoder extends AbstractMessageDecoder {
     private static final Instant PG_EPOCH = LocalDate.of(2000, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC);
     private static final byte SPACE = 32;
 
+    /**
+     * The types of messages which are prefixed with the id of the (sub)transaction when sent within a stream block
+     */
+    private static final Set<MessageType> STREAMED_MESSAGE_TYPES = EnumSet.of(MessageType.RELATION, MessageType.TYPE, MessageType.INSERT,
+            MessageType.UPDATE, MessageType.DELETE, MessageType.TRUNCATE, MessageType.LOGICAL_DECODING_MESSAGE);
+
     private final MessageDecoderContext decoderContext;
     private final PostgresConnection connection;
+    private final PgOutputStreamedTransactions streamedTransactions;
 
     private Instant commitTimestamp;
 
+    /**
+     * Whether the column values are requested in the binary format
+     */
+    private boolean binaryFormat;
+
+    /**
+     * The id of the transaction whose changes are currently streamed, null outside of a stream block
+     */
+    private Long streamedTransactionId;
+    private boolean skipStreamedTransaction;
+
     /**
      * Will be null for a non-transactional decoding message
      */
@@ -87,7 +107,11 @@ public enum MessageType {
         TYPE,
         ORIGIN,
         TRUNCATE,
-        LOGICAL_DECODING_MESSAGE;
+        LOGICAL_DECODING_MESSAGE,
+        STREAM_START,
+        STREAM_STOP,
+        STREAM_COMMIT,
+        STREAM_ABORT;
 
         public static MessageType forType(char type) {
             switch (type) {
@@ -111,6 +135,14 @@ public static MessageType forType(char type) {
                     return TRUNCATE;
                 case 'M':
                     return LOGICAL_DECODING_MESSAGE;
+                case 'S':
+                    return STREAM_START;
+                case 'E':
+                    return STREAM_STOP;
+                case 'c':
+                    return STREAM_COMMIT;
+                case 'A':
+                    return STREAM_ABORT;
                 default:
                     throw new IllegalArgumentException("Unsupported message type: " + type);
             }
@@ -120,6 +152,10 @@ public static MessageType forType(char type) {
     public PgOutputMessageDecoder(MessageDecoderContext decoderContext, PostgresConnection connection) {
         this.decoderContext = decoderContext;
         this.connection = connection;
+        this.streamedTransactions = decoderContext.getConfig().pgoutputStreaming()
+                ? new PgOutputStreamedTransactions(decoderContext.getConfig().pgoutputStreamingBufferSize(),
+                        decoderContext.getConfig().pgoutputStreamingSpillDirectory())
+                : null;
     }
 
     @Override
@@ -130,8 +166,16 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
         try {
             MessageType type = MessageType.forType((char) buffer.get());
             LOGGER.trace("Message Type: {}", type);
+            if (isStreamedMessage(type)) {
+                // The changes of streamed transactions are buffered, the decision is made on their stream commit
+                return false;
+            }
             final boolean candidateForSkipping = super.shouldMessageBeSkipped(buffer, lastReceivedLsn, startLsn, walPosition);
             switch (type) {
+                case STREAM_COMMIT:
+                    // Always processed to release the buffered changes, which are only emitted when not seen before
+                    skipStreamedTransaction = candidateForSkipping;
+                    return false;
                 case COMMIT:
                 case BEGIN:
                 case RELATION:
@@ -173,7 +217,33 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
             LOGGER.trace("Message arrived from database {}", HexConverter.convertToHexString(content));
         }
 
-        final MessageType messageType = MessageType.forType((char) buffer.get());
+        final char type = (char) buffer.get();
+        final MessageType messageType = MessageType.forType(type);
+        if (streamedTransactionId != null && STREAMED_MESSAGE_TYPES.contains(messageType)) {
+            bufferStreamedMessage(type, messageType, buffer, processor, typeRegistry);
+            return;
+        }
+        switch (messageType) {
+            case STREAM_START:
+                handleStreamStartMessage(buffer);
+                break;
+            case STREAM_STOP:
+                handleStreamStopMessage();
+                break;
+            case STREAM_COMMIT:
+                handleStreamCommitMessage(buffer, processor, typeRegistry);
+                break;
+            case STREAM_ABORT:
+                handleStreamAbortMessage(buffer);
+                break;
+            default:
+                decodeMessage(messageType, buffer, processor, typeRegistry);
+                break;
+        }
+    }
+
+    private void decodeMessage(MessageType messageType, ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
         switch (messageType) {
             case BEGIN:
                 handleBeginMessage(buffer, processor);
@@ -212,21 +282,181 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
 
     @Override
     public ChainedLogicalStreamBuilder defaultOptions(ChainedLogicalStreamBuilder builder, Function<Integer, Boolean> hasMinimumServerVersion) {
-        builder = builder.withSlotOption("proto_version", 1)
-                .withSlotOption("publication_names", decoderContext.getConfig().publicationName());
+        final boolean streaming = decoderContext.getConfig().pgoutputStreaming();
+        if (streaming && !hasMinimumServerVersion.apply(140000)) {
+            LOGGER.warn("Streaming of in-progress transactions with pgoutput requires PostgreSQL 14 or later, transactions will be received once committed");
+        }
+        if (streaming && hasMinimumServerVersion.apply(140000)) {
+            builder = builder.withSlotOption("proto_version", 2)
+                    .withSlotOption("streaming", true);
+        }
+        else {
+            builder = builder.withSlotOption("proto_version", 1);
+        }
+        builder = builder.withSlotOption("publication_names", decoderContext.getConfig().publicationName());
 
         // DBZ-4374 Use enum once the driver got updated
         if (hasMinimumServerVersion.apply(140000)) {
             builder = builder.withSlotOption("messages", true);
         }
 
+        binaryFormat = false;
+        if (decoderContext.getConfig().pgoutputBinary()) {
+            if (!hasMinimumServerVersion.apply(140000)) {
+                LOGGER.warn("Binary format of pgoutput requires PostgreSQL 14 or later, column values will be received as text");
+            }
+            else {
+                final List<String> unsupportedColumns = getColumnsNotDecodableFromBinary();
+                if (unsupportedColumns.isEmpty()) {
+                    builder = builder.withSlotOption("binary", true);
+                    binaryFormat = true;
+                }
+                else {
+                    LOGGER.warn("Binary format of pgoutput cannot be decoded for the captured columns {}, column values will be received as text",
+                            unsupportedColumns);
+                }
+            }
+        }
+
         return builder;
     }
 
+    private List<String> getColumnsNotDecodableFromBinary() {
+        final TypeRegistry typeRegistry = connection.getTypeRegistry();
+        final List<String> columns = new ArrayList<>();
+        for (TableId tableId : decoderContext.getSchema().tableIds()) {
+            for (io.debezium.relational.Column column : decoderContext.getSchema().tableFor(tableId).columns()) {
+                final PostgresType type = typeRegistry.get(column.nativeType());
+                if (!PgOutputBinaryColumnValue.isSupported(type)) {
+                    columns.add(tableId + "." + column.name() + " (" + type.getName() + ")");
+                }
+            }
+        }
+        return columns;
+    }
+
     private boolean isTruncateEventsIncluded() {
         return !decoderContext.getConfig().getSkippedOperations().contains(Envelope.Operation.TRUNCATE);
     }
 
+    private boolean isStreamedMessage(MessageType type) {
+        switch (type) {
+            case STREAM_START:
+            case STREAM_STOP:
+            case STREAM_ABORT:
+                return true;
+            default:
+                return streamedTransactionId != null && STREAMED_MESSAGE_TYPES.contains(type);
+        }
+    }
+
+    /**
+     * Callback handler for the 'S' stream start replication message, starting a block of changes of an in-progress transaction.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamStartMessage(ByteBuffer buffer) {
+        if (streamedTransactions == null) {
+            throw new IllegalStateException("Received streamed transaction although streaming is not enabled");
+        }
+        streamedTransactionId = Integer.toUnsignedLong(buffer.getInt());
+        final boolean firstSegment = buffer.get() == 1;
+        LOGGER.trace("Event: {}, XID: {}, First segment: {}", MessageType.STREAM_START, streamedTransactionId, firstSegment);
+        streamedTransactions.getOrCreate(streamedTransactionId);
+    }
+
+    /**
+     * Callback handler for the 'E' stream stop replication message, ending a block of changes of an in-progress transaction.
+     */
+    private void handleStreamStopMessage() {
+        LOGGER.trace("Event: {}, XID: {}", MessageType.STREAM_STOP, streamedTransactionId);
+        streamedTransactionId = null;
+    }
+
+    /**
+     * Buffers a message of the transaction whose changes are currently streamed. The message is stored without the
+     * (sub)transaction id, so that it can be decoded like a message of a transaction which is not streamed.
+     *
+     * @param type The type of the message as sent in the replication stream
+     * @param messageType The message type
+     * @param buffer The replication stream buffer
+     * @param processor The replication message processor
+     * @param typeRegistry The postgres type registry
+     */
+    private void bufferStreamedMessage(char type, MessageType messageType, ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
+        final long subtransactionId = Integer.toUnsignedLong(buffer.getInt());
+        if (messageType == MessageType.LOGICAL_DECODING_MESSAGE && buffer.get(buffer.position()) != 1) {
+            // Non-transactional messages are not part of the transaction
+            decodeMessage(messageType, buffer, processor, typeRegistry);
+            return;
+        }
+        final byte[] message = new byte[1 + buffer.remaining()];
+        message[0] = (byte) type;
+        buffer.get(message, 1, message.length - 1);
+        streamedTransactions.getOrCreate(streamedTransactionId).add(subtransactionId, message);
+    }
+
+    /**
+     * Callback handler for the 'c' stream commit replication message, emitting all buffered changes of the transaction.
+     *
+     * @param buffer The replication stream buffer
+     * @param processor The replication message processor
+     * @param typeRegistry The postgres type registry
+     */
+    private void handleStreamCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        int flags = buffer.get(); // flags, currently unused
+        final Lsn lsn = Lsn.valueOf(buffer.getLong()); // LSN of the commit
+        final Lsn endLsn = Lsn.valueOf(buffer.getLong()); // End LSN of the transaction
+        final Instant timestamp = PG_EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+        LOGGER.trace("Event: {}", MessageType.STREAM_COMMIT);
+        LOGGER.trace("XID of transaction: {}", xid);
+        LOGGER.trace("Flags: {} (currently unused and most likely 0)", flags);
+        LOGGER.trace("Commit LSN: {}", lsn);
+        LOGGER.trace("End LSN of transaction: {}", endLsn);
+        LOGGER.trace("Commit timestamp of transaction: {}", timestamp);
+
+        final StreamedTransaction transaction = streamedTransactions.remove(xid);
+        try {
+            if (skipStreamedTransaction) {
+                LOGGER.debug("Streamed transaction {} with commit LSN {} was already processed, skipping {} changes", xid, lsn, transaction.size());
+                return;
+            }
+            LOGGER.debug("Emitting {} changes of streamed transaction {}", transaction.size(), xid);
+            this.transactionId = xid;
+            this.commitTimestamp = timestamp;
+            processor.process(new TransactionMessage(Operation.BEGIN, transactionId, commitTimestamp));
+            transaction.replay(message -> decodeMessage(MessageType.forType((char) message.get()), message, processor, typeRegistry));
+            this.transactionId = xid;
+            this.commitTimestamp = timestamp;
+            processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
+        }
+        finally {
+            transaction.discard();
+            skipStreamedTransaction = false;
+        }
+    }
+
+    /**
+     * Callback handler for the 'A' stream abort replication message, discarding the buffered changes of the
+     * transaction or of one of its subtransactions.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamAbortMessage(ByteBuffer buffer) {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        final long subtransactionId = Integer.toUnsignedLong(buffer.getInt());
+        LOGGER.trace("Event: {}, XID: {}, Sub-transaction XID: {}", MessageType.STREAM_ABORT, xid, subtransactionId);
+        if (xid == subtransactionId) {
+            streamedTransactions.remove(xid).discard();
+        }
+        else {
+            streamedTransactions.getOrCreate(xid).abortSubtransaction(subtransactionId);
+        }
+    }
+
     /**
      * Callback handler for the 'B' begin replication message.
      *
@@ -308,6 +538,12 @@ private void handleRelationMessage(ByteBuffer buffer, TypeRegistry typeRegistry)
             int attypmod = buffer.getInt();
 
             final PostgresType postgresType = typeRegistry.get(columnType);
+            if (binaryFormat && !PgOutputBinaryColumnValue.isSupported(postgresType)) {
+                // the values of the column would be sent in a format the connector cannot decode; once restarted,
+                // the connector takes the table into account and requests the values as text
+                throw new DebeziumException("Column '" + columnName + "' of table '" + tableId + "' has the type '" + postgresType.getName()
+                        + "' which cannot be decoded from the binary format of pgoutput, restart the connector to receive the column values as text");
+            }
             boolean key = isColumnInPrimaryKey(schemaName, tableName, columnName, primaryKeyColumns);
 
             Boolean optional = columnOptionality.get(columnName);
@@ -681,15 +917,28 @@ private static String readString(ByteBuffer buffer) {
 
     /**
      * Reads the replication stream where the column stream specifies a length followed by the value.
+     * The returned value refers to the bytes of the replication stream buffer rather than copying them;
+     * the driver allocates a new buffer for each message, so they remain valid after the message was decoded.
      *
      * @param buffer The replication stream buffer
-     * @return the column value as a string read from the replication stream
+     * @return the column value read from the replication stream
      */
-    private static String readColumnValueAsString(ByteBuffer buffer) {
+    private static PgOutputColumnValue readColumnValue(ByteBuffer buffer) {
         int length = buffer.getInt();
-        byte[] value = new byte[length];
-        buffer.get(value, 0, length);
-        return new String(value, Charset.forName("UTF-8"));
+        return PgOutputColumnValue.read(buffer, length);
+    }
+
+    /**
+     * Reads the replication stream where the column stream specifies a length followed by the value in the
+     * binary format of the given type.
+     *
+     * @param buffer The replication stream buffer
+     * @param type The root type of the column
+     * @return the column value read from the replication stream
+     */
+    private PgOutputColumnValue readBinaryColumnValue(ByteBuffer buffer, PostgresType type) {
+        int length = buffer.getInt();
+        return PgOutputBinaryColumnValue.read(buffer, length, type, decoderContext.getConfig().moneyFractionDigits());
     }
 
     /**
@@ -700,7 +949,7 @@ private static String readColumnValueAsString(ByteBuffer buffer) {
      * @param table The database table
      * @return list of replication message columns
      */
-    private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer, TypeRegistry typeRegistry, Table table) {
+    private List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer, TypeRegistry typeRegistry, Table table) {
         // Read number of the columns
         short numberOfColumns = buffer.getShort();
 
@@ -716,22 +965,23 @@ private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer,
 
             // Read the sub-message type
             // 't' : Value is represented as text
+            // 'b' : Value is represented in the binary format of its type
             // 'u' : An unchanged TOAST-ed value, actual value is not sent.
             // 'n' : Value is null.
             char type = (char) buffer.get();
-            if (type == 't') {
-                final String valueStr = readColumnValueAsString(buffer);
+            if (type == 't' || type == 'b') {
+                final PgOutputColumnValue value = type == 't' ? readColumnValue(buffer) : readBinaryColumnValue(buffer, columnType.getRootType());
                 columns.add(
                         new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
                             @Override
                             public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
-                                return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, valueStr, connection, includeUnknownDatatypes,
+                                return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, value, connection, includeUnknownDatatypes,
                                         typeRegistry);
                             }
 
                             @Override
                             public String toString() {
-                                return columnName + "(" + typeExpression + ")=" + valueStr;
+                                return columnName + "(" + typeExpression + ")=" + value;
                             }
                         });
             }
@@ -761,6 +1011,9 @@ public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDa
 
     @Override
     public void close() {
+        if (streamedTransactions != null) {
+            streamedTransactions.close();
+        }
         if (connection != null) {
             connection.close();
         }
@@ -88,7 +88,17 @@ public boolean shouldSchemaBeSynchronized() {
      */
     public static Object getValue(String columnName, PostgresType type, String fullType, String rawValue, final PgConnectionSupplier connection,
                                   boolean includeUnknownDataTypes, TypeRegistry typeRegistry) {
-        final PgOutputColumnValue columnValue = new PgOutputColumnValue(rawValue);
+        return getValue(columnName, type, fullType, new PgOutputColumnValue(rawValue), connection, includeUnknownDataTypes, typeRegistry);
+    }
+
+    /**
+     * Converts the value coming from PgOutput plugin to a Java value based on the type of the column from the message,
+     * parsing it directly from the bytes of the replication message where possible.
+     *
+     * @return the value; may be null
+     */
+    public static Object getValue(String columnName, PostgresType type, String fullType, PgOutputColumnValue columnValue, final PgConnectionSupplier connection,
+                                  boolean includeUnknownDataTypes, TypeRegistry typeRegistry) {
         return ReplicationMessageColumnValueResolver.resolveValue(columnName, type, fullType, columnValue, connection, includeUnknownDataTypes, typeRegistry);
     }
 }
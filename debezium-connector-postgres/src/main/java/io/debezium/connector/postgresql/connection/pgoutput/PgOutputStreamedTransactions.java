@@ -0,0 +1,255 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * Buffers the changes of in-progress transactions which are streamed by the pgoutput plug-in (protocol version 2),
+ * until the transaction is committed or aborted.
+ * <p>
+ * The messages of all transactions are kept in memory up to the given number of bytes. Once that is exceeded, the
+ * messages buffered in memory for the transaction receiving a message are spilled to a file, and further messages
+ * of that transaction are appended to that file.
+ */
+@NotThreadSafe
+public class PgOutputStreamedTransactions implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PgOutputStreamedTransactions.class);
+
+    private final long maxMemoryBytes;
+    private final Path spillDirectory;
+    private final Map<Long, StreamedTransaction> transactions = new HashMap<>();
+
+    private long memoryBytes;
+
+    public PgOutputStreamedTransactions(long maxMemoryBytes, Path spillDirectory) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Returns the buffer of the given transaction, creating it if the transaction has not been seen before.
+     */
+    public StreamedTransaction getOrCreate(long transactionId) {
+        return transactions.computeIfAbsent(transactionId, StreamedTransaction::new);
+    }
+
+    /**
+     * Removes the buffer of the given transaction; the caller is responsible for discarding it.
+     *
+     * @return the buffer of the transaction, never {@code null}
+     */
+    public StreamedTransaction remove(long transactionId) {
+        final StreamedTransaction transaction = transactions.remove(transactionId);
+        return transaction != null ? transaction : new StreamedTransaction(transactionId);
+    }
+
+    /**
+     * Returns the number of bytes of messages currently buffered in memory.
+     */
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    /**
+     * Returns the number of in-progress transactions.
+     */
+    public int size() {
+        return transactions.size();
+    }
+
+    @Override
+    public void close() {
+        transactions.values().forEach(StreamedTransaction::discard);
+        transactions.clear();
+    }
+
+    /**
+     * Consumes a buffered message.
+     */
+    @FunctionalInterface
+    public interface MessageConsumer {
+        void accept(ByteBuffer message) throws SQLException, InterruptedException;
+    }
+
+    /**
+     * The messages of a single streamed transaction, including those of its subtransactions.
+     */
+    public final class StreamedTransaction {
+
+        private final long transactionId;
+        private final List<byte[]> messages = new ArrayList<>();
+        private final List<Long> spilledOffsets = new ArrayList<>();
+        private final Map<Long, Integer> subtransactionStarts = new HashMap<>();
+        private long bytes;
+        private Path spillFile;
+        private FileChannel spillChannel;
+
+        private StreamedTransaction(long transactionId) {
+            this.transactionId = transactionId;
+        }
+
+        /**
+         * Appends a message of the given (sub)transaction.
+         */
+        public void add(long subtransactionId, byte[] message) {
+            subtransactionStarts.putIfAbsent(subtransactionId, size());
+            messages.add(message);
+            bytes += message.length;
+            memoryBytes += message.length;
+            if (memoryBytes > maxMemoryBytes) {
+                spill();
+            }
+        }
+
+        /**
+         * Discards the messages of the given subtransaction and of all subtransactions started after it.
+         */
+        public void abortSubtransaction(long subtransactionId) {
+            final Integer start = subtransactionStarts.get(subtransactionId);
+            if (start == null) {
+                return;
+            }
+            subtransactionStarts.values().removeIf(index -> index >= start);
+
+            final int spilled = spilledOffsets.size();
+            if (start < spilled) {
+                try {
+                    spillChannel.truncate(spilledOffsets.get(start));
+                }
+                catch (IOException e) {
+                    throw new DebeziumException("Failed to truncate spill file " + spillFile, e);
+                }
+                spilledOffsets.subList(start, spilled).clear();
+                releaseMemory(messages);
+                messages.clear();
+            }
+            else {
+                final List<byte[]> aborted = messages.subList(start - spilled, messages.size());
+                releaseMemory(aborted);
+                aborted.clear();
+            }
+        }
+
+        /**
+         * Passes all messages to the given consumer, in the order they were added.
+         */
+        public void replay(MessageConsumer consumer) throws SQLException, InterruptedException {
+            if (spillChannel != null) {
+                try {
+                    final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+                    long position = 0;
+                    for (int i = 0; i < spilledOffsets.size(); i++) {
+                        length.clear();
+                        readFully(length, position);
+                        length.flip();
+                        final ByteBuffer message = ByteBuffer.allocate(length.getInt());
+                        readFully(message, position + Integer.BYTES);
+                        message.flip();
+                        position += Integer.BYTES + message.limit();
+                        consumer.accept(message);
+                    }
+                }
+                catch (IOException e) {
+                    throw new DebeziumException("Failed to read spill file " + spillFile, e);
+                }
+            }
+            for (byte[] message : messages) {
+                consumer.accept(ByteBuffer.wrap(message));
+            }
+        }
+
+        /**
+         * Releases all resources of this transaction; it must not be used afterwards.
+         */
+        public void discard() {
+            releaseMemory(messages);
+            messages.clear();
+            spilledOffsets.clear();
+            subtransactionStarts.clear();
+            if (spillChannel != null) {
+                try {
+                    spillChannel.close();
+                    Files.deleteIfExists(spillFile);
+                }
+                catch (IOException e) {
+                    LOGGER.warn("Failed to delete spill file {}", spillFile, e);
+                }
+                spillChannel = null;
+            }
+        }
+
+        /**
+         * Returns the number of buffered messages.
+         */
+        public int size() {
+            return spilledOffsets.size() + messages.size();
+        }
+
+        /**
+         * Returns the total number of bytes of the messages which were added.
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        private void spill() {
+            try {
+                if (spillChannel == null) {
+                    Files.createDirectories(spillDirectory);
+                    spillFile = Files.createTempFile(spillDirectory, "xid-" + transactionId + "-", ".spill");
+                    spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    LOGGER.info("Spilling messages of streamed transaction {} to {}", transactionId, spillFile);
+                }
+                long position = spillChannel.size();
+                for (byte[] message : messages) {
+                    final ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + message.length);
+                    entry.putInt(message.length).put(message).flip();
+                    spilledOffsets.add(position);
+                    while (entry.hasRemaining()) {
+                        position += spillChannel.write(entry, position);
+                    }
+                }
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to spill messages of transaction " + transactionId + " to " + spillDirectory, e);
+            }
+            releaseMemory(messages);
+            messages.clear();
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (spillChannel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of spill file " + spillFile);
+                }
+            }
+        }
+
+        private void releaseMemory(List<byte[]> released) {
+            for (byte[] message : released) {
+                memoryBytes -= message.length;
+            }
+        }
+    }
+}
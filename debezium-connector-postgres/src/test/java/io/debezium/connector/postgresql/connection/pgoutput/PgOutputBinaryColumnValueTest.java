@@ -0,0 +1,131 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.fest.assertions.Assertions;
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.data.SpecialValueDecimal;
+
+public class PgOutputBinaryColumnValueTest {
+
+    @Test
+    public void shouldDecodeIntegers() {
+        Assertions.assertThat(value("int2", ByteBuffer.allocate(2).putShort((short) -5)).asInteger()).isEqualTo(-5);
+        Assertions.assertThat(value("int4", ByteBuffer.allocate(4).putInt(123456)).asInteger()).isEqualTo(123456);
+        Assertions.assertThat(value("int8", ByteBuffer.allocate(8).putLong(Long.MIN_VALUE)).asLong()).isEqualTo(Long.MIN_VALUE);
+        Assertions.assertThat(value("oid", ByteBuffer.allocate(4).putInt(-1)).asLong()).isEqualTo(4294967295L);
+        Assertions.assertThat(value("bool", ByteBuffer.allocate(1).put((byte) 1)).asBoolean()).isTrue();
+    }
+
+    @Test
+    public void shouldDecodeNumerics() {
+        // 12345.678 is sent as the base 10000 digits 1, 2345 and 6780 with weight 1
+        Assertions.assertThat(numeric(1, 0, 3, 1, 2345, 6780).asDecimal().getDecimalValue().get()).isEqualTo(new BigDecimal("12345.678"));
+        Assertions.assertThat(numeric(-1, 0x4000, 2, 5000).asDecimal().getDecimalValue().get()).isEqualTo(new BigDecimal("-0.50"));
+        Assertions.assertThat(numeric(2, 0, 0, 1).asDecimal().getDecimalValue().get()).isEqualTo(new BigDecimal("100000000"));
+        Assertions.assertThat(numeric(5, 0, 1, 1, 2, 3, 4, 5, 6).asDecimal().getDecimalValue().get())
+                .isEqualTo(new BigDecimal("100020003000400050006.0"));
+        Assertions.assertThat(numeric(0, 0, 0).asDecimal().getDecimalValue().get()).isEqualTo(BigDecimal.ZERO);
+        Assertions.assertThat(numeric(0, 0xC000, 0).asDecimal()).isEqualTo(SpecialValueDecimal.NOT_A_NUMBER);
+    }
+
+    @Test
+    public void shouldDecodeTemporalValues() {
+        Assertions.assertThat(value("date", ByteBuffer.allocate(4).putInt(-1)).asLocalDate()).isEqualTo(LocalDate.of(1999, 12, 31));
+        Assertions.assertThat(value("timestamp", ByteBuffer.allocate(8).putLong(1_500_000L)).asInstant())
+                .isEqualTo(Instant.parse("2000-01-01T00:00:01.500Z"));
+        Assertions.assertThat(value("timestamp", ByteBuffer.allocate(8).putLong(-1L)).asInstant())
+                .isEqualTo(Instant.parse("1999-12-31T23:59:59.999999Z"));
+        Assertions.assertThat(value("timestamp", ByteBuffer.allocate(8).putLong(Long.MAX_VALUE)).asInstant())
+                .isEqualTo(PostgresValueConverter.POSITIVE_INFINITY_INSTANT);
+        Assertions.assertThat(value("timestamptz", ByteBuffer.allocate(8).putLong(86_400_000_000L)).asOffsetDateTimeAtUtc())
+                .isEqualTo(OffsetDateTime.of(2000, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC));
+        Assertions.assertThat(value("time", ByteBuffer.allocate(8).putLong(3_723_400_000L)).asTime()).isEqualTo("01:02:03.4");
+    }
+
+    @Test
+    public void shouldDecodeTextualValues() {
+        Assertions.assertThat(value("uuid", ByteBuffer.allocate(16).putLong(0x4b1a6d7e5c6f4a3bL).putLong(0x9d2e1f0e3c4b5a69L)).asString())
+                .isEqualTo("4b1a6d7e-5c6f-4a3b-9d2e-1f0e3c4b5a69");
+        Assertions.assertThat(value("jsonb", ByteBuffer.allocate(9).put((byte) 1).put("{\"a\": 1}".getBytes())).asString()).isEqualTo("{\"a\": 1}");
+        Assertions.assertThat(value("varbit", ByteBuffer.allocate(5).putInt(5).put((byte) 0b10110000)).asString()).isEqualTo("10110");
+        Assertions.assertThat(value("bytea", ByteBuffer.allocate(2).put((byte) 10).put((byte) -1)).asByteArray()).isEqualTo(new byte[]{ 10, -1 });
+    }
+
+    @Test
+    public void shouldDecodeNetworkAddresses() {
+        Assertions.assertThat(inet("inet", 2, 32, false, 192, 168, 0, 1).asString()).isEqualTo("192.168.0.1");
+        Assertions.assertThat(inet("inet", 2, 24, false, 192, 168, 0, 1).asString()).isEqualTo("192.168.0.1/24");
+        Assertions.assertThat(inet("cidr", 2, 32, true, 10, 0, 0, 1).asString()).isEqualTo("10.0.0.1/32");
+        Assertions.assertThat(inet("cidr", 2, 8, true, 10, 0, 0, 0).asString()).isEqualTo("10.0.0.0/8");
+        Assertions.assertThat(inet("inet", 3, 128, false, 0x20, 0x01, 0x0d, 0xb8, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1).asString())
+                .isEqualTo("2001:db8::1");
+        Assertions.assertThat(inet("inet", 3, 128, false, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1).asString()).isEqualTo("::1");
+        Assertions.assertThat(inet("inet", 3, 128, false, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0xff, 0xff, 192, 168, 0, 1).asString())
+                .isEqualTo("::ffff:192.168.0.1");
+        Assertions.assertThat(inet("cidr", 3, 32, true, 0x20, 0x01, 0x0d, 0xb8, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0).asString())
+                .isEqualTo("2001:db8::/32");
+        Assertions.assertThat(inet("inet", 3, 64, false, 0, 1, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 3).asString()).isEqualTo("1:0:2::3/64");
+    }
+
+    @Test
+    public void shouldDecodeLtree() {
+        Assertions.assertThat(value("ltree", ByteBuffer.allocate(6).put((byte) 1).put("a.b.c".getBytes())).asString()).isEqualTo("a.b.c");
+    }
+
+    @Test
+    public void shouldOnlySupportDecodableTypes() {
+        Assertions.assertThat(PgOutputBinaryColumnValue.isSupported(type("numeric"))).isTrue();
+        Assertions.assertThat(PgOutputBinaryColumnValue.isSupported(type("inet"))).isTrue();
+        Assertions.assertThat(PgOutputBinaryColumnValue.isSupported(type("tstzrange"))).isFalse();
+        Assertions.assertThat(PgOutputBinaryColumnValue.isSupported(type("tsvector"))).isFalse();
+        Assertions.assertThat(PgOutputBinaryColumnValue.isSupported(type("pg_lsn"))).isFalse();
+    }
+
+    private static PgOutputBinaryColumnValue inet(String typeName, int family, int bits, boolean cidr, int... address) {
+        final ByteBuffer buffer = ByteBuffer.allocate(4 + address.length)
+                .put((byte) family)
+                .put((byte) bits)
+                .put((byte) (cidr ? 1 : 0))
+                .put((byte) address.length);
+        for (int b : address) {
+            buffer.put((byte) b);
+        }
+        return value(typeName, buffer);
+    }
+
+    private static PgOutputBinaryColumnValue numeric(int weight, int sign, int scale, int... digits) {
+        final ByteBuffer buffer = ByteBuffer.allocate(8 + 2 * digits.length)
+                .putShort((short) digits.length)
+                .putShort((short) weight)
+                .putShort((short) sign)
+                .putShort((short) scale);
+        for (int digit : digits) {
+            buffer.putShort((short) digit);
+        }
+        return value("numeric", buffer);
+    }
+
+    private static PgOutputBinaryColumnValue value(String typeName, ByteBuffer buffer) {
+        final byte[] bytes = buffer.array();
+        return new PgOutputBinaryColumnValue(bytes, 0, bytes.length, type(typeName), 2);
+    }
+
+    private static PostgresType type(String typeName) {
+        return new PostgresType.Builder(null, typeName, 0, Types.OTHER, -1, null).build();
+    }
+}
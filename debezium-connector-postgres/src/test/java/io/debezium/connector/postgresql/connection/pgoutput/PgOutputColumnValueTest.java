@@ -0,0 +1,99 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.chrono.IsoEra;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+import org.fest.assertions.Assertions;
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.connection.DateTimeFormat;
+import io.debezium.data.SpecialValueDecimal;
+
+public class PgOutputColumnValueTest {
+
+    private static final String BCE_DISPLAY_NAME = IsoEra.BCE.getDisplayName(TextStyle.SHORT, Locale.getDefault());
+
+    @Test
+    public void shouldReadValueWithoutCopying() {
+        final byte[] message = "xx12345yy".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.wrap(message);
+        buffer.position(2);
+
+        final PgOutputColumnValue value = PgOutputColumnValue.read(buffer, 5);
+        Assertions.assertThat(buffer.position()).isEqualTo(7);
+        Assertions.assertThat(value.asInteger()).isEqualTo(12345);
+        Assertions.assertThat(value.asString()).isEqualTo("12345");
+    }
+
+    @Test
+    public void shouldParseIntegers() {
+        Assertions.assertThat(value("-32768").asInteger()).isEqualTo(-32768);
+        Assertions.assertThat(value("2147483647").asInteger()).isEqualTo(Integer.MAX_VALUE);
+        Assertions.assertThat(value("-9223372036854775808").asLong()).isEqualTo(Long.MIN_VALUE);
+        Assertions.assertThat(value("123456789012").asLong()).isEqualTo(123456789012L);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void shouldFailOnIntegerOutOfRange() {
+        value("2147483648").asInteger();
+    }
+
+    @Test
+    public void shouldParseBooleans() {
+        Assertions.assertThat(value("t").asBoolean()).isTrue();
+        Assertions.assertThat(value("f").asBoolean()).isFalse();
+    }
+
+    @Test
+    public void shouldParseDecimals() {
+        Assertions.assertThat(value("-123.4500").asDecimal().getDecimalValue().get()).isEqualTo(new BigDecimal("-123.4500"));
+        Assertions.assertThat(value("42").asDecimal().getDecimalValue().get()).isEqualTo(new BigDecimal("42"));
+        Assertions.assertThat(value("12345678901234567890.123").asDecimal().getDecimalValue().get())
+                .isEqualTo(new BigDecimal("12345678901234567890.123"));
+        Assertions.assertThat(value("NaN").asDecimal()).isEqualTo(SpecialValueDecimal.NOT_A_NUMBER);
+    }
+
+    @Test
+    public void shouldParseTimestamps() {
+        for (String timestamp : new String[]{ "2016-11-04 13:51:30", "2016-11-04 13:51:30.1", "2016-11-04 13:51:30.123456",
+                "0002-12-01 17:00:00 " + BCE_DISPLAY_NAME, "20160-11-04 13:51:30.123456" }) {
+            Assertions.assertThat(value(timestamp).asInstant()).isEqualTo(DateTimeFormat.get().timestampToInstant(timestamp));
+        }
+        Assertions.assertThat(value("infinity").asInstant()).isEqualTo(PostgresValueConverter.POSITIVE_INFINITY_INSTANT);
+    }
+
+    @Test
+    public void shouldParseTimestampsWithTimeZone() {
+        for (String timestamp : new String[]{ "2016-11-04 13:51:30+02", "2016-11-04 13:51:30.123-02", "2016-11-04 13:51:30.123789+02:30",
+                "2016-11-04 13:51:30.123789-02:30:15", "2016-11-04 13:51:30.123789+02:30 " + BCE_DISPLAY_NAME }) {
+            Assertions.assertThat(value(timestamp).asOffsetDateTimeAtUtc())
+                    .isEqualTo(DateTimeFormat.get().timestampWithTimeZoneToOffsetDateTime(timestamp).withOffsetSameInstant(ZoneOffset.UTC));
+        }
+        Assertions.assertThat(value("2016-11-04 13:51:30.5+02").asOffsetDateTimeAtUtc())
+                .isEqualTo(OffsetDateTime.of(2016, 11, 4, 11, 51, 30, 500_000_000, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void shouldDecodeBytesAndText() {
+        Assertions.assertThat(value("\\x0aff").asByteArray()).isEqualTo(new byte[]{ 10, -1 });
+        Assertions.assertThat(value("zażółć").asString()).isEqualTo("zażółć");
+        Assertions.assertThat(value("4b1a6d7e-5c6f-4a3b-9d2e-1f0e3c4b5a69").asString()).isEqualTo("4b1a6d7e-5c6f-4a3b-9d2e-1f0e3c4b5a69");
+    }
+
+    private static PgOutputColumnValue value(String text) {
+        final byte[] bytes = ("##" + text).getBytes(StandardCharsets.UTF_8);
+        return new PgOutputColumnValue(bytes, 2, bytes.length - 2);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.fest.assertions.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.connection.pgoutput.PgOutputStreamedTransactions.StreamedTransaction;
+import io.debezium.util.Testing;
+
+public class PgOutputStreamedTransactionsTest {
+
+    private Path spillDirectory;
+    private PgOutputStreamedTransactions transactions;
+
+    @Before
+    public void beforeEach() {
+        spillDirectory = Testing.Files.createTestingPath("pgoutput-streaming").toAbsolutePath();
+        Testing.Files.delete(spillDirectory);
+    }
+
+    @After
+    public void afterEach() {
+        if (transactions != null) {
+            transactions.close();
+        }
+        Testing.Files.delete(spillDirectory);
+    }
+
+    @Test
+    public void shouldReplayMessagesKeptInMemory() throws Exception {
+        transactions = new PgOutputStreamedTransactions(1024, spillDirectory);
+        final StreamedTransaction transaction = transactions.getOrCreate(100);
+        transaction.add(100, message("first"));
+        transaction.add(100, message("second"));
+
+        Assertions.assertThat(transactions.getMemoryBytes()).isEqualTo(11);
+        Assertions.assertThat(replay(transactions.remove(100))).containsExactly("first", "second");
+        Assertions.assertThat(Files.exists(spillDirectory)).isFalse();
+    }
+
+    @Test
+    public void shouldSpillMessagesExceedingMemoryLimit() throws Exception {
+        transactions = new PgOutputStreamedTransactions(8, spillDirectory);
+        final StreamedTransaction transaction = transactions.getOrCreate(100);
+        transaction.add(100, message("first"));
+        transaction.add(100, message("second"));
+        transaction.add(100, message("third"));
+
+        Assertions.assertThat(transactions.getMemoryBytes()).isEqualTo(5);
+        Assertions.assertThat(transaction.size()).isEqualTo(3);
+        Assertions.assertThat(spillFiles()).hasSize(1);
+        Assertions.assertThat(replay(transaction)).containsExactly("first", "second", "third");
+
+        transactions.remove(100).discard();
+        Assertions.assertThat(transactions.getMemoryBytes()).isEqualTo(0);
+        Assertions.assertThat(spillFiles()).isEmpty();
+    }
+
+    @Test
+    public void shouldDiscardMessagesOfAbortedSubtransaction() throws Exception {
+        transactions = new PgOutputStreamedTransactions(1024, spillDirectory);
+        final StreamedTransaction transaction = transactions.getOrCreate(100);
+        transaction.add(100, message("first"));
+        transaction.add(101, message("second"));
+        transaction.add(102, message("third"));
+
+        // aborting a subtransaction also aborts the subtransactions started within it
+        transaction.abortSubtransaction(101);
+        Assertions.assertThat(transactions.getMemoryBytes()).isEqualTo(5);
+        transaction.add(100, message("fourth"));
+        Assertions.assertThat(replay(transaction)).containsExactly("first", "fourth");
+    }
+
+    @Test
+    public void shouldDiscardSpilledMessagesOfAbortedSubtransaction() throws Exception {
+        transactions = new PgOutputStreamedTransactions(8, spillDirectory);
+        final StreamedTransaction transaction = transactions.getOrCreate(100);
+        transaction.add(100, message("first"));
+        transaction.add(101, message("second"));
+        transaction.add(101, message("third"));
+
+        transaction.abortSubtransaction(101);
+        transaction.add(100, message("fourth"));
+        Assertions.assertThat(replay(transaction)).containsExactly("first", "fourth");
+    }
+
+    private static byte[] message(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> replay(StreamedTransaction transaction) throws Exception {
+        final List<String> messages = new ArrayList<>();
+        transaction.replay(message -> {
+            final byte[] bytes = new byte[message.remaining()];
+            message.get(bytes);
+            messages.add(new String(bytes, StandardCharsets.UTF_8));
+        });
+        return messages;
+    }
+
+    private List<Path> spillFiles() throws Exception {
+        if (!Files.exists(spillDirectory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
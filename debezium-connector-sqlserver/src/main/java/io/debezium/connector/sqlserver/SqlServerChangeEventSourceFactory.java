@@ -26,17 +26,19 @@ public class SqlServerChangeEventSourceFactory implements ChangeEventSourceFacto
     private final SqlServerConnectorConfig configuration;
     private final SqlServerConnection dataConnection;
     private final SqlServerConnection metadataConnection;
+    private final SqlServerChangeTableQueryPool queryPool;
     private final ErrorHandler errorHandler;
     private final EventDispatcher<SqlServerPartition, TableId> dispatcher;
     private final Clock clock;
     private final SqlServerDatabaseSchema schema;
 
     public SqlServerChangeEventSourceFactory(SqlServerConnectorConfig configuration, SqlServerConnection dataConnection, SqlServerConnection metadataConnection,
-                                             ErrorHandler errorHandler, EventDispatcher<SqlServerPartition, TableId> dispatcher, Clock clock,
-                                             SqlServerDatabaseSchema schema) {
+                                             SqlServerChangeTableQueryPool queryPool, ErrorHandler errorHandler,
+                                             EventDispatcher<SqlServerPartition, TableId> dispatcher, Clock clock, SqlServerDatabaseSchema schema) {
         this.configuration = configuration;
         this.dataConnection = dataConnection;
         this.metadataConnection = metadataConnection;
+        this.queryPool = queryPool;
         this.errorHandler = errorHandler;
         this.dispatcher = dispatcher;
         this.clock = clock;
@@ -55,6 +57,7 @@ public StreamingChangeEventSource<SqlServerPartition, SqlServerOffsetContext> ge
                 configuration,
                 dataConnection,
                 metadataConnection,
+                queryPool,
                 dispatcher,
                 errorHandler,
                 clock,
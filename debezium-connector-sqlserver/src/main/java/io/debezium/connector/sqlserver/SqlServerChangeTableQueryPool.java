@@ -0,0 +1,139 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.jdbc.JdbcConnection.BlockingMultiResultSetConsumer;
+import io.debezium.jdbc.JdbcConnection.StatementPreparer;
+import io.debezium.util.Threads;
+
+/**
+ * A pool of connections used for querying the change tables of a database concurrently. The queries are
+ * distributed round-robin over the connections and each connection executes its queries on its own thread.
+ * Once all queries have been executed, the result sets are passed to the consumer on the calling thread, so
+ * that the changes are merged in the same way as when all change tables are queried on a single connection.
+ *
+ * @see SqlServerConnectorConfig#STREAMING_QUERY_THREADS
+ */
+public class SqlServerChangeTableQueryPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlServerChangeTableQueryPool.class);
+
+    private final List<SqlServerConnection> connections;
+    private final ExecutorService executor;
+
+    public SqlServerChangeTableQueryPool(SqlServerConnectorConfig connectorConfig, List<SqlServerConnection> connections) {
+        this.connections = connections;
+        this.executor = Threads.newFixedThreadPool(SqlServerConnector.class, connectorConfig.getLogicalName(), "change-table-query",
+                connections.size());
+    }
+
+    /**
+     * Executes the given queries concurrently and passes their result sets, in the order of the queries, to the
+     * consumer.
+     *
+     * @param queries the queries to execute
+     * @param preparers the functions that supply the arguments of the queries
+     * @param consumer the consumer of the query results
+     */
+    public void prepareQuery(String[] queries, StatementPreparer[] preparers, BlockingMultiResultSetConsumer consumer)
+            throws SQLException, InterruptedException {
+        final ResultSet[] resultSets = new ResultSet[queries.length];
+        final PreparedStatement[] statements = new PreparedStatement[queries.length];
+        final int connectionCount = Math.min(connections.size(), queries.length);
+        final List<Future<?>> futures = new ArrayList<>(connectionCount);
+
+        try {
+            for (int i = 0; i < connectionCount; i++) {
+                final SqlServerConnection connection = connections.get(i);
+                final int first = i;
+                futures.add(executor.submit(() -> {
+                    for (int idx = first; idx < queries.length; idx += connectionCount) {
+                        LOGGER.trace("running '{}'", queries[idx]);
+                        statements[idx] = connection.connection().prepareStatement(queries[idx]);
+                        preparers[idx].accept(statements[idx]);
+                        resultSets[idx] = statements[idx].executeQuery();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                // Future#get() makes the result sets written by the query threads visible to this thread
+                future.get();
+            }
+            consumer.accept(resultSets);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new DebeziumException("Failed to query change tables", e.getCause());
+        }
+        finally {
+            // only the case if this thread was interrupted or a query failed; the result sets of queries still
+            // running are released when the connections are closed
+            futures.forEach(future -> future.cancel(true));
+            close(resultSets, statements);
+        }
+    }
+
+    /**
+     * Ends the current transaction of all connections, so that the next queries read a current state of the change tables.
+     */
+    public void rollback() throws SQLException {
+        for (SqlServerConnection connection : connections) {
+            connection.rollback();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SqlServerConnection connection : connections) {
+            try {
+                connection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.error("Exception while closing JDBC change table query connection", e);
+            }
+        }
+    }
+
+    private static void close(ResultSet[] resultSets, PreparedStatement[] statements) {
+        for (int i = 0; i < resultSets.length; i++) {
+            try {
+                if (resultSets[i] != null) {
+                    resultSets[i].close();
+                }
+                if (statements[i] != null) {
+                    statements[i].close();
+                }
+            }
+            catch (SQLException e) {
+                LOGGER.debug("Exception while closing change table query", e);
+            }
+        }
+    }
+}
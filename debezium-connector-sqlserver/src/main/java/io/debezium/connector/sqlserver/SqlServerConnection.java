@@ -297,6 +297,24 @@ public Lsn getMinLsn(String databaseName, String changeTableName) throws SQLExce
     public void getChangesForTables(String databaseName, SqlServerChangeTable[] changeTables, Lsn intervalFromLsn,
                                     Lsn intervalToLsn, BlockingMultiResultSetConsumer consumer)
             throws SQLException, InterruptedException {
+        getChangesForTables(databaseName, changeTables, intervalFromLsn, intervalToLsn, null, consumer);
+    }
+
+    /**
+     * Provides all changes recorder by the SQL Server CDC capture process for a set of tables.
+     *
+     * @param databaseName - the name of the database to query
+     * @param changeTables - the requested tables to obtain changes for
+     * @param intervalFromLsn - closed lower bound of interval of changes to be provided
+     * @param intervalToLsn  - closed upper bound of interval  of changes to be provided
+     * @param queryPool - the connections used for querying the change tables concurrently; may be null to query
+     *                    all change tables on this connection
+     * @param consumer - the change processor
+     * @throws SQLException
+     */
+    public void getChangesForTables(String databaseName, SqlServerChangeTable[] changeTables, Lsn intervalFromLsn,
+                                    Lsn intervalToLsn, SqlServerChangeTableQueryPool queryPool, BlockingMultiResultSetConsumer consumer)
+            throws SQLException, InterruptedException {
         final String[] queries = new String[changeTables.length];
         final StatementPreparer[] preparers = new StatementPreparer[changeTables.length];
 
@@ -319,7 +337,12 @@ public void getChangesForTables(String databaseName, SqlServerChangeTable[] chan
 
             idx++;
         }
-        prepareQuery(queries, preparers, consumer);
+        if (queryPool != null) {
+            queryPool.prepareQuery(queries, preparers, consumer);
+        }
+        else {
+            prepareQuery(queries, preparers, consumer);
+        }
     }
 
     private Lsn getFromLsn(String databaseName, SqlServerChangeTable changeTable, Lsn intervalFromLsn) throws SQLException {
@@ -254,6 +254,18 @@ public static SnapshotIsolationMode parse(String value, String defaultValue) {
             .withValidation(Field::isNonNegativeInteger)
             .withDescription("This property can be used to reduce the connector memory usage footprint when changes are streamed from multiple tables per database.");
 
+    public static final Field STREAMING_QUERY_THREADS = Field.create("streaming.query.threads")
+            .withDisplayName("Streaming query threads")
+            .withDefault(0)
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 2))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The number of additional connections used for querying the change tables of a database concurrently while streaming. "
+                    + "The changes read from all change tables are still emitted in the order of their LSN. "
+                    + "Use 0 to query all change tables on a single connection. Defaults to 0.");
+
     public static final Field SNAPSHOT_MODE = Field.create("snapshot.mode")
             .withDisplayName("Snapshot mode")
             .withEnum(SnapshotMode.class, SnapshotMode.INITIAL)
@@ -306,10 +318,13 @@ public static SnapshotIsolationMode parse(String value, String defaultValue) {
                     SNAPSHOT_MODE,
                     SNAPSHOT_ISOLATION_MODE,
                     MAX_TRANSACTIONS_PER_ITERATION,
+                    STREAMING_QUERY_THREADS,
                     BINARY_HANDLING_MODE,
                     SCHEMA_NAME_ADJUSTMENT_MODE,
                     INCREMENTAL_SNAPSHOT_OPTION_RECOMPILE,
                     INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
+                    INCREMENTAL_SNAPSHOT_CHUNKS_PER_WINDOW,
+                    INCREMENTAL_SNAPSHOT_MAX_THREADS,
                     INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES)
             .excluding(
                     SCHEMA_INCLUDE_LIST,
@@ -331,6 +346,7 @@ public static ConfigDef configDef() {
     private final SnapshotIsolationMode snapshotIsolationMode;
     private final boolean readOnlyDatabaseConnection;
     private final int maxTransactionsPerIteration;
+    private final int streamingQueryThreads;
     private final boolean optionRecompile;
 
     public SqlServerConnectorConfig(Configuration config) {
@@ -360,6 +376,7 @@ public SqlServerConnectorConfig(Configuration config) {
         }
 
         this.maxTransactionsPerIteration = config.getInteger(MAX_TRANSACTIONS_PER_ITERATION);
+        this.streamingQueryThreads = config.getInteger(STREAMING_QUERY_THREADS);
 
         if (!config.getBoolean(MAX_LSN_OPTIMIZATION)) {
             LOGGER.warn("The option '{}' is no longer taken into account. The optimization is always enabled.", MAX_LSN_OPTIMIZATION.name());
@@ -392,6 +409,10 @@ public int getMaxTransactionsPerIteration() {
         return maxTransactionsPerIteration;
     }
 
+    public int getStreamingQueryThreads() {
+        return streamingQueryThreads;
+    }
+
     public boolean getOptionRecompile() {
         return optionRecompile;
     }
@@ -6,6 +6,7 @@
 package io.debezium.connector.sqlserver;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -45,6 +46,7 @@ public class SqlServerConnectorTask extends BaseSourceTask<SqlServerPartition, S
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile SqlServerConnection dataConnection;
     private volatile SqlServerConnection metadataConnection;
+    private volatile SqlServerChangeTableQueryPool queryPool;
     private volatile ErrorHandler errorHandler;
     private volatile SqlServerDatabaseSchema schema;
 
@@ -74,6 +76,14 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
                 connectorConfig.getSkippedOperations(), connectorConfig.getOptionRecompile());
         metadataConnection = new SqlServerConnection(connectorConfig.getJdbcConfig(), valueConverters,
                 connectorConfig.getSkippedOperations());
+        if (connectorConfig.getStreamingQueryThreads() > 0) {
+            final List<SqlServerConnection> queryConnections = new ArrayList<>(connectorConfig.getStreamingQueryThreads());
+            for (int i = 0; i < connectorConfig.getStreamingQueryThreads(); i++) {
+                queryConnections.add(new SqlServerConnection(connectorConfig.getJdbcConfig(), valueConverters,
+                        connectorConfig.getSkippedOperations(), connectorConfig.getOptionRecompile()));
+            }
+            queryPool = new SqlServerChangeTableQueryPool(connectorConfig, queryConnections);
+        }
 
         this.schema = new SqlServerDatabaseSchema(connectorConfig, metadataConnection.getDefaultValueConverter(), valueConverters, topicNamingStrategy,
                 schemaNameAdjuster);
@@ -93,6 +103,7 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
                 .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .queueMode(connectorConfig.getQueueMode())
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .build();
 
@@ -115,7 +126,8 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
                 errorHandler,
                 SqlServerConnector.class,
                 connectorConfig,
-                new SqlServerChangeEventSourceFactory(connectorConfig, dataConnection, metadataConnection, errorHandler, dispatcher, clock, schema),
+                new SqlServerChangeEventSourceFactory(connectorConfig, dataConnection, metadataConnection, queryPool, errorHandler, dispatcher, clock,
+                        schema),
                 new SqlServerMetricsFactory(offsets.getPartitions()),
                 dispatcher,
                 schema,
@@ -157,6 +169,10 @@ protected void doStop() {
             LOGGER.error("Exception while closing JDBC metadata connection", e);
         }
 
+        if (queryPool != null) {
+            queryPool.close();
+        }
+
         if (schema != null) {
             schema.close();
         }
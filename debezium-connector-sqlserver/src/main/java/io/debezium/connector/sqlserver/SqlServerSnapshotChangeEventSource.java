@@ -17,10 +17,12 @@
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.sqlserver.SqlServerConnectorConfig.SnapshotIsolationMode;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.relational.Column;
@@ -99,6 +101,32 @@ protected void connectionCreated(RelationalSnapshotContext<SqlServerPartition, S
         }
     }
 
+    @Override
+    protected Optional<JdbcConnection> createSnapshotChunkConnection(RelationalSnapshotContext<SqlServerPartition, SqlServerOffsetContext> snapshotContext)
+            throws SQLException {
+        final int isolationLevel;
+        if (connectorConfig.getSnapshotIsolationMode() == SnapshotIsolationMode.READ_UNCOMMITTED) {
+            isolationLevel = Connection.TRANSACTION_READ_UNCOMMITTED;
+        }
+        else if (connectorConfig.getSnapshotIsolationMode() == SnapshotIsolationMode.READ_COMMITTED) {
+            isolationLevel = Connection.TRANSACTION_READ_COMMITTED;
+        }
+        else {
+            // the other modes rely on locks or a snapshot owned by the snapshot connection
+            return Optional.empty();
+        }
+        final SqlServerConnection chunkConnection = new SqlServerConnection(connectorConfig.getJdbcConfig(), null,
+                connectorConfig.getSkippedOperations());
+        chunkConnection.setAutoCommit(false);
+        chunkConnection.connection().setTransactionIsolation(isolationLevel);
+        return Optional.of(chunkConnection);
+    }
+
+    @Override
+    protected Class<? extends SourceConnector> getConnectorClass() {
+        return SqlServerConnector.class;
+    }
+
     @Override
     protected Set<TableId> getAllTableIds(RelationalSnapshotContext<SqlServerPartition, SqlServerOffsetContext> ctx)
             throws Exception {
@@ -78,6 +78,11 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
      */
     private final SqlServerConnection metadataConnection;
 
+    /**
+     * Connections used for querying the change tables concurrently, null if all change tables are queried on the data connection.
+     */
+    private final SqlServerChangeTableQueryPool queryPool;
+
     private final EventDispatcher<SqlServerPartition, TableId> dispatcher;
     private final ErrorHandler errorHandler;
     private final Clock clock;
@@ -91,12 +96,13 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
     private boolean checkAgent;
 
     public SqlServerStreamingChangeEventSource(SqlServerConnectorConfig connectorConfig, SqlServerConnection dataConnection,
-                                               SqlServerConnection metadataConnection,
+                                               SqlServerConnection metadataConnection, SqlServerChangeTableQueryPool queryPool,
                                                EventDispatcher<SqlServerPartition, TableId> dispatcher,
                                                ErrorHandler errorHandler, Clock clock, SqlServerDatabaseSchema schema) {
         this.connectorConfig = connectorConfig;
         this.dataConnection = dataConnection;
         this.metadataConnection = metadataConnection;
+        this.queryPool = queryPool;
         this.dispatcher = dispatcher;
         this.errorHandler = errorHandler;
         this.clock = clock;
@@ -208,125 +214,132 @@ else if (!checkAgent) {
                     tablesSlot.set(getChangeTablesToQuery(partition, offsetContext, toLsn));
                 }
                 try {
-                    dataConnection.getChangesForTables(databaseName, tablesSlot.get(), fromLsn, toLsn, resultSets -> {
+                    try {
+                        dataConnection.getChangesForTables(databaseName, tablesSlot.get(), fromLsn, toLsn, queryPool, resultSets -> {
 
-                        long eventSerialNoInInitialTx = 1;
-                        final int tableCount = resultSets.length;
-                        final SqlServerChangeTablePointer[] changeTables = new SqlServerChangeTablePointer[tableCount];
-                        final SqlServerChangeTable[] tables = tablesSlot.get();
+                            long eventSerialNoInInitialTx = 1;
+                            final int tableCount = resultSets.length;
+                            final SqlServerChangeTablePointer[] changeTables = new SqlServerChangeTablePointer[tableCount];
+                            final SqlServerChangeTable[] tables = tablesSlot.get();
 
-                        for (int i = 0; i < tableCount; i++) {
-                            changeTables[i] = new SqlServerChangeTablePointer(tables[i], resultSets[i]);
-                            changeTables[i].next();
-                        }
+                            for (int i = 0; i < tableCount; i++) {
+                                changeTables[i] = new SqlServerChangeTablePointer(tables[i], resultSets[i]);
+                                changeTables[i].next();
+                            }
 
-                        for (;;) {
-                            SqlServerChangeTablePointer tableWithSmallestLsn = null;
-                            for (SqlServerChangeTablePointer changeTable : changeTables) {
-                                if (changeTable.isCompleted()) {
-                                    continue;
+                            for (;;) {
+                                SqlServerChangeTablePointer tableWithSmallestLsn = null;
+                                for (SqlServerChangeTablePointer changeTable : changeTables) {
+                                    if (changeTable.isCompleted()) {
+                                        continue;
+                                    }
+                                    if (tableWithSmallestLsn == null || changeTable.compareTo(tableWithSmallestLsn) < 0) {
+                                        tableWithSmallestLsn = changeTable;
+                                    }
                                 }
-                                if (tableWithSmallestLsn == null || changeTable.compareTo(tableWithSmallestLsn) < 0) {
-                                    tableWithSmallestLsn = changeTable;
+                                if (tableWithSmallestLsn == null) {
+                                    // No more LSNs available
+                                    break;
                                 }
-                            }
-                            if (tableWithSmallestLsn == null) {
-                                // No more LSNs available
-                                break;
-                            }
 
-                            if (!(tableWithSmallestLsn.getChangePosition().isAvailable() && tableWithSmallestLsn.getChangePosition().getInTxLsn().isAvailable())) {
-                                LOGGER.error("Skipping change {} as its LSN is NULL which is not expected", tableWithSmallestLsn);
-                                tableWithSmallestLsn.next();
-                                continue;
-                            }
+                                if (!(tableWithSmallestLsn.getChangePosition().isAvailable() && tableWithSmallestLsn.getChangePosition().getInTxLsn().isAvailable())) {
+                                    LOGGER.error("Skipping change {} as its LSN is NULL which is not expected", tableWithSmallestLsn);
+                                    tableWithSmallestLsn.next();
+                                    continue;
+                                }
 
-                            if (tableWithSmallestLsn.isNewTransaction() && changesStoppedBeingMonotonic.get()) {
-                                LOGGER.info("Resetting changesStoppedBeingMonotonic as transaction changes");
-                                changesStoppedBeingMonotonic.set(false);
-                            }
+                                if (tableWithSmallestLsn.isNewTransaction() && changesStoppedBeingMonotonic.get()) {
+                                    LOGGER.info("Resetting changesStoppedBeingMonotonic as transaction changes");
+                                    changesStoppedBeingMonotonic.set(false);
+                                }
 
-                            // After restart for changes that are not monotonic to avoid data loss
-                            if (tableWithSmallestLsn.isCurrentPositionSmallerThanPreviousPosition()) {
-                                LOGGER.info("Disabling skipping changes due to not monotonic order of changes");
-                                changesStoppedBeingMonotonic.set(true);
-                            }
+                                // After restart for changes that are not monotonic to avoid data loss
+                                if (tableWithSmallestLsn.isCurrentPositionSmallerThanPreviousPosition()) {
+                                    LOGGER.info("Disabling skipping changes due to not monotonic order of changes");
+                                    changesStoppedBeingMonotonic.set(true);
+                                }
 
-                            // After restart for changes that were executed before the last committed offset
-                            if (!changesStoppedBeingMonotonic.get() &&
-                                    tableWithSmallestLsn.getChangePosition().compareTo(lastProcessedPositionOnStart) < 0) {
-                                LOGGER.info("Skipping change {} as its position is smaller than the last recorded position {}", tableWithSmallestLsn,
-                                        lastProcessedPositionOnStart);
-                                tableWithSmallestLsn.next();
-                                continue;
-                            }
-                            // After restart for change that was the last committed and operations in it before the last committed offset
-                            if (!changesStoppedBeingMonotonic.get() && tableWithSmallestLsn.getChangePosition().compareTo(lastProcessedPositionOnStart) == 0
-                                    && eventSerialNoInInitialTx <= lastProcessedEventSerialNoOnStart) {
-                                LOGGER.info("Skipping change {} as its order in the transaction {} is smaller than or equal to the last recorded operation {}[{}]",
-                                        tableWithSmallestLsn, eventSerialNoInInitialTx, lastProcessedPositionOnStart, lastProcessedEventSerialNoOnStart);
-                                eventSerialNoInInitialTx++;
-                                tableWithSmallestLsn.next();
-                                continue;
-                            }
-                            if (tableWithSmallestLsn.getChangeTable().getStopLsn().isAvailable() &&
-                                    tableWithSmallestLsn.getChangeTable().getStopLsn().compareTo(tableWithSmallestLsn.getChangePosition().getCommitLsn()) <= 0) {
-                                LOGGER.debug("Skipping table change {} as its stop LSN is smaller than the last recorded LSN {}", tableWithSmallestLsn,
-                                        tableWithSmallestLsn.getChangePosition());
-                                tableWithSmallestLsn.next();
-                                continue;
-                            }
-                            LOGGER.trace("Processing change {}", tableWithSmallestLsn);
-                            LOGGER.trace("Schema change checkpoints {}", schemaChangeCheckpoints);
-                            if (!schemaChangeCheckpoints.isEmpty()) {
-                                if (tableWithSmallestLsn.getChangePosition().getCommitLsn().compareTo(schemaChangeCheckpoints.peek().getStartLsn()) >= 0) {
-                                    migrateTable(partition, schemaChangeCheckpoints, offsetContext);
+                                // After restart for changes that were executed before the last committed offset
+                                if (!changesStoppedBeingMonotonic.get() &&
+                                        tableWithSmallestLsn.getChangePosition().compareTo(lastProcessedPositionOnStart) < 0) {
+                                    LOGGER.info("Skipping change {} as its position is smaller than the last recorded position {}", tableWithSmallestLsn,
+                                            lastProcessedPositionOnStart);
+                                    tableWithSmallestLsn.next();
+                                    continue;
                                 }
-                            }
-                            final TableId tableId = tableWithSmallestLsn.getChangeTable().getSourceTableId();
-                            final int operation = tableWithSmallestLsn.getOperation();
-                            final Object[] data = tableWithSmallestLsn.getData();
-
-                            // UPDATE consists of two consecutive events, first event contains
-                            // the row before it was updated and the second the row after
-                            // it was updated
-                            int eventCount = 1;
-                            if (operation == SqlServerChangeRecordEmitter.OP_UPDATE_BEFORE) {
-                                if (!tableWithSmallestLsn.next() || tableWithSmallestLsn.getOperation() != SqlServerChangeRecordEmitter.OP_UPDATE_AFTER) {
-                                    throw new IllegalStateException("The update before event at " + tableWithSmallestLsn.getChangePosition() + " for table " + tableId
-                                            + " was not followed by after event.\n Please report this as a bug together with a events around given LSN.");
+                                // After restart for change that was the last committed and operations in it before the last committed offset
+                                if (!changesStoppedBeingMonotonic.get() && tableWithSmallestLsn.getChangePosition().compareTo(lastProcessedPositionOnStart) == 0
+                                        && eventSerialNoInInitialTx <= lastProcessedEventSerialNoOnStart) {
+                                    LOGGER.info("Skipping change {} as its order in the transaction {} is smaller than or equal to the last recorded operation {}[{}]",
+                                            tableWithSmallestLsn, eventSerialNoInInitialTx, lastProcessedPositionOnStart, lastProcessedEventSerialNoOnStart);
+                                    eventSerialNoInInitialTx++;
+                                    tableWithSmallestLsn.next();
+                                    continue;
+                                }
+                                if (tableWithSmallestLsn.getChangeTable().getStopLsn().isAvailable() &&
+                                        tableWithSmallestLsn.getChangeTable().getStopLsn().compareTo(tableWithSmallestLsn.getChangePosition().getCommitLsn()) <= 0) {
+                                    LOGGER.debug("Skipping table change {} as its stop LSN is smaller than the last recorded LSN {}", tableWithSmallestLsn,
+                                            tableWithSmallestLsn.getChangePosition());
+                                    tableWithSmallestLsn.next();
+                                    continue;
+                                }
+                                LOGGER.trace("Processing change {}", tableWithSmallestLsn);
+                                LOGGER.trace("Schema change checkpoints {}", schemaChangeCheckpoints);
+                                if (!schemaChangeCheckpoints.isEmpty()) {
+                                    if (tableWithSmallestLsn.getChangePosition().getCommitLsn().compareTo(schemaChangeCheckpoints.peek().getStartLsn()) >= 0) {
+                                        migrateTable(partition, schemaChangeCheckpoints, offsetContext);
+                                    }
                                 }
-                                eventCount = 2;
+                                final TableId tableId = tableWithSmallestLsn.getChangeTable().getSourceTableId();
+                                final int operation = tableWithSmallestLsn.getOperation();
+                                final Object[] data = tableWithSmallestLsn.getData();
+
+                                // UPDATE consists of two consecutive events, first event contains
+                                // the row before it was updated and the second the row after
+                                // it was updated
+                                int eventCount = 1;
+                                if (operation == SqlServerChangeRecordEmitter.OP_UPDATE_BEFORE) {
+                                    if (!tableWithSmallestLsn.next() || tableWithSmallestLsn.getOperation() != SqlServerChangeRecordEmitter.OP_UPDATE_AFTER) {
+                                        throw new IllegalStateException("The update before event at " + tableWithSmallestLsn.getChangePosition() + " for table " + tableId
+                                                + " was not followed by after event.\n Please report this as a bug together with a events around given LSN.");
+                                    }
+                                    eventCount = 2;
+                                }
+                                final Object[] dataNext = (operation == SqlServerChangeRecordEmitter.OP_UPDATE_BEFORE) ? tableWithSmallestLsn.getData() : null;
+
+                                final ResultSet resultSet = tableWithSmallestLsn.getResultSet();
+                                offsetContext.setChangePosition(tableWithSmallestLsn.getChangePosition(), eventCount);
+                                offsetContext.event(
+                                        tableWithSmallestLsn.getChangeTable().getSourceTableId(),
+                                        resultSet.getTimestamp(resultSet.getMetaData().getColumnCount()).toInstant());
+
+                                dispatcher
+                                        .dispatchDataChangeEvent(
+                                                partition,
+                                                tableId,
+                                                new SqlServerChangeRecordEmitter(
+                                                        partition,
+                                                        offsetContext,
+                                                        operation,
+                                                        data,
+                                                        dataNext,
+                                                        clock));
+                                tableWithSmallestLsn.next();
                             }
-                            final Object[] dataNext = (operation == SqlServerChangeRecordEmitter.OP_UPDATE_BEFORE) ? tableWithSmallestLsn.getData() : null;
-
-                            final ResultSet resultSet = tableWithSmallestLsn.getResultSet();
-                            offsetContext.setChangePosition(tableWithSmallestLsn.getChangePosition(), eventCount);
-                            offsetContext.event(
-                                    tableWithSmallestLsn.getChangeTable().getSourceTableId(),
-                                    resultSet.getTimestamp(resultSet.getMetaData().getColumnCount()).toInstant());
-
-                            dispatcher
-                                    .dispatchDataChangeEvent(
-                                            partition,
-                                            tableId,
-                                            new SqlServerChangeRecordEmitter(
-                                                    partition,
-                                                    offsetContext,
-                                                    operation,
-                                                    data,
-                                                    dataNext,
-                                                    clock));
-                            tableWithSmallestLsn.next();
-                        }
-                    });
-                    streamingExecutionContext.setLastProcessedPosition(TxLogPosition.valueOf(toLsn));
-                    // Terminate the transaction otherwise CDC could not be disabled for tables
-                    dataConnection.rollback();
+                        });
+                        streamingExecutionContext.setLastProcessedPosition(TxLogPosition.valueOf(toLsn));
+                        // Terminate the transaction otherwise CDC could not be disabled for tables
+                        dataConnection.rollback();
+                    }
+                    catch (SQLException e) {
+                        tablesSlot.set(processErrorFromChangeTableQuery(databaseName, e, tablesSlot.get()));
+                    }
                 }
-                catch (SQLException e) {
-                    tablesSlot.set(processErrorFromChangeTableQuery(databaseName, e, tablesSlot.get()));
+                catch (Exception e) {
+                    rollbackQueries(e);
+                    throw e;
                 }
+                rollbackQueries(null);
             }
         }
         catch (Exception e) {
@@ -336,6 +349,28 @@ else if (!checkAgent) {
         return true;
     }
 
+    /**
+     * Ends the transactions of the connections querying the change tables concurrently. A failure to do so does not
+     * replace the failure of the iteration, if any, so that the latter is reported.
+     *
+     * @param failure the exception thrown by the iteration, or null if it succeeded
+     */
+    private void rollbackQueries(Exception failure) throws SQLException {
+        if (queryPool == null) {
+            return;
+        }
+        try {
+            queryPool.rollback();
+        }
+        catch (SQLException e) {
+            if (failure == null) {
+                throw e;
+            }
+            LOGGER.warn("Failed to roll back the transactions of the change table queries", e);
+            failure.addSuppressed(e);
+        }
+    }
+
     private void commitTransaction() throws SQLException {
         // When reading from read-only Always On replica the default and only transaction isolation
         // is snapshot. This means that CDC metadata are not visible for long-running transactions.
@@ -0,0 +1,234 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.CommonConnectorConfig.BinaryHandlingMode;
+import io.debezium.config.Configuration;
+import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.jdbc.JdbcConnection.StatementPreparer;
+import io.debezium.jdbc.JdbcValueConverters.DecimalMode;
+import io.debezium.jdbc.TemporalPrecisionMode;
+
+public class SqlServerChangeTableQueryPoolTest {
+
+    private final Map<String, String> queryThreads = new ConcurrentHashMap<>();
+    private final Map<String, Integer> queryConnections = new ConcurrentHashMap<>();
+    private final List<String> closedResources = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger rollbacks = new AtomicInteger();
+    private final AtomicInteger closedConnections = new AtomicInteger();
+
+    private SqlServerChangeTableQueryPool pool;
+
+    @Before
+    public void beforeEach() {
+        final SqlServerConnectorConfig connectorConfig = new SqlServerConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+                .with(SqlServerConnectorConfig.STREAMING_QUERY_THREADS, 2)
+                .build());
+        pool = new SqlServerChangeTableQueryPool(connectorConfig, Arrays.asList(new TestConnection(0), new TestConnection(1)));
+    }
+
+    @After
+    public void afterEach() {
+        pool.close();
+    }
+
+    @Test
+    public void shouldPassResultSetsInQueryOrder() throws Exception {
+        final String[] queries = queries(5);
+        final List<String> consumed = new ArrayList<>();
+
+        pool.prepareQuery(queries, preparers(queries.length), resultSets -> {
+            for (ResultSet resultSet : resultSets) {
+                consumed.add(resultSet.getString(1));
+            }
+        });
+
+        assertThat(consumed).containsExactly((Object[]) queries);
+    }
+
+    @Test
+    public void shouldDistributeQueriesOverConnections() throws Exception {
+        final String[] queries = queries(5);
+        final String callingThread = Thread.currentThread().getName();
+
+        pool.prepareQuery(queries, preparers(queries.length), resultSets -> {
+        });
+
+        for (int i = 0; i < queries.length; i++) {
+            assertThat(queryConnections.get(queries[i])).isEqualTo(i % 2);
+            assertThat(queryThreads.get(queries[i])).isNotEqualTo(callingThread);
+            assertThat(queryThreads.get(queries[i])).contains("change-table-query");
+        }
+        // the queries of a connection are executed by the same thread
+        assertThat(queryThreads.get(queries[2])).isEqualTo(queryThreads.get(queries[0]));
+        assertThat(queryThreads.get(queries[3])).isEqualTo(queryThreads.get(queries[1]));
+    }
+
+    @Test
+    public void shouldUseOnlyAsManyConnectionsAsQueries() throws Exception {
+        final String[] queries = queries(1);
+
+        pool.prepareQuery(queries, preparers(queries.length), resultSets -> assertThat(resultSets).hasSize(1));
+
+        assertThat(queryConnections.get(queries[0])).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCloseResultSetsAndStatements() throws Exception {
+        final String[] queries = queries(3);
+
+        pool.prepareQuery(queries, preparers(queries.length), resultSets -> assertThat(closedResources).isEmpty());
+
+        assertThat(closedResources).hasSize(2 * queries.length);
+    }
+
+    @Test
+    public void shouldRethrowQueryFailure() throws Exception {
+        final String[] queries = queries(4);
+        final StatementPreparer[] preparers = preparers(queries.length);
+        preparers[3] = statement -> {
+            throw new SQLException("Invalid LSN");
+        };
+
+        SQLException failure = null;
+        try {
+            pool.prepareQuery(queries, preparers, resultSets -> {
+                throw new IllegalStateException("The result sets must not be consumed");
+            });
+        }
+        catch (SQLException e) {
+            failure = e;
+        }
+
+        assertThat((Throwable) failure).isNotNull();
+        assertThat(failure.getMessage()).isEqualTo("Invalid LSN");
+        // the result sets of the successful queries are closed
+        assertThat(closedResources).contains("ResultSet " + queries[0], "Statement " + queries[0]);
+    }
+
+    @Test
+    public void shouldRollbackAndCloseAllConnections() throws Exception {
+        pool.rollback();
+        assertThat(rollbacks.get()).isEqualTo(2);
+
+        pool.close();
+        assertThat(closedConnections.get()).isEqualTo(2);
+    }
+
+    private static String[] queries(int count) {
+        final String[] queries = new String[count];
+        for (int i = 0; i < count; i++) {
+            queries[i] = "SELECT * FROM cdc.fn_cdc_get_all_changes_dbo_table" + i;
+        }
+        return queries;
+    }
+
+    private static StatementPreparer[] preparers(int count) {
+        final StatementPreparer[] preparers = new StatementPreparer[count];
+        Arrays.fill(preparers, (StatementPreparer) statement -> statement.setBytes(1, new byte[0]));
+        return preparers;
+    }
+
+    /**
+     * A connection whose statements return a single row containing the executed query.
+     */
+    private final class TestConnection extends SqlServerConnection {
+
+        private final int index;
+
+        private TestConnection(int index) {
+            super(JdbcConfiguration.create().build(), new SqlServerValueConverters(DecimalMode.PRECISE, TemporalPrecisionMode.ADAPTIVE,
+                    BinaryHandlingMode.BYTES), Collections.emptySet());
+            this.index = index;
+        }
+
+        @Override
+        public synchronized boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public synchronized Connection connection(boolean executeOnConnect) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "prepareStatement":
+                        return statement((String) args[0]);
+                    case "getAutoCommit":
+                        return false;
+                    case "rollback":
+                        rollbacks.incrementAndGet();
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+
+        @Override
+        public synchronized void close() {
+            closedConnections.incrementAndGet();
+        }
+
+        private PreparedStatement statement(String query) {
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "setBytes":
+                        return null;
+                    case "executeQuery":
+                        queryThreads.put(query, Thread.currentThread().getName());
+                        queryConnections.put(query, index);
+                        return resultSet(query);
+                    case "close":
+                        closedResources.add("Statement " + query);
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+
+        private ResultSet resultSet(String query) {
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getString":
+                        return query;
+                    case "close":
+                        closedResources.add("ResultSet " + query);
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlServerChangeTableQueryPoolTest.class.getClassLoader(), new Class<?>[]{ type }, handler);
+    }
+}
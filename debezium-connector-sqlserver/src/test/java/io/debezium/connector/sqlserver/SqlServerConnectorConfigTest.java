@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.sqlserver;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -36,6 +37,36 @@ public void nonEmptyDatabaseNames() {
         assertTrue(connectorConfig.validateAndRecord(SqlServerConnectorConfig.ALL_FIELDS, LOGGER::error));
     }
 
+    @Test
+    public void shouldQueryChangeTablesOnSingleConnectionByDefault() {
+        final SqlServerConnectorConfig connectorConfig = new SqlServerConnectorConfig(
+                defaultConfig()
+                        .with(SqlServerConnectorConfig.DATABASE_NAMES, "testDB1")
+                        .build());
+        assertEquals(0, connectorConfig.getStreamingQueryThreads());
+    }
+
+    @Test
+    public void validStreamingQueryThreads() {
+        final SqlServerConnectorConfig connectorConfig = new SqlServerConnectorConfig(
+                defaultConfig()
+                        .with(SqlServerConnectorConfig.DATABASE_NAMES, "testDB1")
+                        .with(SqlServerConnectorConfig.STREAMING_QUERY_THREADS, 4)
+                        .build());
+        assertTrue(connectorConfig.validateAndRecord(SqlServerConnectorConfig.ALL_FIELDS, LOGGER::error));
+        assertEquals(4, connectorConfig.getStreamingQueryThreads());
+    }
+
+    @Test
+    public void invalidStreamingQueryThreads() {
+        final SqlServerConnectorConfig connectorConfig = new SqlServerConnectorConfig(
+                defaultConfig()
+                        .with(SqlServerConnectorConfig.DATABASE_NAMES, "testDB1")
+                        .with(SqlServerConnectorConfig.STREAMING_QUERY_THREADS, -1)
+                        .build());
+        assertFalse(connectorConfig.validateAndRecord(SqlServerConnectorConfig.ALL_FIELDS, LOGGER::error));
+    }
+
     private Configuration.Builder defaultConfig() {
         return Configuration.create()
                 .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
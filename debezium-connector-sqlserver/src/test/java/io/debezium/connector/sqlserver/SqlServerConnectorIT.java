@@ -178,6 +178,48 @@ public void createAndDelete() throws Exception {
         stopConnector();
     }
 
+    @Test
+    public void streamChangesOfMultipleTablesInLsnOrderUsingQueryThreads() throws Exception {
+        final int RECORDS_PER_TABLE = 5;
+        final int ID_START = 10;
+        final Configuration config = TestHelper.defaultConfig()
+                .with(SqlServerConnectorConfig.SNAPSHOT_MODE, SnapshotMode.INITIAL)
+                .with(SqlServerConnectorConfig.STREAMING_QUERY_THREADS, 2)
+                .build();
+
+        start(SqlServerConnector.class, config);
+        assertConnectorIsRunning();
+
+        // Wait for snapshot completion
+        consumeRecordsByTopic(1);
+
+        for (int i = 0; i < RECORDS_PER_TABLE; i++) {
+            final int id = ID_START + i;
+            connection.execute(
+                    "INSERT INTO tablea VALUES(" + id + ", 'a')");
+            connection.execute(
+                    "INSERT INTO tableb VALUES(" + id + ", 'b')");
+        }
+
+        // the change tables are queried concurrently, but the changes are still emitted in the order of their LSN
+        final List<SourceRecord> records = consumeRecordsByTopic(RECORDS_PER_TABLE * 2).allRecordsInOrder();
+        Assertions.assertThat(records).hasSize(RECORDS_PER_TABLE * 2);
+        for (int i = 0; i < RECORDS_PER_TABLE; i++) {
+            final SourceRecord recordA = records.get(2 * i);
+            final SourceRecord recordB = records.get(2 * i + 1);
+            Assertions.assertThat(recordA.topic()).isEqualTo("server1.testDB1.dbo.tablea");
+            Assertions.assertThat(recordB.topic()).isEqualTo("server1.testDB1.dbo.tableb");
+            assertRecord((Struct) ((Struct) recordA.value()).get("after"), Arrays.asList(
+                    new SchemaAndValueField("id", Schema.INT32_SCHEMA, i + ID_START),
+                    new SchemaAndValueField("cola", Schema.OPTIONAL_STRING_SCHEMA, "a")));
+            assertRecord((Struct) ((Struct) recordB.value()).get("after"), Arrays.asList(
+                    new SchemaAndValueField("id", Schema.INT32_SCHEMA, i + ID_START),
+                    new SchemaAndValueField("colb", Schema.OPTIONAL_STRING_SCHEMA, "b")));
+        }
+
+        stopConnector();
+    }
+
     @Test
     @FixFor("DBZ-1642")
     public void readOnlyApplicationIntent() throws Exception {
@@ -303,6 +303,53 @@ public static SchemaNameAdjustmentMode parse(String value) {
         }
     }
 
+    /**
+     * The set of predefined implementations of the change event queue handing over events from the
+     * producer threads to the polling loop.
+     */
+    public enum QueueMode implements EnumeratedValue {
+
+        /**
+         * A queue guarded by a single lock, producers and consumer wait on conditions.
+         */
+        BLOCKING("blocking"),
+
+        /**
+         * A bounded lock-free ring buffer, whole batches are handed over to the consumer.
+         */
+        LOCK_FREE("lock-free");
+
+        private final String value;
+
+        QueueMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied values is one of the predefined options
+         *
+         * @param value the configuration property value ; may not be null
+         * @return the matching option, or null if the match is not found
+         */
+        public static QueueMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (QueueMode option : QueueMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+
     private static final String CONFLUENT_AVRO_CONVERTER = "io.confluent.connect.avro.AvroConverter";
     private static final String APICURIO_AVRO_CONVERTER = "io.apicurio.registry.utils.converter.AvroConverter";
 
@@ -394,6 +441,16 @@ public static SchemaNameAdjustmentMode parse(String value) {
             .withDefault(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
             .withValidation(Field::isNonNegativeLong);
 
+    public static final Field QUEUE_MODE = Field.create("queue.mode")
+            .withDisplayName("Change event queue mode")
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 19))
+            .withEnum(QueueMode.class, QueueMode.BLOCKING)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Specify the implementation of the queue buffering change events between the database reader and the polling loop, including: "
+                    + "'blocking' (the default) a queue guarded by a single lock; "
+                    + "'lock-free' a bounded lock-free ring buffer which hands over whole batches to the polling loop.");
+
     public static final Field SNAPSHOT_DELAY_MS = Field.create("snapshot.delay.ms")
             .withDisplayName("Snapshot Delay (milliseconds)")
             .withType(Type.LONG)
@@ -422,6 +479,28 @@ public static SchemaNameAdjustmentMode parse(String value) {
             .withDefault(1024)
             .withValidation(Field::isNonNegativeInteger);
 
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNKS_PER_WINDOW = Field.create("incremental.snapshot.chunks.per.window")
+            .withDisplayName("Incremental snapshot chunks per window")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of consecutive chunks of 'incremental.snapshot.chunk.size' rows that are read within a single "
+                    + "incremental snapshot window. When greater than 1, the key ranges of the chunks are read concurrently, using up to "
+                    + "'incremental.snapshot.max.threads' additional database connections. All rows of a window are buffered in memory for "
+                    + "deduplication, so the buffer holds up to 'incremental.snapshot.chunk.size' * 'incremental.snapshot.chunks.per.window' rows.")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger);
+
+    public static final Field INCREMENTAL_SNAPSHOT_MAX_THREADS = Field.create("incremental.snapshot.max.threads")
+            .withDisplayName("Incremental snapshot maximum threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of threads, each using its own database connection, used to read the chunks of an "
+                    + "incremental snapshot window concurrently. Only used when 'incremental.snapshot.chunks.per.window' is greater than 1.")
+            .withDefault(4)
+            .withValidation(Field::isPositiveInteger);
+
     public static final Field INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES = Field.create("incremental.snapshot.allow.schema.changes")
             .withDisplayName("Allow schema changes during incremental snapshot if supported.")
             .withType(Type.BOOLEAN)
@@ -572,6 +651,7 @@ public static SchemaNameAdjustmentMode parse(String value) {
                     MAX_QUEUE_SIZE,
                     POLL_INTERVAL_MS,
                     MAX_QUEUE_SIZE_IN_BYTES,
+                    QUEUE_MODE,
                     PROVIDE_TRANSACTION_METADATA,
                     SKIPPED_OPERATIONS,
                     SNAPSHOT_DELAY_MS,
@@ -595,6 +675,7 @@ public static SchemaNameAdjustmentMode parse(String value) {
     private final int maxQueueSize;
     private final int maxBatchSize;
     private final long maxQueueSizeInBytes;
+    private final QueueMode queueMode;
     private final Duration pollInterval;
     private final String logicalName;
     private final String heartbeatTopicsPrefix;
@@ -604,6 +685,8 @@ public static SchemaNameAdjustmentMode parse(String value) {
     private final int snapshotFetchSize;
     private final int incrementalSnapshotChunkSize;
     private final boolean incrementalSnapshotAllowSchemaChanges;
+    private final int incrementalSnapshotChunksPerWindow;
+    private final int incrementalSnapshotMaxThreads;
     private final int snapshotMaxThreads;
     private final Integer queryFetchSize;
     private final SourceInfoStructMaker<? extends AbstractSourceInfo> sourceInfoStructMaker;
@@ -624,6 +707,7 @@ protected CommonConnectorConfig(Configuration config, String logicalName, int de
         this.maxBatchSize = config.getInteger(MAX_BATCH_SIZE);
         this.pollInterval = config.getDuration(POLL_INTERVAL_MS, ChronoUnit.MILLIS);
         this.maxQueueSizeInBytes = config.getLong(MAX_QUEUE_SIZE_IN_BYTES);
+        this.queueMode = QueueMode.parse(config.getString(QUEUE_MODE));
         this.logicalName = logicalName;
         this.heartbeatTopicsPrefix = config.getString(Heartbeat.HEARTBEAT_TOPICS_PREFIX);
         this.heartbeatInterval = config.getDuration(Heartbeat.HEARTBEAT_INTERVAL, ChronoUnit.MILLIS);
@@ -634,6 +718,8 @@ protected CommonConnectorConfig(Configuration config, String logicalName, int de
         this.queryFetchSize = config.getInteger(QUERY_FETCH_SIZE);
         this.incrementalSnapshotChunkSize = config.getInteger(INCREMENTAL_SNAPSHOT_CHUNK_SIZE);
         this.incrementalSnapshotAllowSchemaChanges = config.getBoolean(INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES);
+        this.incrementalSnapshotChunksPerWindow = config.getInteger(INCREMENTAL_SNAPSHOT_CHUNKS_PER_WINDOW);
+        this.incrementalSnapshotMaxThreads = config.getInteger(INCREMENTAL_SNAPSHOT_MAX_THREADS);
         this.schemaNameAdjustmentMode = SchemaNameAdjustmentMode.parse(config.getString(SCHEMA_NAME_ADJUSTMENT_MODE));
         this.sourceInfoStructMaker = getSourceInfoStructMaker(Version.V2);
         this.sanitizeFieldNames = config.getBoolean(SANITIZE_FIELD_NAMES) || isUsingAvroConverter(config);
@@ -689,6 +775,10 @@ public long getMaxQueueSizeInBytes() {
         return maxQueueSizeInBytes;
     }
 
+    public QueueMode getQueueMode() {
+        return queueMode;
+    }
+
     public Duration getPollInterval() {
         return pollInterval;
     }
@@ -733,6 +823,14 @@ public int getIncrementalSnashotChunkSize() {
         return incrementalSnapshotChunkSize;
     }
 
+    public int getIncrementalSnapshotChunksPerWindow() {
+        return incrementalSnapshotChunksPerWindow;
+    }
+
+    public int getIncrementalSnapshotMaxThreads() {
+        return incrementalSnapshotMaxThreads;
+    }
+
     public boolean shouldProvideTransactionMetadata() {
         return shouldProvideTransactionMetadata;
     }
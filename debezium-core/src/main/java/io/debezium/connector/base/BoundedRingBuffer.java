@@ -0,0 +1,152 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * A bounded, lock-free multi-producer/multi-consumer ring buffer, based on the array queue described by
+ * Dmitry Vyukov. Each slot carries a sequence number which producers and consumers use to claim the slot
+ * via a single CAS on the tail or head counter, so neither side ever blocks the other.
+ * <p>
+ * Next to the elements, the buffer keeps track of an approximate total size in bytes of the buffered
+ * elements. The size of each element is recorded in its slot when it is offered, so it does not have to be
+ * recomputed when the element is drained.
+ *
+ * @param <T> the type of the buffered elements
+ */
+@ThreadSafe
+class BoundedRingBuffer<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] elements;
+    private final long[] sizes;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong sizeInBytes = new AtomicLong();
+
+    /**
+     * @param minCapacity the minimal capacity of the buffer; it will be rounded up to the next power of two
+     */
+    BoundedRingBuffer(int minCapacity) {
+        if (minCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive but was " + minCapacity);
+        }
+        this.capacity = minCapacity == 1 ? 1 : Integer.highestOneBit(minCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new Object[capacity];
+        this.sizes = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the given element to the buffer if there is a free slot.
+     *
+     * @param element the element to add; may not be null
+     * @param elementSizeInBytes the approximate size of the element, {@code 0} if not tracked
+     * @return {@code true} if the element was added, {@code false} if the buffer is full
+     */
+    boolean offer(T element, long elementSizeInBytes) {
+        long position = tail.get();
+        int index;
+        for (;;) {
+            index = (int) (position & mask);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            }
+            else if (difference < 0) {
+                return false;
+            }
+            else {
+                position = tail.get();
+            }
+        }
+
+        elements[index] = element;
+        sizes[index] = elementSizeInBytes;
+        if (elementSizeInBytes > 0) {
+            sizeInBytes.addAndGet(elementSizeInBytes);
+        }
+        // publishes the plain writes above to the consumer reading the sequence
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Moves up to {@code maxElements} elements from the buffer into the given list, in the order they were
+     * published.
+     *
+     * @return the size of the list after draining
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(List<T> target, int maxElements) {
+        long drainedBytes = 0;
+        for (int i = 0; i < maxElements; i++) {
+            long position = head.get();
+            int index;
+            for (;;) {
+                index = (int) (position & mask);
+                final long difference = sequences.get(index) - (position + 1);
+                if (difference == 0) {
+                    if (head.compareAndSet(position, position + 1)) {
+                        break;
+                    }
+                    position = head.get();
+                }
+                else if (difference < 0) {
+                    // nothing (yet) published at the head position
+                    index = -1;
+                    break;
+                }
+                else {
+                    position = head.get();
+                }
+            }
+            if (index < 0) {
+                break;
+            }
+
+            target.add((T) elements[index]);
+            drainedBytes += sizes[index];
+            elements[index] = null;
+            sequences.lazySet(index, position + capacity);
+        }
+        if (drainedBytes > 0) {
+            sizeInBytes.addAndGet(-drainedBytes);
+        }
+        return target.size();
+    }
+
+    /**
+     * Returns the approximate number of elements in the buffer, including slots claimed by producers
+     * which have not been published yet.
+     */
+    int size() {
+        final long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    long sizeInBytes() {
+        return sizeInBytes.get();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
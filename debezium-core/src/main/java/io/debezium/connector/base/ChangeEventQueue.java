@@ -12,8 +12,10 @@
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -23,6 +25,7 @@
 
 import io.debezium.annotation.SingleThreadAccess;
 import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.CommonConnectorConfig.QueueMode;
 import io.debezium.config.ConfigurationDefaults;
 import io.debezium.pipeline.Sizeable;
 import io.debezium.time.Temporals;
@@ -48,6 +51,10 @@
  * operation. Upon the next call to {@link #poll()}, that exception will be
  * raised, causing Kafka Connect to stop the connector and mark it as
  * {@code FAILED}.
+ * <p>
+ * By default the queue is guarded by a single lock. In {@link QueueMode#LOCK_FREE} mode the events are
+ * buffered in a bounded lock-free ring buffer instead; producers then never contend with the consumer on a
+ * lock, and {@link #poll()} drains whole batches from the buffer at once.
  *
  * @author Gunnar Morling
  *
@@ -62,6 +69,11 @@
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventQueue.class);
 
+    /**
+     * Time a producer backs off for in lock-free mode before re-trying to enqueue into a full buffer.
+     */
+    private static final long PRODUCER_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
     private final Duration pollInterval;
     private final int maxBatchSize;
     private final int maxQueueSize;
@@ -76,6 +88,10 @@
     private final Queue<Long> sizeInBytesQueue;
     private long currentQueueSizeInBytes = 0;
 
+    // only set in lock-free mode, the lock and queues above are unused then
+    private final BoundedRingBuffer<T> ringBuffer;
+    private final AtomicReference<Thread> waitingConsumer;
+
     // Sometimes it is necessary to update the record before it is delivered depending on the content
     // of the following record. In that cases the easiest solution is to provide a single cell buffer
     // that will allow the modification of it during the explicit flush.
@@ -90,7 +106,7 @@
     private volatile RuntimeException producerException;
 
     private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
-                             long maxQueueSizeInBytes, boolean buffering) {
+                             long maxQueueSizeInBytes, boolean buffering, QueueMode queueMode) {
         this.pollInterval = pollInterval;
         this.maxBatchSize = maxBatchSize;
         this.maxQueueSize = maxQueueSize;
@@ -104,6 +120,15 @@ private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSi
         this.sizeInBytesQueue = new ArrayDeque<>(maxQueueSize);
         this.maxQueueSizeInBytes = maxQueueSizeInBytes;
         this.buffering = buffering;
+
+        if (queueMode == QueueMode.LOCK_FREE) {
+            this.ringBuffer = new BoundedRingBuffer<>(maxQueueSize);
+            this.waitingConsumer = new AtomicReference<>();
+        }
+        else {
+            this.ringBuffer = null;
+            this.waitingConsumer = null;
+        }
     }
 
     public static class Builder<T extends Sizeable> {
@@ -114,6 +139,7 @@ private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSi
         private Supplier<LoggingContext.PreviousContext> loggingContextSupplier;
         private long maxQueueSizeInBytes;
         private boolean buffering;
+        private QueueMode queueMode = QueueMode.BLOCKING;
 
         public Builder<T> pollInterval(Duration pollInterval) {
             this.pollInterval = pollInterval;
@@ -145,8 +171,13 @@ public Builder<T> buffering() {
             return this;
         }
 
+        public Builder<T> queueMode(QueueMode queueMode) {
+            this.queueMode = queueMode;
+            return this;
+        }
+
         public ChangeEventQueue<T> build() {
-            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
+            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering, queueMode);
         }
     }
 
@@ -209,6 +240,11 @@ protected void doEnqueue(T record) throws InterruptedException {
             LOGGER.debug("Enqueuing source record '{}'", record);
         }
 
+        if (ringBuffer != null) {
+            doEnqueueLockFree(record);
+            return;
+        }
+
         try {
             this.lock.lock();
 
@@ -238,6 +274,33 @@ protected void doEnqueue(T record) throws InterruptedException {
         }
     }
 
+    private void doEnqueueLockFree(T record) throws InterruptedException {
+        final long messageSize = maxQueueSizeInBytes > 0 ? record.objectSize() : 0;
+
+        while (ringBuffer.size() >= maxQueueSize
+                || (maxQueueSizeInBytes > 0 && ringBuffer.sizeInBytes() >= maxQueueSizeInBytes)
+                || !ringBuffer.offer(record, messageSize)) {
+            // queue size or queue sizeInBytes threshold reached, wake up poll() to drain the queue and wait a bit
+            signalConsumer();
+            LockSupport.parkNanos(this, PRODUCER_BACKOFF_NANOS);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+
+        // batch size or queue sizeInBytes threshold reached
+        if (ringBuffer.size() >= maxBatchSize || (maxQueueSizeInBytes > 0 && ringBuffer.sizeInBytes() >= maxQueueSizeInBytes)) {
+            signalConsumer();
+        }
+    }
+
+    private void signalConsumer() {
+        final Thread consumer = waitingConsumer.get();
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
     /**
      * Returns the next batch of elements from this queue. May be empty in case no
      * elements have arrived in the maximum waiting time.
@@ -252,6 +315,9 @@ public List<T> poll() throws InterruptedException {
         try {
             LOGGER.debug("polling records...");
             final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
+            if (ringBuffer != null) {
+                return pollLockFree(timeout);
+            }
             try {
                 this.lock.lock();
                 List<T> records = new ArrayList<>(Math.min(maxBatchSize, queue.size()));
@@ -283,6 +349,37 @@ public List<T> poll() throws InterruptedException {
         }
     }
 
+    private List<T> pollLockFree(Timer timeout) throws InterruptedException {
+        final List<T> records = new ArrayList<>(Math.min(maxBatchSize, ringBuffer.size()));
+        while (ringBuffer.drainTo(records, maxBatchSize - records.size()) < maxBatchSize
+                && (maxQueueSizeInBytes == 0 || ringBuffer.sizeInBytes() < maxQueueSizeInBytes)
+                && !timeout.expired()) {
+            throwProducerExceptionIfPresent();
+
+            LOGGER.debug("no records available or batch size not reached yet, sleeping a bit...");
+            long remainingTimeoutNanos = timeout.remaining().toNanos();
+            if (remainingTimeoutNanos > 0) {
+                final Thread current = Thread.currentThread();
+                // only one consumer is woken up by producers, any other one waits for its timeout
+                if (waitingConsumer.compareAndSet(null, current)) {
+                    // re-check after registration so that a concurrent signal is not lost
+                    if (ringBuffer.size() < maxBatchSize - records.size()) {
+                        LockSupport.parkNanos(this, remainingTimeoutNanos);
+                    }
+                    waitingConsumer.compareAndSet(current, null);
+                }
+                else {
+                    LockSupport.parkNanos(this, remainingTimeoutNanos);
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            LOGGER.debug("checking for more records...");
+        }
+        return records;
+    }
+
     private long drainRecords(List<T> records, int maxElements) {
         int queueSize = queue.size();
         if (queueSize == 0) {
@@ -321,6 +418,9 @@ public int totalCapacity() {
 
     @Override
     public int remainingCapacity() {
+        if (ringBuffer != null) {
+            return Math.max(0, maxQueueSize - ringBuffer.size());
+        }
         return maxQueueSize - queue.size();
     }
 
@@ -331,6 +431,9 @@ public long maxQueueSizeInBytes() {
 
     @Override
     public long currentQueueSizeInBytes() {
+        if (ringBuffer != null) {
+            return ringBuffer.sizeInBytes();
+        }
         return currentQueueSizeInBytes;
     }
 }
@@ -880,6 +880,34 @@ public synchronized Connection connection(boolean executeOnConnect) throws SQLEx
         return conn;
     }
 
+    /**
+     * Establishes a new physical connection using the configuration and connection factory of this instance, e.g. to
+     * read data concurrently with this connection. The returned connection is not managed by this instance and must be
+     * closed by the caller.
+     *
+     * @return the new connection; never null
+     * @throws SQLException if the connection cannot be established
+     */
+    public Connection openDetachedConnection() throws SQLException {
+        final Connection detached = factory.connect(JdbcConfiguration.adapt(config));
+        if (detached == null) {
+            throw new SQLException("Unable to obtain a JDBC connection");
+        }
+        final String statements = config.getString(JdbcConfiguration.ON_CONNECT_STATEMENTS);
+        if (statements != null) {
+            try (Statement statement = detached.createStatement()) {
+                for (String sql : parseSqlStatementString(statements)) {
+                    statement.execute(sql);
+                }
+            }
+            catch (SQLException e) {
+                detached.close();
+                throw e;
+            }
+        }
+        return detached;
+    }
+
     protected List<String> parseSqlStatementString(final String statements) {
         final List<String> splitStatements = new ArrayList<>();
         final char[] statementsChars = statements.toCharArray();
@@ -587,5 +587,8 @@ public void close() {
         if (heartbeatsEnabled()) {
             heartbeat.close();
         }
+        if (incrementalSnapshotChangeEventSource != null) {
+            incrementalSnapshotChangeEventSource.close();
+        }
     }
 }
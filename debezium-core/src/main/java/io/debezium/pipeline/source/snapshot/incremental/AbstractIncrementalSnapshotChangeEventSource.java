@@ -5,6 +5,7 @@
  */
 package io.debezium.pipeline.source.snapshot.incremental;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -17,16 +18,24 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
 import io.debezium.annotation.NotThreadSafe;
+import io.debezium.annotation.VisibleForTesting;
 import io.debezium.data.ValueWrapper;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
@@ -75,6 +84,9 @@
     protected JdbcConnection jdbcConnection;
     protected final Map<Struct, Object[]> window = new LinkedHashMap<>();
 
+    private ExecutorService chunkReaderExecutor;
+    private BlockingQueue<Connection> chunkReaderConnections;
+
     public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
                                                         JdbcConnection jdbcConnection,
                                                         EventDispatcher<P, T> dispatcher,
@@ -201,6 +213,10 @@ protected String buildChunkQuery(Table table, Optional<String> additionalConditi
     }
 
     protected String buildChunkQuery(Table table, int limit, Optional<String> additionalCondition) {
+        return buildChunkQuery(table, limit, "*", additionalCondition);
+    }
+
+    private String buildChunkQuery(Table table, int limit, String projection, Optional<String> additionalCondition) {
         String condition = null;
         // Add condition when this is not the first query
         if (context.isNonInitialChunk()) {
@@ -217,7 +233,7 @@ protected String buildChunkQuery(Table table, int limit, Optional<String> additi
                 .collect(Collectors.joining(", "));
         return jdbcConnection.buildSelectWithRowLimits(table.id(),
                 limit,
-                "*",
+                projection,
                 Optional.ofNullable(condition),
                 additionalCondition,
                 orderBy);
@@ -348,7 +364,10 @@ protected void readChunk(P partition) throws InterruptedException {
                                 context.maximumKey().orElse(new Object[0]));
                     }
                 }
-                if (createDataEventsForTable(partition)) {
+                final boolean chunkRead = connectorConfig.getIncrementalSnapshotChunksPerWindow() > 1
+                        ? createDataEventsForTableChunks(partition)
+                        : createDataEventsForTable(partition);
+                if (chunkRead) {
                     if (window.isEmpty()) {
                         LOGGER.info("No data returned by the query, incremental snapshotting of table '{}' finished",
                                 currentTableId);
@@ -372,6 +391,7 @@ protected void readChunk(P partition) throws InterruptedException {
         finally {
             postReadChunk(context);
             if (!context.snapshotRunning()) {
+                closeChunkReaders();
                 postIncrementalSnapshotCompleted();
             }
         }
@@ -621,11 +641,249 @@ private boolean createDataEventsForTable(P partition) {
         return true;
     }
 
+    /**
+     * Dispatches the data change events for the records of a single table, reading the key ranges of up to
+     * {@code incremental.snapshot.chunks.per.window} consecutive chunks concurrently within one window.
+     * <p>
+     * The upper boundary of each chunk is determined upfront by a key-only query. Every chunk is then read
+     * as a closed key range on a dedicated connection, so rows inserted into a range after the boundaries
+     * were determined are still captured. The rows are added to the window buffer in key order.
+     */
+    private boolean createDataEventsForTableChunks(P partition) throws InterruptedException {
+        long exportStart = clock.currentTimeInMillis();
+        LOGGER.debug("Exporting data chunks from table '{}' (total {} tables)", currentTable.id(), context.dataCollectionsToBeSnapshottedCount());
+
+        final Table table = currentTable;
+        final Optional<String> additionalCondition = context.currentDataCollectionId().getAdditionalCondition();
+        final List<Object[]> upperBounds = readChunkUpperBounds(table, additionalCondition);
+        if (upperBounds.isEmpty()) {
+            return true;
+        }
+        LOGGER.debug("\t Reading {} chunks of table '{}' concurrently, key: '{}', maximum key: '{}'", upperBounds.size(),
+                table.id(), context.chunkEndPosititon(), context.maximumKey().get());
+
+        final boolean captureSchema = connectorConfig.isIncrementalSnapshotSchemaChangesEnabled();
+        final List<Future<ChunkRows>> chunks = new ArrayList<>(upperBounds.size());
+        try {
+            openChunkReaders();
+            Object[] lowerBound = context.chunkEndPosititon();
+            for (Object[] upperBound : upperBounds) {
+                final Object[] chunkLowerBound = lowerBound;
+                final boolean readSchema = captureSchema && chunks.isEmpty();
+                chunks.add(chunkReaderExecutor.submit(() -> readKeyRange(table, additionalCondition, chunkLowerBound, upperBound, readSchema)));
+                lowerBound = upperBound;
+            }
+
+            final List<ChunkRows> results = new ArrayList<>(chunks.size());
+            for (Future<ChunkRows> chunk : chunks) {
+                results.add(chunk.get());
+            }
+            if (captureSchema && checkSchemaChanges(results.get(0).schema)) {
+                return false;
+            }
+
+            final TableSchema tableSchema = databaseSchema.schemaFor(table.id());
+            long rows = 0;
+            Object[] firstRow = null;
+            Object[] lastRow = null;
+            for (ChunkRows chunk : results) {
+                for (Object[] row : chunk.rows) {
+                    if (firstRow == null) {
+                        firstRow = row;
+                    }
+                    window.put(tableSchema.keyFromColumnData(row), row);
+                    lastRow = row;
+                }
+                rows += chunk.rows.size();
+            }
+            final Object[] firstKey = keyFromRow(firstRow);
+            // the last boundary is the end of this window even if the rows of its range were deleted meanwhile
+            final Object[] lastKey = lastRow != null ? keyFromRow(lastRow) : upperBounds.get(upperBounds.size() - 1);
+            if (context.isNonInitialChunk()) {
+                progressListener.currentChunk(partition, context.currentChunkId(), firstKey, lastKey);
+            }
+            else {
+                progressListener.currentChunk(partition, context.currentChunkId(), firstKey, lastKey, context.maximumKey().orElse(null));
+            }
+            context.nextChunkPosition(lastKey);
+            LOGGER.debug("\t Next window will resume from {}", (Object) context.chunkEndPosititon());
+
+            LOGGER.debug("\t Finished exporting {} records in {} chunks for window of table '{}'; total duration '{}'", rows, results.size(),
+                    table.id(), Strings.duration(clock.currentTimeInMillis() - exportStart));
+            incrementTableRowsScanned(partition, rows);
+        }
+        catch (ExecutionException e) {
+            throw new DebeziumException("Snapshotting of table " + table.id() + " failed", e.getCause());
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Snapshotting of table " + table.id() + " failed", e);
+        }
+        finally {
+            chunks.forEach(chunk -> chunk.cancel(true));
+        }
+        return true;
+    }
+
+    /**
+     * Reads the keys following the current chunk position and returns every chunk-size-th key as the upper
+     * boundary of a chunk; the last key read closes the last, possibly smaller, chunk.
+     */
+    private List<Object[]> readChunkUpperBounds(Table table, Optional<String> additionalCondition) {
+        final int chunkSize = connectorConfig.getIncrementalSnashotChunkSize();
+        final int limit = chunkSize * connectorConfig.getIncrementalSnapshotChunksPerWindow();
+        final String keyProjection = getKeyMapper().getKeyKolumns(table).stream()
+                .map(c -> jdbcConnection.quotedColumnIdString(c.name()))
+                .collect(Collectors.joining(", "));
+        final String selectStatement = buildChunkQuery(table, limit, keyProjection, additionalCondition);
+        LOGGER.debug("\t Determining chunk boundaries for table '{}' using select statement: '{}'", table.id(), selectStatement);
+
+        final List<Object[]> upperBounds = new ArrayList<>();
+        try (PreparedStatement statement = readTableChunkStatement(selectStatement);
+                ResultSet rs = statement.executeQuery()) {
+            final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+            Object[] key = null;
+            int keysInChunk = 0;
+            while (rs.next()) {
+                key = keyFromRow(jdbcConnection.rowToArray(table, rs, columnArray));
+                if (++keysInChunk == chunkSize) {
+                    upperBounds.add(key);
+                    keysInChunk = 0;
+                }
+            }
+            if (keysInChunk > 0) {
+                upperBounds.add(key);
+            }
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Snapshotting of table " + table.id() + " failed", e);
+        }
+        return upperBounds;
+    }
+
+    /**
+     * Reads all rows with a key greater than the lower boundary (if any) and not greater than the upper boundary,
+     * using one of the chunk reader connections. Invoked on a chunk reader thread.
+     */
+    private ChunkRows readKeyRange(Table table, Optional<String> additionalCondition, Object[] lowerBound, Object[] upperBound,
+                                   boolean readSchema)
+            throws SQLException, InterruptedException {
+        final String selectStatement = buildKeyRangeQuery(table, lowerBound != null, additionalCondition);
+        LOGGER.trace("\t Reading key range of table '{}' using select statement: '{}'", table.id(), selectStatement);
+
+        final Connection connection = chunkReaderConnections.take();
+        try (PreparedStatement statement = connection.prepareStatement(selectStatement)) {
+            statement.setFetchSize(connectorConfig.getSnapshotFetchSize());
+            int pos = 0;
+            if (lowerBound != null) {
+                pos = setBoundaryParameters(statement, pos, lowerBound);
+            }
+            setBoundaryParameters(statement, pos, upperBound);
+            try (ResultSet rs = statement.executeQuery()) {
+                final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+                final List<Object[]> rows = new ArrayList<>(connectorConfig.getIncrementalSnashotChunkSize());
+                while (rs.next()) {
+                    rows.add(jdbcConnection.rowToArray(table, rs, columnArray));
+                }
+                return new ChunkRows(rows, readSchema ? getTable(rs) : null);
+            }
+        }
+        finally {
+            chunkReaderConnections.add(connection);
+        }
+    }
+
+    /**
+     * Builds the query reading the rows of a closed key range of the given table. The range is bounded by keys, so the
+     * row limit is only used to have the statement built by the connector's dialect.
+     */
+    protected String buildKeyRangeQuery(Table table, boolean hasLowerBound, Optional<String> additionalCondition) {
+        final StringBuilder condition = new StringBuilder();
+        if (hasLowerBound) {
+            addLowerBound(table, condition);
+            condition.append(" AND ");
+        }
+        condition.append("NOT ");
+        addLowerBound(table, condition);
+        final String orderBy = getKeyMapper().getKeyKolumns(table).stream()
+                .map(c -> jdbcConnection.quotedColumnIdString(c.name()))
+                .collect(Collectors.joining(", "));
+        return jdbcConnection.buildSelectWithRowLimits(table.id(),
+                Integer.MAX_VALUE,
+                "*",
+                Optional.of(condition.toString()),
+                additionalCondition,
+                orderBy);
+    }
+
+    private int setBoundaryParameters(PreparedStatement statement, int pos, Object[] key) throws SQLException {
+        for (int i = 0; i < key.length; i++) {
+            for (int j = 0; j < i + 1; j++) {
+                statement.setObject(++pos, key[j]);
+            }
+        }
+        return pos;
+    }
+
+    @VisibleForTesting
+    void openChunkReaders() throws SQLException {
+        if (chunkReaderExecutor == null) {
+            final int threads = Math.min(connectorConfig.getIncrementalSnapshotMaxThreads(), connectorConfig.getIncrementalSnapshotChunksPerWindow());
+            LOGGER.info("Opening {} connections for concurrent incremental snapshot chunk reads", threads);
+            chunkReaderConnections = new ArrayBlockingQueue<>(threads);
+            chunkReaderExecutor = Executors.newFixedThreadPool(threads, Threads.threadFactory(SourceConnector.class,
+                    connectorConfig.getLogicalName(), "incremental-snapshot-chunk-reader", true, true));
+            for (int i = 0; i < threads; i++) {
+                chunkReaderConnections.add(jdbcConnection.openDetachedConnection());
+            }
+        }
+        else {
+            // replace connections which have been closed or timed out since the previous window
+            for (int i = chunkReaderConnections.size(); i > 0; i--) {
+                Connection connection = chunkReaderConnections.poll();
+                if (connection == null) {
+                    break;
+                }
+                if (!connection.isValid(5)) {
+                    closeQuietly(connection);
+                    connection = jdbcConnection.openDetachedConnection();
+                }
+                chunkReaderConnections.add(connection);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closeChunkReaders();
+    }
+
+    private void closeChunkReaders() {
+        if (chunkReaderExecutor == null) {
+            return;
+        }
+        chunkReaderExecutor.shutdownNow();
+        chunkReaderExecutor = null;
+        chunkReaderConnections.forEach(this::closeQuietly);
+        chunkReaderConnections = null;
+    }
+
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Failed to close incremental snapshot chunk reader connection", e);
+        }
+    }
+
     private boolean checkSchemaChanges(ResultSet rs) throws SQLException {
         if (!connectorConfig.isIncrementalSnapshotSchemaChangesEnabled()) {
             return false;
         }
-        Table schema = getTable(rs);
+        return checkSchemaChanges(getTable(rs));
+    }
+
+    private boolean checkSchemaChanges(Table schema) {
         if (!schema.equals(context.getSchema())) {
             context.setSchemaVerificationPassed(false);
             Table oldSchema = context.getSchema();
@@ -711,6 +969,20 @@ private Object[] keyFromRow(Object[] row) {
         return key;
     }
 
+    /**
+     * The rows of a single chunk read concurrently with other chunks of the same window.
+     */
+    private static class ChunkRows {
+
+        private final List<Object[]> rows;
+        private final Table schema;
+
+        ChunkRows(List<Object[]> rows, Table schema) {
+            this.rows = rows;
+            this.schema = schema;
+        }
+    }
+
     protected void setContext(IncrementalSnapshotContext<T> context) {
         this.context = context;
     }
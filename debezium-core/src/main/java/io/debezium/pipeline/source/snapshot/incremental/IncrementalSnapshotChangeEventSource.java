@@ -50,4 +50,10 @@ default void processTransactionCommittedEvent(P partition, OffsetContext offsetC
 
     default void processSchemaChange(P partition, DataCollectionId dataCollectionId) throws InterruptedException {
     }
+
+    /**
+     * Releases the resources held by the source, e.g. connections of a snapshot in progress, once the task is stopped.
+     */
+    default void close() {
+    }
 }
@@ -56,7 +56,8 @@ public abstract class HistorizedRelationalDatabaseConnectorConfig extends Relati
             .history(
                     SCHEMA_HISTORY,
                     SchemaHistory.SKIP_UNPARSEABLE_DDL_STATEMENTS,
-                    SchemaHistory.STORE_ONLY_CAPTURED_TABLES_DDL)
+                    SchemaHistory.STORE_ONLY_CAPTURED_TABLES_DDL,
+                    SchemaHistory.CHECKPOINT_INTERVAL)
             .create();
 
     protected HistorizedRelationalDatabaseConnectorConfig(Class<? extends SourceConnector> connectorClass,
@@ -100,6 +100,10 @@ public void initializeStorage() {
     protected void record(SchemaChangeEvent schemaChange, TableChanges tableChanges) {
         schemaHistory.record(schemaChange.getPartition(), schemaChange.getOffset(), schemaChange.getDatabase(),
                 schemaChange.getSchema(), schemaChange.getDdl(), tableChanges, schemaChange.getTimestamp());
+        // the tables are not complete before the snapshot has captured the structure of all of them
+        if (!schemaChange.isFromSnapshot()) {
+            schemaHistory.checkpoint(schemaChange.getPartition(), schemaChange.getOffset(), tables(), schemaChange.getTimestamp());
+        }
     }
 
     @Override
@@ -67,8 +67,8 @@ public void emitChangeRecords(DataCollectionSchema schema, Receiver<P> receiver)
     protected void emitCreateRecord(Receiver<P> receiver, TableSchema tableSchema)
             throws InterruptedException {
         Object[] newColumnValues = getNewColumnValues();
-        Struct newKey = tableSchema.keyFromColumnData(newColumnValues);
-        Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
+        Struct newKey = getNewKey(tableSchema);
+        Struct newValue = getNewValue(tableSchema);
         Struct envelope = tableSchema.getEnvelopeSchema().create(newValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
 
         if (skipEmptyMessages() && (newColumnValues == null || newColumnValues.length == 0)) {
@@ -82,9 +82,8 @@ protected void emitCreateRecord(Receiver<P> receiver, TableSchema tableSchema)
     @Override
     protected void emitReadRecord(Receiver<P> receiver, TableSchema tableSchema)
             throws InterruptedException {
-        Object[] newColumnValues = getNewColumnValues();
-        Struct newKey = tableSchema.keyFromColumnData(newColumnValues);
-        Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
+        Struct newKey = getNewKey(tableSchema);
+        Struct newValue = getNewValue(tableSchema);
         Struct envelope = tableSchema.getEnvelopeSchema().read(newValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
 
         receiver.changeRecord(getPartition(), tableSchema, Operation.READ, newKey, envelope, getOffset(), null);
@@ -96,11 +95,11 @@ protected void emitUpdateRecord(Receiver<P> receiver, TableSchema tableSchema)
         Object[] oldColumnValues = getOldColumnValues();
         Object[] newColumnValues = getNewColumnValues();
 
-        Struct oldKey = tableSchema.keyFromColumnData(oldColumnValues);
-        Struct newKey = tableSchema.keyFromColumnData(newColumnValues);
+        Struct oldKey = getOldKey(tableSchema);
+        Struct newKey = getNewKey(tableSchema);
 
-        Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
-        Struct oldValue = tableSchema.valueFromColumnData(oldColumnValues);
+        Struct newValue = getNewValue(tableSchema);
+        Struct oldValue = getOldValue(tableSchema);
 
         if (skipEmptyMessages() && (newColumnValues == null || newColumnValues.length == 0)) {
             LOGGER.warn("no new values found for table '{}' from update message at '{}'; skipping record", tableSchema, getOffset().getSourceInfo());
@@ -121,8 +120,8 @@ protected void emitUpdateRecord(Receiver<P> receiver, TableSchema tableSchema)
     @Override
     protected void emitDeleteRecord(Receiver<P> receiver, TableSchema tableSchema) throws InterruptedException {
         Object[] oldColumnValues = getOldColumnValues();
-        Struct oldKey = tableSchema.keyFromColumnData(oldColumnValues);
-        Struct oldValue = tableSchema.valueFromColumnData(oldColumnValues);
+        Struct oldKey = getOldKey(tableSchema);
+        Struct oldValue = getOldValue(tableSchema);
 
         if (skipEmptyMessages() && (oldColumnValues == null || oldColumnValues.length == 0)) {
             LOGGER.warn("no old values found for table '{}' from delete message at '{}'; skipping record", tableSchema, getOffset().getSourceInfo());
@@ -147,6 +146,34 @@ protected void emitTruncateRecord(Receiver<P> receiver, TableSchema schema) thro
      */
     protected abstract Object[] getNewColumnValues();
 
+    /**
+     * Returns the key of the old row state. Subclasses may override this to return a key converted beforehand.
+     */
+    protected Struct getOldKey(TableSchema tableSchema) {
+        return tableSchema.keyFromColumnData(getOldColumnValues());
+    }
+
+    /**
+     * Returns the value of the old row state. Subclasses may override this to return a value converted beforehand.
+     */
+    protected Struct getOldValue(TableSchema tableSchema) {
+        return tableSchema.valueFromColumnData(getOldColumnValues());
+    }
+
+    /**
+     * Returns the key of the new row state. Subclasses may override this to return a key converted beforehand.
+     */
+    protected Struct getNewKey(TableSchema tableSchema) {
+        return tableSchema.keyFromColumnData(getNewColumnValues());
+    }
+
+    /**
+     * Returns the value of the new row state. Subclasses may override this to return a value converted beforehand.
+     */
+    protected Struct getNewValue(TableSchema tableSchema) {
+        return tableSchema.valueFromColumnData(getNewColumnValues());
+    }
+
     /**
      * Whether empty data messages should be ignored.
      *
@@ -376,6 +376,19 @@ public static DecimalHandlingMode parse(String value, String defaultValue) {
             .withDescription("The maximum number of millis to wait for table locks at the beginning of a snapshot. If locks cannot be acquired in this " +
                     "time frame, the snapshot will be aborted. Defaults to 10 seconds");
 
+    public static final Field SNAPSHOT_TABLE_SPLIT_ROWS = Field.create("snapshot.table.split.rows")
+            .withDisplayName("Snapshot table split size (rows)")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 9))
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("Tables with an estimated number of rows larger than this value and with a single integer primary key column are split "
+                    + "into primary key ranges of about this many rows during the initial snapshot. The ranges are read concurrently by up to '"
+                    + SNAPSHOT_MAX_THREADS.name() + "' additional connections sharing the consistent snapshot of the connector. "
+                    + "Only supported by some connectors. Defaults to 0, which disables splitting of tables.");
+
     // TODO - belongs to HistorizedRelationalDatabaseConnectorConfig but should be move there
     // after MySQL rewrite
     public static final Field INCLUDE_SCHEMA_CHANGES = Field.create("include.schema.changes")
@@ -470,7 +483,8 @@ public static DecimalHandlingMode parse(String value, String defaultValue) {
             .connector(
                     DECIMAL_HANDLING_MODE,
                     TIME_PRECISION_MODE,
-                    SNAPSHOT_LOCK_TIMEOUT_MS)
+                    SNAPSHOT_LOCK_TIMEOUT_MS,
+                    SNAPSHOT_TABLE_SPLIT_ROWS)
             .events(
                     COLUMN_INCLUDE_LIST,
                     COLUMN_EXCLUDE_LIST,
@@ -580,6 +594,10 @@ public Duration snapshotLockTimeout() {
         return Duration.ofMillis(getConfig().getLong(SNAPSHOT_LOCK_TIMEOUT_MS));
     }
 
+    public long getSnapshotTableSplitRows() {
+        return getConfig().getLong(SNAPSHOT_TABLE_SPLIT_ROWS);
+    }
+
     public String schemaExcludeList() {
         return getConfig().getString(SCHEMA_EXCLUDE_LIST);
     }
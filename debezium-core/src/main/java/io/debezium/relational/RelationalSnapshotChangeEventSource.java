@@ -9,22 +9,34 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
+import io.debezium.annotation.VisibleForTesting;
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.jdbc.CancellableResultSet;
 import io.debezium.jdbc.JdbcConnection;
@@ -59,12 +71,19 @@
 
     public static final Pattern SELECT_ALL_PATTERN = Pattern.compile("\\*");
 
+    /**
+     * Marker put into the row queue by a chunk reader thread once it has no more chunks to read.
+     */
+    private static final Object[] CHUNK_READER_FINISHED = new Object[0];
+    private static final int CHUNK_ROW_QUEUE_CAPACITY = 8192;
+
     private final RelationalDatabaseConnectorConfig connectorConfig;
     private final JdbcConnection jdbcConnection;
     private final RelationalDatabaseSchema schema;
     protected final EventDispatcher<P, TableId> dispatcher;
     protected final Clock clock;
     private final SnapshotProgressListener<P> snapshotProgressListener;
+    private final List<JdbcConnection> chunkConnections = new ArrayList<>();
 
     public RelationalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig connectorConfig,
                                                JdbcConnection jdbcConnection, RelationalDatabaseSchema schema,
@@ -114,6 +133,11 @@ public SnapshotResult<O> doExecute(ChangeEventSourceContext context, O previousO
             LOGGER.info("Snapshot step 5 - Reading structure of captured tables");
             readTableStructure(context, ctx, previousOffset);
 
+            if (snapshottingTask.snapshotData()) {
+                // opened while any locks are still held, so that the connections can join the consistent snapshot
+                openSnapshotChunkConnections(ctx);
+            }
+
             if (snapshottingTask.snapshotSchema()) {
                 LOGGER.info("Snapshot step 6 - Persisting schema history");
 
@@ -142,6 +166,7 @@ public SnapshotResult<O> doExecute(ChangeEventSourceContext context, O previousO
             return SnapshotResult.completed(ctx.offset);
         }
         finally {
+            closeSnapshotChunkConnections();
             rollbackTransaction(connection);
         }
     }
@@ -152,6 +177,25 @@ public Connection createSnapshotConnection() throws SQLException {
         return connection;
     }
 
+    /**
+     * Creates an additional connection used for reading primary key ranges of large tables concurrently, see
+     * {@link RelationalDatabaseConnectorConfig#SNAPSHOT_TABLE_SPLIT_ROWS}. The returned connection must read the
+     * same consistent state of the database as the snapshot connection does. It is invoked after the table structure
+     * has been read, i.e. while locks established for the schema snapshot are still held.
+     *
+     * @return the connection or empty if reading a single table concurrently is not supported, which is the default
+     */
+    protected Optional<JdbcConnection> createSnapshotChunkConnection(RelationalSnapshotContext<P, O> snapshotContext) throws SQLException {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the connector class used for naming the threads reading primary key ranges of large tables.
+     */
+    protected Class<? extends SourceConnector> getConnectorClass() {
+        return SourceConnector.class;
+    }
+
     /**
      * Executes steps which have to be taken just after the database connection is created.
      */
@@ -349,6 +393,12 @@ private void createDataEventsForTable(ChangeEventSourceContext sourceContext,
         LOGGER.info("\t For table '{}' using select statement: '{}'", table.id(), selectStatement.get());
         final OptionalLong rowCount = rowCountForTable(table.id());
 
+        final List<String> chunkSelects = determineSnapshotChunkSelects(snapshotContext, table, rowCount);
+        if (!chunkSelects.isEmpty()) {
+            createDataEventsForTableChunks(sourceContext, snapshotContext, snapshotReceiver, table, chunkSelects, rowCount, exportStart);
+            return;
+        }
+
         try (Statement statement = readTableStatement(rowCount);
                 ResultSet rs = CancellableResultSet.from(statement.executeQuery(selectStatement.get()))) {
 
@@ -401,6 +451,273 @@ else if (snapshotContext.lastTable) {
         }
     }
 
+    /**
+     * Dispatches the data change events for the records of a single table, which are read concurrently in primary key
+     * ranges by the chunk connections. The events themselves are dispatched on the snapshot thread.
+     */
+    private void createDataEventsForTableChunks(ChangeEventSourceContext sourceContext,
+                                                RelationalSnapshotContext<P, O> snapshotContext,
+                                                SnapshotReceiver<P> snapshotReceiver, Table table, List<String> chunkSelects,
+                                                OptionalLong rowCount, long exportStart)
+            throws InterruptedException {
+
+        final int readerCount = Math.min(chunkConnections.size(), chunkSelects.size());
+        LOGGER.info("\t Reading {} primary key ranges of table '{}' using {} connections", chunkSelects.size(), table.id(), readerCount);
+
+        final Queue<String> pendingChunks = new ConcurrentLinkedQueue<>(chunkSelects);
+        final BlockingQueue<Object[]> rowQueue = new ArrayBlockingQueue<>(CHUNK_ROW_QUEUE_CAPACITY);
+        final AtomicReference<Throwable> readerFailure = new AtomicReference<>();
+        final ExecutorService readers = Executors.newFixedThreadPool(readerCount,
+                Threads.threadFactory(getConnectorClass(), connectorConfig.getLogicalName(), "snapshot-chunk-reader", true, false));
+
+        try {
+            for (int i = 0; i < readerCount; i++) {
+                final JdbcConnection chunkConnection = chunkConnections.get(i);
+                readers.submit(() -> {
+                    try {
+                        String chunkSelect;
+                        while (readerFailure.get() == null && (chunkSelect = pendingChunks.poll()) != null) {
+                            readChunk(chunkConnection, table, chunkSelect, rowQueue);
+                        }
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    catch (Throwable e) {
+                        readerFailure.compareAndSet(null, e);
+                    }
+                    finally {
+                        try {
+                            rowQueue.put(CHUNK_READER_FINISHED);
+                        }
+                        catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+
+            long rows = 0;
+            int finishedReaders = 0;
+            Timer logTimer = getTableScanLogTimer();
+            snapshotContext.lastRecordInTable = false;
+
+            // one row look-ahead is needed to determine whether a row is the last one of the table
+            Object[] row = null;
+            while (finishedReaders < readerCount || row != null) {
+                if (!sourceContext.isRunning()) {
+                    throw new InterruptedException("Interrupted while snapshotting table " + table.id());
+                }
+
+                Object[] next = null;
+                while (next == null && finishedReaders < readerCount) {
+                    next = rowQueue.poll(100, TimeUnit.MILLISECONDS);
+                    if (next == CHUNK_READER_FINISHED) {
+                        finishedReaders++;
+                        next = null;
+                    }
+                    else if (next == null && !sourceContext.isRunning()) {
+                        throw new InterruptedException("Interrupted while snapshotting table " + table.id());
+                    }
+                }
+                if (readerFailure.get() != null) {
+                    throw new ConnectException("Snapshotting of table " + table.id() + " failed", readerFailure.get());
+                }
+
+                if (row != null) {
+                    rows++;
+                    if (logTimer.expired()) {
+                        long stop = clock.currentTimeInMillis();
+                        if (rowCount.isPresent()) {
+                            LOGGER.info("\t Exported {} of {} records for table '{}' after {}", rows, rowCount.getAsLong(),
+                                    table.id(), Strings.duration(stop - exportStart));
+                        }
+                        else {
+                            LOGGER.info("\t Exported {} records for table '{}' after {}", rows, table.id(),
+                                    Strings.duration(stop - exportStart));
+                        }
+                        snapshotProgressListener.rowsScanned(snapshotContext.partition, table.id(), rows);
+                        logTimer = getTableScanLogTimer();
+                    }
+
+                    snapshotContext.firstRecordInTable = rows == 1;
+                    snapshotContext.lastRecordInTable = next == null;
+                    setSnapshotMarker(snapshotContext);
+
+                    dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
+                            getChangeRecordEmitter(snapshotContext, table.id(), row), snapshotReceiver);
+                }
+                row = next;
+            }
+
+            if (rows == 0 && snapshotContext.lastTable) {
+                lastSnapshotRecord(snapshotContext);
+            }
+
+            LOGGER.info("\t Finished exporting {} records for table '{}'; total duration '{}'", rows,
+                    table.id(), Strings.duration(clock.currentTimeInMillis() - exportStart));
+            snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, table.id(), rows);
+        }
+        finally {
+            readers.shutdownNow();
+        }
+    }
+
+    private void readChunk(JdbcConnection chunkConnection, Table table, String chunkSelect, BlockingQueue<Object[]> rowQueue)
+            throws SQLException, InterruptedException {
+        LOGGER.debug("\t Reading range of table '{}' using select statement: '{}'", table.id(), chunkSelect);
+        try (Statement statement = readTableChunkStatement(chunkConnection);
+                ResultSet rs = CancellableResultSet.from(statement.executeQuery(chunkSelect))) {
+            final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+            while (rs.next()) {
+                rowQueue.put(jdbcConnection.rowToArray(table, rs, columnArray));
+            }
+        }
+    }
+
+    /**
+     * Determines the statements for reading the given table in primary key ranges. The table is only split if
+     * there is no snapshot select override for it, if it has a single integer primary key column and if its estimated
+     * row count exceeds {@link RelationalDatabaseConnectorConfig#SNAPSHOT_TABLE_SPLIT_ROWS}.
+     *
+     * @return the statements reading the ranges or an empty list if the table should be read as a whole
+     */
+    private List<String> determineSnapshotChunkSelects(RelationalSnapshotContext<P, O> snapshotContext, Table table, OptionalLong rowCount) {
+        final long splitRows = connectorConfig.getSnapshotTableSplitRows();
+        if (chunkConnections.isEmpty() || splitRows <= 0 || !rowCount.isPresent() || rowCount.getAsLong() <= splitRows) {
+            return new ArrayList<>();
+        }
+        if (connectorConfig.getSnapshotSelectOverridesByTable().containsKey(table.id())
+                || connectorConfig.getSnapshotSelectOverridesByTable().containsKey(new TableId(null, table.id().schema(), table.id().table()))) {
+            return new ArrayList<>();
+        }
+        final List<Column> keyColumns = table.primaryKeyColumns();
+        if (keyColumns.size() != 1 || !isIntegerType(keyColumns.get(0))) {
+            LOGGER.info("\t Table '{}' has no single integer primary key column, it will not be split", table.id());
+            return new ArrayList<>();
+        }
+
+        final String keyColumn = jdbcConnection.quotedColumnIdString(keyColumns.get(0).name());
+        final long[] bounds = new long[2];
+        try {
+            final boolean notEmpty = jdbcConnection.queryAndMap(
+                    "SELECT MIN(" + keyColumn + "), MAX(" + keyColumn + ") FROM " + jdbcConnection.quotedTableIdString(table.id()),
+                    rs -> {
+                        if (!rs.next() || rs.getObject(1) == null) {
+                            return false;
+                        }
+                        bounds[0] = rs.getLong(1);
+                        bounds[1] = rs.getLong(2);
+                        return true;
+                    });
+            if (!notEmpty) {
+                return new ArrayList<>();
+            }
+        }
+        catch (SQLException e) {
+            throw new ConnectException("Could not determine the primary key range of table " + table.id(), e);
+        }
+
+        final List<String> predicates = keyRangePredicates(keyColumn, bounds[0], bounds[1], rowCount.getAsLong(), splitRows);
+        if (predicates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final List<String> columns = getPreparedColumnNames(snapshotContext.partition, schema.tableFor(table.id()));
+        final List<String> chunkSelects = new ArrayList<>();
+        for (String predicate : predicates) {
+            final Optional<String> chunkSelect = getSnapshotChunkSelect(snapshotContext, table.id(), columns, predicate);
+            if (!chunkSelect.isPresent()) {
+                return new ArrayList<>();
+            }
+            chunkSelects.add(chunkSelect.get());
+        }
+        return chunkSelects;
+    }
+
+    /**
+     * Splits the primary key range {@code [minKey, maxKey]} into ranges of roughly {@code splitRows} rows each. The first
+     * range has no lower and the last range no upper bound, so that together they cover every key of the table.
+     *
+     * @return the predicates selecting the ranges or an empty list if the table should not be split
+     */
+    @VisibleForTesting
+    static List<String> keyRangePredicates(String keyColumn, long minKey, long maxKey, long rowCount, long splitRows) {
+        final long chunkCount = Math.min((rowCount + splitRows - 1) / splitRows, maxKey - minKey + 1);
+        final List<String> predicates = new ArrayList<>();
+        if (chunkCount < 2) {
+            return predicates;
+        }
+        final long chunkWidth = (maxKey - minKey) / chunkCount + 1;
+        for (long i = 0; i < chunkCount; i++) {
+            final String lowerBound = i == 0 ? null : keyColumn + " >= " + (minKey + i * chunkWidth);
+            final String upperBound = i == chunkCount - 1 ? null : keyColumn + " < " + (minKey + (i + 1) * chunkWidth);
+            predicates.add(lowerBound == null ? upperBound : (upperBound == null ? lowerBound : lowerBound + " AND " + upperBound));
+        }
+        return predicates;
+    }
+
+    private static boolean isIntegerType(Column column) {
+        switch (column.jdbcType()) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the SELECT statement reading the rows of the given table matching the given primary key range predicate.
+     * By default the predicate is appended as {@code WHERE} clause to the statement returned by
+     * {@link #getSnapshotSelect(RelationalSnapshotContext, TableId, List)}.
+     */
+    protected Optional<String> getSnapshotChunkSelect(RelationalSnapshotContext<P, O> snapshotContext, TableId tableId,
+                                                      List<String> columns, String keyRangePredicate) {
+        return getSnapshotSelect(snapshotContext, tableId, columns).map(select -> select + " WHERE " + keyRangePredicate);
+    }
+
+    /**
+     * Allow per-connector query creation for reading a primary key range of a table on a chunk connection.
+     */
+    protected Statement readTableChunkStatement(JdbcConnection chunkConnection) throws SQLException {
+        return chunkConnection.readTableStatement(connectorConfig, OptionalLong.of(connectorConfig.getSnapshotTableSplitRows()));
+    }
+
+    private void openSnapshotChunkConnections(RelationalSnapshotContext<P, O> snapshotContext) throws SQLException {
+        if (connectorConfig.getSnapshotTableSplitRows() <= 0) {
+            return;
+        }
+        for (int i = 0; i < connectorConfig.getSnapshotMaxThreads(); i++) {
+            final Optional<JdbcConnection> chunkConnection = createSnapshotChunkConnection(snapshotContext);
+            if (!chunkConnection.isPresent()) {
+                if (i == 0) {
+                    LOGGER.info("Splitting of tables into primary key ranges is not supported in the current configuration, tables will be read as a whole");
+                }
+                break;
+            }
+            chunkConnections.add(chunkConnection.get());
+        }
+        if (!chunkConnections.isEmpty()) {
+            LOGGER.info("Opened {} connections for reading primary key ranges of large tables", chunkConnections.size());
+        }
+    }
+
+    private void closeSnapshotChunkConnections() {
+        for (JdbcConnection chunkConnection : chunkConnections) {
+            try {
+                chunkConnection.rollback();
+                chunkConnection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close snapshot chunk connection", e);
+            }
+        }
+        chunkConnections.clear();
+    }
+
     private void setSnapshotMarker(RelationalSnapshotContext<P, O> snapshotContext) {
         if (snapshotContext.lastRecordInTable && snapshotContext.lastTable) {
             snapshotContext.offset.markSnapshotRecord(SnapshotRecord.LAST); // Absolute last record
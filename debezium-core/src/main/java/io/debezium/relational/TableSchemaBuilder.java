@@ -6,6 +6,7 @@
 package io.debezium.relational;
 
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -187,28 +188,25 @@ protected StructGenerator createKeyGenerator(Schema schema, TableId columnSetNam
         if (schema != null) {
             int[] recordIndexes = indexesForColumns(columns);
             Field[] fields = fieldsForColumns(schema, columns);
-            int numFields = recordIndexes.length;
             ValueConverter[] converters = convertersForColumns(schema, columnSetName, columns, null);
+            ColumnConversion[] conversions = conversionsFor(columns, recordIndexes, fields, converters);
+            int requiredRowLength = requiredRowLength(recordIndexes);
             return (row) -> {
+                validateIncomingRowToInternalMetadata(row, requiredRowLength);
                 Struct result = new Struct(schema);
-                for (int i = 0; i != numFields; ++i) {
-                    validateIncomingRowToInternalMetadata(recordIndexes, fields, converters, row, i);
-                    Object value = row[recordIndexes[i]];
-                    ValueConverter converter = converters[i];
-                    if (converter != null) {
-                        // A component of primary key must be not-null.
-                        // It is possible for some databases and values (MySQL and all-zero datetime)
-                        // to be reported as null by JDBC or streaming reader.
-                        // It thus makes sense to convert them to a sensible default replacement value.
-                        value = converter.convert(value);
-                        try {
-                            result.put(fields[i], value);
-                        }
-                        catch (DataException e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert key value for '{}.{}' of type {} for row {}:",
-                                    columnSetName, col.name(), col.typeName(), row, e);
-                        }
+                for (ColumnConversion conversion : conversions) {
+                    // A component of primary key must be not-null.
+                    // It is possible for some databases and values (MySQL and all-zero datetime)
+                    // to be reported as null by JDBC or streaming reader.
+                    // It thus makes sense to convert them to a sensible default replacement value.
+                    Object value = conversion.converter.convert(row[conversion.rowIndex]);
+                    try {
+                        result.put(conversion.field, value);
+                    }
+                    catch (DataException e) {
+                        Column col = conversion.column;
+                        LOGGER.error("Failed to properly convert key value for '{}.{}' of type {} for row {}:",
+                                columnSetName, col.name(), col.typeName(), row, e);
                     }
                 }
                 topicNamingStrategy.keyValueAugment().augment(columnSetName, schema, result);
@@ -218,19 +216,9 @@ protected StructGenerator createKeyGenerator(Schema schema, TableId columnSetNam
         return null;
     }
 
-    private void validateIncomingRowToInternalMetadata(int[] recordIndexes, Field[] fields, ValueConverter[] converters,
-                                                       Object[] row, int position) {
-        if (position >= converters.length) {
-            LOGGER.error("Error requesting a converter, converters: {}, requested index: {}", converters.length, position);
-            throw new ConnectException(
-                    "Column indexing array is larger than number of converters, internal schema representation is probably out of sync with real database schema");
-        }
-        if (position >= fields.length) {
-            LOGGER.error("Error requesting a field, fields: {}, requested index: {}", fields.length, position);
-            throw new ConnectException("Too few schema fields, internal schema representation is probably out of sync with real database schema");
-        }
-        if (recordIndexes[position] >= row.length) {
-            LOGGER.error("Error requesting a row value, row: {}, requested index: {} at position {}", row.length, recordIndexes[position], position);
+    private void validateIncomingRowToInternalMetadata(Object[] row, int requiredRowLength) {
+        if (row.length < requiredRowLength) {
+            LOGGER.error("Error requesting a row value, row: {}, required length: {}", row.length, requiredRowLength);
             throw new ConnectException("Data row is smaller than a column index, internal schema representation is probably out of sync with real database schema");
         }
     }
@@ -255,38 +243,21 @@ protected StructGenerator createValueGenerator(Schema schema, TableId tableId, L
                     .collect(Collectors.toList());
             int[] recordIndexes = indexesForColumns(columnsThatShouldBeAdded);
             Field[] fields = fieldsForColumns(schema, columnsThatShouldBeAdded);
-            int numFields = recordIndexes.length;
             ValueConverter[] converters = convertersForColumns(schema, tableId, columnsThatShouldBeAdded, mappers);
+            ColumnConversion[] conversions = conversionsFor(columnsThatShouldBeAdded, recordIndexes, fields, converters);
+            int requiredRowLength = requiredRowLength(recordIndexes);
             return (row) -> {
+                validateIncomingRowToInternalMetadata(row, requiredRowLength);
                 Struct result = new Struct(schema);
-                for (int i = 0; i != numFields; ++i) {
-                    validateIncomingRowToInternalMetadata(recordIndexes, fields, converters, row, i);
-                    Object value = row[recordIndexes[i]];
-
-                    ValueConverter converter = converters[i];
-
-                    if (converter != null) {
-                        LOGGER.trace("converter for value object: *** {} ***", converter);
+                for (ColumnConversion conversion : conversions) {
+                    try {
+                        Object value = conversion.converter.convert(row[conversion.rowIndex]);
+                        result.put(conversion.field, value);
                     }
-                    else {
-                        LOGGER.trace("converter is null...");
-                    }
-
-                    if (converter != null) {
-                        try {
-                            value = converter.convert(value);
-                            result.put(fields[i], value);
-                        }
-                        catch (DataException | IllegalArgumentException e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
-                                    tableId, col.name(), col.typeName(), row, e);
-                        }
-                        catch (final Exception e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
-                                    tableId, col.name(), col.typeName(), row, e);
-                        }
+                    catch (final Exception e) {
+                        Column col = conversion.column;
+                        LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
+                                tableId, col.name(), col.typeName(), row, e);
                     }
                 }
                 return result;
@@ -295,6 +266,29 @@ protected StructGenerator createValueGenerator(Schema schema, TableId tableId, L
         return null;
     }
 
+    /**
+     * Resolves the conversions of the columns that are part of the records, so that the generators do not need to
+     * look them up for every row.
+     */
+    private static ColumnConversion[] conversionsFor(List<Column> columns, int[] recordIndexes, Field[] fields, ValueConverter[] converters) {
+        final List<ColumnConversion> conversions = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            // columns without a converter are not part of the records
+            if (converters[i] != null) {
+                conversions.add(new ColumnConversion(columns.get(i), recordIndexes[i], fields[i], converters[i]));
+            }
+        }
+        return conversions.toArray(new ColumnConversion[0]);
+    }
+
+    private static int requiredRowLength(int[] recordIndexes) {
+        int requiredRowLength = 0;
+        for (int recordIndex : recordIndexes) {
+            requiredRowLength = Math.max(requiredRowLength, recordIndex + 1);
+        }
+        return requiredRowLength;
+    }
+
     protected int[] indexesForColumns(List<Column> columns) {
         int[] recordIndexes = new int[columns.size()];
         AtomicInteger i = new AtomicInteger(0);
@@ -431,4 +425,23 @@ protected void addField(SchemaBuilder builder, Table table, Column column, Colum
     protected ValueConverter createValueConverterFor(TableId tableId, Column column, Field fieldDefn) {
         return customConverterRegistry.getValueConverter(tableId, column).orElse(valueConverterProvider.converter(column, fieldDefn));
     }
+
+    /**
+     * The conversion of a column of a row into a field of a record.
+     */
+    @Immutable
+    private static final class ColumnConversion {
+
+        private final Column column;
+        private final int rowIndex;
+        private final Field field;
+        private final ValueConverter converter;
+
+        ColumnConversion(Column column, int rowIndex, Field field, ValueConverter converter) {
+            this.column = column;
+            this.rowIndex = rowIndex;
+            this.field = field;
+            this.converter = converter;
+        }
+    }
 }
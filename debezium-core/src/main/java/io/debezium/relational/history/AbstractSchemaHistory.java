@@ -6,6 +6,8 @@
 package io.debezium.relational.history;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -24,6 +26,7 @@
 import io.debezium.document.Array;
 import io.debezium.document.Document;
 import io.debezium.function.Predicates;
+import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
 import io.debezium.relational.ddl.DdlParser;
 import io.debezium.relational.history.TableChanges.TableChange;
@@ -81,6 +84,8 @@ public abstract class AbstractSchemaHistory implements SchemaHistory {
     private boolean useCatalogBeforeSchema;
     private boolean preferDdl = false;
     private TableChanges.TableChangesSerializer<Array> tableChangesSerializer = new JsonTableChangeSerializer();
+    private int checkpointInterval;
+    private int recordsSinceCheckpoint;
 
     protected AbstractSchemaHistory() {
     }
@@ -97,6 +102,7 @@ public void configure(Configuration config, HistoryRecordComparator comparator,
         this.listener = listener;
         this.useCatalogBeforeSchema = useCatalogBeforeSchema;
         this.preferDdl = config.getBoolean(INTERNAL_PREFER_DDL);
+        this.checkpointInterval = config.getInteger(SchemaHistory.CHECKPOINT_INTERVAL);
     }
 
     @Override
@@ -117,9 +123,25 @@ public final void record(Map<String, ?> source, Map<String, ?> position, String
             throws SchemaHistoryException {
         final HistoryRecord record = new HistoryRecord(source, position, databaseName, schemaName, ddl, changes, timestamp);
         storeRecord(record);
+        recordsSinceCheckpoint++;
         listener.onChangeApplied(record);
     }
 
+    @Override
+    public void checkpoint(Map<String, ?> source, Map<String, ?> position, Tables schema, Instant timestamp)
+            throws SchemaHistoryException {
+        if (checkpointInterval == 0 || recordsSinceCheckpoint < checkpointInterval) {
+            return;
+        }
+        final TableChanges changes = new TableChanges();
+        for (TableId tableId : schema.tableIds()) {
+            changes.create(schema.forTable(tableId));
+        }
+        storeRecord(HistoryRecord.checkpoint(source, position, changes, timestamp));
+        recordsSinceCheckpoint = 0;
+        logger.info("Stored schema history checkpoint with {} tables at position {}", schema.size(), position);
+    }
+
     @Override
     public void recover(Map<Map<String, ?>, Map<String, ?>> offsets, Tables schema, DdlParser ddlParser) {
         listener.recoveryStarted();
@@ -132,66 +154,108 @@ public void recover(Map<Map<String, ?>, Map<String, ?>> offsets, Tables schema,
             stopPoints.put(srcDocument, new HistoryRecord(source, position, null, null, null, null, null));
         });
 
+        // a checkpoint contains the tables of all sources, so it can only be used when recovering a single one
+        final boolean useCheckpoints = checkpointInterval > 0 && stopPoints.size() == 1;
+        // the table changes since the last checkpoint are only applied once it is known that no checkpoint follows them
+        final Deque<HistoryRecord> deferredChanges = new ArrayDeque<>();
+
         recoverRecords(recovered -> {
             listener.onChangeFromHistory(recovered);
             Document srcDocument = recovered.document().getDocument(HistoryRecord.Fields.SOURCE);
             if (stopPoints.containsKey(srcDocument) && comparator.isAtOrBefore(recovered, stopPoints.get(srcDocument))) {
-                Array tableChanges = recovered.tableChanges();
-                String ddl = recovered.ddl();
-
-                if (!preferDdl && tableChanges != null && !tableChanges.isEmpty()) {
-                    TableChanges changes = tableChangesSerializer.deserialize(tableChanges, useCatalogBeforeSchema);
-                    for (TableChange entry : changes) {
-                        if (entry.getType() == TableChangeType.CREATE) {
-                            schema.overwriteTable(entry.getTable());
-                        }
-                        else if (entry.getType() == TableChangeType.ALTER) {
-                            if (entry.getPreviousId() != null) {
-                                schema.removeTable(entry.getPreviousId());
-                            }
-                            schema.overwriteTable(entry.getTable());
-                        }
-                        // DROP
-                        else {
-                            schema.removeTable(entry.getId());
-                        }
-                    }
-                    listener.onChangeApplied(recovered);
-                }
-                else if (ddl != null && ddlParser != null) {
-                    if (recovered.databaseName() != null) {
-                        ddlParser.setCurrentDatabase(recovered.databaseName()); // may be null
-                    }
-                    if (recovered.schemaName() != null) {
-                        ddlParser.setCurrentSchema(recovered.schemaName()); // may be null
-                    }
-                    Optional<Pattern> filteredBy = ddlFilter.apply(ddl);
-                    if (filteredBy.isPresent()) {
-                        logger.info("a DDL '{}' was filtered out of processing by regular expression '{}", ddl, filteredBy.get());
+                if (recovered.isCheckpoint()) {
+                    if (!useCheckpoints) {
+                        logger.debug("Skipping checkpoint: {}", recovered.position());
                         return;
                     }
-                    try {
-                        logger.debug("Applying: {}", ddl);
-                        ddlParser.parse(ddl, schema);
-                        listener.onChangeApplied(recovered);
+                    logger.info("Recovering tables from schema history checkpoint at position {}, skipping {} changes contained in it",
+                            recovered.position(), deferredChanges.size());
+                    deferredChanges.clear();
+                    schema.clear();
+                    for (TableChange entry : tableChangesSerializer.deserialize(recovered.tableChanges(), useCatalogBeforeSchema)) {
+                        schema.overwriteTable(entry.getTable());
                     }
-                    catch (final ParsingException | MultipleParsingExceptions e) {
-                        if (skipUnparseableDDL) {
-                            logger.warn("Ignoring unparseable statements '{}' stored in database schema history: {}", ddl, e);
-                        }
-                        else {
-                            throw e;
-                        }
+                    listener.onChangeApplied(recovered);
+                }
+                else if (useCheckpoints && recovered.tableChanges() != null && !recovered.tableChanges().isEmpty()) {
+                    deferredChanges.add(recovered);
+                    // checkpoints are usually stored every interval of changes, so older changes are unlikely to be contained in one
+                    if (deferredChanges.size() > checkpointInterval) {
+                        applyChange(deferredChanges.poll(), schema, ddlParser);
                     }
                 }
+                else {
+                    // statements without table changes are applied in order, as they may change the state of the
+                    // DDL parser, e.g. the default character set
+                    applyDeferredChanges(deferredChanges, schema, ddlParser);
+                    applyChange(recovered, schema, ddlParser);
+                }
             }
             else {
                 logger.debug("Skipping: {}", recovered.ddl());
             }
         });
+        applyDeferredChanges(deferredChanges, schema, ddlParser);
         listener.recoveryStopped();
     }
 
+    private void applyDeferredChanges(Deque<HistoryRecord> deferredChanges, Tables schema, DdlParser ddlParser) {
+        while (!deferredChanges.isEmpty()) {
+            applyChange(deferredChanges.poll(), schema, ddlParser);
+        }
+    }
+
+    private void applyChange(HistoryRecord recovered, Tables schema, DdlParser ddlParser) {
+        Array tableChanges = recovered.tableChanges();
+        String ddl = recovered.ddl();
+
+        if (!preferDdl && tableChanges != null && !tableChanges.isEmpty()) {
+            TableChanges changes = tableChangesSerializer.deserialize(tableChanges, useCatalogBeforeSchema);
+            for (TableChange entry : changes) {
+                if (entry.getType() == TableChangeType.CREATE) {
+                    schema.overwriteTable(entry.getTable());
+                }
+                else if (entry.getType() == TableChangeType.ALTER) {
+                    if (entry.getPreviousId() != null) {
+                        schema.removeTable(entry.getPreviousId());
+                    }
+                    schema.overwriteTable(entry.getTable());
+                }
+                // DROP
+                else {
+                    schema.removeTable(entry.getId());
+                }
+            }
+            listener.onChangeApplied(recovered);
+        }
+        else if (ddl != null && ddlParser != null) {
+            if (recovered.databaseName() != null) {
+                ddlParser.setCurrentDatabase(recovered.databaseName()); // may be null
+            }
+            if (recovered.schemaName() != null) {
+                ddlParser.setCurrentSchema(recovered.schemaName()); // may be null
+            }
+            Optional<Pattern> filteredBy = ddlFilter.apply(ddl);
+            if (filteredBy.isPresent()) {
+                logger.info("a DDL '{}' was filtered out of processing by regular expression '{}", ddl, filteredBy.get());
+                return;
+            }
+            try {
+                logger.debug("Applying: {}", ddl);
+                ddlParser.parse(ddl, schema);
+                listener.onChangeApplied(recovered);
+            }
+            catch (final ParsingException | MultipleParsingExceptions e) {
+                if (skipUnparseableDDL) {
+                    logger.warn("Ignoring unparseable statements '{}' stored in database schema history: {}", ddl, e);
+                }
+                else {
+                    throw e;
+                }
+            }
+        }
+    }
+
     protected abstract void storeRecord(HistoryRecord record) throws SchemaHistoryException;
 
     protected abstract void recoverRecords(Consumer<HistoryRecord> records);
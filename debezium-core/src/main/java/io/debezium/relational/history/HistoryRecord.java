@@ -23,6 +23,7 @@ public static final class Fields {
         public static final String DDL_STATEMENTS = "ddl";
         public static final String TABLE_CHANGES = "tableChanges";
         public static final String TIMESTAMP = "ts_ms";
+        public static final String CHECKPOINT = "checkpoint";
     }
 
     private final Document doc;
@@ -75,6 +76,17 @@ public HistoryRecord(Map<String, ?> source, Map<String, ?> position, String data
 
     }
 
+    /**
+     * Creates a checkpoint record, which contains the structure of all tables at the given position.
+     *
+     * @param changes the creation of all tables of the schema
+     */
+    public static HistoryRecord checkpoint(Map<String, ?> source, Map<String, ?> position, TableChanges changes, Instant timestamp) {
+        final HistoryRecord record = new HistoryRecord(source, position, null, null, null, changes, timestamp);
+        record.doc.setBoolean(Fields.CHECKPOINT, true);
+        return record;
+    }
+
     public Document document() {
         return this.doc;
     }
@@ -107,6 +119,10 @@ protected long timestamp() {
         return doc.getLong(Fields.TIMESTAMP);
     }
 
+    protected boolean isCheckpoint() {
+        return doc.getBoolean(Fields.CHECKPOINT, false);
+    }
+
     @Override
     public String toString() {
         return doc.toString();
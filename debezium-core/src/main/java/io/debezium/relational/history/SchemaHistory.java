@@ -63,6 +63,18 @@ public interface SchemaHistory {
                     + "then only DDL that manipulates a captured table will be stored.")
             .withDefault(false);
 
+    public static final Field CHECKPOINT_INTERVAL = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "checkpoint.interval")
+            .withDisplayName("Number of schema changes between schema history checkpoints")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of schema changes after which a checkpoint with the structure of all tables is stored in the "
+                    + "database schema history. When recovering the schema upon restart, the connector starts with the latest checkpoint "
+                    + "and only applies the schema changes recorded after it. "
+                    + "By default (0) no checkpoints are stored and all recorded schema changes are applied when recovering.")
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger);
+
     public static final Field DDL_FILTER = Field.createInternal(CONFIGURATION_FIELD_PREFIX_STRING + "ddl.filter")
             .withDisplayName("DDL filter")
             .withType(Type.STRING)
@@ -158,6 +170,19 @@ default void recover(Offsets<?, ?> offsets, Tables schema, DdlParser ddlParser)
     @Deprecated
     void recover(Map<Map<String, ?>, Map<String, ?>> offsets, Tables schema, DdlParser ddlParser);
 
+    /**
+     * Records a checkpoint containing the structure of all tables of the given schema, if the configured number of
+     * schema changes has been recorded since the last checkpoint. The schema must reflect all changes recorded so far.
+     *
+     * @param source the information about the source database; may not be null
+     * @param position the point in history at which the schema has the given structure; may not be null
+     * @param schema the current structure of the tables; may not be null
+     * @param timestamp the time at which the checkpoint is recorded
+     * @see #CHECKPOINT_INTERVAL
+     */
+    default void checkpoint(Map<String, ?> source, Map<String, ?> position, Tables schema, Instant timestamp) throws SchemaHistoryException {
+    }
+
     /**
      * Stop recording history and release any resources acquired since {@link #configure(Configuration, HistoryRecordComparator, SchemaHistoryListener, boolean)}.
      */
@@ -27,6 +27,11 @@ public interface SchemaHistoryMXBean {
      */
     long getRecoveryStartTime();
 
+    /**
+     * @return time in milliseconds the recovery took, or has taken so far if it is still in progress
+     */
+    long getRecoveryDurationInMilliSeconds();
+
     /**
      * @return number of changes that were read during recovery phase
      */
@@ -40,6 +40,7 @@ public static enum SchemaHistoryStatus {
 
     private SchemaHistoryStatus status = SchemaHistoryStatus.STOPPED;
     private Instant recoveryStartTime = null;
+    private Instant recoveryStopTime = null;
     private AtomicLong changesRecovered = new AtomicLong();
     private AtomicLong totalChangesApplied = new AtomicLong();
     private Instant lastChangeAppliedTimestamp;
@@ -66,6 +67,16 @@ public long getRecoveryStartTime() {
         return recoveryStartTime == null ? -1 : recoveryStartTime.getEpochSecond();
     }
 
+    @Override
+    public long getRecoveryDurationInMilliSeconds() {
+        final Instant startTime = recoveryStartTime;
+        if (startTime == null) {
+            return -1;
+        }
+        final Instant stopTime = recoveryStopTime;
+        return Duration.between(startTime, stopTime == null ? Instant.now() : stopTime).toMillis();
+    }
+
     @Override
     public long getChangesRecovered() {
         return changesRecovered.get();
@@ -111,15 +122,17 @@ public void stopped() {
     @Override
     public void recoveryStarted() {
         status = SchemaHistoryStatus.RECOVERING;
+        recoveryStopTime = null;
         recoveryStartTime = Instant.now();
         LOGGER.info("Started database schema history recovery");
     }
 
     @Override
     public void recoveryStopped() {
+        recoveryStopTime = Instant.now();
         status = SchemaHistoryStatus.RUNNING;
         LOGGER.info("Finished database schema history recovery of {} change(s) in {} ms", changesRecovered.get(),
-                Duration.between(recoveryStartTime, Instant.now()).toMillis());
+                getRecoveryDurationInMilliSeconds());
     }
 
     @Override
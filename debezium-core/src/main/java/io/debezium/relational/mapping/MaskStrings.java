@@ -107,19 +107,29 @@ public Object convert(Object value) {
         }
     }
 
+    /**
+     * Hashes the values with a message digest per thread, as the converter is shared by all threads converting the rows of a table.
+     */
     @Immutable
     protected static final class HashValueConverter implements ValueConverter {
 
         private static final Logger LOGGER = LoggerFactory.getLogger(HashValueConverter.class);
         private final byte[] salt;
-        private final MessageDigest hashAlgorithm;
+        private final ThreadLocal<MessageDigest> hashAlgorithm;
         private final HashingByteArrayStrategy hashingByteArrayStrategy;
 
         public HashValueConverter(byte[] salt, String hashAlgorithm, HashingByteArrayStrategy hashingByteArrayStrategy) {
             this.salt = salt;
             this.hashingByteArrayStrategy = hashingByteArrayStrategy;
+            // Fails early if the algorithm is not available
+            final MessageDigest digest = messageDigest(hashAlgorithm);
+            this.hashAlgorithm = ThreadLocal.withInitial(() -> messageDigest(hashAlgorithm));
+            this.hashAlgorithm.set(digest);
+        }
+
+        private static MessageDigest messageDigest(String hashAlgorithm) {
             try {
-                this.hashAlgorithm = MessageDigest.getInstance(hashAlgorithm);
+                return MessageDigest.getInstance(hashAlgorithm);
             }
             catch (NoSuchAlgorithmException e) {
                 throw new IllegalArgumentException(e);
@@ -142,10 +152,11 @@ public Object convert(Object value) {
         }
 
         private String toHash(Serializable value) throws IOException {
-            hashAlgorithm.reset();
-            hashAlgorithm.update(salt);
+            final MessageDigest digest = hashAlgorithm.get();
+            digest.reset();
+            digest.update(salt);
             byte[] valueToByteArray = hashingByteArrayStrategy.toByteArray(value);
-            return convertToHexadecimalFormat(hashAlgorithm.digest(valueToByteArray));
+            return convertToHexadecimalFormat(digest.digest(valueToByteArray));
         }
 
         private String convertToHexadecimalFormat(byte[] bytes) {
@@ -5,6 +5,8 @@
  */
 package io.debezium.util;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -13,6 +15,17 @@
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
+import io.debezium.annotation.Immutable;
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * Approximates the heap size of change records.
+ * <p>
+ * The size of the fields of a struct that have a fixed size is computed once per {@link Schema} and kept in a
+ * {@link StructSizeTemplate}, so that only the values of fields with a variable size, i.e. strings, bytes, structs,
+ * arrays and maps, need to be inspected for each record.
+ */
+@ThreadSafe
 public class ApproximateStructSizeCalculator {
 
     private static final int EMPTY_STRUCT_SIZE = 56;
@@ -23,6 +36,18 @@ public class ApproximateStructSizeCalculator {
     private static final int EMPTY_PRIMITIVE = 24;
     private static final int REFERENCE_SIZE = 8;
 
+    /**
+     * The number of slots of the template cache, must be a power of two.
+     */
+    private static final int TEMPLATE_CACHE_SIZE = 1024;
+
+    /**
+     * The templates of recently seen schemas, indexed by the identity hash code of the schema. Schemas are compared by
+     * identity as {@link Schema#equals(Object)} and {@link Schema#hashCode()} walk the whole schema. Templates are
+     * immutable, so racing threads at worst compute the template of a schema more than once.
+     */
+    private static final StructSizeTemplate[] TEMPLATES = new StructSizeTemplate[TEMPLATE_CACHE_SIZE];
+
     public static long getApproximateRecordSize(SourceRecord changeEvent) {
         // assuming 100 bytes per entry of partition / offset / header
         long value = changeEvent.sourcePartition().size() * 100 + changeEvent.sourceOffset().size() * 100 + changeEvent.headers().size() * 100;
@@ -30,23 +55,31 @@ public static long getApproximateRecordSize(SourceRecord changeEvent) {
 
         // key and value, ignoring schemas, assuming they are constant, shared on the heap
         return value + getStructSize((Struct) changeEvent.key()) + getStructSize((Struct) changeEvent.value())
-                + changeEvent.topic().getBytes().length;
+                + changeEvent.topic().length();
     }
 
     private static long getStructSize(Struct struct) {
         if (struct == null) {
             return 0;
         }
-        long size = EMPTY_STRUCT_SIZE;
-        final Schema schema = struct.schema();
-        for (Field field : schema.fields()) {
-            // every field requires a separate reference
-            size += REFERENCE_SIZE;
+        final StructSizeTemplate template = templateFor(struct.schema());
+        long size = template.fixedSize;
+        for (Field field : template.variableSizeFields) {
             size += getValueSize(field.schema(), struct.getWithoutDefault(field.name()));
         }
         return size;
     }
 
+    private static StructSizeTemplate templateFor(Schema schema) {
+        final int slot = System.identityHashCode(schema) & (TEMPLATE_CACHE_SIZE - 1);
+        StructSizeTemplate template = TEMPLATES[slot];
+        if (template == null || template.schema != schema) {
+            template = new StructSizeTemplate(schema);
+            TEMPLATES[slot] = template;
+        }
+        return template;
+    }
+
     @SuppressWarnings("unchecked")
     private static long getValueSize(Schema schema, Object value) {
         switch (schema.type()) {
@@ -60,10 +93,9 @@ private static long getValueSize(Schema schema, Object value) {
                 return EMPTY_PRIMITIVE;
             case STRING:
                 final String s = (String) value;
-                return (s == null) ? 0 : EMPTY_STRING_SIZE + s.getBytes().length;
+                return (s == null) ? 0 : EMPTY_STRING_SIZE + s.length();
             case BYTES:
-                final byte[] b = (byte[]) value;
-                return (b == null) ? 0 : EMPTY_BYTES_SIZE + b.length;
+                return getBytesSize(value);
             case STRUCT:
                 return getStructSize((Struct) value);
             case ARRAY:
@@ -74,10 +106,27 @@ private static long getValueSize(Schema schema, Object value) {
         return 0L;
     }
 
+    private static long getBytesSize(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof byte[]) {
+            return EMPTY_BYTES_SIZE + ((byte[]) value).length;
+        }
+        if (value instanceof ByteBuffer) {
+            return EMPTY_BYTES_SIZE + ((ByteBuffer) value).remaining();
+        }
+        // logical types such as Decimal are not represented as bytes on the heap
+        return EMPTY_BYTES_SIZE;
+    }
+
     private static long getArraySize(Schema elementSchema, List<Object> array) {
         if (array == null) {
             return 0L;
         }
+        if (isFixedSize(elementSchema)) {
+            return EMPTY_ARRAY_SIZE + (long) array.size() * (REFERENCE_SIZE + EMPTY_PRIMITIVE);
+        }
         long size = EMPTY_ARRAY_SIZE;
         for (Object element : array) {
             size += REFERENCE_SIZE;
@@ -90,6 +139,9 @@ private static long getMapSize(Schema keySchema, Schema valueSchema, Map<Object,
         if (map == null) {
             return 0L;
         }
+        if (isFixedSize(keySchema) && isFixedSize(valueSchema)) {
+            return EMPTY_MAP_SIZE + (long) map.size() * (REFERENCE_SIZE * 2 + EMPTY_PRIMITIVE * 2);
+        }
         long size = EMPTY_MAP_SIZE;
         for (Map.Entry<Object, Object> entry : map.entrySet()) {
             size += REFERENCE_SIZE * 2;
@@ -98,4 +150,48 @@ private static long getMapSize(Schema keySchema, Schema valueSchema, Map<Object,
         }
         return size;
     }
-}
\ No newline at end of file
+
+    private static boolean isFixedSize(Schema schema) {
+        switch (schema.type()) {
+            case BOOLEAN:
+            case INT8:
+            case INT16:
+            case FLOAT32:
+            case INT32:
+            case FLOAT64:
+            case INT64:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * The size of a struct of a given schema without the size of the values of its variable-sized fields.
+     */
+    @Immutable
+    private static final class StructSizeTemplate {
+
+        private final Schema schema;
+        private final long fixedSize;
+        private final Field[] variableSizeFields;
+
+        StructSizeTemplate(Schema schema) {
+            final List<Field> variableSizeFields = new ArrayList<>();
+            long fixedSize = EMPTY_STRUCT_SIZE;
+            for (Field field : schema.fields()) {
+                // every field requires a separate reference
+                fixedSize += REFERENCE_SIZE;
+                if (isFixedSize(field.schema())) {
+                    fixedSize += EMPTY_PRIMITIVE;
+                }
+                else {
+                    variableSizeFields.add(field);
+                }
+            }
+            this.schema = schema;
+            this.fixedSize = fixedSize;
+            this.variableSizeFields = variableSizeFields.toArray(new Field[0]);
+        }
+    }
+}
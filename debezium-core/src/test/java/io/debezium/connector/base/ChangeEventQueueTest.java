@@ -23,6 +23,7 @@
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
+import io.debezium.config.CommonConnectorConfig.QueueMode;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.util.LoggingContext;
 
@@ -39,8 +40,9 @@ public class ChangeEventQueueTest {
     private final Thread[] writers;
     private final Thread[] readers;
     private final AtomicLong recordsRead;
+    private final QueueMode queueMode;
 
-    public ChangeEventQueueTest(int noOfWriters, int noOfReaders, int noOfEventsPerWriter) {
+    public ChangeEventQueueTest(int noOfWriters, int noOfReaders, int noOfEventsPerWriter, QueueMode queueMode) {
         this.noOfWriters = noOfWriters;
         this.noOfReaders = noOfReaders;
         this.noOfEventsPerWriter = noOfEventsPerWriter;
@@ -48,18 +50,21 @@ public ChangeEventQueueTest(int noOfWriters, int noOfReaders, int noOfEventsPerW
         this.writers = new Thread[noOfWriters];
         this.readers = new Thread[noOfReaders];
         this.recordsRead = new AtomicLong();
+        this.queueMode = queueMode;
     }
 
-    @Parameters(name = "{index}: testQueue({0} writers, {1} readers, {2} events)")
+    @Parameters(name = "{index}: testQueue({0} writers, {1} readers, {2} events, {3} mode)")
     public static Collection<Object[]> data() {
         int[] writers = { 1, 2, 4, 8, 16 };
         int[] readers = { 1, 2, 4, 8, 16 };
         int totalEvents = 1_000_000;
-        Object[][] params = new Object[writers.length * readers.length][];
+        Object[][] params = new Object[writers.length * readers.length * QueueMode.values().length][];
         int index = 0;
-        for (int writer : writers) {
-            for (int reader : readers) {
-                params[index++] = new Object[]{ writer, reader, totalEvents };
+        for (QueueMode queueMode : QueueMode.values()) {
+            for (int writer : writers) {
+                for (int reader : readers) {
+                    params[index++] = new Object[]{ writer, reader, totalEvents, queueMode };
+                }
             }
         }
         return Arrays.asList(params);
@@ -72,6 +77,7 @@ public void setup() {
                 .maxQueueSize(8192 * 2)
                 .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
                 .pollInterval(Duration.ofMillis(500))
+                .queueMode(queueMode)
                 .build();
         for (int i = 0; i < noOfWriters; i++) {
             writers[i] = getWriter(queue, noOfEventsPerWriter);
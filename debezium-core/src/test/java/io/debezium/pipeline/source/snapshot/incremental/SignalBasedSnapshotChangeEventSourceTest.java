@@ -5,7 +5,10 @@
  */
 package io.debezium.pipeline.source.snapshot.incremental;
 
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.fest.assertions.Assertions;
 import org.junit.Test;
@@ -172,4 +175,46 @@ public void testMaxQueryWithAdditionalCondition() {
         Assertions.assertThat(source.buildMaxPrimaryKeyQuery(table, Optional.of("\"val1\"=foo")))
                 .isEqualTo("SELECT * FROM \"s1\".\"table1\" WHERE \"val1\"=foo ORDER BY \"pk1\" DESC, \"pk2\" DESC LIMIT 1");
     }
+
+    @Test
+    public void testKeyRangeQuery() {
+        final SignalBasedIncrementalSnapshotChangeEventSource<? extends Partition, TableId> source = new SignalBasedIncrementalSnapshotChangeEventSource<>(
+                config(), new JdbcConnection(config().getJdbcConfig(), config -> null, "\"", "\""), null, null, null, SnapshotProgressListener.NO_OP(),
+                DataChangeEventListener.NO_OP());
+        final Column pk1 = Column.editor().name("pk1").create();
+        final Column pk2 = Column.editor().name("pk2").create();
+        final Column val1 = Column.editor().name("val1").create();
+        final Table table = Table.editor().tableId(new TableId(null, "s1", "table1")).addColumn(pk1).addColumn(pk2)
+                .addColumn(val1).setPrimaryKeyNames("pk1", "pk2").create();
+        Assertions.assertThat(source.buildKeyRangeQuery(table, false, Optional.empty())).isEqualTo(
+                "SELECT * FROM \"s1\".\"table1\" WHERE NOT ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) ORDER BY \"pk1\", \"pk2\" LIMIT 2147483647");
+        Assertions.assertThat(source.buildKeyRangeQuery(table, true, Optional.of("\"val1\"=foo"))).isEqualTo(
+                "SELECT * FROM \"s1\".\"table1\" WHERE ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) AND NOT ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) AND \"val1\"=foo ORDER BY \"pk1\", \"pk2\" LIMIT 2147483647");
+    }
+
+    @Test
+    public void shouldCloseChunkReaderConnectionsWhenClosed() throws Exception {
+        final AtomicInteger openConnections = new AtomicInteger();
+        final JdbcConnection jdbcConnection = new JdbcConnection(config().getJdbcConfig(), config -> {
+            openConnections.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ Connection.class }, (proxy, method, args) -> {
+                if ("close".equals(method.getName())) {
+                    openConnections.decrementAndGet();
+                }
+                return null;
+            });
+        }, "\"", "\"");
+        final SignalBasedIncrementalSnapshotChangeEventSource<? extends Partition, TableId> source = new SignalBasedIncrementalSnapshotChangeEventSource<>(
+                config(), jdbcConnection, null, null, null, SnapshotProgressListener.NO_OP(), DataChangeEventListener.NO_OP());
+
+        source.openChunkReaders();
+        Assertions.assertThat(openConnections.get()).isEqualTo(1);
+
+        source.close();
+        Assertions.assertThat(openConnections.get()).isEqualTo(0);
+
+        // closing again, e.g. when the snapshot has completed before the task is stopped, is a no-op
+        source.close();
+        Assertions.assertThat(openConnections.get()).isEqualTo(0);
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class RelationalSnapshotChangeEventSourceTest {
+
+    @Test
+    public void shouldSplitKeyRangeIntoOpenEndedChunks() {
+        final List<String> predicates = RelationalSnapshotChangeEventSource.keyRangePredicates("id", 1, 100, 100, 25);
+
+        assertThat(predicates).containsExactly(
+                "id < 26",
+                "id >= 26 AND id < 51",
+                "id >= 51 AND id < 76",
+                "id >= 76");
+    }
+
+    @Test
+    public void shouldRoundUpNumberOfChunks() {
+        final List<String> predicates = RelationalSnapshotChangeEventSource.keyRangePredicates("id", 0, 999, 1001, 500);
+
+        assertThat(predicates).containsExactly(
+                "id < 334",
+                "id >= 334 AND id < 668",
+                "id >= 668");
+    }
+
+    @Test
+    public void shouldSplitNegativeKeyRange() {
+        final List<String> predicates = RelationalSnapshotChangeEventSource.keyRangePredicates("\"id\"", -10, 9, 20, 10);
+
+        assertThat(predicates).containsExactly(
+                "\"id\" < 0",
+                "\"id\" >= 0");
+    }
+
+    @Test
+    public void shouldNotCreateMoreChunksThanKeys() {
+        final List<String> predicates = RelationalSnapshotChangeEventSource.keyRangePredicates("id", 5, 7, 1000, 10);
+
+        assertThat(predicates).containsExactly(
+                "id < 6",
+                "id >= 6 AND id < 7",
+                "id >= 7");
+    }
+
+    @Test
+    public void shouldNotSplitSingleChunk() {
+        assertThat(RelationalSnapshotChangeEventSource.keyRangePredicates("id", 1, 100, 100, 100)).isEmpty();
+        assertThat(RelationalSnapshotChangeEventSource.keyRangePredicates("id", 42, 42, 1000, 10)).isEmpty();
+    }
+}
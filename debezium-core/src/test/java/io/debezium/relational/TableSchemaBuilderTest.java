@@ -18,6 +18,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.Before;
 import org.junit.Test;
@@ -514,4 +515,11 @@ public void mapperConvertersShouldLeaveEmptyDatesAsZero() {
         assertThat(value.get("C1")).isEqualTo(0);
     }
 
+    @Test(expected = ConnectException.class)
+    public void shouldFailForRowSmallerThanTable() {
+        schema = new TableSchemaBuilder(new JdbcValueConverters(), null, adjuster, customConverterRegistry,
+                SchemaBuilder.struct().build(), false, false)
+                        .create(topicNamingStrategy, table, null, null, null);
+        schema.valueFromColumnData(new Object[]{ "c1value", 3.142d });
+    }
 }
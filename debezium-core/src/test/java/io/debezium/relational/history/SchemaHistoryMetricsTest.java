@@ -0,0 +1,88 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.history;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.SourceInfoStructMaker;
+
+public class SchemaHistoryMetricsTest {
+
+    private SchemaHistoryMetrics metrics;
+
+    @Before
+    public void beforeEach() {
+        metrics = new SchemaHistoryMetrics(new CommonConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+                .build(), "core", 0) {
+            @Override
+            protected SourceInfoStructMaker<?> getSourceInfoStructMaker(Version version) {
+                return null;
+            }
+
+            @Override
+            public String getContextName() {
+                return "core";
+            }
+
+            @Override
+            public String getConnectorName() {
+                return "core";
+            }
+        }, false);
+    }
+
+    @Test
+    public void shouldNotReportRecoveryDurationBeforeRecovery() {
+        assertThat(metrics.getRecoveryStartTime()).isEqualTo(-1);
+        assertThat(metrics.getRecoveryDurationInMilliSeconds()).isEqualTo(-1);
+    }
+
+    @Test
+    public void shouldReportDurationOfRunningRecovery() throws Exception {
+        metrics.recoveryStarted();
+        Thread.sleep(20);
+
+        final long duration = metrics.getRecoveryDurationInMilliSeconds();
+        assertThat(duration).isGreaterThanOrEqualTo(20);
+        assertThat(metrics.getStatus()).isEqualTo("RECOVERING");
+
+        Thread.sleep(20);
+        assertThat(metrics.getRecoveryDurationInMilliSeconds()).isGreaterThan(duration);
+    }
+
+    @Test
+    public void shouldFreezeRecoveryDurationOnceRecoveryStopped() throws Exception {
+        metrics.recoveryStarted();
+        Thread.sleep(20);
+        metrics.recoveryStopped();
+
+        final long duration = metrics.getRecoveryDurationInMilliSeconds();
+        assertThat(duration).isGreaterThanOrEqualTo(20);
+        assertThat(metrics.getStatus()).isEqualTo("RUNNING");
+
+        Thread.sleep(20);
+        assertThat(metrics.getRecoveryDurationInMilliSeconds()).isEqualTo(duration);
+    }
+
+    @Test
+    public void shouldRestartRecoveryDuration() throws Exception {
+        metrics.recoveryStarted();
+        Thread.sleep(50);
+        metrics.recoveryStopped();
+        final long firstDuration = metrics.getRecoveryDurationInMilliSeconds();
+
+        metrics.recoveryStarted();
+        metrics.recoveryStopped();
+
+        assertThat(metrics.getRecoveryDurationInMilliSeconds()).isLessThan(firstDuration);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+public class ApproximateStructSizeCalculatorTest {
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT32_SCHEMA)
+            .build();
+
+    private static final Schema VALUE_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("data", Schema.OPTIONAL_BYTES_SCHEMA)
+            .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+            .field("counts", SchemaBuilder.array(Schema.INT32_SCHEMA).optional().build())
+            .build();
+
+    @Test
+    public void shouldApproximateRecordSize() {
+        final Struct value = new Struct(VALUE_SCHEMA)
+                .put("id", 1)
+                .put("name", "abc")
+                .put("data", ByteBuffer.wrap(new byte[]{ 1, 2, 3, 4 }))
+                .put("tags", Arrays.asList("a", "bc"))
+                .put("counts", Arrays.asList(1, 2, 3));
+
+        // partition, offset and timestamp: 208, key: 88, value: 562, topic: 5
+        assertThat(ApproximateStructSizeCalculator.getApproximateRecordSize(record(value))).isEqualTo(863);
+
+        // the template of the schema is reused for the next record
+        value.put("name", null);
+        assertThat(ApproximateStructSizeCalculator.getApproximateRecordSize(record(value))).isEqualTo(804);
+    }
+
+    @Test
+    public void shouldApproximateSizeOfLogicalBytesTypes() {
+        final Schema valueSchema = SchemaBuilder.struct()
+                .field("amount", Decimal.schema(2))
+                .field("raw", Schema.BYTES_SCHEMA)
+                .build();
+        final Struct value = new Struct(valueSchema)
+                .put("amount", new BigDecimal("12.34"))
+                .put("raw", new byte[]{ 1, 2 });
+
+        // partition, offset and timestamp: 208, key: 88, value: 72 + 24 + 26, topic: 5
+        assertThat(ApproximateStructSizeCalculator.getApproximateRecordSize(record(value))).isEqualTo(423);
+    }
+
+    private static SourceRecord record(Struct value) {
+        return new SourceRecord(Collections.singletonMap("server", "test"), Collections.singletonMap("pos", 1L), "topic", 0,
+                KEY_SCHEMA, new Struct(KEY_SCHEMA).put("id", 1), value.schema(), value);
+    }
+}
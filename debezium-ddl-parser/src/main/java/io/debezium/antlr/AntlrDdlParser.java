@@ -51,12 +51,26 @@
      */
     private AntlrDdlParserListener antlrDdlParserListener;
 
+    /**
+     * Cache of parse trees of previously parsed statements, or null if parse trees are not cached.
+     */
+    private final ParseTreeCache parseTreeCache;
+
     protected Tables databaseTables;
     protected DataTypeResolver dataTypeResolver;
 
     public AntlrDdlParser(boolean throwErrorsFromTreeWalk, boolean includeViews, boolean includeComments) {
+        this(throwErrorsFromTreeWalk, includeViews, includeComments, 0);
+    }
+
+    /**
+     * @param parseTreeCacheSize the maximum number of statement shapes whose parse trees are reused, see {@link ParseTreeCache};
+     *                           0 disables the cache
+     */
+    public AntlrDdlParser(boolean throwErrorsFromTreeWalk, boolean includeViews, boolean includeComments, int parseTreeCacheSize) {
         super(includeViews, includeComments);
         this.throwErrorsFromTreeWalk = throwErrorsFromTreeWalk;
+        this.parseTreeCache = parseTreeCacheSize > 0 ? new ParseTreeCache(parseTreeCacheSize) : null;
     }
 
     @Override
@@ -65,30 +79,45 @@ public void parse(String ddlContent, Tables databaseTables) {
 
         CodePointCharStream ddlContentCharStream = CharStreams.fromString(ddlContent);
         L lexer = createNewLexerInstance(new CaseChangingCharStream(ddlContentCharStream, isGrammarInUpperCase()));
-        P parser = createNewParserInstance(new CommonTokenStream(lexer));
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
 
-        dataTypeResolver = initializeDataTypeResolver();
+        // the resolver is immutable, so it can be shared by all statements
+        if (dataTypeResolver == null) {
+            dataTypeResolver = initializeDataTypeResolver();
+        }
 
-        // remove default console output printing error listener
-        parser.removeErrorListener(ConsoleErrorListener.INSTANCE);
+        ParseTree parseTree = null;
+        if (parseTreeCache != null) {
+            tokenStream.fill();
+            parseTree = parseTreeCache.get(tokenStream.getTokens());
+        }
+
+        if (parseTree == null) {
+            P parser = createNewParserInstance(tokenStream);
 
-        ParsingErrorListener parsingErrorListener = new ParsingErrorListener(ddlContent, AbstractDdlParser::accumulateParsingFailure);
-        parser.addErrorListener(parsingErrorListener);
+            // remove default console output printing error listener
+            parser.removeErrorListener(ConsoleErrorListener.INSTANCE);
 
-        ParseTree parseTree = parseTree(parser);
+            ParsingErrorListener parsingErrorListener = new ParsingErrorListener(ddlContent, AbstractDdlParser::accumulateParsingFailure);
+            parser.addErrorListener(parsingErrorListener);
 
-        if (parsingErrorListener.getErrors().isEmpty()) {
-            antlrDdlParserListener = createParseTreeWalkerListener();
-            if (antlrDdlParserListener != null) {
-                ParseTreeWalker.DEFAULT.walk(antlrDdlParserListener, parseTree);
+            parseTree = parseTree(parser);
 
-                if (throwErrorsFromTreeWalk && !antlrDdlParserListener.getErrors().isEmpty()) {
-                    throwParsingException(antlrDdlParserListener.getErrors());
-                }
+            if (!parsingErrorListener.getErrors().isEmpty()) {
+                throwParsingException(parsingErrorListener.getErrors());
+            }
+            if (parseTreeCache != null) {
+                parseTreeCache.put(tokenStream.getTokens(), parseTree);
             }
         }
-        else {
-            throwParsingException(parsingErrorListener.getErrors());
+
+        antlrDdlParserListener = createParseTreeWalkerListener();
+        if (antlrDdlParserListener != null) {
+            ParseTreeWalker.DEFAULT.walk(antlrDdlParserListener, parseTree);
+
+            if (throwErrorsFromTreeWalk && !antlrDdlParserListener.getErrors().isEmpty()) {
+                throwParsingException(antlrDdlParserListener.getErrors());
+            }
         }
     }
 
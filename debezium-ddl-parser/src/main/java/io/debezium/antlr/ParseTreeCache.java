@@ -0,0 +1,131 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.antlr;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * A bounded LRU cache of parse trees keyed by the shape of the parsed statement.
+ * <p>
+ * The shape of a statement is the sequence of the types of its tokens, so identifiers, numbers and string
+ * literals are parameterized: {@code ALTER TABLE a.t1 ADD COLUMN c1 INT} and {@code ALTER TABLE b.t2 ADD COLUMN c2 INT}
+ * share the same shape. As the decisions of the parser depend only on the token types, statements of the same shape
+ * produce parse trees of the same structure that differ only in their tokens. A cached tree is therefore reused for
+ * a statement of the same shape by rebinding it to the tokens of that statement, which avoids parsing it again.
+ * <p>
+ * As the cached trees are rebound in place, a tree returned by the cache is valid only until the next lookup.
+ *
+ * @see AntlrDdlParser
+ */
+@NotThreadSafe
+public class ParseTreeCache {
+
+    private final Map<StatementShape, ParseTree> trees;
+
+    public ParseTreeCache(int maxSize) {
+        this.trees = new LinkedHashMap<StatementShape, ParseTree>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementShape, ParseTree> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the parse tree of a previously parsed statement of the same shape as the given tokens.
+     *
+     * @param tokens all tokens of the statement, including the off-channel ones; may not be null
+     * @return the parse tree bound to the given tokens, or {@code null} if no statement of the same shape was cached
+     */
+    public ParseTree get(List<Token> tokens) {
+        final ParseTree tree = trees.get(new StatementShape(tokens));
+        if (tree != null) {
+            rebind(tree, tokens);
+        }
+        return tree;
+    }
+
+    /**
+     * Caches the parse tree of a statement that was parsed without errors.
+     *
+     * @param tokens all tokens of the statement, including the off-channel ones; may not be null
+     * @param tree the parse tree of the statement; may not be null
+     */
+    public void put(List<Token> tokens, ParseTree tree) {
+        trees.put(new StatementShape(tokens), tree);
+    }
+
+    public int size() {
+        return trees.size();
+    }
+
+    private static void rebind(ParseTree tree, List<Token> tokens) {
+        if (tree instanceof TerminalNodeImpl) {
+            final TerminalNodeImpl node = (TerminalNodeImpl) tree;
+            node.symbol = rebind(node.symbol, tokens);
+            return;
+        }
+        if (tree instanceof ParserRuleContext) {
+            final ParserRuleContext ctx = (ParserRuleContext) tree;
+            ctx.start = rebind(ctx.start, tokens);
+            ctx.stop = rebind(ctx.stop, tokens);
+        }
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            rebind(tree.getChild(i), tokens);
+        }
+    }
+
+    private static Token rebind(Token token, List<Token> tokens) {
+        return token == null ? null : tokens.get(token.getTokenIndex());
+    }
+
+    /**
+     * The types and channels of all tokens of a statement.
+     */
+    private static final class StatementShape {
+
+        private final int[] tokenTypes;
+        private final int hashCode;
+
+        StatementShape(List<Token> tokens) {
+            tokenTypes = new int[tokens.size() * 2];
+            for (int i = 0; i < tokens.size(); i++) {
+                final Token token = tokens.get(i);
+                tokenTypes[2 * i] = token.getType();
+                tokenTypes[2 * i + 1] = token.getChannel();
+            }
+            hashCode = Arrays.hashCode(tokenTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StatementShape)) {
+                return false;
+            }
+            final StatementShape other = (StatementShape) obj;
+            return hashCode == other.hashCode && Arrays.equals(tokenTypes, other.tokenTypes);
+        }
+    }
+}
@@ -6,6 +6,7 @@
 package io.debezium.connector.simple;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +64,7 @@ public class SimpleSourceConnector extends SourceConnector {
     public static final String DEFAULT_TOPIC_NAME = "simple.topic";
     public static final String INCLUDE_TIMESTAMP = "include.timestamp";
     public static final String RETRIABLE_ERROR_ON = "error.retriable.on";
+    public static final String TASK_ID = "task.id";
     public static final int DEFAULT_RECORD_COUNT_PER_BATCH = 1;
     public static final int DEFAULT_BATCH_COUNT = 10;
     public static final boolean DEFAULT_INCLUDE_TIMESTAMP = false;
@@ -90,7 +92,16 @@ public Class<? extends Task> taskClass() {
     @Override
     public List<Map<String, String>> taskConfigs(int maxTasks) {
         List<Map<String, String>> configs = new ArrayList<>();
-        configs.add(config);
+        if (maxTasks == 1) {
+            configs.add(config);
+            return configs;
+        }
+        // each task produces the records of its own partition
+        for (int taskId = 0; taskId != maxTasks; ++taskId) {
+            Map<String, String> taskConfig = new HashMap<>(config);
+            taskConfig.put(TASK_ID, Integer.toString(taskId));
+            configs.add(taskConfig);
+        }
         return configs;
     }
 
@@ -128,7 +139,9 @@ public void start(Map<String, String> props) {
                 errorOnRecord = config.getInteger(RETRIABLE_ERROR_ON, -1);
 
                 // Create the partition and schemas ...
-                Map<String, ?> partition = Collect.hashMapOf("source", "simple");
+                String taskId = config.getString(TASK_ID);
+                Map<String, ?> partition = taskId == null ? Collect.hashMapOf("source", "simple")
+                        : Collect.hashMapOf("source", "simple", "task", taskId);
                 Schema keySchema = SchemaBuilder.struct()
                         .name("simple.key")
                         .field("id", Schema.INT32_SCHEMA)
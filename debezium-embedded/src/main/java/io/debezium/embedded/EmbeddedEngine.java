@@ -7,6 +7,7 @@
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -14,13 +15,16 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -52,6 +56,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
@@ -62,6 +67,7 @@
 import io.debezium.engine.spi.OffsetCommitPolicy;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
 import io.debezium.util.Clock;
+import io.debezium.util.Threads;
 import io.debezium.util.VariableLatch;
 
 /**
@@ -98,6 +104,16 @@ public final class EmbeddedEngine implements DebeziumEngine<SourceRecord> {
             .withDescription("The Java class for the connector")
             .required();
 
+    /**
+     * An optional field that specifies the maximum number of tasks of the connector run by the engine.
+     */
+    public static final Field TASKS_MAX = Field.create("tasks.max")
+            .withType(Type.INT)
+            .withDescription("The maximum number of tasks of the connector to run. Each task is polled on its own thread, "
+                    + "the batches of all tasks are delivered to the same handler, one batch at a time. Defaults to 1.")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger);
+
     /**
      * An optional field that specifies the name of the class that implements the {@link OffsetBackingStore} interface,
      * and that will be used to store offsets recorded by the connector.
@@ -172,6 +188,17 @@ public final class EmbeddedEngine implements DebeziumEngine<SourceRecord> {
             .withDefault(5000L)
             .withValidation(Field::isPositiveInteger);
 
+    /**
+     * An optional advanced field that specifies whether offsets are flushed to the offset storage without blocking the
+     * delivery of records to the handler.
+     */
+    public static final Field OFFSET_FLUSH_ASYNC = Field.create("offset.flush.async")
+            .withType(Type.BOOLEAN)
+            .withDescription("Whether offsets are flushed to offset storage on a separate thread, so that a slow offset storage "
+                    + "does not delay the delivery of records to the handler. At most one flush is in progress at a time; "
+                    + "offsets of records processed in the meantime are committed by the next flush. Defaults to false.")
+            .withDefault(false);
+
     public static final Field OFFSET_COMMIT_POLICY = Field.create("offset.commit.policy")
             .withDescription("The fully-qualified class name of the commit policy type. This class must implement the interface "
                     + OffsetCommitPolicy.class.getName()
@@ -552,11 +579,12 @@ public static Builder create() {
     private final Converter valueConverter;
     private final WorkerConfig workerConfig;
     private final CompletionResult completionResult;
-    private long recordsSinceLastCommit = 0;
-    private long timeOfLastCommitMillis = 0;
     private OffsetCommitPolicy offsetCommitPolicy;
+    private final boolean asyncOffsetFlush;
+    private final EmbeddedEngineMetrics metrics;
+    private final Object handlerLock = new Object();
 
-    private SourceTask task;
+    private volatile List<SourceTask> tasks = Collections.emptyList();
     private final Transformations transformations;
 
     private EmbeddedEngine(Configuration config, ClassLoader classLoader, Clock clock, DebeziumEngine.ChangeConsumer<SourceRecord> handler,
@@ -574,6 +602,8 @@ private EmbeddedEngine(Configuration config, ClassLoader classLoader, Clock cloc
         this.connectorCallback = connectorCallback;
         this.completionResult = new CompletionResult();
         this.offsetCommitPolicy = offsetCommitPolicy;
+        this.asyncOffsetFlush = config.getBoolean(OFFSET_FLUSH_ASYNC);
+        this.metrics = new EmbeddedEngineMetrics(config.getString(ENGINE_NAME), clock);
 
         assert this.config != null;
         assert this.handler != null;
@@ -654,6 +684,7 @@ public void run() {
                     fail("Failed to start connector with invalid configuration (see logs for actual errors)");
                     return;
                 }
+                metrics.register();
 
                 // Instantiate the connector ...
                 SourceConnector connector = null;
@@ -725,123 +756,38 @@ public OffsetStorageReader offsetStorageReader() {
                     }
                 };
                 connector.initialize(context);
-                OffsetStorageWriter offsetWriter = new OffsetStorageWriter(offsetStore, engineName,
-                        keyConverter, valueConverter);
-
                 Duration commitTimeout = Duration.ofMillis(config.getLong(OFFSET_COMMIT_TIMEOUT_MS));
 
                 try {
                     // Start the connector with the given properties and get the task configurations ...
                     connector.start(workerConfig.originalsStrings());
                     connectorCallback.ifPresent(DebeziumEngine.ConnectorCallback::connectorStarted);
-                    List<Map<String, String>> taskConfigs = connector.taskConfigs(1);
+                    List<Map<String, String>> taskConfigs = connector.taskConfigs(config.getInteger(TASKS_MAX));
                     Class<? extends Task> taskClass = connector.taskClass();
                     if (taskConfigs.isEmpty()) {
                         String msg = "Unable to start connector's task class '" + taskClass.getName() + "' with no task configuration";
                         fail(msg);
                         return;
                     }
-                    task = null;
-                    try {
-                        task = (SourceTask) taskClass.getDeclaredConstructor().newInstance();
-                    }
-                    catch (IllegalAccessException | InstantiationException t) {
-                        fail("Unable to instantiate connector's task class '" + taskClass.getName() + "'", t);
-                        return;
-                    }
-                    try {
-                        SourceTaskContext taskContext = new SourceTaskContext() {
-                            @Override
-                            public OffsetStorageReader offsetStorageReader() {
-                                return offsetReader;
-                            }
-
-                            // Purposely not marking this method with @Override as it was introduced in Kafka 2.x
-                            // and otherwise would break builds based on Kafka 1.x
-                            public Map<String, String> configs() {
-                                // TODO Auto-generated method stub
-                                return null;
-                            }
-                        };
-                        task.initialize(taskContext);
-                        task.start(taskConfigs.get(0));
-                        connectorCallback.ifPresent(DebeziumEngine.ConnectorCallback::taskStarted);
-                    }
-                    catch (Throwable t) {
-                        // Clean-up allocated resources
-                        try {
-                            LOGGER.debug("Stopping the task");
-                            task.stop();
-                        }
-                        catch (Throwable tstop) {
-                            LOGGER.info("Error while trying to stop the task");
+                    final List<RunningTask> runningTasks = new ArrayList<>(taskConfigs.size());
+                    for (Map<String, String> taskConfig : taskConfigs) {
+                        // each task has its own transformation chain as transformations are not required to be thread-safe
+                        final Transformations taskTransformations = runningTasks.isEmpty() ? transformations : new Transformations(config);
+                        final OffsetStorageWriter offsetWriter = new OffsetStorageWriter(offsetStore, engineName,
+                                keyConverter, valueConverter);
+                        final RunningTask runningTask = startTask(taskClass, taskConfig, offsetReader, offsetWriter, taskTransformations,
+                                connectorCallback);
+                        if (runningTask == null) {
+                            stopTasks(runningTasks, connectorCallback);
+                            return;
                         }
-                        // Mask the passwords ...
-                        Configuration config = Configuration.from(taskConfigs.get(0)).withMaskedPasswords();
-                        String msg = "Unable to initialize and start connector's task class '" + taskClass.getName() + "' with config: "
-                                + config;
-                        fail(msg, t);
-                        return;
+                        runningTasks.add(runningTask);
                     }
+                    tasks = runningTasks.stream().map(runningTask -> runningTask.task).collect(Collectors.toList());
 
-                    recordsSinceLastCommit = 0;
                     Throwable handlerError = null;
                     try {
-                        timeOfLastCommitMillis = clock.currentTimeInMillis();
-                        RecordCommitter committer = buildRecordCommitter(offsetWriter, task, commitTimeout);
-                        while (runningThread.get() != null) {
-                            List<SourceRecord> changeRecords = null;
-                            try {
-                                LOGGER.debug("Embedded engine is polling task for records on thread {}", runningThread.get());
-                                changeRecords = task.poll(); // blocks until there are values ...
-                                LOGGER.debug("Embedded engine returned from polling task for records");
-                            }
-                            catch (InterruptedException e) {
-                                // Interrupted while polling ...
-                                LOGGER.debug("Embedded engine interrupted on thread {} while polling the task for records", runningThread.get());
-                                if (this.runningThread.get() == Thread.currentThread()) {
-                                    // this thread is still set as the running thread -> we were not interrupted
-                                    // due the stop() call -> probably someone else called the interrupt on us ->
-                                    // -> we should raise the interrupt flag
-                                    Thread.currentThread().interrupt();
-                                }
-                                break;
-                            }
-                            catch (RetriableException e) {
-                                LOGGER.info("Retrieable exception thrown, connector will be restarted", e);
-                                // Retriable exception should be ignored by the engine
-                                // and no change records delivered.
-                                // The retry is handled in io.debezium.connector.common.BaseSourceTask.poll()
-                            }
-                            try {
-                                if (changeRecords != null && !changeRecords.isEmpty()) {
-                                    LOGGER.debug("Received {} records from the task", changeRecords.size());
-                                    changeRecords = changeRecords.stream()
-                                            .map(transformations::transform)
-                                            .filter(x -> x != null)
-                                            .collect(Collectors.toList());
-                                }
-
-                                if (changeRecords != null && !changeRecords.isEmpty()) {
-                                    LOGGER.debug("Received {} transformed records from the task", changeRecords.size());
-
-                                    try {
-                                        handler.handleBatch(changeRecords, committer);
-                                    }
-                                    catch (StopConnectorException e) {
-                                        break;
-                                    }
-                                }
-                                else {
-                                    LOGGER.debug("Received no records from the task");
-                                }
-                            }
-                            catch (Throwable t) {
-                                // There was some sort of unexpected exception, so we should stop work
-                                handlerError = t;
-                                break;
-                            }
-                        }
+                        handlerError = runTasks(runningTasks, connector.getClass(), engineName, commitTimeout);
                     }
                     finally {
                         if (handlerError != null) {
@@ -850,12 +796,16 @@ public Map<String, String> configs() {
                                     handlerError);
                         }
                         try {
-                            // First stop the task ...
+                            // First stop the tasks ...
                             LOGGER.info("Stopping the task and engine");
-                            task.stop();
-                            connectorCallback.ifPresent(DebeziumEngine.ConnectorCallback::taskStopped);
+                            for (RunningTask runningTask : runningTasks) {
+                                runningTask.task.stop();
+                                connectorCallback.ifPresent(DebeziumEngine.ConnectorCallback::taskStopped);
+                            }
                             // Always commit offsets that were captured from the source records we actually processed ...
-                            commitOffsets(offsetWriter, commitTimeout, task);
+                            for (RunningTask runningTask : runningTasks) {
+                                commitOffsets(runningTask, commitTimeout);
+                            }
                             if (handlerError == null) {
                                 // We stopped normally ...
                                 succeed("Connector '" + connectorClassName + "' completed normally.");
@@ -868,6 +818,9 @@ public Map<String, String> configs() {
                         catch (Throwable t) {
                             fail("Error while trying to stop the task and commit the offsets", t);
                         }
+                        finally {
+                            closeTransformations(runningTasks);
+                        }
                     }
                 }
                 catch (Throwable t) {
@@ -893,6 +846,7 @@ public Map<String, String> configs() {
                 }
             }
             finally {
+                metrics.unregister();
                 latch.countDown();
                 runningThread.set(null);
                 // after we've "shut down" the engine, fire the completion callback based on the results we collected
@@ -901,27 +855,260 @@ public Map<String, String> configs() {
         }
     }
 
+    /**
+     * Instantiate, initialize and start a task of the connector.
+     *
+     * @return the started task, or {@code null} if the task could not be started
+     */
+    private RunningTask startTask(Class<? extends Task> taskClass, Map<String, String> taskConfig, OffsetStorageReader offsetReader,
+                                  OffsetStorageWriter offsetWriter, Transformations taskTransformations,
+                                  Optional<DebeziumEngine.ConnectorCallback> connectorCallback)
+            throws ReflectiveOperationException {
+        SourceTask task = null;
+        try {
+            task = (SourceTask) taskClass.getDeclaredConstructor().newInstance();
+        }
+        catch (IllegalAccessException | InstantiationException t) {
+            fail("Unable to instantiate connector's task class '" + taskClass.getName() + "'", t);
+            return null;
+        }
+        try {
+            SourceTaskContext taskContext = new SourceTaskContext() {
+                @Override
+                public OffsetStorageReader offsetStorageReader() {
+                    return offsetReader;
+                }
+
+                // Purposely not marking this method with @Override as it was introduced in Kafka 2.x
+                // and otherwise would break builds based on Kafka 1.x
+                public Map<String, String> configs() {
+                    // TODO Auto-generated method stub
+                    return null;
+                }
+            };
+            task.initialize(taskContext);
+            task.start(taskConfig);
+            connectorCallback.ifPresent(DebeziumEngine.ConnectorCallback::taskStarted);
+        }
+        catch (Throwable t) {
+            // Clean-up allocated resources
+            try {
+                LOGGER.debug("Stopping the task");
+                task.stop();
+            }
+            catch (Throwable tstop) {
+                LOGGER.info("Error while trying to stop the task");
+            }
+            // Mask the passwords ...
+            Configuration config = Configuration.from(taskConfig).withMaskedPasswords();
+            String msg = "Unable to initialize and start connector's task class '" + taskClass.getName() + "' with config: "
+                    + config;
+            fail(msg, t);
+            return null;
+        }
+        return new RunningTask(task, offsetWriter, taskTransformations);
+    }
+
+    /**
+     * Stop the already started tasks when a subsequent task could not be started.
+     */
+    private void stopTasks(List<RunningTask> runningTasks, Optional<DebeziumEngine.ConnectorCallback> connectorCallback) {
+        for (RunningTask runningTask : runningTasks) {
+            try {
+                runningTask.task.stop();
+                connectorCallback.ifPresent(DebeziumEngine.ConnectorCallback::taskStopped);
+            }
+            catch (Throwable t) {
+                LOGGER.info("Error while trying to stop the task", t);
+            }
+        }
+        closeTransformations(runningTasks);
+    }
+
+    private void closeTransformations(List<RunningTask> runningTasks) {
+        for (RunningTask runningTask : runningTasks) {
+            if (runningTask.transformations != transformations) {
+                try {
+                    runningTask.transformations.close();
+                }
+                catch (Throwable t) {
+                    LOGGER.warn("Error while closing the transformations of a task", t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Run the given tasks until the engine is stopped or any of the tasks stops. A single task is run on the calling thread,
+     * several tasks are each run on their own thread.
+     *
+     * @return the error raised while processing the records of the first failed task, or {@code null} if no task failed
+     * @throws RuntimeException if polling any of the tasks failed
+     */
+    private Throwable runTasks(List<RunningTask> runningTasks, Class<? extends SourceConnector> connectorClass, String engineName,
+                               Duration commitTimeout) {
+        final AtomicBoolean tasksStopping = new AtomicBoolean();
+        if (runningTasks.size() == 1) {
+            return runTask(runningTasks.get(0), commitTimeout, tasksStopping);
+        }
+
+        LOGGER.info("Running {} tasks of the connector", runningTasks.size());
+        final ExecutorService executor = Threads.newFixedThreadPool(connectorClass, engineName, "engine-task", runningTasks.size());
+        final CompletionService<Throwable> completionService = new ExecutorCompletionService<>(executor);
+        final List<Future<Throwable>> results = new ArrayList<>(runningTasks.size());
+        for (RunningTask runningTask : runningTasks) {
+            results.add(completionService.submit(() -> runTask(runningTask, commitTimeout, tasksStopping)));
+        }
+
+        boolean interrupted = false;
+        try {
+            // the engine stops as soon as any of its tasks stops
+            completionService.take();
+        }
+        catch (InterruptedException e) {
+            LOGGER.debug("Embedded engine interrupted on thread {} while running the tasks", runningThread.get());
+            interrupted = true;
+        }
+        tasksStopping.set(true);
+        if (interrupted) {
+            executor.shutdownNow();
+        }
+        else {
+            executor.shutdown();
+        }
+        while (!executor.isTerminated()) {
+            try {
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e) {
+                LOGGER.debug("Embedded engine interrupted on thread {} while stopping the tasks", runningThread.get());
+                interrupted = true;
+                executor.shutdownNow();
+            }
+        }
+        if (interrupted && runningThread.get() == Thread.currentThread()) {
+            // we were not interrupted due the stop() call, so we should raise the interrupt flag
+            Thread.currentThread().interrupt();
+        }
+
+        Throwable handlerError = null;
+        for (Future<Throwable> result : results) {
+            try {
+                if (handlerError == null) {
+                    handlerError = result.get();
+                }
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new DebeziumException(e.getCause());
+            }
+            catch (InterruptedException e) {
+                // all tasks are terminated at this point, so the result is available without waiting
+                Thread.currentThread().interrupt();
+            }
+        }
+        return handlerError;
+    }
+
+    /**
+     * Poll the given task and deliver its records to the handler until the engine is stopped or the task stops.
+     *
+     * @return the error raised while processing the records of the task, or {@code null} if the task stopped normally
+     * @throws RuntimeException if polling the task failed
+     */
+    private Throwable runTask(RunningTask runningTask, Duration commitTimeout, AtomicBoolean tasksStopping) {
+        final SourceTask task = runningTask.task;
+        runningTask.timeOfLastCommitMillis = clock.currentTimeInMillis();
+        RecordCommitter committer = buildRecordCommitter(runningTask, commitTimeout);
+        while (runningThread.get() != null && !tasksStopping.get()) {
+            List<SourceRecord> changeRecords = null;
+            try {
+                LOGGER.debug("Embedded engine is polling task for records on thread {}", runningThread.get());
+                changeRecords = task.poll(); // blocks until there are values ...
+                LOGGER.debug("Embedded engine returned from polling task for records");
+            }
+            catch (InterruptedException e) {
+                // Interrupted while polling ...
+                LOGGER.debug("Embedded engine interrupted on thread {} while polling the task for records", runningThread.get());
+                if (this.runningThread.get() == Thread.currentThread()) {
+                    // this thread is still set as the running thread -> we were not interrupted
+                    // due the stop() call -> probably someone else called the interrupt on us ->
+                    // -> we should raise the interrupt flag
+                    Thread.currentThread().interrupt();
+                }
+                break;
+            }
+            catch (RetriableException e) {
+                LOGGER.info("Retrieable exception thrown, connector will be restarted", e);
+                // Retriable exception should be ignored by the engine
+                // and no change records delivered.
+                // The retry is handled in io.debezium.connector.common.BaseSourceTask.poll()
+            }
+            try {
+                if (changeRecords != null && !changeRecords.isEmpty()) {
+                    LOGGER.debug("Received {} records from the task", changeRecords.size());
+                    changeRecords = changeRecords.stream()
+                            .map(runningTask.transformations::transform)
+                            .filter(x -> x != null)
+                            .collect(Collectors.toList());
+                }
+
+                if (changeRecords != null && !changeRecords.isEmpty()) {
+                    LOGGER.debug("Received {} transformed records from the task", changeRecords.size());
+
+                    try {
+                        // the handler is never invoked concurrently, the batches of each task are delivered in order
+                        synchronized (handlerLock) {
+                            handler.handleBatch(changeRecords, committer);
+                        }
+                    }
+                    catch (StopConnectorException e) {
+                        break;
+                    }
+                }
+                else {
+                    LOGGER.debug("Received no records from the task");
+                    if (asyncOffsetFlush) {
+                        // the committer guards the offsets state of the task
+                        synchronized (committer) {
+                            flushDeferredOffsets(runningTask, commitTimeout);
+                        }
+                    }
+                }
+            }
+            catch (Throwable t) {
+                // There was some sort of unexpected exception, so we should stop work
+                return t;
+            }
+        }
+        return null;
+    }
+
     /**
      * Creates a new RecordCommitter that is responsible for informing the engine
      * about the updates to the given batch
-     * @param offsetWriter the offsetWriter current in use
-     * @param task the sourcetask
+     * @param runningTask the task whose records are committed
      * @param commitTimeout the time in ms until a commit times out
      * @return the new recordCommitter to be used for a given batch
      */
-    protected RecordCommitter buildRecordCommitter(OffsetStorageWriter offsetWriter, SourceTask task, Duration commitTimeout) {
+    protected RecordCommitter buildRecordCommitter(RunningTask runningTask, Duration commitTimeout) {
+        final SourceTask task = runningTask.task;
         return new RecordCommitter() {
 
             @Override
             public synchronized void markProcessed(SourceRecord record) throws InterruptedException {
                 task.commitRecord(record);
-                recordsSinceLastCommit += 1;
-                offsetWriter.offset((Map<String, Object>) record.sourcePartition(), (Map<String, Object>) record.sourceOffset());
+                runningTask.recordsSinceLastCommit += 1;
+                runningTask.recordsProcessed += 1;
+                metrics.onRecordProcessed();
+                runningTask.offsetWriter.offset((Map<String, Object>) record.sourcePartition(), (Map<String, Object>) record.sourceOffset());
             }
 
             @Override
             public synchronized void markBatchFinished() throws InterruptedException {
-                maybeFlush(offsetWriter, offsetCommitPolicy, commitTimeout, task);
+                maybeFlush(runningTask, offsetCommitPolicy, commitTimeout);
             }
 
             @Override
@@ -971,50 +1158,108 @@ protected HashMap<String, Object> getOffsets() {
     /**
      * Determine if we should flush offsets to storage, and if so then attempt to flush offsets.
      *
-     * @param offsetWriter the offset storage writer; may not be null
+     * @param runningTask the task which produced the records for which the offsets have been committed; may not be null
      * @param policy the offset commit policy; may not be null
      * @param commitTimeout the timeout to wait for commit results
-     * @param task the task which produced the records for which the offsets have been committed
      */
-    protected void maybeFlush(OffsetStorageWriter offsetWriter, OffsetCommitPolicy policy, Duration commitTimeout,
-                              SourceTask task)
-            throws InterruptedException {
+    protected void maybeFlush(RunningTask runningTask, OffsetCommitPolicy policy, Duration commitTimeout) throws InterruptedException {
         // Determine if we need to commit to offset storage ...
-        long timeSinceLastCommitMillis = clock.currentTimeInMillis() - timeOfLastCommitMillis;
-        if (policy.performCommit(recordsSinceLastCommit, Duration.ofMillis(timeSinceLastCommitMillis))) {
-            commitOffsets(offsetWriter, commitTimeout, task);
+        long timeSinceLastCommitMillis = clock.currentTimeInMillis() - runningTask.timeOfLastCommitMillis;
+        if (policy.performCommit(runningTask.recordsSinceLastCommit, Duration.ofMillis(timeSinceLastCommitMillis))) {
+            if (asyncOffsetFlush) {
+                commitOffsetsAsync(runningTask, commitTimeout);
+            }
+            else {
+                commitOffsets(runningTask, commitTimeout);
+            }
+        }
+    }
+
+    /**
+     * Start flushing offsets to storage without waiting for the flush to complete. At most one flush is in progress at
+     * a time; while it is, the offsets of newly processed records are kept by the offset writer and are flushed together
+     * by the next flush, at the latest once the task returns no records after the flush in progress completed.
+     *
+     * @param runningTask the task which produced the records for which the offsets have been committed; may not be null
+     * @param commitTimeout the timeout after which an incomplete flush is cancelled
+     */
+    protected void commitOffsetsAsync(RunningTask runningTask, Duration commitTimeout) {
+        final OffsetStorageWriter offsetWriter = runningTask.offsetWriter;
+        final OffsetFlush inFlightFlush = runningTask.inFlightFlush;
+        final long now = clock.currentTimeInMillis();
+        if (inFlightFlush != null && !inFlightFlush.isCompleted()) {
+            if (now - inFlightFlush.started < commitTimeout.toMillis()) {
+                LOGGER.trace("Flush of {} offsets still in progress, deferring the flush of new offsets", this);
+                runningTask.flushDeferred = true;
+                return;
+            }
+            LOGGER.error("Timed out waiting to flush {} offsets to storage", this);
+            offsetWriter.cancelFlush();
+            metrics.onOffsetCommitFailed();
+        }
+        runningTask.inFlightFlush = null;
+        runningTask.flushDeferred = false;
+
+        if (!offsetWriter.beginFlush()) {
+            return;
+        }
+        final OffsetFlush flush = new OffsetFlush(runningTask, now, runningTask.recordsProcessed);
+        if (offsetWriter.doFlush(flush::completed) == null) {
+            return; // no offsets to commit ...
+        }
+        flush.started();
+        runningTask.inFlightFlush = flush;
+        runningTask.recordsSinceLastCommit = 0;
+        runningTask.timeOfLastCommitMillis = now;
+    }
+
+    /**
+     * Flush the offsets whose flush was deferred by {@link #commitOffsetsAsync(RunningTask, Duration)} if the flush in
+     * progress has completed meanwhile, so that they are committed even if the task does not return any more records.
+     *
+     * @param runningTask the task which produced the records for which the offsets have been committed; may not be null
+     * @param commitTimeout the timeout after which an incomplete flush is cancelled
+     */
+    private void flushDeferredOffsets(RunningTask runningTask, Duration commitTimeout) {
+        if (runningTask.flushDeferred) {
+            commitOffsetsAsync(runningTask, commitTimeout);
         }
     }
 
     /**
      * Flush offsets to storage.
      *
-     * @param offsetWriter the offset storage writer; may not be null
+     * @param runningTask the task which produced the records for which the offsets have been committed; may not be null
      * @param commitTimeout the timeout to wait for commit results
-     * @param task the task which produced the records for which the offsets have been committed
      */
-    protected void commitOffsets(OffsetStorageWriter offsetWriter, Duration commitTimeout, SourceTask task) throws InterruptedException {
+    protected void commitOffsets(RunningTask runningTask, Duration commitTimeout) throws InterruptedException {
+        final OffsetStorageWriter offsetWriter = runningTask.offsetWriter;
         long started = clock.currentTimeInMillis();
         long timeout = started + commitTimeout.toMillis();
+        awaitInFlightFlush(runningTask, timeout);
         if (!offsetWriter.beginFlush()) {
             return;
         }
+        final long recordsProcessed = runningTask.recordsProcessed;
         Future<Void> flush = offsetWriter.doFlush(this::completedFlush);
         if (flush == null) {
             return; // no offsets to commit ...
         }
+        metrics.onOffsetCommitStarted();
 
         // Wait until the offsets are flushed ...
         try {
             flush.get(Math.max(timeout - clock.currentTimeInMillis(), 0), TimeUnit.MILLISECONDS);
             // if we've gotten this far, the offsets have been committed so notify the task
-            task.commit();
-            recordsSinceLastCommit = 0;
-            timeOfLastCommitMillis = clock.currentTimeInMillis();
+            runningTask.task.commit();
+            runningTask.recordsSinceLastCommit = 0;
+            runningTask.timeOfLastCommitMillis = clock.currentTimeInMillis();
+            runningTask.offsetsCommitted(recordsProcessed, runningTask.timeOfLastCommitMillis - started);
         }
         catch (InterruptedException e) {
             LOGGER.warn("Flush of {} offsets interrupted, cancelling", this);
             offsetWriter.cancelFlush();
+            metrics.onOffsetCommitFailed();
 
             if (this.runningThread.get() == Thread.currentThread()) {
                 // this thread is still set as the running thread -> we were not interrupted
@@ -1027,10 +1272,42 @@ protected void commitOffsets(OffsetStorageWriter offsetWriter, Duration commitTi
         catch (ExecutionException e) {
             LOGGER.error("Flush of {} offsets threw an unexpected exception: ", this, e);
             offsetWriter.cancelFlush();
+            metrics.onOffsetCommitFailed();
         }
         catch (TimeoutException e) {
             LOGGER.error("Timed out waiting to flush {} offsets to storage", this);
             offsetWriter.cancelFlush();
+            metrics.onOffsetCommitFailed();
+        }
+    }
+
+    /**
+     * Wait for the completion of a flush started by {@link #commitOffsetsAsync(RunningTask, Duration)}, cancelling it if it
+     * does not complete in time so that its offsets are flushed again by the next flush.
+     */
+    private void awaitInFlightFlush(RunningTask runningTask, long timeout) throws InterruptedException {
+        final OffsetStorageWriter offsetWriter = runningTask.offsetWriter;
+        final OffsetFlush flush = runningTask.inFlightFlush;
+        if (flush == null) {
+            return;
+        }
+        runningTask.inFlightFlush = null;
+        try {
+            if (!flush.await(Math.max(timeout - clock.currentTimeInMillis(), 0), TimeUnit.MILLISECONDS)) {
+                LOGGER.error("Timed out waiting to flush {} offsets to storage", this);
+                offsetWriter.cancelFlush();
+                metrics.onOffsetCommitFailed();
+            }
+        }
+        catch (InterruptedException e) {
+            LOGGER.warn("Flush of {} offsets interrupted, cancelling", this);
+            offsetWriter.cancelFlush();
+            metrics.onOffsetCommitFailed();
+
+            if (this.runningThread.get() == Thread.currentThread()) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
         }
     }
 
@@ -1043,6 +1320,115 @@ protected void completedFlush(Throwable error, Void result) {
         }
     }
 
+    /**
+     * A flush of offsets to storage that is not awaited by the thread that started it.
+     */
+    private class OffsetFlush {
+
+        private final RunningTask runningTask;
+        private final long started;
+        private final long recordsProcessed;
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private boolean inProgress;
+        private boolean done;
+        private Throwable error;
+        private long durationInMillis;
+
+        OffsetFlush(RunningTask runningTask, long started, long recordsProcessed) {
+            this.runningTask = runningTask;
+            this.started = started;
+            this.recordsProcessed = recordsProcessed;
+        }
+
+        /**
+         * Invoked once the offsets have been handed over to the offset store. The store may already have completed the
+         * flush, in which case its outcome is recorded now.
+         */
+        synchronized void started() {
+            metrics.onOffsetCommitStarted();
+            inProgress = true;
+            if (done) {
+                recordOutcome();
+            }
+        }
+
+        /**
+         * Invoked by the offset store once the offsets are written. The offset writer already restored the offsets of a
+         * failed flush, so that they are flushed again by the next one. The offset writer also invokes this method
+         * without handing over the offsets to the store if they cannot be serialized; such a flush is never started.
+         */
+        void completed(Throwable error, Void result) {
+            try {
+                completedFlush(error, result);
+                if (error == null) {
+                    // the offsets have been committed so notify the task
+                    runningTask.task.commit();
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            catch (Throwable t) {
+                LOGGER.error("Failed to notify the task of the committed {} offsets: ", EmbeddedEngine.this, t);
+            }
+            finally {
+                synchronized (this) {
+                    this.error = error;
+                    this.durationInMillis = clock.currentTimeInMillis() - started;
+                    done = true;
+                    if (inProgress) {
+                        recordOutcome();
+                    }
+                }
+                completed.countDown();
+            }
+        }
+
+        private void recordOutcome() {
+            if (error == null) {
+                runningTask.offsetsCommitted(recordsProcessed, durationInMillis);
+            }
+            else {
+                metrics.onOffsetCommitFailed();
+            }
+        }
+
+        boolean isCompleted() {
+            return completed.getCount() == 0;
+        }
+
+        boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            return completed.await(timeout, unit);
+        }
+    }
+
+    /**
+     * A started task of the connector and the state of committing the offsets of its records.
+     */
+    protected final class RunningTask {
+
+        private final SourceTask task;
+        private final OffsetStorageWriter offsetWriter;
+        private final Transformations transformations;
+        private long recordsSinceLastCommit = 0;
+        private long timeOfLastCommitMillis = 0;
+        private long recordsProcessed = 0;
+        private volatile long recordsCommitted = 0;
+        private OffsetFlush inFlightFlush;
+        private boolean flushDeferred;
+
+        private RunningTask(SourceTask task, OffsetStorageWriter offsetWriter, Transformations transformations) {
+            this.task = task;
+            this.offsetWriter = offsetWriter;
+            this.transformations = transformations;
+        }
+
+        private void offsetsCommitted(long recordsProcessed, long durationInMillis) {
+            metrics.onOffsetCommitCompleted(recordsProcessed - recordsCommitted, durationInMillis);
+            recordsCommitted = recordsProcessed;
+        }
+    }
+
     /**
      * Stop the execution of this embedded connector. This method does not block until the connector is stopped; use
      * {@link #await(long, TimeUnit)} for this purpose.
@@ -1098,8 +1484,11 @@ public String toString() {
         return "EmbeddedEngine{id=" + config.getString(ENGINE_NAME) + '}';
     }
 
+    /**
+     * Invoke the given consumer with each of the running tasks of the connector.
+     */
     public void runWithTask(Consumer<SourceTask> consumer) {
-        consumer.accept(task);
+        tasks.forEach(consumer);
     }
 
     protected static class EmbeddedConfig extends WorkerConfig {
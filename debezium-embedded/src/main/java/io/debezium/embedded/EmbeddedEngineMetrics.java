@@ -0,0 +1,148 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.kafka.common.utils.Sanitizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.util.Clock;
+
+/**
+ * Offset commit metrics of an {@link EmbeddedEngine}, registered as
+ * {@code debezium.embedded:type=engine-metrics,context=offsets,engine=<engine name>}.
+ */
+@ThreadSafe
+class EmbeddedEngineMetrics implements EmbeddedEngineMetricsMXBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddedEngineMetrics.class);
+
+    private final String engineName;
+    private final Clock clock;
+
+    private final AtomicLong recordsProcessed = new AtomicLong();
+    private final AtomicLong recordsCommitted = new AtomicLong();
+    private final AtomicLong lastCommitTimestamp = new AtomicLong(-1);
+    private final AtomicLong lastCommitDuration = new AtomicLong();
+    private final AtomicLong maxCommitDuration = new AtomicLong();
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong failedCommits = new AtomicLong();
+    private final AtomicInteger commitsInProgress = new AtomicInteger();
+
+    private volatile ObjectName name;
+
+    EmbeddedEngineMetrics(String engineName, Clock clock) {
+        this.engineName = engineName;
+        this.clock = clock;
+    }
+
+    void register() {
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        if (mBeanServer == null) {
+            LOGGER.info("JMX not supported, metrics of engine '{}' not registered", engineName);
+            return;
+        }
+        try {
+            final ObjectName objectName = new ObjectName("debezium.embedded:type=engine-metrics,context=offsets,engine="
+                    + Sanitizer.jmxSanitize(String.valueOf(engineName)));
+            mBeanServer.registerMBean(this, objectName);
+            name = objectName;
+        }
+        catch (JMException e) {
+            LOGGER.warn("Unable to register metrics of engine '{}', metrics will not be available", engineName, e);
+        }
+    }
+
+    void unregister() {
+        final ObjectName objectName = name;
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        }
+        catch (JMException e) {
+            LOGGER.info("Unable to unregister the MBean '{}'", objectName, e);
+        }
+        name = null;
+    }
+
+    void onRecordProcessed() {
+        recordsProcessed.incrementAndGet();
+    }
+
+    void onOffsetCommitStarted() {
+        commitsInProgress.incrementAndGet();
+    }
+
+    /**
+     * @param recordsCommitted the number of records whose offsets were committed
+     * @param durationInMillis the time between capturing the offsets and their flush completing
+     */
+    void onOffsetCommitCompleted(long recordsCommitted, long durationInMillis) {
+        this.recordsCommitted.addAndGet(recordsCommitted);
+        lastCommitTimestamp.set(clock.currentTimeInMillis());
+        lastCommitDuration.set(durationInMillis);
+        maxCommitDuration.accumulateAndGet(durationInMillis, Math::max);
+        commits.incrementAndGet();
+        commitsInProgress.decrementAndGet();
+    }
+
+    void onOffsetCommitFailed() {
+        failedCommits.incrementAndGet();
+        commitsInProgress.decrementAndGet();
+    }
+
+    @Override
+    public long getTotalNumberOfRecordsProcessed() {
+        return recordsProcessed.get();
+    }
+
+    @Override
+    public long getNumberOfRecordsNotCommitted() {
+        return recordsProcessed.get() - recordsCommitted.get();
+    }
+
+    @Override
+    public long getMilliSecondsSinceLastOffsetCommit() {
+        final long timestamp = lastCommitTimestamp.get();
+        return timestamp == -1 ? -1 : clock.currentTimeInMillis() - timestamp;
+    }
+
+    @Override
+    public long getLastOffsetCommitDurationInMilliSeconds() {
+        return lastCommitDuration.get();
+    }
+
+    @Override
+    public long getMaxOffsetCommitDurationInMilliSeconds() {
+        return maxCommitDuration.get();
+    }
+
+    @Override
+    public long getTotalNumberOfOffsetCommits() {
+        return commits.get();
+    }
+
+    @Override
+    public long getTotalNumberOfFailedOffsetCommits() {
+        return failedCommits.get();
+    }
+
+    @Override
+    public boolean isOffsetCommitInProgress() {
+        return commitsInProgress.get() > 0;
+    }
+}
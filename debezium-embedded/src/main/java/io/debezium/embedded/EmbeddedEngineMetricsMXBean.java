@@ -0,0 +1,34 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded;
+
+/**
+ * Exposes how far the offsets committed by an {@link EmbeddedEngine} trail the records delivered to its handler.
+ */
+public interface EmbeddedEngineMetricsMXBean {
+
+    long getTotalNumberOfRecordsProcessed();
+
+    /**
+     * @return the number of records marked as processed by the handler whose offsets are not yet flushed to the offset storage
+     */
+    long getNumberOfRecordsNotCommitted();
+
+    /**
+     * @return the time since the last successful offset commit, or {@code -1} if no offsets were committed yet
+     */
+    long getMilliSecondsSinceLastOffsetCommit();
+
+    long getLastOffsetCommitDurationInMilliSeconds();
+
+    long getMaxOffsetCommitDurationInMilliSeconds();
+
+    long getTotalNumberOfOffsetCommits();
+
+    long getTotalNumberOfFailedOffsetCommits();
+
+    boolean isOffsetCommitInProgress();
+}
@@ -9,11 +9,13 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -21,24 +23,33 @@
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.connector.Task;
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.file.FileStreamSourceConnector;
 import org.apache.kafka.connect.json.JsonDeserializer;
 import org.apache.kafka.connect.runtime.WorkerConfig;
 import org.apache.kafka.connect.runtime.standalone.StandaloneConfig;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.storage.FileOffsetBackingStore;
 import org.apache.kafka.connect.storage.OffsetBackingStore;
 import org.apache.kafka.connect.transforms.Transformation;
 import org.apache.kafka.connect.util.Callback;
 import org.apache.kafka.connect.util.SafeObjectInputStream;
+import org.awaitility.Awaitility;
 import org.fest.assertions.Assertions;
 import org.junit.Before;
 import org.junit.Test;
@@ -269,6 +280,136 @@ public void shouldStartAndUseFileConnectorUsingMemoryOffsetStorage() throws Exce
         assertNoRecordsToConsume();
     }
 
+    @Test
+    public void shouldFlushOffsetsAsynchronously() throws Exception {
+        final Configuration config = Configuration.copy(connectorConfig)
+                .with(EmbeddedEngine.OFFSET_FLUSH_ASYNC, true)
+                .build();
+        final ObjectName metricsName = new ObjectName("debezium.embedded:type=engine-metrics,context=offsets,engine=testing-connector");
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        appendLinesToSource(NUMBER_OF_LINES);
+        start(FileStreamSourceConnector.class, config);
+        consumeLines(NUMBER_OF_LINES);
+        assertNoRecordsToConsume();
+
+        for (int i = 1; i != 5; ++i) {
+            appendLinesToSource(NUMBER_OF_LINES);
+            consumeLines(NUMBER_OF_LINES);
+            assertNoRecordsToConsume();
+        }
+
+        // the offsets of all records delivered so far are eventually committed
+        Awaitility.await()
+                .atMost(waitTimeForRecords() * 5L, TimeUnit.SECONDS)
+                .until(() -> (long) mBeanServer.getAttribute(metricsName, "NumberOfRecordsNotCommitted") == 0L);
+        assertThat((long) mBeanServer.getAttribute(metricsName, "TotalNumberOfRecordsProcessed")).isEqualTo(5L * NUMBER_OF_LINES);
+        assertThat((long) mBeanServer.getAttribute(metricsName, "TotalNumberOfOffsetCommits")).isGreaterThan(0L);
+
+        stopConnector();
+        assertThat(mBeanServer.isRegistered(metricsName)).isFalse();
+
+        // the connector resumes from the committed offsets
+        appendLinesToSource(NUMBER_OF_LINES);
+        start(FileStreamSourceConnector.class, config);
+        consumeLines(NUMBER_OF_LINES);
+        assertNoRecordsToConsume();
+    }
+
+    @Test
+    public void shouldFlushDeferredOffsetsWhenSourceIsQuiet() throws Exception {
+        final Configuration config = Configuration.copy(connectorConfig)
+                .with(EmbeddedEngine.OFFSET_FLUSH_ASYNC, true)
+                .with(EmbeddedEngine.OFFSET_STORAGE, BlockingOffsetStore.class)
+                .build();
+        final ObjectName metricsName = new ObjectName("debezium.embedded:type=engine-metrics,context=offsets,engine=testing-connector");
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        BlockingOffsetStore.blockFirstWrite();
+
+        // the flush of the first batch is kept in flight by the offset store
+        appendLinesToSource(NUMBER_OF_LINES);
+        start(FileStreamSourceConnector.class, config);
+        consumeLines(NUMBER_OF_LINES);
+
+        // the flush of the second batch is deferred
+        appendLinesToSource(NUMBER_OF_LINES);
+        consumeLines(NUMBER_OF_LINES);
+        Awaitility.await()
+                .atMost(waitTimeForRecords(), TimeUnit.SECONDS)
+                .until(() -> (long) mBeanServer.getAttribute(metricsName, "NumberOfRecordsNotCommitted") == 2L * NUMBER_OF_LINES);
+        assertThat((boolean) mBeanServer.getAttribute(metricsName, "OffsetCommitInProgress")).isTrue();
+
+        // no more records arrive, the deferred offsets are flushed once the first flush completed
+        BlockingOffsetStore.releaseFirstWrite();
+        Awaitility.await()
+                .atMost(waitTimeForRecords() * 5L, TimeUnit.SECONDS)
+                .until(() -> (long) mBeanServer.getAttribute(metricsName, "NumberOfRecordsNotCommitted") == 0L);
+        assertThat((long) mBeanServer.getAttribute(metricsName, "TotalNumberOfOffsetCommits")).isEqualTo(2L);
+        assertThat((long) mBeanServer.getAttribute(metricsName, "TotalNumberOfFailedOffsetCommits")).isEqualTo(0L);
+        assertThat((boolean) mBeanServer.getAttribute(metricsName, "OffsetCommitInProgress")).isFalse();
+        assertNoRecordsToConsume();
+
+        stopConnector();
+    }
+
+    @Test
+    public void shouldRunAllTasksOfConnector() throws Exception {
+        final int taskCount = 3;
+        final int recordsPerTask = 10;
+        final Configuration config = Configuration.create()
+                .with(EmbeddedEngine.ENGINE_NAME, "testing-connector")
+                .with(EmbeddedEngine.CONNECTOR_CLASS, SimpleSourceConnector.class)
+                .with(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, OFFSET_STORE_PATH)
+                .with(EmbeddedEngine.OFFSET_FLUSH_INTERVAL_MS, 0)
+                .with(EmbeddedEngine.TASKS_MAX, taskCount)
+                .with(SimpleSourceConnector.BATCH_COUNT, recordsPerTask)
+                .build();
+
+        final Map<Object, List<Integer>> idsByTask = new ConcurrentHashMap<>();
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final CountDownLatch allLatch = new CountDownLatch(taskCount * recordsPerTask);
+
+        engine = EmbeddedEngine.create()
+                .using(config)
+                .notifying((records, committer) -> {
+                    threads.add(Thread.currentThread().getName());
+                    for (SourceRecord r : records) {
+                        idsByTask.computeIfAbsent(r.sourcePartition().get("task"), task -> new ArrayList<>())
+                                .add(((Struct) r.key()).getInt32("id"));
+                        committer.markProcessed(r);
+                        allLatch.countDown();
+                    }
+                    committer.markBatchFinished();
+                })
+                .using(this.getClass().getClassLoader())
+                .build();
+
+        System.setProperty("debezium.embedded.shutdown.pause.before.interrupt.ms", "1000");
+        try {
+            ExecutorService exec = Executors.newFixedThreadPool(1);
+            exec.execute(() -> {
+                LoggingContext.forConnector(getClass().getSimpleName(), "", "engine");
+                engine.run();
+            });
+
+            allLatch.await(5000, TimeUnit.MILLISECONDS);
+            assertThat(allLatch.getCount()).isEqualTo(0);
+
+            // each task is polled on its own thread and its records are delivered in order
+            assertThat(threads).hasSize(taskCount);
+            assertThat(idsByTask.keySet()).containsOnly("0", "1", "2");
+            final List<Integer> expectedIds = IntStream.rangeClosed(1, recordsPerTask).boxed().collect(Collectors.toList());
+            for (List<Integer> ids : idsByTask.values()) {
+                assertThat(ids).isEqualTo(expectedIds);
+            }
+
+            stopConnector();
+        }
+        finally {
+            System.clearProperty("debezium.embedded.shutdown.pause.before.interrupt.ms");
+        }
+    }
+
     @Test
     @FixFor("DBZ-1080")
     public void shouldWorkToUseCustomChangeConsumer() throws Exception {
@@ -694,6 +835,41 @@ public List<SourceRecord> poll() throws InterruptedException {
     }
 }
 
+/**
+ * A file offset store that keeps the first write in progress until it is released.
+ */
+class BlockingOffsetStore extends FileOffsetBackingStore {
+
+    private static volatile CountDownLatch firstWriteReleased = new CountDownLatch(0);
+    private static final AtomicBoolean firstWrite = new AtomicBoolean();
+
+    static void blockFirstWrite() {
+        firstWriteReleased = new CountDownLatch(1);
+        firstWrite.set(true);
+    }
+
+    static void releaseFirstWrite() {
+        firstWriteReleased.countDown();
+    }
+
+    @Override
+    public Future<Void> set(Map<ByteBuffer, ByteBuffer> values, Callback<Void> callback) {
+        if (!firstWrite.compareAndSet(true, false)) {
+            return super.set(values, callback);
+        }
+        final CountDownLatch released = firstWriteReleased;
+        return CompletableFuture.runAsync(() -> {
+            try {
+                released.await();
+                super.set(values, callback).get();
+            }
+            catch (Exception e) {
+                throw new DebeziumException(e);
+            }
+        });
+    }
+}
+
 class InterruptingOffsetStore implements OffsetBackingStore {
 
     @Override
@@ -516,6 +516,79 @@ public void updatesLargeChunk() throws Exception {
         }
     }
 
+    @Test
+    public void updatesWithConcurrentChunks() throws Exception {
+        // Testing.Print.enable();
+
+        populateTable();
+        startConnector(x -> x.with(CommonConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_SIZE, 50)
+                .with(CommonConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNKS_PER_WINDOW, 4)
+                .with(CommonConnectorConfig.INCREMENTAL_SNAPSHOT_MAX_THREADS, 2));
+
+        sendAdHocSnapshotSignal();
+
+        final int batchSize = 10;
+        try (JdbcConnection connection = databaseConnection()) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < ROW_COUNT; i++) {
+                connection.executeWithoutCommitting(
+                        String.format("UPDATE %s SET aa = aa + 2000 WHERE %s > %s AND %s <= %s",
+                                tableName(),
+                                connection.quotedColumnIdString(pkFieldName()),
+                                i * batchSize,
+                                connection.quotedColumnIdString(pkFieldName()),
+                                (i + 1) * batchSize));
+                connection.commit();
+            }
+        }
+
+        final int expectedRecordCount = ROW_COUNT;
+        final Map<Integer, Integer> dbChanges = consumeMixedWithIncrementalSnapshot(expectedRecordCount,
+                x -> x.getValue() >= 2000, null);
+        for (int i = 0; i < expectedRecordCount; i++) {
+            Assertions.assertThat(dbChanges).includes(MapAssert.entry(i + 1, i + 2000));
+        }
+    }
+
+    @Test
+    public void snapshotWithConcurrentChunksWithRestart() throws Exception {
+        // Testing.Print.enable();
+
+        populateTable();
+        final Configuration config = config()
+                .with(CommonConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_SIZE, 10)
+                .with(CommonConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNKS_PER_WINDOW, 3)
+                .with(CommonConnectorConfig.INCREMENTAL_SNAPSHOT_MAX_THREADS, 3)
+                .build();
+        startAndConsumeTillEnd(connectorClass(), config);
+        waitForConnectorToStart();
+
+        waitForAvailableRecords(1, TimeUnit.SECONDS);
+        // there shouldn't be any snapshot records
+        assertNoRecordsToConsume();
+
+        sendAdHocSnapshotSignal();
+
+        final int expectedRecordCount = ROW_COUNT;
+        final AtomicInteger recordCounter = new AtomicInteger();
+        final AtomicBoolean restarted = new AtomicBoolean();
+        final Map<Integer, Integer> dbChanges = consumeMixedWithIncrementalSnapshot(expectedRecordCount, x -> true,
+                x -> {
+                    if (recordCounter.addAndGet(x.size()) > 50 && !restarted.get()) {
+                        // stops the task while the chunk readers of the snapshot are open
+                        stopConnector();
+                        assertConnectorNotRunning();
+
+                        start(connectorClass(), config);
+                        waitForConnectorToStart();
+                        restarted.set(true);
+                    }
+                });
+        for (int i = 0; i < expectedRecordCount; i++) {
+            Assertions.assertThat(dbChanges).includes(MapAssert.entry(i + 1, i));
+        }
+    }
+
     @Test
     public void snapshotOnlyWithRestart() throws Exception {
         // Testing.Print.enable();
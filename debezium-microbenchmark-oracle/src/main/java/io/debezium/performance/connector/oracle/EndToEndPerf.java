@@ -67,6 +67,7 @@
  *     <li>A given set of expected DML events</li>
  *     <li>Parser implementation, legacy and fast versions</li>
  *     <li>Mining Strategy, using redo logs or database online dictionary</li>
+ *     <li>Fetching and parsing on the mining thread or pipelined with a pool of parser threads</li>
  * </ul>
  *
  * The benchmark output is a matrix of all these parameterized values and the total time that
@@ -89,6 +90,9 @@ public static class EndToEndState {
         @Param({ "redo_log_catalog", "online_catalog" })
         public String miningStrategy;
 
+        @Param({ "0", "4" })
+        public int parserThreads;
+
         @Setup(Level.Iteration)
         public void doSetup() {
             consumedLines = new ArrayBlockingQueue<>(100);
@@ -115,6 +119,7 @@ public void doSetup() {
                     .with(OracleConnectorConfig.SNAPSHOT_MODE, SnapshotMode.SCHEMA_ONLY)
                     .with(OracleConnectorConfig.TABLE_INCLUDE_LIST, "DEBEZIUM\\.TEST")
                     .with(OracleConnectorConfig.LOG_MINING_STRATEGY, LogMiningStrategy.parse(miningStrategy))
+                    .with(OracleConnectorConfig.LOG_MINING_PARSER_THREADS, parserThreads)
                     .build();
 
             Configuration config = Configuration.copy(connectorConfig)
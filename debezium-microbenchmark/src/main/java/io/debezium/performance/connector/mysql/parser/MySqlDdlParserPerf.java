@@ -22,11 +22,13 @@
 
 import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
 import io.debezium.relational.Tables;
+import io.debezium.relational.Tables.TableFilter;
 import io.debezium.relational.ddl.AbstractDdlParser;
 
 /**
  * A basic test to compare performance of legacy and antlr DDL parsers depending on the amount
- * of columns in the statement.
+ * of columns in the statement, and of the antlr DDL parser with and without the parse tree cache
+ * on a repetitive DDL corpus.
  *
  * @author Jiri Pechanec <jpechane@redhat.com>
  *
@@ -60,6 +62,42 @@ private String testStatement() {
         }
     }
 
+    /**
+     * A corpus of DDL statements of a multi-tenant database, where the same statements are executed in the
+     * schema of each tenant.
+     */
+    @State(Scope.Thread)
+    public static class RepetitiveDdlState {
+
+        private static final int TENANT_COUNT = 100;
+
+        public AbstractDdlParser antlrParser;
+        public Tables tables;
+        public String[] ddl;
+        public int next;
+
+        @Param({ "0", "100" })
+        public int cacheSize;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            antlrParser = new MySqlAntlrDdlParser(true, false, false, cacheSize, null, TableFilter.includeAll());
+            tables = new Tables();
+            ddl = new String[TENANT_COUNT * 2];
+            for (int i = 0; i < TENANT_COUNT; i++) {
+                ddl[2 * i] = "CREATE TABLE tenant" + i + ".orders (id INT PRIMARY KEY, customer_id INT NOT NULL, "
+                        + "amount DECIMAL(10,2), note VARCHAR(255) DEFAULT '', created TIMESTAMP)";
+                ddl[2 * i + 1] = "ALTER TABLE tenant" + i + ".orders ADD COLUMN status VARCHAR(16) NOT NULL DEFAULT 'new'";
+            }
+        }
+
+        public String nextStatement() {
+            final String statement = ddl[next];
+            next = (next + 1) % ddl.length;
+            return statement;
+        }
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MICROSECONDS)
@@ -69,4 +107,14 @@ private String testStatement() {
     public void antlr(ParserState state) {
         state.antlrParser.parse(state.ddl, state.tables);
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void antlrRepetitive(RepetitiveDdlState state) {
+        state.antlrParser.parse(state.nextStatement(), state.tables);
+    }
 }
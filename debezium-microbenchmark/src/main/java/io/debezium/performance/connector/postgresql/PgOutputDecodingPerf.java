@@ -0,0 +1,140 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.postgresql;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.connector.postgresql.connection.DateTimeFormat;
+import io.debezium.connector.postgresql.connection.pgoutput.PgOutputColumnValue;
+
+/**
+ * Compares decoding the tuple data of pgoutput INSERT messages into Java values via intermediate strings
+ * with decoding it directly from the bytes of the message.
+ * <p>
+ * The messages are laid out the way the pgoutput plug-in writes them for a table with the columns
+ * {@code id int8, quantity int4, price numeric, active bool, created timestamp, updated timestamptz, uuid uuid, name text}.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode({ Mode.AverageTime })
+public class PgOutputDecodingPerf {
+
+    private static final int RELATION_ID = 16385;
+
+    @Param({ "1", "100" })
+    private int messageCount;
+
+    private List<ByteBuffer> messages;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        messages = new ArrayList<>(messageCount);
+        for (int i = 0; i < messageCount; i++) {
+            messages.add(insertMessage(i));
+        }
+    }
+
+    @Benchmark
+    public void decodeFromStrings(Blackhole blackhole) {
+        for (ByteBuffer message : messages) {
+            final ByteBuffer buffer = message.duplicate();
+            skipHeader(buffer);
+            blackhole.consume(Long.valueOf(readString(buffer)));
+            blackhole.consume(Integer.valueOf(readString(buffer)));
+            blackhole.consume(new BigDecimal(readString(buffer)));
+            blackhole.consume("t".equalsIgnoreCase(readString(buffer)));
+            blackhole.consume(DateTimeFormat.get().timestampToInstant(readString(buffer)));
+            blackhole.consume(DateTimeFormat.get().timestampWithTimeZoneToOffsetDateTime(readString(buffer)));
+            blackhole.consume(readString(buffer));
+            blackhole.consume(readString(buffer));
+        }
+    }
+
+    @Benchmark
+    public void decodeFromBytes(Blackhole blackhole) {
+        for (ByteBuffer message : messages) {
+            final ByteBuffer buffer = message.duplicate();
+            skipHeader(buffer);
+            blackhole.consume(readValue(buffer).asLong());
+            blackhole.consume(readValue(buffer).asInteger());
+            blackhole.consume(readValue(buffer).asDecimal());
+            blackhole.consume(readValue(buffer).asBoolean());
+            blackhole.consume(readValue(buffer).asInstant());
+            blackhole.consume(readValue(buffer).asOffsetDateTimeAtUtc());
+            blackhole.consume(readValue(buffer).asString());
+            blackhole.consume(readValue(buffer).asString());
+        }
+    }
+
+    private static void skipHeader(ByteBuffer buffer) {
+        // message type, relation id, tuple type and number of columns
+        buffer.get();
+        buffer.getInt();
+        buffer.get();
+        buffer.getShort();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        buffer.get();
+        final byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static PgOutputColumnValue readValue(ByteBuffer buffer) {
+        buffer.get();
+        return PgOutputColumnValue.read(buffer, buffer.getInt());
+    }
+
+    private static ByteBuffer insertMessage(int i) {
+        final String[] values = {
+                String.valueOf(1_000_000_000L + i),
+                String.valueOf(i % 500),
+                (i * 37 % 10_000) + "." + String.format("%02d", i % 100),
+                i % 2 == 0 ? "t" : "f",
+                String.format("2022-03-%02d 10:%02d:%02d.%06d", 1 + i % 28, i % 60, (i * 7) % 60, i * 1_001 % 1_000_000),
+                String.format("2022-03-%02d 10:%02d:%02d.%06d+01", 1 + i % 28, i % 60, (i * 7) % 60, i * 1_001 % 1_000_000),
+                String.format("4b1a6d7e-5c6f-4a3b-9d2e-%012x", i),
+                "customer name " + i
+        };
+
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        buffer.put((byte) 'I');
+        buffer.putInt(RELATION_ID);
+        buffer.put((byte) 'N');
+        buffer.putShort((short) values.length);
+        for (String value : values) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.put((byte) 't');
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
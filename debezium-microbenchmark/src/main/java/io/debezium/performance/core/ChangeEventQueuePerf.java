@@ -29,6 +29,7 @@
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
+import io.debezium.config.CommonConnectorConfig.QueueMode;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.util.LoggingContext;
@@ -291,4 +292,94 @@ public void teardown() {
 
     }
 
+    @Fork(1)
+    @State(Scope.Thread)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @BenchmarkMode({ Mode.AverageTime })
+    public static class QueueModePerf {
+
+        private static final DataChangeEvent EVENT = new DataChangeEvent(new SourceRecord(Collections.emptyMap(),
+                Collections.emptyMap(), "dummy", Schema.STRING_SCHEMA, "Change Data Capture Even via Debezium"));
+        private static final int TOTAL_RECORDS = 4_000_000;
+
+        @Param({ "blocking", "lock-free" })
+        String queueMode;
+
+        @Param({ "1", "2", "4" })
+        int noOfProducers;
+
+        private ChangeEventQueue<DataChangeEvent> changeEventQueue;
+        private Thread[] producers;
+        private Thread consumer;
+
+        @Setup(Level.Trial)
+        public void setupInvocation() {
+            changeEventQueue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                    .pollInterval(Duration.ofMillis(50))
+                    .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
+                    .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
+                    .queueMode(QueueMode.parse(queueMode))
+                    .build();
+        }
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            final int recordsPerProducer = TOTAL_RECORDS / noOfProducers;
+            producers = new Thread[noOfProducers];
+            for (int i = 0; i < noOfProducers; i++) {
+                producers[i] = new Thread(() -> {
+                    try {
+                        for (int j = 0; j < recordsPerProducer; j++) {
+                            changeEventQueue.enqueue(EVENT);
+                        }
+                    }
+                    catch (InterruptedException ex) {
+                        // exit thread
+                    }
+                });
+            }
+
+            long recordsToPoll = (long) recordsPerProducer * noOfProducers;
+            consumer = new Thread(new Runnable() {
+                private long noOfRecords = 0;
+
+                @Override
+                public void run() {
+                    while (noOfRecords < recordsToPoll) {
+                        try {
+                            noOfRecords += changeEventQueue.poll().size();
+                        }
+                        catch (InterruptedException ex) {
+                            // exit thread
+                        }
+                    }
+                }
+            });
+        }
+
+        @Benchmark
+        public void benchmarkChangeEventQueue() throws InterruptedException {
+            for (Thread producer : producers) {
+                producer.start();
+            }
+            consumer.start();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            consumer.join();
+        }
+
+        @TearDown(Level.Invocation)
+        public void teardown() {
+            for (Thread producer : producers) {
+                producer.interrupt();
+            }
+            consumer.interrupt();
+        }
+
+    }
+
 }
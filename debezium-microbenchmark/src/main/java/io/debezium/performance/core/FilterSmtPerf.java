@@ -25,6 +25,7 @@
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 import io.debezium.data.Envelope;
@@ -81,11 +82,11 @@ public void doSetup() {
 
             final Struct deleteValue = new Struct(schema);
             deleteValue.put("op", "d");
-            delete = new SourceRecord(new HashMap<>(), new HashMap<>(), "top1", 1, schema, delete);
+            delete = new SourceRecord(new HashMap<>(), new HashMap<>(), "top1", 1, schema, deleteValue);
 
             final Struct createValue = new Struct(schema);
             createValue.put("op", "c");
-            create = new SourceRecord(new HashMap<>(), new HashMap<>(), "top1", 1, schema, create);
+            create = new SourceRecord(new HashMap<>(), new HashMap<>(), "top1", 1, schema, createValue);
 
             nativeFilter = new NativeFilter();
             nativeFilter.configure(new HashMap<>());
@@ -94,10 +95,17 @@ public void doSetup() {
             groovyFilter.configure(Collect.hashMapOf("language", "jsr223.groovy", "condition", "value.op == 'd'"));
 
             jsFilter = new Filter<>();
-            jsFilter.configure(Collect.hashMapOf("language", "jsr223.graal.js", "condition", "value.get('op') == 'd'"));
+            jsFilter.configure(Collect.hashMapOf("language", "jsr223.graal.js", "condition", "value.op == 'd'"));
         }
     }
 
+    /**
+     * The filters shared by concurrent threads, e.g. by the tasks of a connector run in the same engine.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedTransformState extends TransformState {
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.MICROSECONDS)
@@ -133,4 +141,30 @@ public void javascript(TransformState state) {
         state.jsFilter.apply(state.create);
         state.jsFilter.apply(state.delete);
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Threads(4)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void groovyShared(SharedTransformState state) {
+        state.groovyFilter.apply(state.create);
+        state.groovyFilter.apply(state.create);
+        state.groovyFilter.apply(state.delete);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Threads(4)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void javascriptShared(SharedTransformState state) {
+        state.jsFilter.apply(state.create);
+        state.jsFilter.apply(state.create);
+        state.jsFilter.apply(state.delete);
+    }
 }
@@ -27,6 +27,9 @@
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
+import io.debezium.transforms.Filter;
+import io.debezium.util.Collect;
+
 /**
  * A basic test to calculate overhead of using SMTs.
  *
@@ -90,6 +93,8 @@ public static class TransformState {
 
         public Transformation<SourceRecord> newRecord;
         public Transformation<SourceRecord> noop;
+        public Transformation<SourceRecord> groovyFilter;
+        public Transformation<SourceRecord> jsFilter;
         public SourceRecord delete;
         public SourceRecord create;
 
@@ -99,17 +104,23 @@ public void doSetup() {
 
             final Struct deleteValue = new Struct(schema);
             deleteValue.put("op", "d");
-            delete = new SourceRecord(new HashMap<>(), new HashMap<>(), "top1", 1, schema, delete);
+            delete = new SourceRecord(new HashMap<>(), new HashMap<>(), "top1", 1, schema, deleteValue);
 
             final Struct createValue = new Struct(schema);
             createValue.put("op", "c");
-            create = new SourceRecord(new HashMap<>(), new HashMap<>(), "top1", 1, schema, create);
+            create = new SourceRecord(new HashMap<>(), new HashMap<>(), "top1", 1, schema, createValue);
 
             newRecord = new NewRecord();
             newRecord.configure(new HashMap<>());
 
             noop = new NoOp();
             noop.configure(new HashMap<>());
+
+            groovyFilter = new Filter<>();
+            groovyFilter.configure(Collect.hashMapOf("language", "jsr223.groovy", "condition", "value.op != 'd'"));
+
+            jsFilter = new Filter<>();
+            jsFilter.configure(Collect.hashMapOf("language", "jsr223.graal.js", "condition", "value.op != 'd'"));
         }
     }
 
@@ -133,6 +144,26 @@ public void noop(TransformState state) {
         state.noop.apply(state.create);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void groovyFilter(TransformState state) {
+        state.groovyFilter.apply(state.create);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void javascriptFilter(TransformState state) {
+        state.jsFilter.apply(state.create);
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.MICROSECONDS)
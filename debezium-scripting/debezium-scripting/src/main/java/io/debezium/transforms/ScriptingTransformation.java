@@ -202,5 +202,8 @@ public ConfigDef config() {
 
     @Override
     public void close() {
+        if (engine != null) {
+            engine.close();
+        }
     }
 }
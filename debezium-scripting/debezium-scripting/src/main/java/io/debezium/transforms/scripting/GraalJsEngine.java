@@ -8,9 +8,11 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.script.Bindings;
 import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
 
 import org.apache.kafka.connect.connector.ConnectRecord;
 import org.apache.kafka.connect.data.Field;
@@ -31,24 +33,24 @@
 public class GraalJsEngine extends Jsr223Engine {
 
     @Override
-    protected void configureEngine() {
+    protected void configureEngine(ScriptEngine engine) {
         final Bindings bindings = engine.getBindings(ScriptContext.ENGINE_SCOPE);
         bindings.put("polyglot.js.allowHostAccess", true);
     }
 
+    /**
+     * Evaluates the expression as a block, so the variables it declares with {@code let}, {@code const} or {@code class}
+     * are scoped to the evaluation of a single record instead of the JavaScript context shared by all records of a thread,
+     * while the value of the last statement is still returned.
+     */
     @Override
-    protected Object key(ConnectRecord<?> record) {
-        return asProxyObject((Struct) record.key());
-    }
-
-    @Override
-    protected Object value(ConnectRecord<?> record) {
-        return asProxyObject((Struct) record.value());
+    protected String source(String expression) {
+        return "{\n" + expression + "\n}";
     }
 
     @Override
-    protected Object headers(ConnectRecord<?> record) {
-        return asProxyObject(doHeaders(record));
+    protected RecordBindings createBindings(ScriptEngine engine) {
+        return new ProxyRecordBindings(engine.createBindings());
     }
 
     @Override
@@ -60,10 +62,63 @@ protected RecordHeader header(Header header) {
     }
 
     /**
-     * Exposes the given struct as a {@link ProxyObject}, allowing for simplified
-     * property references, also providing any write access.
+     * The variables of the JavaScript context of a thread. Each variable is bound into the context only once, so key, value
+     * and headers are exposed as {@link ProxyObject}s delegating to the record currently evaluated, with the headers collected
+     * only if the expression reads them.
      */
+    private final class ProxyRecordBindings implements RecordBindings {
+
+        private final Bindings bindings;
+        private ConnectRecord<?> record;
+        private Map<String, RecordHeader> headers;
+
+        private ProxyRecordBindings(Bindings bindings) {
+            this.bindings = bindings;
+            bindings.put(KEY, asProxyObject(() -> (Struct) record.key()));
+            bindings.put(VALUE, asProxyObject(() -> (Struct) record.value()));
+            bindings.put(HEADER, asProxyObjectOfMap(this::headers));
+        }
+
+        @Override
+        public Bindings bind(ConnectRecord<?> record) {
+            this.record = record;
+            bindings.put(KEY_SCHEMA, record.keySchema());
+            bindings.put(VALUE_SCHEMA, record.valueSchema());
+            bindings.put(TOPIC, record.topic());
+            return bindings;
+        }
+
+        @Override
+        public void unbind() {
+            record = null;
+            headers = null;
+        }
+
+        @Override
+        public void close() throws Exception {
+            // The bindings of GraalJS hold the JavaScript context of the thread
+            if (bindings instanceof AutoCloseable) {
+                ((AutoCloseable) bindings).close();
+            }
+        }
+
+        private Map<String, RecordHeader> headers() {
+            if (headers == null) {
+                headers = doHeaders(record);
+            }
+            return headers;
+        }
+    }
+
     private ProxyObject asProxyObject(Struct struct) {
+        return asProxyObject(() -> struct);
+    }
+
+    /**
+     * Exposes the struct provided by the given supplier as a {@link ProxyObject}, allowing for simplified
+     * property references, also providing any write access.
+     */
+    private ProxyObject asProxyObject(Supplier<Struct> struct) {
         return new ProxyObject() {
 
             @Override
@@ -73,14 +128,14 @@ public void putMember(String key, Value value) {
 
             @Override
             public boolean hasMember(String key) {
-                return struct.schema().field(key) != null;
+                return struct.get().schema().field(key) != null;
             }
 
             @Override
             public Object getMemberKeys() {
-                List<String> fieldNames = new ArrayList<>(struct.schema().fields().size());
+                List<String> fieldNames = new ArrayList<>(struct.get().schema().fields().size());
 
-                for (Field field : struct.schema().fields()) {
+                for (Field field : struct.get().schema().fields()) {
                     fieldNames.add(field.name());
                 }
 
@@ -89,7 +144,7 @@ public Object getMemberKeys() {
 
             @Override
             public Object getMember(String key) {
-                Object value = struct.get(key);
+                Object value = struct.get().get(key);
 
                 if (value instanceof Struct) {
                     return asProxyObject((Struct) value);
@@ -101,10 +156,10 @@ public Object getMember(String key) {
     }
 
     /**
-     * Exposes the given Map as a {@link ProxyObject}, allowing for simplified
+     * Exposes the Map provided by the given supplier as a {@link ProxyObject}, allowing for simplified
      * property reference.
      */
-    private ProxyObject asProxyObject(Map<String, ?> map) {
+    private ProxyObject asProxyObjectOfMap(Supplier<Map<String, ?>> map) {
         return new ProxyObject() {
 
             @Override
@@ -114,17 +169,17 @@ public void putMember(String key, Value value) {
 
             @Override
             public boolean hasMember(String key) {
-                return map.containsKey(key);
+                return map.get().containsKey(key);
             }
 
             @Override
             public Object getMemberKeys() {
-                return map.keySet();
+                return map.get().keySet();
             }
 
             @Override
             public Object getMember(String key) {
-                return map.get(key);
+                return map.get().get(key);
             }
         };
     }
@@ -5,8 +5,15 @@
  */
 package io.debezium.transforms.scripting;
 
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.script.Bindings;
 import javax.script.Compilable;
@@ -17,6 +24,8 @@
 
 import org.apache.kafka.connect.connector.ConnectRecord;
 import org.apache.kafka.connect.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
 
@@ -28,50 +37,97 @@
  * <li>value - value of the record</li>
  * <li>keySchema - schema for key</li>
  * <li>valueSchema - schema for value</li>
+ * <li>topic - topic of the record</li>
+ * <li>header - headers of the record</li>
  * </ul>
  *
+ * Script engines are generally not safe to be used by concurrent threads, so each thread evaluating records gets its own
+ * engine with the expression compiled once, if the engine supports it. The variables are reused for all records evaluated
+ * by a thread and are materialized only if the expression reads them. The engines of all threads are closed when the
+ * engine is closed.
+ *
  * @author Jiri Pechanec
  */
 public class Jsr223Engine implements Engine {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(Jsr223Engine.class);
+
+    protected static final String KEY = "key";
+    protected static final String VALUE = "value";
+    protected static final String KEY_SCHEMA = "keySchema";
+    protected static final String VALUE_SCHEMA = "valueSchema";
+    protected static final String TOPIC = "topic";
+    protected static final String HEADER = "header";
+
+    private static final Set<String> RECORD_VARIABLES = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(KEY, VALUE, KEY_SCHEMA, VALUE_SCHEMA, TOPIC, HEADER)));
+
+    private String language;
     private String expression;
-    private CompiledScript script;
-    protected ScriptEngine engine;
+    private final ThreadLocal<ScriptInstance> instances = ThreadLocal.withInitial(this::takeInstance);
+    private final Set<ScriptInstance> createdInstances = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The instance created when configuring the engine, handed over to the first thread evaluating a record.
+     */
+    private final AtomicReference<ScriptInstance> configuredInstance = new AtomicReference<>();
 
     @Override
     public void configure(String language, String expression) {
+        this.language = language;
         this.expression = expression;
+
+        // Fails early if the language is not available or the expression cannot be compiled
+        configuredInstance.set(createInstance());
+    }
+
+    private ScriptInstance takeInstance() {
+        final ScriptInstance instance = configuredInstance.getAndSet(null);
+        return instance != null ? instance : createInstance();
+    }
+
+    private ScriptInstance createInstance() {
         final ScriptEngineManager factory = new ScriptEngineManager();
-        engine = factory.getEngineByName(language);
+        final ScriptEngine engine = factory.getEngineByName(language);
         if (engine == null) {
             throw new DebeziumException("Implementation of language '" + language + "' not found on the classpath");
         }
-        configureEngine();
+        configureEngine(engine);
 
+        final String source = source(expression);
+        CompiledScript script = null;
         if (engine instanceof Compilable) {
             try {
-                script = ((Compilable) engine).compile(expression);
+                script = ((Compilable) engine).compile(source);
             }
             catch (ScriptException e) {
                 throw new DebeziumException(e);
             }
         }
+        final ScriptInstance instance = new ScriptInstance(language, source, engine, script, createBindings(engine));
+        createdInstances.add(instance);
+        return instance;
     }
 
-    protected void configureEngine() {
+    /**
+     * Returns the script evaluated for each record, as the engine of a thread evaluates all of its records.
+     *
+     * @param expression the configured expression
+     */
+    protected String source(String expression) {
+        return expression;
     }
 
-    protected Bindings getBindings(ConnectRecord<?> record) {
-        final Bindings bindings = engine.createBindings();
-
-        bindings.put("key", key(record));
-        bindings.put("value", value(record));
-        bindings.put("keySchema", record.keySchema());
-        bindings.put("valueSchema", record.valueSchema());
-        bindings.put("topic", record.topic());
-        bindings.put("header", headers(record));
+    protected void configureEngine(ScriptEngine engine) {
+    }
 
-        return bindings;
+    /**
+     * Creates the variables exposed to the expression, used for all records evaluated by the current thread.
+     *
+     * @param engine the script engine of the current thread
+     */
+    protected RecordBindings createBindings(ScriptEngine engine) {
+        return new LazyRecordBindings();
     }
 
     protected Object key(ConnectRecord<?> record) {
@@ -101,10 +157,8 @@ protected Map<String, RecordHeader> doHeaders(ConnectRecord<?> record) {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T eval(ConnectRecord<?> record, Class<T> type) {
-        Bindings bindings = getBindings(record);
-
         try {
-            final Object result = script != null ? script.eval(bindings) : engine.eval(expression, bindings);
+            final Object result = instances.get().eval(record);
             if (result == null || type.isAssignableFrom(result.getClass())) {
                 return (T) result;
             }
@@ -116,4 +170,165 @@ public <T> T eval(ConnectRecord<?> record, Class<T> type) {
             throw new DebeziumException("Error while evaluating expression '" + expression + "' for record '" + record + "'", e);
         }
     }
+
+    @Override
+    public void close() {
+        instances.remove();
+        configuredInstance.set(null);
+        createdInstances.forEach(ScriptInstance::close);
+        createdInstances.clear();
+    }
+
+    /**
+     * The variables exposed to the expression, bound to one record after the other.
+     */
+    protected interface RecordBindings {
+
+        /**
+         * Binds the variables to the given record.
+         *
+         * @param record the record to be evaluated
+         * @return the bindings to evaluate the expression with
+         */
+        Bindings bind(ConnectRecord<?> record);
+
+        /**
+         * Releases the record once it has been evaluated.
+         */
+        void unbind();
+
+        /**
+         * Releases the resources of the variables once the engine is closed.
+         */
+        default void close() throws Exception {
+        }
+    }
+
+    /**
+     * The script engine of a single thread along with the compiled expression and its variables. The instance does not
+     * refer to its {@link Jsr223Engine} and drops the script engine once closed, so the instances still held by the
+     * threads that evaluated records do not keep the closed script engines reachable.
+     */
+    private static final class ScriptInstance {
+
+        private final String language;
+        private final String source;
+        private ScriptEngine engine;
+        private CompiledScript script;
+        private RecordBindings bindings;
+
+        private ScriptInstance(String language, String source, ScriptEngine engine, CompiledScript script, RecordBindings bindings) {
+            this.language = language;
+            this.source = source;
+            this.engine = engine;
+            this.script = script;
+            this.bindings = bindings;
+        }
+
+        private Object eval(ConnectRecord<?> record) throws ScriptException {
+            if (engine == null) {
+                throw new IllegalStateException("The script engine of language '" + language + "' is closed");
+            }
+            final Bindings recordBindings = bindings.bind(record);
+            try {
+                return script != null ? script.eval(recordBindings) : engine.eval(source, recordBindings);
+            }
+            finally {
+                bindings.unbind();
+            }
+        }
+
+        private void close() {
+            try {
+                bindings.close();
+                if (engine instanceof AutoCloseable) {
+                    ((AutoCloseable) engine).close();
+                }
+            }
+            catch (Exception e) {
+                LOGGER.warn("Failed to close the script engine of language '{}'", language, e);
+            }
+            finally {
+                engine = null;
+                script = null;
+                bindings = null;
+            }
+        }
+    }
+
+    /**
+     * Bindings resolving the record variables only when they are read by the expression. Any other variables, e.g. set
+     * by the expression itself, are discarded when the next record is bound.
+     */
+    private final class LazyRecordBindings extends AbstractMap<String, Object> implements Bindings, RecordBindings {
+
+        private final Set<String> unresolvedRecordVariables = new HashSet<>();
+        private final Map<String, Object> variables = new HashMap<>();
+        private ConnectRecord<?> record;
+
+        @Override
+        public Bindings bind(ConnectRecord<?> record) {
+            this.record = record;
+            variables.clear();
+            unresolvedRecordVariables.addAll(RECORD_VARIABLES);
+            return this;
+        }
+
+        @Override
+        public void unbind() {
+            record = null;
+            variables.clear();
+            unresolvedRecordVariables.clear();
+        }
+
+        @Override
+        public boolean containsKey(Object name) {
+            return variables.containsKey(name) || unresolvedRecordVariables.contains(name);
+        }
+
+        @Override
+        public Object get(Object name) {
+            if (unresolvedRecordVariables.remove(name)) {
+                variables.put((String) name, resolve((String) name));
+            }
+            return variables.get(name);
+        }
+
+        @Override
+        public Object put(String name, Object value) {
+            unresolvedRecordVariables.remove(name);
+            return variables.put(name, value);
+        }
+
+        @Override
+        public Object remove(Object name) {
+            unresolvedRecordVariables.remove(name);
+            return variables.remove(name);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            RECORD_VARIABLES.forEach(this::get);
+            return Collections.unmodifiableMap(variables).entrySet();
+        }
+
+        private Object resolve(String name) {
+            switch (name) {
+                case KEY:
+                    return key(record);
+                case VALUE:
+                    return value(record);
+                case KEY_SCHEMA:
+                    return record.keySchema();
+                case VALUE_SCHEMA:
+                    return record.valueSchema();
+                case TOPIC:
+                    return record.topic();
+                case HEADER:
+                    return headers(record);
+                default:
+                    return null;
+            }
+        }
+    }
 }
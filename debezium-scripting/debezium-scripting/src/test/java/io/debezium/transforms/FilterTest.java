@@ -8,8 +8,13 @@
 import static org.fest.assertions.Assertions.assertThat;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
@@ -248,6 +253,61 @@ public void shouldRunJavaScript() {
         }
     }
 
+    @Test
+    public void shouldRunJavaScriptConcurrently() throws Exception {
+        try (final Filter<SourceRecord> transform = new Filter<>()) {
+            final Map<String, String> props = new HashMap<>();
+            props.put(EXPRESSION, "value.op != 'd' || value.before.id % 2 != 0");
+            props.put(LANGUAGE, "jsr223.graal.js");
+            transform.configure(props);
+
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                final List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 400; i++) {
+                    final int id = i % 100;
+                    results.add(executor.submit(() -> {
+                        final SourceRecord record = createDeleteRecord(id);
+                        return transform.apply(record) == (id % 2 != 0 ? record : null);
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    assertThat(result.get()).isTrue();
+                }
+            }
+            finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    public void shouldKeepJavaScriptGlobalsAcrossRecords() {
+        try (final Filter<SourceRecord> transform = new Filter<>()) {
+            final Map<String, String> props = new HashMap<>();
+            props.put(EXPRESSION, "seen = (typeof seen === 'undefined' ? 0 : seen) + 1; seen > 1");
+            props.put(LANGUAGE, "jsr223.graal.js");
+            transform.configure(props);
+            final SourceRecord record = createDeleteRecord(1);
+            assertThat(transform.apply(createDeleteRecord(2))).isNull();
+            assertThat(transform.apply(record)).isSameAs(record);
+        }
+    }
+
+    @Test
+    public void shouldScopeJavaScriptDeclarationsToRecord() {
+        try (final Filter<SourceRecord> transform = new Filter<>()) {
+            final Map<String, String> props = new HashMap<>();
+            props.put(EXPRESSION, "const op = value.op; let id = value.before.id; op != 'd' || id != 2");
+            props.put(LANGUAGE, "jsr223.graal.js");
+            transform.configure(props);
+            final SourceRecord record = createDeleteRecord(1);
+            assertThat(transform.apply(createDeleteRecord(2))).isNull();
+            assertThat(transform.apply(record)).isSameAs(record);
+            assertThat(transform.apply(createDeleteRecord(2))).isNull();
+        }
+    }
+
     @Test
     @FixFor("DBZ-2074")
     public void shouldRunJavaScriptWithHeaderAndTopic() {
@@ -0,0 +1,80 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.transforms.scripting;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.Bindings;
+import javax.script.ScriptEngine;
+
+import org.apache.kafka.connect.connector.ConnectRecord;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+public class Jsr223EngineTest {
+
+    private final AtomicInteger createdBindings = new AtomicInteger();
+    private final AtomicInteger closedBindings = new AtomicInteger();
+
+    @Test
+    public void shouldCloseScriptEnginesOfAllThreads() throws Exception {
+        final Jsr223Engine engine = new TrackingEngine();
+        final SourceRecord record = new SourceRecord(new HashMap<>(), new HashMap<>(), "dummy", null, null, null, null);
+
+        engine.configure("groovy", "topic");
+        assertThat(createdBindings.get()).isEqualTo(1);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The engine created while configuring is used by the first thread evaluating a record
+            assertThat(executor.submit(() -> engine.eval(record, String.class)).get()).isEqualTo("dummy");
+            assertThat(createdBindings.get()).isEqualTo(1);
+            assertThat(executor.submit(() -> engine.eval(record, String.class)).get()).isEqualTo("dummy");
+            assertThat(createdBindings.get()).isEqualTo(1);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(engine.eval(record, String.class)).isEqualTo("dummy");
+        assertThat(createdBindings.get()).isEqualTo(2);
+
+        engine.close();
+        assertThat(closedBindings.get()).isEqualTo(2);
+    }
+
+    private class TrackingEngine extends Jsr223Engine {
+
+        @Override
+        protected RecordBindings createBindings(ScriptEngine engine) {
+            final RecordBindings bindings = super.createBindings(engine);
+            createdBindings.incrementAndGet();
+            return new RecordBindings() {
+
+                @Override
+                public Bindings bind(ConnectRecord<?> record) {
+                    return bindings.bind(record);
+                }
+
+                @Override
+                public void unbind() {
+                    bindings.unbind();
+                }
+
+                @Override
+                public void close() throws Exception {
+                    closedBindings.incrementAndGet();
+                    bindings.close();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.debezium.engine.ChangeEvent;
+
+/**
+ * A change event without key that is sent to the {@code test} destination, used to feed sink adapters in unit tests.
+ */
+public class TestChangeEvent implements ChangeEvent<Object, Object> {
+
+    private final String value;
+
+    public TestChangeEvent(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates events with JSON values containing the ids in the given range.
+     *
+     * @param fromId the id of the first event, inclusive
+     * @param toId the id of the last event, exclusive
+     */
+    public static List<ChangeEvent<Object, Object>> events(int fromId, int toId) {
+        return IntStream.range(fromId, toId)
+                .mapToObj(i -> new TestChangeEvent("{\"id\":" + i + "}"))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the values of the given events.
+     */
+    public static List<String> values(List<ChangeEvent<Object, Object>> events) {
+        return events.stream().map(event -> (String) event.value()).collect(Collectors.toList());
+    }
+
+    @Override
+    public Object key() {
+        return null;
+    }
+
+    @Override
+    public Object value() {
+        return value;
+    }
+
+    @Override
+    public String destination() {
+        return "test";
+    }
+
+    @Override
+    public String toString() {
+        return "TestChangeEvent [value=" + value + "]";
+    }
+}
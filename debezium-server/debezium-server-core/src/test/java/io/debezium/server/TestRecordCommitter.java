@@ -0,0 +1,51 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+
+/**
+ * A committer recording the events marked as processed by a sink adapter in unit tests.
+ */
+public class TestRecordCommitter implements DebeziumEngine.RecordCommitter<ChangeEvent<Object, Object>> {
+
+    private final List<ChangeEvent<Object, Object>> processed = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger finishedBatches = new AtomicInteger();
+
+    @Override
+    public void markProcessed(ChangeEvent<Object, Object> record) {
+        processed.add(record);
+    }
+
+    @Override
+    public void markBatchFinished() {
+        finishedBatches.incrementAndGet();
+    }
+
+    @Override
+    public void markProcessed(ChangeEvent<Object, Object> record, DebeziumEngine.Offsets sourceOffsets) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public DebeziumEngine.Offsets buildOffsets() {
+        throw new UnsupportedOperationException();
+    }
+
+    public List<ChangeEvent<Object, Object>> getProcessed() {
+        return processed;
+    }
+
+    public int getFinishedBatches() {
+        return finishedBatches.get();
+    }
+}
@@ -16,7 +16,13 @@
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
@@ -49,6 +55,12 @@ public class HttpChangeConsumer extends BaseChangeConsumer implements DebeziumEn
     private static final String PROP_CLIENT_TIMEOUT = "timeout.ms";
     private static final String PROP_RETRIES = "retries";
     private static final String PROP_RETRY_INTERVAL = "retry.interval.ms";
+    private static final String PROP_MAX_IN_FLIGHT_REQUESTS = "max.in.flight.requests";
+    private static final String PROP_BATCH_SIZE = "batch.size";
+    private static final String PROP_BATCH_FORMAT = "batch.format";
+
+    private static final String BATCH_FORMAT_JSON_ARRAY = "json-array";
+    private static final String BATCH_FORMAT_NDJSON = "ndjson";
 
     private static final Long HTTP_TIMEOUT = Integer.toUnsignedLong(60000); // Default to 60s
     private static final int DEFAULT_RETRIES = 5;
@@ -60,16 +72,22 @@ public class HttpChangeConsumer extends BaseChangeConsumer implements DebeziumEn
 
     private HttpClient client;
     private HttpRequest.Builder requestBuilder;
+    private int maxInFlightRequests;
+    private int batchSize;
+    private String batchFormat;
 
     // If this is running as a Knative object, then expect the sink URL to be located in `K_SINK`
     // as per https://knative.dev/development/eventing/custom-event-source/sinkbinding/
     @PostConstruct
     void connect() throws URISyntaxException {
+        connect(ConfigProvider.getConfig());
+    }
+
+    void connect(Config config) throws URISyntaxException {
         String sinkUrl;
         String contentType;
 
         client = HttpClient.newHttpClient();
-        final Config config = ConfigProvider.getConfig();
         String sink = System.getenv("K_SINK");
         timeoutDuration = Duration.ofMillis(HTTP_TIMEOUT);
         retries = DEFAULT_RETRIES;
@@ -91,7 +109,26 @@ void connect() throws URISyntaxException {
         config.getOptionalValue(PROP_PREFIX + PROP_RETRY_INTERVAL, String.class)
                 .ifPresent(t -> retryInterval = Duration.ofMillis(Long.parseLong(t)));
 
-        switch (config.getValue("debezium.format.value", String.class)) {
+        maxInFlightRequests = config.getOptionalValue(PROP_PREFIX + PROP_MAX_IN_FLIGHT_REQUESTS, Integer.class).orElse(1);
+        batchSize = config.getOptionalValue(PROP_PREFIX + PROP_BATCH_SIZE, Integer.class).orElse(1);
+        batchFormat = config.getOptionalValue(PROP_PREFIX + PROP_BATCH_FORMAT, String.class).orElse(BATCH_FORMAT_JSON_ARRAY);
+        if (maxInFlightRequests < 1) {
+            throw new DebeziumException("The maximum number of in-flight requests must be at least 1");
+        }
+        if (batchSize < 1) {
+            throw new DebeziumException("The batch size must be at least 1");
+        }
+        if (!BATCH_FORMAT_JSON_ARRAY.equals(batchFormat) && !BATCH_FORMAT_NDJSON.equals(batchFormat)) {
+            throw new DebeziumException("Unsupported batch format '" + batchFormat + "', supported formats are '"
+                    + BATCH_FORMAT_JSON_ARRAY + "' and '" + BATCH_FORMAT_NDJSON + "'");
+        }
+
+        final String valueFormat = config.getValue("debezium.format.value", String.class);
+        if (batchSize > 1 && "avro".equals(valueFormat)) {
+            throw new DebeziumException("Batching of events is not supported for the avro format");
+        }
+
+        switch (valueFormat) {
             case "avro":
                 contentType = "avro/bytes";
                 break;
@@ -102,6 +139,14 @@ void connect() throws URISyntaxException {
                 // Note: will default to JSON if it cannot be determined, but should not reach this point
                 contentType = "application/json";
         }
+        if (batchSize > 1) {
+            if (BATCH_FORMAT_NDJSON.equals(batchFormat)) {
+                contentType = "application/x-ndjson";
+            }
+            else if ("cloudevents".equals(valueFormat)) {
+                contentType = "application/cloudevents-batch+json";
+            }
+        }
 
         LOGGER.info("Using http content-type type {}", contentType);
         LOGGER.info("Using sink URL: {}", sinkUrl);
@@ -112,46 +157,110 @@ void connect() throws URISyntaxException {
     @Override
     public void handleBatch(List<ChangeEvent<Object, Object>> records, DebeziumEngine.RecordCommitter<ChangeEvent<Object, Object>> committer)
             throws InterruptedException {
-        for (ChangeEvent<Object, Object> record : records) {
-            LOGGER.trace("Received event '{}'", record);
-
-            if (record.value() != null) {
-                int attempts = 0;
-                while (!recordSent(record)) {
-                    attempts++;
-                    if (attempts >= retries) {
-                        throw new DebeziumException("Exceeded maximum number of attempts to publish event " + record);
+        final Deque<EventRequest> inFlightRequests = new ArrayDeque<>(maxInFlightRequests);
+        try {
+            List<ChangeEvent<Object, Object>> requestRecords = new ArrayList<>(batchSize);
+            for (ChangeEvent<Object, Object> record : records) {
+                LOGGER.trace("Received event '{}'", record);
+
+                if (record.value() != null) {
+                    requestRecords.add(record);
+                    if (requestRecords.size() == batchSize) {
+                        send(new EventRequest(requestRecords), inFlightRequests, committer);
+                        requestRecords = new ArrayList<>(batchSize);
                     }
-                    Metronome.sleeper(retryInterval, Clock.SYSTEM).pause();
                 }
-                committer.markProcessed(record);
             }
+            if (!requestRecords.isEmpty()) {
+                send(new EventRequest(requestRecords), inFlightRequests, committer);
+            }
+
+            // the records are marked as processed in their order, regardless of the order in which the requests complete
+            while (!inFlightRequests.isEmpty()) {
+                awaitSent(inFlightRequests.removeFirst(), committer);
+            }
+        }
+        finally {
+            // only the case if sending of a request failed
+            inFlightRequests.forEach(request -> request.response.cancel(true));
         }
 
         committer.markBatchFinished();
     }
 
-    private boolean recordSent(ChangeEvent<Object, Object> record) throws InterruptedException {
-        boolean sent = false;
-        String value = (String) record.value();
-        HttpResponse r;
+    private void send(EventRequest request, Deque<EventRequest> inFlightRequests,
+                      DebeziumEngine.RecordCommitter<ChangeEvent<Object, Object>> committer)
+            throws InterruptedException {
+        if (inFlightRequests.size() == maxInFlightRequests) {
+            awaitSent(inFlightRequests.removeFirst(), committer);
+        }
+        request.send();
+        inFlightRequests.addLast(request);
+    }
 
-        HttpRequest request = requestBuilder.POST(HttpRequest.BodyPublishers.ofString(value)).build();
+    private void awaitSent(EventRequest request, DebeziumEngine.RecordCommitter<ChangeEvent<Object, Object>> committer)
+            throws InterruptedException {
+        int attempts = 0;
+        while (!request.isSent()) {
+            attempts++;
+            if (attempts >= retries) {
+                throw new DebeziumException("Exceeded maximum number of attempts to publish event " + request.records.get(0));
+            }
+            Metronome.sleeper(retryInterval, Clock.SYSTEM).pause();
+            // the requests sent after this one might already be delivered, so with more than one request in flight the
+            // events are not received in order
+            request.send();
+        }
+        for (ChangeEvent<Object, Object> record : request.records) {
+            committer.markProcessed(record);
+        }
+    }
 
-        try {
-            r = client.send(request, HttpResponse.BodyHandlers.ofString());
+    private String body(List<ChangeEvent<Object, Object>> records) {
+        if (records.size() == 1 && batchSize == 1) {
+            return (String) records.get(0).value();
+        }
+        if (BATCH_FORMAT_NDJSON.equals(batchFormat)) {
+            return records.stream().map(record -> (String) record.value()).collect(Collectors.joining("\n", "", "\n"));
         }
-        catch (IOException ioe) {
-            throw new InterruptedException(ioe.toString());
+        return records.stream().map(record -> (String) record.value()).collect(Collectors.joining(",", "[", "]"));
+    }
+
+    /**
+     * A request delivering one or more events to the sink.
+     */
+    private class EventRequest {
+
+        private final List<ChangeEvent<Object, Object>> records;
+        private final HttpRequest request;
+        private CompletableFuture<HttpResponse<String>> response;
+
+        EventRequest(List<ChangeEvent<Object, Object>> records) {
+            this.records = records;
+            this.request = requestBuilder.POST(HttpRequest.BodyPublishers.ofString(body(records))).build();
         }
 
-        if ((r.statusCode() == HTTP_OK) || (r.statusCode() == HTTP_NO_CONTENT) || (r.statusCode() == HTTP_ACCEPTED)) {
-            sent = true;
+        void send() {
+            response = client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
         }
-        else {
+
+        boolean isSent() throws InterruptedException {
+            HttpResponse<String> r;
+            try {
+                r = response.get();
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw new InterruptedException(e.getCause().toString());
+                }
+                throw new DebeziumException("Failed to publish event " + records.get(0), e.getCause());
+            }
+
+            if ((r.statusCode() == HTTP_OK) || (r.statusCode() == HTTP_NO_CONTENT) || (r.statusCode() == HTTP_ACCEPTED)) {
+                return true;
+            }
             LOGGER.info("Failed to publish event: " + r.body());
+            return false;
         }
-
-        return sent;
     }
 }
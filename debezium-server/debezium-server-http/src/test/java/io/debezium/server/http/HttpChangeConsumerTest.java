@@ -0,0 +1,229 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static io.debezium.server.TestChangeEvent.events;
+import static io.debezium.server.TestChangeEvent.values;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import io.debezium.engine.ChangeEvent;
+import io.debezium.server.TestRecordCommitter;
+
+/**
+ * Verifies the delivery of events by {@link HttpChangeConsumer} to an embedded WireMock server.
+ */
+public class HttpChangeConsumerTest {
+
+    private static final int EVENT_COUNT = 20;
+    private static final long RESPONSE_DELAY_MS = 50;
+
+    private WireMockServer server;
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private final AtomicInteger failingRequests = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() {
+        server = new WireMockServer(options()
+                .dynamicPort()
+                .containerThreads(EVENT_COUNT + 10)
+                .extensions(new ResponseTracker()));
+        server.start();
+        server.stubFor(post(urlEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("{}")));
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void shouldMarkEventsProcessedInOrderWithConcurrentRequests() throws Exception {
+        final HttpChangeConsumer consumer = consumer(Map.of("debezium.sink.http.max.in.flight.requests", "4"));
+        final List<ChangeEvent<Object, Object>> events = events(0, EVENT_COUNT);
+        final TestRecordCommitter committer = new TestRecordCommitter();
+
+        consumer.handleBatch(events, committer);
+
+        assertThat(committer.getProcessed()).isEqualTo(events);
+        assertThat(committer.getFinishedBatches()).isEqualTo(1);
+        assertThat(requestBodies()).hasSize(EVENT_COUNT);
+        assertThat(requestBodies().stream().collect(Collectors.toSet())).isEqualTo(values(events).stream().collect(Collectors.toSet()));
+
+        // requests were sent concurrently, but never more than the configured number at once
+        assertThat(maxConcurrentRequests.get()).isGreaterThan(1);
+        assertThat(maxConcurrentRequests.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void shouldSendEventsOneByOneByDefault() throws Exception {
+        final HttpChangeConsumer consumer = consumer(Map.of());
+        final List<ChangeEvent<Object, Object>> events = events(0, EVENT_COUNT);
+        final TestRecordCommitter committer = new TestRecordCommitter();
+
+        consumer.handleBatch(events, committer);
+
+        assertThat(committer.getProcessed()).isEqualTo(events);
+        assertThat(requestBodies()).isEqualTo(values(events));
+        assertThat(maxConcurrentRequests.get()).isEqualTo(1);
+        assertThat(contentTypes().get(0)).isEqualTo("application/json");
+    }
+
+    @Test
+    public void shouldBatchEventsAsJsonArray() throws Exception {
+        final HttpChangeConsumer consumer = consumer(Map.of("debezium.sink.http.batch.size", "8"));
+        final List<ChangeEvent<Object, Object>> events = events(0, EVENT_COUNT);
+        final TestRecordCommitter committer = new TestRecordCommitter();
+
+        consumer.handleBatch(events, committer);
+
+        assertThat(committer.getProcessed()).isEqualTo(events);
+        final List<String> requestBodies = requestBodies();
+        assertThat(requestBodies).hasSize(3);
+        assertThat(requestBodies.get(0)).isEqualTo("[" + String.join(",", values(events).subList(0, 8)) + "]");
+        assertThat(requestBodies.get(2)).isEqualTo("[" + String.join(",", values(events).subList(16, 20)) + "]");
+        assertThat(contentTypes().get(0)).isEqualTo("application/json");
+    }
+
+    @Test
+    public void shouldBatchEventsAsNdjson() throws Exception {
+        final HttpChangeConsumer consumer = consumer(Map.of("debezium.sink.http.batch.size", "10", "debezium.sink.http.batch.format", "ndjson"));
+        final List<ChangeEvent<Object, Object>> events = events(0, EVENT_COUNT);
+        final TestRecordCommitter committer = new TestRecordCommitter();
+
+        consumer.handleBatch(events, committer);
+
+        assertThat(committer.getProcessed()).isEqualTo(events);
+        final List<String> requestBodies = requestBodies();
+        assertThat(requestBodies).hasSize(2);
+        assertThat(requestBodies.get(1)).isEqualTo(String.join("\n", values(events).subList(10, 20)) + "\n");
+        assertThat(contentTypes().get(0)).isEqualTo("application/x-ndjson");
+    }
+
+    @Test
+    public void shouldRetryFailedRequestAndKeepOrder() throws Exception {
+        final HttpChangeConsumer consumer = consumer(Map.of("debezium.sink.http.max.in.flight.requests", "4"));
+        final List<ChangeEvent<Object, Object>> events = events(0, EVENT_COUNT);
+        final TestRecordCommitter committer = new TestRecordCommitter();
+        failingRequests.set(2);
+
+        consumer.handleBatch(events, committer);
+
+        assertThat(committer.getProcessed()).isEqualTo(events);
+        assertThat(requestBodies()).hasSize(EVENT_COUNT + 2);
+    }
+
+    private List<LoggedRequest> requests() {
+        return server.findAll(postRequestedFor(urlEqualTo("/")));
+    }
+
+    private List<String> requestBodies() {
+        return requests().stream().map(LoggedRequest::getBodyAsString).collect(Collectors.toList());
+    }
+
+    private List<String> contentTypes() {
+        return requests().stream().map(request -> request.getHeader("Content-Type")).collect(Collectors.toList());
+    }
+
+    private HttpChangeConsumer consumer(Map<String, String> properties) throws Exception {
+        final Map<String, String> config = new HashMap<>(properties);
+        config.put("debezium.sink.http.url", server.baseUrl() + "/");
+        config.put("debezium.sink.http.retry.interval.ms", "10");
+        config.put("debezium.format.value", "json");
+
+        final HttpChangeConsumer consumer = new HttpChangeConsumer();
+        consumer.connect(ConfigProviderResolver.instance().getBuilder().withSources(new MapConfigSource(config)).build());
+        return consumer;
+    }
+
+    /**
+     * Delays the responses to keep the requests in flight, tracks how many of them are served at once and fails the
+     * requested number of them.
+     */
+    private class ResponseTracker extends ResponseDefinitionTransformer {
+
+        @Override
+        public ResponseDefinition transform(Request request, ResponseDefinition responseDefinition, FileSource files, Parameters parameters) {
+            final int concurrent = concurrentRequests.incrementAndGet();
+            maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+            try {
+                Thread.sleep(RESPONSE_DELAY_MS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finally {
+                concurrentRequests.decrementAndGet();
+            }
+
+            if (failingRequests.getAndDecrement() > 0) {
+                return ResponseDefinitionBuilder.like(responseDefinition).but().withStatus(500).build();
+            }
+            return responseDefinition;
+        }
+
+        @Override
+        public String getName() {
+            return "response-tracker";
+        }
+    }
+
+    private static class MapConfigSource implements ConfigSource {
+
+        private final Map<String, String> properties;
+
+        MapConfigSource(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+    }
+}
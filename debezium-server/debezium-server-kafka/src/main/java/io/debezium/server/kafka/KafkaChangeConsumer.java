@@ -6,8 +6,14 @@
 package io.debezium.server.kafka;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -17,7 +23,9 @@
 import javax.inject.Named;
 
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.slf4j.Logger;
@@ -29,9 +37,17 @@
 import io.debezium.engine.DebeziumEngine.RecordCommitter;
 import io.debezium.server.BaseChangeConsumer;
 import io.debezium.server.CustomConsumerBuilder;
+import io.debezium.util.Clock;
 
 /**
  * An implementation of the {@link DebeziumEngine.ChangeConsumer} interface that publishes change event messages to Kafka.
+ * <p>
+ * Up to {@code debezium.sink.kafka.max.in.flight.batches} batches may be awaiting their acknowledgements at the same time,
+ * so that the next batch can be polled while the previous ones are still being sent. The records of a batch are marked
+ * as processed only once all of its records and all records of the preceding batches were acknowledged, so that
+ * committed offsets never advance past a record that was not written to Kafka. The acknowledged batches are marked as
+ * processed by a dedicated thread as soon as they are acknowledged, so that their offsets are committed even if no
+ * further batch is polled, without blocking the I/O thread of the producer.
  */
 @Named("kafka")
 @Dependent
@@ -41,8 +57,23 @@ public class KafkaChangeConsumer extends BaseChangeConsumer implements DebeziumE
 
     private static final String PROP_PREFIX = "debezium.sink.kafka.";
     private static final String PROP_PREFIX_PRODUCER = PROP_PREFIX + "producer.";
+    private static final String PROP_MAX_IN_FLIGHT_BATCHES = PROP_PREFIX + "max.in.flight.batches";
 
-    private KafkaProducer<Object, Object> producer;
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
+
+    private static final Duration COMMIT_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * The batches awaiting their acknowledgement or being marked as processed, guarded by its own monitor.
+     */
+    private final Deque<InFlightBatch> inFlightBatches = new ArrayDeque<>();
+    private final KafkaChangeConsumerMetrics metrics = new KafkaChangeConsumerMetrics();
+    private final Clock clock = Clock.system();
+
+    private Producer<Object, Object> producer;
+    private int maxInFlightBatches;
+    private ExecutorService committerExecutor;
+    private volatile Exception failure;
 
     @Inject
     @CustomConsumerBuilder
@@ -50,17 +81,33 @@ public class KafkaChangeConsumer extends BaseChangeConsumer implements DebeziumE
 
     @PostConstruct
     void start() {
+        final Config config = ConfigProvider.getConfig();
+        final int maxInFlightBatches = config.getOptionalValue(PROP_MAX_IN_FLIGHT_BATCHES, Integer.class).orElse(DEFAULT_MAX_IN_FLIGHT_BATCHES);
+
         if (customKafkaProducer.isResolvable()) {
-            producer = customKafkaProducer.get();
+            start(customKafkaProducer.get(), maxInFlightBatches);
             LOGGER.info("Obtained custom configured KafkaProducer '{}'", producer);
             return;
         }
 
-        final Config config = ConfigProvider.getConfig();
-        producer = new KafkaProducer<>(getConfigSubset(config, PROP_PREFIX_PRODUCER));
+        start(new KafkaProducer<>(getConfigSubset(config, PROP_PREFIX_PRODUCER)), maxInFlightBatches);
         LOGGER.info("consumer started...");
     }
 
+    void start(Producer<Object, Object> producer, int maxInFlightBatches) {
+        if (maxInFlightBatches < 1) {
+            throw new DebeziumException("The value of '" + PROP_MAX_IN_FLIGHT_BATCHES + "' must be at least 1 but was " + maxInFlightBatches);
+        }
+        this.producer = producer;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.committerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "debezium-kafka-sink-committer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        metrics.register();
+    }
+
     @PreDestroy
     void stop() {
         LOGGER.info("consumer destroyed...");
@@ -72,32 +119,165 @@ void stop() {
                 LOGGER.warn("Could not close producer {}", t);
             }
         }
+        if (committerExecutor != null) {
+            // the batches acknowledged while closing the producer are still marked as processed
+            committerExecutor.shutdown();
+            try {
+                if (!committerExecutor.awaitTermination(COMMIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    committerExecutor.shutdownNow();
+                }
+            }
+            catch (InterruptedException e) {
+                committerExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (inFlightBatches) {
+            if (!inFlightBatches.isEmpty()) {
+                LOGGER.info("{} batches were not acknowledged yet, their offsets will not be committed", inFlightBatches.size());
+            }
+        }
+        metrics.unregister();
     }
 
     @Override
     public void handleBatch(final List<ChangeEvent<Object, Object>> records, final RecordCommitter<ChangeEvent<Object, Object>> committer) throws InterruptedException {
-        final CountDownLatch latch = new CountDownLatch(records.size());
+        throwIfFailed();
+        final InFlightBatch batch = new InFlightBatch(records, committer);
+        synchronized (inFlightBatches) {
+            inFlightBatches.add(batch);
+        }
+        metrics.onBatchSent(records.size());
+        if (records.isEmpty()) {
+            batchAcknowledged();
+        }
         for (ChangeEvent<Object, Object> record : records) {
             try {
                 LOGGER.trace("Received event '{}'", record);
-                producer.send(new ProducerRecord<>(record.destination(), record.key(), record.value()), (metadata, exception) -> {
-                    if (exception != null) {
-                        LOGGER.error("Failed to send record to {}:", record.destination(), exception);
-                        throw new DebeziumException(exception);
-                    }
-                    else {
-                        LOGGER.trace("Sent message with offset: {}", metadata.offset());
-                        latch.countDown();
-                    }
-                });
-                committer.markProcessed(record);
+                producer.send(new ProducerRecord<>(record.destination(), record.key(), record.value()),
+                        (metadata, exception) -> batch.acknowledge(record, metadata, exception));
             }
             catch (Exception e) {
                 throw new DebeziumException(e);
             }
         }
 
-        latch.await();
-        committer.markBatchFinished();
+        awaitInFlightBatches();
+    }
+
+    /**
+     * Waits until less than {@code max.in.flight.batches} batches remain in flight.
+     */
+    private void awaitInFlightBatches() throws InterruptedException {
+        synchronized (inFlightBatches) {
+            while (failure == null && inFlightBatches.size() >= maxInFlightBatches) {
+                inFlightBatches.wait();
+            }
+        }
+        throwIfFailed();
+    }
+
+    private void throwIfFailed() {
+        if (failure != null) {
+            throw new DebeziumException(failure);
+        }
+    }
+
+    /**
+     * Invoked from the producer I/O thread once all records of a batch were acknowledged, so it hands over the
+     * marking of the batches as processed to the committer thread.
+     */
+    private void batchAcknowledged() {
+        try {
+            committerExecutor.execute(this::commitAcknowledgedBatches);
+        }
+        catch (RejectedExecutionException e) {
+            LOGGER.debug("Consumer is stopped, the acknowledged batch will not be marked as processed");
+        }
+    }
+
+    /**
+     * Marks the acknowledged batches at the head of the in-flight queue as processed, in the order they were sent,
+     * stopping at the first batch with a failed record.
+     */
+    private void commitAcknowledgedBatches() {
+        while (failure == null) {
+            final InFlightBatch oldest;
+            synchronized (inFlightBatches) {
+                oldest = inFlightBatches.peek();
+            }
+            if (oldest == null || !oldest.isAcknowledged()) {
+                return;
+            }
+            try {
+                oldest.commit();
+            }
+            catch (InterruptedException e) {
+                failure = e;
+                Thread.currentThread().interrupt();
+            }
+            catch (Exception e) {
+                failure = e;
+            }
+            synchronized (inFlightBatches) {
+                if (failure == null) {
+                    inFlightBatches.poll();
+                }
+                inFlightBatches.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * A batch whose records were sent to Kafka, tracking the acknowledgement of each of them.
+     */
+    private class InFlightBatch {
+
+        private final List<ChangeEvent<Object, Object>> records;
+        private final RecordCommitter<ChangeEvent<Object, Object>> committer;
+        private final long started = clock.currentTimeInMillis();
+        private final AtomicInteger pendingRecords;
+        private volatile Exception failure;
+
+        InFlightBatch(List<ChangeEvent<Object, Object>> records, RecordCommitter<ChangeEvent<Object, Object>> committer) {
+            this.records = records;
+            this.committer = committer;
+            this.pendingRecords = new AtomicInteger(records.size());
+        }
+
+        /**
+         * Invoked from the producer I/O thread, so it must not block nor throw.
+         */
+        void acknowledge(ChangeEvent<Object, Object> record, RecordMetadata metadata, Exception exception) {
+            if (exception != null) {
+                LOGGER.error("Failed to send record to {}:", record.destination(), exception);
+                metrics.onRecordFailed();
+                if (failure == null) {
+                    failure = exception;
+                }
+            }
+            else {
+                LOGGER.trace("Sent message with offset: {}", metadata.offset());
+            }
+            if (pendingRecords.decrementAndGet() == 0) {
+                metrics.onBatchAcknowledged(clock.currentTimeInMillis() - started);
+                batchAcknowledged();
+            }
+        }
+
+        boolean isAcknowledged() {
+            return pendingRecords.get() == 0;
+        }
+
+        void commit() throws Exception {
+            if (failure != null) {
+                throw failure;
+            }
+            for (ChangeEvent<Object, Object> record : records) {
+                committer.markProcessed(record);
+            }
+            committer.markBatchFinished();
+            metrics.onBatchCompleted(records.size());
+        }
     }
 }
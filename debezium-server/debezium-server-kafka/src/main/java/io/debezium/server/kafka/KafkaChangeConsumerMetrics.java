@@ -0,0 +1,136 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server.kafka;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * Metrics of the batches delivered by {@link KafkaChangeConsumer}, registered as
+ * {@code debezium.server:type=sink-metrics,sink=kafka}.
+ */
+@ThreadSafe
+class KafkaChangeConsumerMetrics implements KafkaChangeConsumerMetricsMXBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaChangeConsumerMetrics.class);
+
+    private static final String OBJECT_NAME = "debezium.server:type=sink-metrics,sink=kafka";
+
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+    private final AtomicLong inFlightRecords = new AtomicLong();
+    private final AtomicLong totalNumberOfBatchesSent = new AtomicLong();
+    private final AtomicLong totalNumberOfRecordsSent = new AtomicLong();
+    private final AtomicLong totalNumberOfRecordsFailed = new AtomicLong();
+    private final AtomicLong lastBatchLatency = new AtomicLong();
+    private final AtomicLong maxBatchLatency = new AtomicLong();
+
+    private volatile ObjectName name;
+
+    void register() {
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        if (mBeanServer == null) {
+            LOGGER.info("JMX not supported, bean '{}' not registered", OBJECT_NAME);
+            return;
+        }
+        try {
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            mBeanServer.registerMBean(this, objectName);
+            name = objectName;
+        }
+        catch (JMException e) {
+            LOGGER.warn("Unable to register the MBean '{}', metrics will not be available", OBJECT_NAME, e);
+        }
+    }
+
+    void unregister() {
+        final ObjectName objectName = name;
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        }
+        catch (JMException e) {
+            LOGGER.info("Unable to unregister the MBean '{}'", objectName, e);
+        }
+        name = null;
+    }
+
+    void onBatchSent(int records) {
+        inFlightBatches.incrementAndGet();
+        inFlightRecords.addAndGet(records);
+        totalNumberOfBatchesSent.incrementAndGet();
+        totalNumberOfRecordsSent.addAndGet(records);
+    }
+
+    void onRecordFailed() {
+        totalNumberOfRecordsFailed.incrementAndGet();
+    }
+
+    void onBatchAcknowledged(long latencyInMillis) {
+        lastBatchLatency.set(latencyInMillis);
+        maxBatchLatency.accumulateAndGet(latencyInMillis, Math::max);
+    }
+
+    void onBatchCompleted(int records) {
+        inFlightBatches.decrementAndGet();
+        inFlightRecords.addAndGet(-records);
+    }
+
+    @Override
+    public int getInFlightBatches() {
+        return inFlightBatches.get();
+    }
+
+    @Override
+    public long getInFlightRecords() {
+        return inFlightRecords.get();
+    }
+
+    @Override
+    public long getTotalNumberOfBatchesSent() {
+        return totalNumberOfBatchesSent.get();
+    }
+
+    @Override
+    public long getTotalNumberOfRecordsSent() {
+        return totalNumberOfRecordsSent.get();
+    }
+
+    @Override
+    public long getTotalNumberOfRecordsFailed() {
+        return totalNumberOfRecordsFailed.get();
+    }
+
+    @Override
+    public long getLastBatchLatencyInMilliSeconds() {
+        return lastBatchLatency.get();
+    }
+
+    @Override
+    public long getMaxBatchLatencyInMilliSeconds() {
+        return maxBatchLatency.get();
+    }
+
+    @Override
+    public void reset() {
+        totalNumberOfBatchesSent.set(0);
+        totalNumberOfRecordsSent.set(0);
+        totalNumberOfRecordsFailed.set(0);
+        lastBatchLatency.set(0);
+        maxBatchLatency.set(0);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server.kafka;
+
+/**
+ * Exposes the delivery of change event batches by the Kafka sink.
+ */
+public interface KafkaChangeConsumerMetricsMXBean {
+
+    /**
+     * @return the number of batches that were sent but are not yet acknowledged by the broker or not yet committed
+     */
+    int getInFlightBatches();
+
+    /**
+     * @return the number of records of the in-flight batches
+     */
+    long getInFlightRecords();
+
+    long getTotalNumberOfBatchesSent();
+
+    long getTotalNumberOfRecordsSent();
+
+    long getTotalNumberOfRecordsFailed();
+
+    /**
+     * @return the time between sending the first record of the most recently acknowledged batch and the acknowledgement of its last record
+     */
+    long getLastBatchLatencyInMilliSeconds();
+
+    long getMaxBatchLatencyInMilliSeconds();
+
+    void reset();
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server.kafka;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.server.TestChangeEvent;
+import io.debezium.server.TestRecordCommitter;
+
+/**
+ * Verifies the tracking of in-flight batches by {@link KafkaChangeConsumer} against a {@link MockProducer}.
+ */
+public class KafkaChangeConsumerTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    private MockProducer<Object, Object> producer;
+    private KafkaChangeConsumer consumer;
+    private TestRecordCommitter committer;
+
+    @BeforeEach
+    public void before() {
+        producer = producer(false);
+        consumer = new KafkaChangeConsumer();
+        committer = new TestRecordCommitter();
+    }
+
+    @AfterEach
+    public void after() {
+        consumer.stop();
+    }
+
+    @Test
+    public void shouldCompleteBatchBeforeReturningByDefault() throws Exception {
+        producer = producer(true);
+        consumer.start(producer, 1);
+
+        final List<ChangeEvent<Object, Object>> batch = batch(0);
+        consumer.handleBatch(batch, committer);
+
+        assertThat(committer.getProcessed()).isEqualTo(batch);
+        assertThat(committer.getFinishedBatches()).isEqualTo(1);
+        assertThat(producer.history()).hasSize(BATCH_SIZE);
+    }
+
+    @Test
+    public void shouldCommitBatchesOnlyOnceAcknowledged() throws Exception {
+        consumer.start(producer, 2);
+
+        final List<ChangeEvent<Object, Object>> first = batch(0);
+        consumer.handleBatch(first, committer);
+        assertThat(committer.getProcessed()).isEmpty();
+        assertThat(producer.history()).hasSize(BATCH_SIZE);
+
+        // the first batch is acknowledged only partially, sending the second one waits for the rest of it
+        producer.completeNext();
+        final List<ChangeEvent<Object, Object>> second = batch(1);
+        new Thread(() -> {
+            producer.completeNext();
+            producer.completeNext();
+        }).start();
+        consumer.handleBatch(second, committer);
+
+        assertThat(committer.getProcessed()).isEqualTo(first);
+        assertThat(committer.getFinishedBatches()).isEqualTo(1);
+        assertThat(producer.history()).hasSize(2 * BATCH_SIZE);
+
+        // the second batch is committed as soon as it is acknowledged, at the latest before the third one is sent
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            producer.completeNext();
+        }
+        final List<ChangeEvent<Object, Object>> third = batch(2);
+        consumer.handleBatch(third, committer);
+
+        final List<ChangeEvent<Object, Object>> expected = new ArrayList<>(first);
+        expected.addAll(second);
+        assertThat(committer.getProcessed()).isEqualTo(expected);
+        assertThat(committer.getFinishedBatches()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldCommitAcknowledgedBatchesWithoutFurtherBatches() throws Exception {
+        consumer.start(producer, 3);
+
+        final List<ChangeEvent<Object, Object>> first = batch(0);
+        final List<ChangeEvent<Object, Object>> second = batch(1);
+        consumer.handleBatch(first, committer);
+        consumer.handleBatch(second, committer);
+        assertThat(committer.getProcessed()).isEmpty();
+
+        // no further batch is sent, e.g. as the source is quiet, but the acknowledged batches are committed in order
+        for (int i = 0; i < 2 * BATCH_SIZE; i++) {
+            producer.completeNext();
+        }
+        Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> committer.getFinishedBatches() == 2);
+
+        final List<ChangeEvent<Object, Object>> expected = new ArrayList<>(first);
+        expected.addAll(second);
+        assertThat(committer.getProcessed()).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldNotCommitBatchWithFailedRecord() throws Exception {
+        consumer.start(producer, 2);
+
+        consumer.handleBatch(batch(0), committer);
+        producer.completeNext();
+        producer.errorNext(new RuntimeException("Broker not available"));
+        producer.completeNext();
+
+        Assertions.assertThrows(DebeziumException.class, () -> consumer.handleBatch(batch(1), committer));
+        assertThat(committer.getProcessed()).isEmpty();
+        assertThat(committer.getFinishedBatches()).isEqualTo(0);
+    }
+
+    private static MockProducer<Object, Object> producer(boolean autoComplete) {
+        final Serializer<Object> serializer = (topic, data) -> data == null ? null : data.toString().getBytes(StandardCharsets.UTF_8);
+        return new MockProducer<>(autoComplete, serializer, serializer);
+    }
+
+    private static List<ChangeEvent<Object, Object>> batch(int index) {
+        return TestChangeEvent.events(index * BATCH_SIZE, (index + 1) * BATCH_SIZE);
+    }
+}
@@ -11,16 +11,17 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.enterprise.context.Dependent;
 import javax.inject.Named;
 
+import org.apache.kafka.connect.source.SourceConnector;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
@@ -33,9 +34,12 @@
 import io.debezium.engine.DebeziumEngine.RecordCommitter;
 import io.debezium.server.BaseChangeConsumer;
 import io.debezium.util.DelayStrategy;
+import io.debezium.util.Threads;
 
+import redis.clients.jedis.CommandArguments;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol.Command;
 import redis.clients.jedis.StreamEntryID;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.exceptions.JedisDataException;
@@ -60,11 +64,14 @@ public class RedisStreamChangeConsumer extends BaseChangeConsumer
     private static final String PROP_CONNECTION_TIMEOUT = PROP_PREFIX + "connection.timeout.ms";
     private static final String PROP_SOCKET_TIMEOUT = PROP_PREFIX + "socket.timeout.ms";
     private static final String PROP_MESSAGE_FORMAT = PROP_PREFIX + "message.format";
+    private static final String PROP_CONCURRENCY = PROP_PREFIX + "concurrency";
+    private static final String PROP_CONNECTOR_CLASS = "debezium.source.connector.class";
 
     private static final String MESSAGE_FORMAT_COMPACT = "compact";
     private static final String MESSAGE_FORMAT_EXTENDED = "extended";
     private static final String EXTENDED_MESSAGE_KEY_KEY = "key";
     private static final String EXTENDED_MESSAGE_VALUE_KEY = "value";
+    private static final String OOM_ERROR_MESSAGE = "OOM command not allowed when used memory > 'maxmemory'";
 
     private String address;
     private String user;
@@ -90,13 +97,21 @@ public class RedisStreamChangeConsumer extends BaseChangeConsumer
     @ConfigProperty(name = PROP_PREFIX + "null.value", defaultValue = "default")
     String nullValue;
 
-    private Jedis client = null;
+    @ConfigProperty(name = PROP_CONCURRENCY, defaultValue = "1")
+    Integer concurrency;
+
+    private RedisConnection redisConnection;
+    private List<Jedis> clients;
+    private ExecutorService executor;
 
     private BiFunction<String, String, Map<String, String>> recordMapFunction;
 
     @PostConstruct
     void connect() {
-        final Config config = ConfigProvider.getConfig();
+        connect(ConfigProvider.getConfig());
+    }
+
+    void connect(Config config) {
         address = config.getValue(PROP_ADDRESS, String.class);
         user = config.getOptionalValue(PROP_USER, String.class).orElse(null);
         password = config.getOptionalValue(PROP_PASSWORD, String.class).orElse(null);
@@ -121,12 +136,51 @@ else if (MESSAGE_FORMAT_COMPACT.equals(messageFormat)) {
                     String.format("Property %s expects value one of '%s' or '%s'", PROP_MESSAGE_FORMAT, MESSAGE_FORMAT_EXTENDED, MESSAGE_FORMAT_COMPACT));
         }
 
-        RedisConnection redisConnection = new RedisConnection(address, user, password, connectionTimeout, socketTimeout, sslEnabled);
-        client = redisConnection.getRedisClient(RedisConnection.DEBEZIUM_REDIS_SINK_CLIENT_NAME);
+        if (concurrency < 1) {
+            throw new DebeziumException(String.format("Property %s expects a positive value", PROP_CONCURRENCY));
+        }
+
+        redisConnection = new RedisConnection(address, user, password, connectionTimeout, socketTimeout, sslEnabled);
+        clients = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            clients.add(null);
+            connect(i);
+        }
+        if (concurrency > 1) {
+            executor = Threads.newFixedThreadPool(connectorClass(config), "redis", "redis-stream-writer", concurrency);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends SourceConnector> connectorClass(Config config) {
+        final String connectorClass = config.getValue(PROP_CONNECTOR_CLASS, String.class);
+        try {
+            return (Class<? extends SourceConnector>) Class.forName(connectorClass);
+        }
+        catch (ClassNotFoundException e) {
+            throw new DebeziumException("Unable to load connector class " + connectorClass, e);
+        }
+    }
+
+    private void connect(int clientIndex) {
+        clients.set(clientIndex, redisConnection.getRedisClient(RedisConnection.DEBEZIUM_REDIS_SINK_CLIENT_NAME));
     }
 
     @PreDestroy
     void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        if (clients != null) {
+            for (int i = 0; i < clients.size(); i++) {
+                close(i);
+            }
+        }
+    }
+
+    private void close(int clientIndex) {
+        final Jedis client = clients.get(clientIndex);
         try {
             if (client != null) {
                 client.close();
@@ -136,133 +190,253 @@ void close() {
             LOGGER.warn("Exception while closing Jedis: {}", client, e);
         }
         finally {
-            client = null;
+            clients.set(clientIndex, null);
         }
     }
 
-    /**
-    * Split collection to batches by batch size using a stream
-    */
-    private <T> Stream<List<T>> batches(List<T> source, int length) {
-        if (source.isEmpty()) {
-            return Stream.empty();
+    @Override
+    public void handleBatch(List<ChangeEvent<Object, Object>> records,
+                            RecordCommitter<ChangeEvent<Object, Object>> committer)
+            throws InterruptedException {
+        LOGGER.trace("Handling a batch of {} records", records.size());
+
+        // Group the records by their destination stream, keeping their order within each stream
+        final Map<String, List<ChangeEvent<Object, Object>>> recordsByStream = new LinkedHashMap<>();
+        for (ChangeEvent<Object, Object> record : records) {
+            recordsByStream.computeIfAbsent(streamNameMapper.map(record.destination()), x -> new ArrayList<>()).add(record);
         }
 
-        int size = source.size();
-        int fullChunks = (size - 1) / length;
+        // A stream is always written by a single connection, so that its entries are added in order
+        final List<List<StreamWrite>> writesByClient = new ArrayList<>(clients.size());
+        for (int i = 0; i < clients.size(); i++) {
+            writesByClient.add(new ArrayList<>());
+        }
+        int streamIndex = 0;
+        for (Map.Entry<String, List<ChangeEvent<Object, Object>>> stream : recordsByStream.entrySet()) {
+            writesByClient.get(streamIndex++ % clients.size()).add(new StreamWrite(stream.getKey(), stream.getValue()));
+        }
 
-        return IntStream.range(0, fullChunks + 1).mapToObj(
-                n -> source.subList(n * length, n == fullChunks ? size : (n + 1) * length));
+        if (recordsByStream.size() == 1 || executor == null) {
+            for (int i = 0; i < writesByClient.size(); i++) {
+                write(i, writesByClient.get(i));
+            }
+        }
+        else {
+            final List<Future<Void>> futures = new ArrayList<>(writesByClient.size());
+            for (int i = 0; i < writesByClient.size(); i++) {
+                final int clientIndex = i;
+                final List<StreamWrite> writes = writesByClient.get(i);
+                if (!writes.isEmpty()) {
+                    futures.add(executor.submit(() -> {
+                        write(clientIndex, writes);
+                        return null;
+                    }));
+                }
+            }
+            try {
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new DebeziumException(e.getCause());
+            }
+            finally {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+
+        // All the records are in Redis at this point, mark them in their original order
+        for (ChangeEvent<Object, Object> record : records) {
+            committer.markProcessed(record);
+        }
+
+        // Mark the whole batch as finished once all the streams are written
+        committer.markBatchFinished();
     }
 
-    @Override
-    public void handleBatch(List<ChangeEvent<Object, Object>> records,
-                            RecordCommitter<ChangeEvent<Object, Object>> committer)
-            throws InterruptedException {
+    /**
+     * Adds the records of the given streams to Redis using the connection with the given index.
+     * Each round trip sends the next chunk of every unfinished stream in a single pipeline, each chunk wrapped in
+     * {@code MULTI}/{@code EXEC} so that it is either added as a whole or not at all. Chunks that failed because
+     * of OOM are sent again in the next round trip; a stream does not move to its next chunk before the current
+     * one succeeded.
+     */
+    private void write(int clientIndex, List<StreamWrite> writes) throws InterruptedException {
         DelayStrategy delayStrategy = DelayStrategy.exponential(Duration.ofMillis(initialRetryDelay), Duration.ofMillis(maxRetryDelay));
+        List<StreamWrite> pending = new ArrayList<>(writes);
 
-        LOGGER.trace("Handling a batch of {} records", records.size());
-        batches(records, batchSize).forEach(batch -> {
-            boolean completedSuccessfully = false;
-
-            // Clone the batch and remove the records that have been successfully processed.
-            // Move to the next batch once this list is empty.
-            List<ChangeEvent<Object, Object>> clonedBatch = batch.stream().collect(Collectors.toList());
-
-            // As long as we failed to execute the current batch to the stream, we should retry if the reason was either a connection error or OOM in Redis.
-            while (!completedSuccessfully) {
-                if (client == null) {
-                    // Try to reconnect
-                    try {
-                        connect();
-                        continue; // Managed to establish a new connection to Redis, avoid a redundant retry
-                    }
-                    catch (Exception e) {
-                        close();
-                        LOGGER.error("Can't connect to Redis", e);
-                    }
+        // As long as we failed to add a chunk to its stream, we should retry if the reason was either a connection error or OOM in Redis.
+        while (!pending.isEmpty()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+
+            boolean failed = true;
+            Jedis client = clients.get(clientIndex);
+            if (client == null) {
+                // Try to reconnect
+                try {
+                    connect(clientIndex);
+                    continue; // Managed to establish a new connection to Redis, avoid a redundant retry
+                }
+                catch (Exception e) {
+                    close(clientIndex);
+                    LOGGER.error("Can't connect to Redis", e);
                 }
-                else {
-                    Pipeline pipeline;
-                    try {
-                        LOGGER.trace("Preparing a Redis Pipeline of {} records", clonedBatch.size());
-
-                        // Make sure the connection is still alive before creating the pipeline
-                        // to reduce the chance of ending up with duplicate records
-                        client.ping();
-                        pipeline = client.pipelined();
-
-                        // Add the batch records to the stream(s) via Pipeline
-                        for (ChangeEvent<Object, Object> record : clonedBatch) {
-                            String destination = streamNameMapper.map(record.destination());
-                            String key = (record.key() != null) ? getString(record.key()) : nullKey;
-                            String value = (record.value() != null) ? getString(record.value()) : nullValue;
-                            Map<String, String> recordMap = recordMapFunction.apply(key, value);
-                            // Add the record to the destination stream
-                            pipeline.xadd(destination, StreamEntryID.NEW_ENTRY, recordMap);
+            }
+            else {
+                try {
+                    // Make sure the connection is still alive before creating the pipeline
+                    // to reduce the chance of ending up with duplicate records
+                    client.ping();
+                    Pipeline pipeline = client.pipelined();
+
+                    final List<List<ChangeEvent<Object, Object>>> chunks = new ArrayList<>(pending.size());
+                    for (StreamWrite write : pending) {
+                        List<ChangeEvent<Object, Object>> chunk = write.nextChunk(batchSize);
+                        LOGGER.trace("Adding a chunk of {} records to stream {}", chunk.size(), write.stream);
+                        pipeline.sendCommand(new CommandArguments(Command.MULTI));
+                        for (ChangeEvent<Object, Object> record : chunk) {
+                            pipeline.sendCommand(Command.XADD, xaddArguments(write.stream, record));
                         }
+                        pipeline.sendCommand(new CommandArguments(Command.EXEC));
+                        chunks.add(chunk);
+                    }
 
-                        // Sync the pipeline in Redis and parse the responses (response per command with the same order)
-                        List<Object> responses = pipeline.syncAndReturnAll();
-                        List<ChangeEvent<Object, Object>> processedRecords = new ArrayList<ChangeEvent<Object, Object>>();
-                        int index = 0;
-                        int totalOOMResponses = 0;
-
-                        for (Object response : responses) {
-                            String message = response.toString();
-                            // When Redis reaches its max memory limitation, an OOM error message will be retrieved.
-                            // In this case, we will retry execute the failed commands, assuming some memory will be freed eventually as result
-                            // of evicting elements from the stream by the target DB.
-                            if (message.contains("OOM command not allowed when used memory > 'maxmemory'")) {
-                                totalOOMResponses++;
-                            }
-                            else {
-                                // Mark the record as processed
-                                ChangeEvent<Object, Object> currentRecord = clonedBatch.get(index);
-                                committer.markProcessed(currentRecord);
-                                processedRecords.add(currentRecord);
-                            }
-
-                            index++;
+                    // Sync the pipeline in Redis and parse the responses (response per command with the same order)
+                    List<Object> responses = pipeline.syncAndReturnAll();
+                    int index = 0;
+                    int totalOOMResponses = 0;
+                    List<StreamWrite> stillPending = new ArrayList<>(pending.size());
+
+                    for (int i = 0; i < pending.size(); i++) {
+                        StreamWrite write = pending.get(i);
+                        int chunkSize = chunks.get(i).size();
+                        // Responses of MULTI, of each XADD and of EXEC
+                        JedisDataException error = chunkError(responses.subList(index, index + chunkSize + 2));
+                        index += chunkSize + 2;
+
+                        if (error == null) {
+                            write.chunkAdded(chunkSize);
                         }
-
-                        clonedBatch.removeAll(processedRecords);
-
-                        if (totalOOMResponses > 0) {
-                            LOGGER.warn("Redis runs OOM, {} command(s) failed", totalOOMResponses);
+                        // When Redis reaches its max memory limitation, an OOM error message will be retrieved and the whole chunk is discarded.
+                        // In this case, we will retry the chunk, assuming some memory will be freed eventually as result
+                        // of evicting elements from the stream by the target DB.
+                        else if (error.getMessage() != null && error.getMessage().contains(OOM_ERROR_MESSAGE)) {
+                            totalOOMResponses++;
+                        }
+                        else {
+                            throw new DebeziumException("Failed to add records to stream " + write.stream, error);
                         }
 
-                        if (clonedBatch.size() == 0) {
-                            completedSuccessfully = true;
+                        if (!write.isCompleted()) {
+                            stillPending.add(write);
                         }
                     }
-                    catch (JedisConnectionException jce) {
-                        LOGGER.error("Connection error", jce);
-                        close();
+
+                    if (totalOOMResponses > 0) {
+                        LOGGER.warn("Redis runs OOM, {} chunk(s) failed", totalOOMResponses);
                     }
-                    catch (JedisDataException jde) {
-                        // When Redis is starting, a JedisDataException will be thrown with this message.
-                        // We will retry communicating with the target DB as once of the Redis is available, this message will be gone.
-                        if (jde.getMessage().equals("LOADING Redis is loading the dataset in memory")) {
-                            LOGGER.error("Redis is starting", jde);
-                        }
-                        else {
-                            LOGGER.error("Unexpected JedisDataException", jde);
-                            throw new DebeziumException(jde);
-                        }
+                    else {
+                        failed = false;
                     }
-                    catch (Exception e) {
-                        LOGGER.error("Unexpected Exception", e);
-                        throw new DebeziumException(e);
+                    pending = stillPending;
+                }
+                catch (JedisConnectionException jce) {
+                    LOGGER.error("Connection error", jce);
+                    close(clientIndex);
+                }
+                catch (JedisDataException jde) {
+                    // When Redis is starting, a JedisDataException will be thrown with this message.
+                    // We will retry communicating with the target DB as once of the Redis is available, this message will be gone.
+                    if (jde.getMessage().equals("LOADING Redis is loading the dataset in memory")) {
+                        LOGGER.error("Redis is starting", jde);
+                    }
+                    else {
+                        LOGGER.error("Unexpected JedisDataException", jde);
+                        throw new DebeziumException(jde);
                     }
                 }
+                catch (DebeziumException e) {
+                    throw e;
+                }
+                catch (Exception e) {
+                    LOGGER.error("Unexpected Exception", e);
+                    throw new DebeziumException(e);
+                }
+            }
+
+            // Failed to add some of the chunks, retry...
+            delayStrategy.sleepWhen(failed);
+        }
+    }
 
-                // Failed to execute the transaction, retry...
-                delayStrategy.sleepWhen(!completedSuccessfully);
+    private String[] xaddArguments(String stream, ChangeEvent<Object, Object> record) {
+        String key = (record.key() != null) ? getString(record.key()) : nullKey;
+        String value = (record.value() != null) ? getString(record.value()) : nullValue;
+        Map<String, String> recordMap = recordMapFunction.apply(key, value);
+
+        String[] arguments = new String[2 + 2 * recordMap.size()];
+        arguments[0] = stream;
+        arguments[1] = StreamEntryID.NEW_ENTRY.toString();
+        int i = 2;
+        for (Map.Entry<String, String> field : recordMap.entrySet()) {
+            arguments[i++] = field.getKey();
+            arguments[i++] = field.getValue();
+        }
+        return arguments;
+    }
+
+    /**
+     * Returns the error that made the transaction of a chunk fail, if any. Commands rejected when queued, e.g. because
+     * of OOM, abort the whole transaction, so the error of the first rejected command is reported rather than the
+     * {@code EXECABORT} error of {@code EXEC}.
+     */
+    private JedisDataException chunkError(List<Object> responses) {
+        for (Object response : responses) {
+            if (response instanceof JedisDataException) {
+                return (JedisDataException) response;
+            }
+        }
+        // Errors of commands failing while the transaction is executed are returned as the results of EXEC
+        Object execResponse = responses.get(responses.size() - 1);
+        if (execResponse instanceof List) {
+            for (Object result : (List<?>) execResponse) {
+                if (result instanceof JedisDataException) {
+                    return (JedisDataException) result;
+                }
             }
-        });
+        }
+        return null;
+    }
 
-        // Mark the whole batch as finished once the sub batches completed
-        committer.markBatchFinished();
+    /**
+     * The records of one destination stream that are not in Redis yet.
+     */
+    private static class StreamWrite {
+        private final String stream;
+        private final List<ChangeEvent<Object, Object>> records;
+        private int position;
+
+        StreamWrite(String stream, List<ChangeEvent<Object, Object>> records) {
+            this.stream = stream;
+            this.records = records;
+        }
+
+        List<ChangeEvent<Object, Object>> nextChunk(int chunkSize) {
+            return records.subList(position, Math.min(position + chunkSize, records.size()));
+        }
+
+        void chunkAdded(int chunkSize) {
+            position += chunkSize;
+        }
+
+        boolean isCompleted() {
+            return position == records.size();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,343 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server.redis;
+
+import static io.debezium.server.TestChangeEvent.values;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.engine.ChangeEvent;
+import io.debezium.server.TestChangeEvent;
+import io.debezium.server.TestRecordCommitter;
+
+/**
+ * Verifies that {@link RedisStreamChangeConsumer} retries the chunks rejected by Redis because of OOM, using a fake
+ * Redis server that supports the commands sent by the consumer.
+ */
+public class RedisStreamChangeConsumerTest {
+
+    private static final String OOM_ERROR = "OOM command not allowed when used memory > 'maxmemory'.";
+
+    private FakeRedisServer server;
+    private RedisStreamChangeConsumer consumer;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = new FakeRedisServer();
+    }
+
+    @AfterEach
+    public void stopServer() throws IOException {
+        if (consumer != null) {
+            consumer.close();
+        }
+        server.close();
+    }
+
+    @Test
+    public void shouldRetryChunkFailedWithOutOfMemory() throws Exception {
+        consumer = consumer(1);
+        final List<ChangeEvent<Object, Object>> events = events("stream", 0, 10);
+        final TestRecordCommitter committer = new TestRecordCommitter();
+        // The second chunk is rejected once
+        server.failTransaction("stream", 1);
+
+        consumer.handleBatch(events, committer);
+
+        assertThat(server.entries("stream")).isEqualTo(values(events));
+        assertThat(server.transactions("stream")).isEqualTo(5);
+        assertThat(committer.getProcessed()).isEqualTo(events);
+        assertThat(committer.getFinishedBatches()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRetryOnlyFailedChunksOfPipelinedStreams() throws Exception {
+        consumer = consumer(1);
+        final List<ChangeEvent<Object, Object>> first = events("first", 0, 7);
+        final List<ChangeEvent<Object, Object>> second = events("second", 7, 14);
+        final List<ChangeEvent<Object, Object>> events = interleave(first, second);
+        final TestRecordCommitter committer = new TestRecordCommitter();
+        // The first chunk of the first stream is rejected twice, while the second stream keeps going
+        server.failTransaction("first", 0);
+        server.failTransaction("first", 1);
+
+        consumer.handleBatch(events, committer);
+
+        assertThat(server.entries("first")).isEqualTo(values(first));
+        assertThat(server.entries("second")).isEqualTo(values(second));
+        assertThat(server.transactions("first")).isEqualTo(5);
+        assertThat(server.transactions("second")).isEqualTo(3);
+        assertThat(committer.getProcessed()).isEqualTo(events);
+        assertThat(committer.getFinishedBatches()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRetryFailedChunkWithConcurrentConnections() throws Exception {
+        consumer = consumer(2);
+        final List<ChangeEvent<Object, Object>> first = events("first", 0, 7);
+        final List<ChangeEvent<Object, Object>> second = events("second", 7, 14);
+        final List<ChangeEvent<Object, Object>> events = interleave(first, second);
+        final TestRecordCommitter committer = new TestRecordCommitter();
+        server.failTransaction("second", 2);
+
+        consumer.handleBatch(events, committer);
+
+        assertThat(server.entries("first")).isEqualTo(values(first));
+        assertThat(server.entries("second")).isEqualTo(values(second));
+        assertThat(server.transactions("first")).isEqualTo(3);
+        assertThat(server.transactions("second")).isEqualTo(4);
+        assertThat(committer.getProcessed()).isEqualTo(events);
+        assertThat(committer.getFinishedBatches()).isEqualTo(1);
+    }
+
+    private RedisStreamChangeConsumer consumer(int concurrency) {
+        final Map<String, String> config = new HashMap<>();
+        config.put("debezium.source.connector.class", "io.debezium.connector.mysql.MySqlConnector");
+        config.put("debezium.sink.redis.address", "localhost:" + server.getPort());
+
+        final RedisStreamChangeConsumer consumer = new RedisStreamChangeConsumer();
+        consumer.batchSize = 3;
+        consumer.initialRetryDelay = 10;
+        consumer.maxRetryDelay = 20;
+        consumer.nullKey = "default";
+        consumer.nullValue = "default";
+        consumer.concurrency = concurrency;
+        consumer.connect(ConfigProviderResolver.instance().getBuilder().withSources(new MapConfigSource(config)).build());
+        return consumer;
+    }
+
+    private static List<ChangeEvent<Object, Object>> events(String stream, int fromId, int toId) {
+        return IntStream.range(fromId, toId)
+                .mapToObj(i -> new TestChangeEvent("{\"id\":" + i + "}") {
+                    @Override
+                    public String destination() {
+                        return stream;
+                    }
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static List<ChangeEvent<Object, Object>> interleave(List<ChangeEvent<Object, Object>> first, List<ChangeEvent<Object, Object>> second) {
+        final List<ChangeEvent<Object, Object>> events = new ArrayList<>(first.size() + second.size());
+        for (int i = 0; i < Math.max(first.size(), second.size()); i++) {
+            if (i < first.size()) {
+                events.add(first.get(i));
+            }
+            if (i < second.size()) {
+                events.add(second.get(i));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * A minimal server speaking the Redis protocol, that keeps the entries added to streams by {@code XADD} in memory
+     * and rejects the {@code XADD} commands of the requested transactions with OOM, aborting them.
+     */
+    private static class FakeRedisServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final List<Socket> sockets = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, List<String>> entries = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> transactions = new ConcurrentHashMap<>();
+        private final Map<String, Set<Integer>> failingTransactions = new ConcurrentHashMap<>();
+
+        FakeRedisServer() throws IOException {
+            serverSocket = new ServerSocket(0);
+            final Thread acceptor = new Thread(() -> {
+                try {
+                    while (true) {
+                        final Socket socket = serverSocket.accept();
+                        sockets.add(socket);
+                        final Thread handler = new Thread(() -> serve(socket), "fake-redis-connection");
+                        handler.setDaemon(true);
+                        handler.start();
+                    }
+                }
+                catch (IOException e) {
+                    // The server was closed
+                }
+            }, "fake-redis-acceptor");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        /**
+         * Rejects the transaction with the given zero-based index among the transactions adding entries to the stream.
+         */
+        void failTransaction(String stream, int transaction) {
+            failingTransactions.computeIfAbsent(stream, x -> ConcurrentHashMap.newKeySet()).add(transaction);
+        }
+
+        List<String> entries(String stream) {
+            return entries.getOrDefault(stream, Collections.emptyList());
+        }
+
+        int transactions(String stream) {
+            return transactions.getOrDefault(stream, new AtomicInteger()).get();
+        }
+
+        private void serve(Socket socket) {
+            try (InputStream in = new BufferedInputStream(socket.getInputStream()); OutputStream out = socket.getOutputStream()) {
+                List<String[]> queued = null;
+                boolean aborted = false;
+                List<String> command;
+                while ((command = readCommand(in)) != null) {
+                    final String name = command.get(0).toUpperCase();
+                    if (name.equals("MULTI")) {
+                        queued = new ArrayList<>();
+                        aborted = false;
+                        write(out, "+OK\r\n");
+                    }
+                    else if (name.equals("XADD") && queued != null) {
+                        final String stream = command.get(1);
+                        if (queued.isEmpty() && !aborted) {
+                            final int transaction = transactions.computeIfAbsent(stream, x -> new AtomicInteger()).getAndIncrement();
+                            aborted = failingTransactions.getOrDefault(stream, Collections.emptySet()).contains(transaction);
+                        }
+                        if (aborted) {
+                            write(out, "-" + OOM_ERROR + "\r\n");
+                        }
+                        else {
+                            queued.add(new String[]{ stream, command.get(command.size() - 1) });
+                            write(out, "+QUEUED\r\n");
+                        }
+                    }
+                    else if (name.equals("EXEC") && queued != null) {
+                        if (aborted) {
+                            write(out, "-EXECABORT Transaction discarded because of previous errors.\r\n");
+                        }
+                        else {
+                            final StringBuilder response = new StringBuilder("*").append(queued.size()).append("\r\n");
+                            for (String[] entry : queued) {
+                                final List<String> streamEntries = entries.computeIfAbsent(entry[0], x -> Collections.synchronizedList(new ArrayList<>()));
+                                streamEntries.add(entry[1]);
+                                final String id = streamEntries.size() + "-0";
+                                response.append('$').append(id.length()).append("\r\n").append(id).append("\r\n");
+                            }
+                            write(out, response.toString());
+                        }
+                        queued = null;
+                    }
+                    else if (name.equals("PING")) {
+                        write(out, "+PONG\r\n");
+                    }
+                    else if (name.equals("CLIENT")) {
+                        write(out, "+OK\r\n");
+                    }
+                    else {
+                        write(out, "-ERR unknown command '" + name + "'\r\n");
+                    }
+                }
+            }
+            catch (IOException e) {
+                // The connection was closed
+            }
+        }
+
+        private List<String> readCommand(InputStream in) throws IOException {
+            final String header = readLine(in);
+            if (header == null) {
+                return null;
+            }
+            final int count = Integer.parseInt(header.substring(1));
+            final List<String> command = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final int length = Integer.parseInt(readLine(in).substring(1));
+                final byte[] argument = in.readNBytes(length);
+                readLine(in);
+                command.add(new String(argument, StandardCharsets.UTF_8));
+            }
+            return command;
+        }
+
+        private String readLine(InputStream in) throws IOException {
+            final ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b == -1) {
+                    return null;
+                }
+                if (b != '\r') {
+                    line.write(b);
+                }
+            }
+            return line.toString(StandardCharsets.UTF_8);
+        }
+
+        private void write(OutputStream out, String response) throws IOException {
+            out.write(response.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            synchronized (sockets) {
+                for (Socket socket : sockets) {
+                    socket.close();
+                }
+            }
+        }
+    }
+
+    private static class MapConfigSource implements ConfigSource {
+
+        private final Map<String, String> properties;
+
+        MapConfigSource(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server.redis;
+
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.server.TestConfigSource;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+import io.quarkus.test.junit.TestProfile;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.StreamEntryID;
+import redis.clients.jedis.resps.StreamEntry;
+
+/**
+ * Integration tests that verify that the records are added to each Redis stream in order
+ * when the streams are written in chunks by several connections
+ */
+@QuarkusIntegrationTest
+@TestProfile(RedisStreamConcurrencyTestProfile.class)
+@QuarkusTestResource(RedisTestResourceLifecycleManager.class)
+public class RedisStreamConcurrencyIT {
+
+    private void assertStreamInOrder(Jedis jedis, String streamName, int firstId, int messageCount) {
+        Awaitility.await().atMost(Duration.ofSeconds(TestConfigSource.waitForSeconds())).until(() -> {
+            return jedis.xlen(streamName) == messageCount;
+        });
+
+        final List<StreamEntry> entries = jedis.xrange(streamName, (StreamEntryID) null, (StreamEntryID) null, messageCount);
+        assertTrue("Expected stream length of " + messageCount, entries.size() == messageCount);
+        for (int i = 0; i < messageCount; i++) {
+            final String key = entries.get(i).getFields().get("key");
+            assertTrue("Expected record with id " + (firstId + i) + " at position " + i + " of " + streamName + " but was " + key,
+                    key.contains("\"payload\":{\"id\":" + (firstId + i) + "}"));
+        }
+    }
+
+    /**
+    *  Verifies that the snapshot records of several PostgreSQL tables are added to their streams in order
+    */
+    @Test
+    public void testRedisStreamsInOrder() throws Exception {
+        Jedis jedis = new Jedis(HostAndPort.from(RedisTestResourceLifecycleManager.getRedisContainerAddress()));
+
+        assertStreamInOrder(jedis, "testc.inventory.customers", 1001, 4);
+        assertStreamInOrder(jedis, "testc.inventory.products", 101, 9);
+
+        jedis.close();
+    }
+
+}
@@ -8,17 +8,24 @@
 import java.io.IOException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.apache.kafka.clients.admin.AdminClient;
@@ -55,6 +62,7 @@
 
 import io.debezium.DebeziumException;
 import io.debezium.annotation.NotThreadSafe;
+import io.debezium.annotation.VisibleForTesting;
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
 import io.debezium.config.Field.Validator;
@@ -141,7 +149,7 @@ public class KafkaSchemaHistory extends AbstractSchemaHistory {
             .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 0))
             .withWidth(Width.SHORT)
             .withImportance(Importance.LOW)
-            .withDescription("The number of attempts in a row that no data are returned from Kafka before recover completes. "
+            .withDescription("The number of attempts in a row that no data are returned from Kafka before recovery fails. "
                     + "The maximum amount of time to wait after receiving no data is (recovery.attempts) x (recovery.poll.interval.ms).")
             .withDefault(100)
             .withValidation(Field::isInteger);
@@ -178,6 +186,16 @@ public class KafkaSchemaHistory extends AbstractSchemaHistory {
      */
     private static final Integer PARTITION = 0;
 
+    /**
+     * The maximum number of fetched batches of records waiting to be applied during recovery.
+     */
+    private static final int RECOVERY_PIPELINE_CAPACITY = 16;
+
+    /**
+     * The marker passed through the recovery pipeline once all records were fetched.
+     */
+    private static final List<HistoryRecord> END_OF_RECOVERY = Collections.emptyList();
+
     private final DocumentReader reader = DocumentReader.defaultReader();
     private String topicName;
     private Configuration consumerConfig;
@@ -186,6 +204,7 @@ public class KafkaSchemaHistory extends AbstractSchemaHistory {
     private int maxRecoveryAttempts;
     private Duration pollInterval;
     private ExecutorService checkTopicSettingsExecutor;
+    private ThreadFactory recoveryThreadFactory;
     private Duration kafkaQueryTimeout;
     private Duration kafkaCreateTimeout;
 
@@ -249,8 +268,14 @@ public void configure(Configuration config, HistoryRecordComparator comparator,
         try {
             final String connectorClassname = config.getString(INTERNAL_CONNECTOR_CLASS);
             if (connectorClassname != null) {
-                checkTopicSettingsExecutor = Threads.newSingleThreadExecutor((Class<? extends SourceConnector>) Class.forName(connectorClassname),
+                final Class<? extends SourceConnector> connectorClass = (Class<? extends SourceConnector>) Class.forName(connectorClassname);
+                checkTopicSettingsExecutor = Threads.newSingleThreadExecutor(connectorClass,
                         config.getString(INTERNAL_CONNECTOR_ID), "db-history-config-check", true);
+                recoveryThreadFactory = Threads.threadFactory(connectorClass, config.getString(INTERNAL_CONNECTOR_ID), "db-history-recovery",
+                        false, true);
+            }
+            else {
+                recoveryThreadFactory = Executors.defaultThreadFactory();
             }
         }
         catch (ClassNotFoundException e) {
@@ -295,74 +320,151 @@ protected void storeRecord(HistoryRecord record) throws SchemaHistoryException {
 
     @Override
     protected void recoverRecords(Consumer<HistoryRecord> records) {
-        try (KafkaConsumer<String, String> historyConsumer = new KafkaConsumer<>(consumerConfig.asProperties())) {
-            // Subscribe to the only partition for this topic, and seek to the beginning of that partition ...
-            LOGGER.debug("Subscribing to database schema history topic '{}'", topicName);
-            historyConsumer.subscribe(Collect.arrayListOf(topicName));
-
-            // Read all messages in the topic ...
-            long lastProcessedOffset = UNLIMITED_VALUE;
-            Long endOffset = null;
-            int recoveryAttempts = 0;
+        final BlockingQueue<List<HistoryRecord>> pipeline = new ArrayBlockingQueue<>(RECOVERY_PIPELINE_CAPACITY);
+        final AtomicReference<Throwable> fetchFailure = new AtomicReference<>();
+        final Thread fetcher = recoveryThreadFactory.newThread(() -> {
+            try {
+                fetchRecords(pipeline);
+                pipeline.put(END_OF_RECOVERY);
+            }
+            catch (Throwable e) {
+                // the pending batches are dropped so that the recovering thread gets to the failure immediately
+                fetchFailure.set(e);
+                pipeline.clear();
+                pipeline.offer(END_OF_RECOVERY);
+            }
+        });
+
+        fetcher.start();
+        try {
+            // DDL is applied on the calling thread while the next batches are fetched and deserialized
+            for (List<HistoryRecord> batch = pipeline.take(); batch != END_OF_RECOVERY; batch = pipeline.take()) {
+                for (HistoryRecord recordObj : batch) {
+                    records.accept(recordObj);
+                    LOGGER.trace("Recovered database schema history: {}", recordObj);
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SchemaHistoryException("Interrupted while recovering database schema history", e);
+        }
+        finally {
+            fetcher.interrupt();
+            try {
+                fetcher.join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        final Throwable failure = fetchFailure.get();
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new SchemaHistoryException(failure);
+        }
+    }
+
+    /**
+     * Reads the history topic up to the end offset it has when the recovery starts and hands over the deserialized
+     * records to the recovering thread.
+     */
+    private void fetchRecords(BlockingQueue<List<HistoryRecord>> pipeline) throws InterruptedException {
+        final TopicPartition historyPartition = new TopicPartition(topicName, PARTITION);
+        try (org.apache.kafka.clients.consumer.Consumer<String, String> historyConsumer = createHistoryConsumer()) {
+            // Assign the only partition for this topic, and seek to the beginning of that partition ...
+            LOGGER.debug("Assigning database schema history topic '{}'", topicName);
+            historyConsumer.assign(Collections.singleton(historyPartition));
+            historyConsumer.seekToBeginning(Collections.singleton(historyPartition));
 
-            // read the topic until the end
-            do {
+            final Long endOffset = getEndOffsetOfDbHistoryTopic(null, historyConsumer);
+            LOGGER.debug("End offset of database schema history topic is {}", endOffset);
+
+            int recoveryAttempts = 0;
+            // read the topic until the end, the position also skips offsets that are not backed by records
+            // such as transaction markers or compacted records
+            for (long position = historyConsumer.position(historyPartition); position < endOffset;) {
                 if (recoveryAttempts > maxRecoveryAttempts) {
                     throw new IllegalStateException(
                             "The database schema history couldn't be recovered. Consider to increase the value for " + RECOVERY_POLL_INTERVAL_MS.name());
                 }
 
-                endOffset = getEndOffsetOfDbHistoryTopic(endOffset, historyConsumer);
-                LOGGER.debug("End offset of database schema history topic is {}", endOffset);
-
                 // DBZ-1361 not using poll(Duration) to keep compatibility with AK 1.x
                 ConsumerRecords<String, String> recoveredRecords = historyConsumer.poll(this.pollInterval.toMillis());
-                int numRecordsProcessed = 0;
+                final List<HistoryRecord> batch = new ArrayList<>(recoveredRecords.count());
 
                 for (ConsumerRecord<String, String> record : recoveredRecords) {
-                    try {
-                        if (lastProcessedOffset < record.offset()) {
-                            if (record.value() == null) {
-                                LOGGER.warn("Skipping null database schema history record. " +
-                                        "This is often not an issue, but if it happens repeatedly please check the '{}' topic.", topicName);
-                            }
-                            else {
-                                HistoryRecord recordObj = new HistoryRecord(reader.read(record.value()));
-                                LOGGER.trace("Recovering database schema history: {}", recordObj);
-                                if (recordObj == null || !recordObj.isValid()) {
-                                    LOGGER.warn("Skipping invalid database schema history record '{}'. " +
-                                            "This is often not an issue, but if it happens repeatedly please check the '{}' topic.",
-                                            recordObj, topicName);
-                                }
-                                else {
-                                    records.accept(recordObj);
-                                    LOGGER.trace("Recovered database schema history: {}", recordObj);
-                                }
-                            }
-                            lastProcessedOffset = record.offset();
-                            ++numRecordsProcessed;
-                        }
-                    }
-                    catch (final IOException e) {
-                        LOGGER.error("Error while deserializing history record '{}'", record, e);
+                    if (record.offset() >= endOffset) {
+                        break;
                     }
-                    catch (final Exception e) {
-                        LOGGER.error("Unexpected exception while processing record '{}'", record, e);
-                        throw e;
+                    final HistoryRecord recordObj = deserialize(record);
+                    if (recordObj != null) {
+                        batch.add(recordObj);
                     }
                 }
-                if (numRecordsProcessed == 0) {
+
+                final long previousPosition = position;
+                position = historyConsumer.position(historyPartition);
+                if (position == previousPosition) {
                     LOGGER.debug("No new records found in the database schema history; will retry");
                     recoveryAttempts++;
                 }
                 else {
-                    LOGGER.debug("Processed {} records from database schema history", numRecordsProcessed);
+                    LOGGER.debug("Fetched {} records from database schema history", recoveredRecords.count());
+                    recoveryAttempts = 0;
+                    if (!batch.isEmpty()) {
+                        pipeline.put(batch);
+                    }
                 }
-            } while (lastProcessedOffset < endOffset - 1);
+            }
+
+            // The end offset should never change during recovery
+            getEndOffsetOfDbHistoryTopic(endOffset, historyConsumer);
+        }
+    }
+
+    private HistoryRecord deserialize(ConsumerRecord<String, String> record) {
+        if (record.value() == null) {
+            LOGGER.warn("Skipping null database schema history record. " +
+                    "This is often not an issue, but if it happens repeatedly please check the '{}' topic.", topicName);
+            return null;
+        }
+        try {
+            HistoryRecord recordObj = new HistoryRecord(reader.read(record.value()));
+            LOGGER.trace("Recovering database schema history: {}", recordObj);
+            if (!recordObj.isValid()) {
+                LOGGER.warn("Skipping invalid database schema history record '{}'. " +
+                        "This is often not an issue, but if it happens repeatedly please check the '{}' topic.",
+                        recordObj, topicName);
+                return null;
+            }
+            return recordObj;
         }
+        catch (final IOException e) {
+            LOGGER.error("Error while deserializing history record '{}'", record, e);
+            return null;
+        }
+        catch (final RuntimeException e) {
+            LOGGER.error("Unexpected exception while processing record '{}'", record, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the consumer reading the history topic during recovery.
+     */
+    @VisibleForTesting
+    protected org.apache.kafka.clients.consumer.Consumer<String, String> createHistoryConsumer() {
+        return new KafkaConsumer<>(consumerConfig.asProperties());
     }
 
-    private Long getEndOffsetOfDbHistoryTopic(Long previousEndOffset, KafkaConsumer<String, String> historyConsumer) {
+    private Long getEndOffsetOfDbHistoryTopic(Long previousEndOffset, org.apache.kafka.clients.consumer.Consumer<String, String> historyConsumer) {
         Map<TopicPartition, Long> offsets = historyConsumer.endOffsets(Collections.singleton(new TopicPartition(topicName, PARTITION)));
         Long endOffset = offsets.entrySet().iterator().next().getValue();
 